@@ -114,6 +114,67 @@ public class AssetController {
     }
 
 
+    @ApiOperation(
+            value = "계좌 거래내역 커서 조회(무한 스크롤)",
+            notes = "cursor(이전 응답의 nextCursor, 첫 페이지는 생략) + size + 기존 필터(txType/startDate/endDate/q/sort). " +
+                    "withTotal=true 면 전체 건수(캐시된 근사값)를 함께 반환, 아니면 totalElements=-1. 형식이 잘못된 cursor 는 400"
+    )
+    @GetMapping("/accounts/{accountId}/transactions/cursor")
+    public ResponseEntity<PageResponse<AccountTransactionVO>> getAccountTransactionsByCursor(
+            @ApiIgnore @AuthenticationPrincipal CustomUser customUser,
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String txType, // income | expense
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "latest") String sort, // latest | oldest
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long userId = customUser.getMember().getUserId();
+        try {
+            PageResponse<AccountTransactionVO> resp = assetService.getAccountTransactionsByCursor(
+                    userId, accountId, cursor, size, txType, startDate, endDate, q, sort, withTotal
+            );
+            return ResponseEntity.ok(resp);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 cursor
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @ApiOperation(
+            value = "카드 거래내역 커서 조회(무한 스크롤)",
+            notes = "cursor(이전 응답의 nextCursor, 첫 페이지는 생략) + size + 기존 필터(startDate/endDate/q/txType/sort). " +
+                    "withTotal=true 면 전체 건수(캐시된 근사값)를 함께 반환, 아니면 totalElements=-1. 형식이 잘못된 cursor 는 400"
+    )
+    @GetMapping("/cards/{cardId}/transactions/cursor")
+    public ResponseEntity<PageResponse<CardTransactionVO>> getCardTransactionsByCursor(
+            @ApiIgnore @AuthenticationPrincipal CustomUser customUser,
+            @PathVariable Long cardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String txType,   // expense | refund
+            @RequestParam(defaultValue = "desc") String sort, // desc | asc
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long userId = customUser.getMember().getUserId();
+        try {
+            PageResponse<CardTransactionVO> resp = assetService.getCardTransactionsByCursor(
+                    userId, cardId, cursor, size, startDate, endDate, q, txType, sort, withTotal
+            );
+            return ResponseEntity.ok(resp);
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 cursor
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+
     @ApiOperation(value = "카드 거래 메모 수정", notes = "특정 카드 거래내역의 메모를 수정합니다.")
     @PostMapping("/cards/{transactionId}/memo")
     public ResponseEntity<String> updateCardTransactionMemo(
@@ -172,7 +233,8 @@ public class AssetController {
             @ApiIgnore @AuthenticationPrincipal CustomUser customUser,
             @PathVariable Long transactionId,
             @RequestBody CategoryUpdateRequest request) {
-        assetService.updateTransactionCategory(transactionId, request.getCategoryId());
+        Long userId = customUser.getMember().getUserId();
+        assetService.updateTransactionCategory(userId, transactionId, request.getCategoryId());
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,13 @@
+package org.scoula.asset.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardMonthlySpendingVO {
+    private Long cardId;
+    private Long usedAmount; // 해당 월 사용금액 (취소 'normal' 제외)
+}
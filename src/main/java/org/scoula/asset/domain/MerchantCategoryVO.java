@@ -0,0 +1,13 @@
+package org.scoula.asset.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerchantCategoryVO {
+    private String merchantKey; // 정규화한 가맹점명 (MerchantCategoryMemory.merchantKey)
+    private Long categoryId;
+}
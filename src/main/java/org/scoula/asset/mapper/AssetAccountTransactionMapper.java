@@ -4,6 +4,7 @@ import org.apache.ibatis.annotations.Param;
 import org.scoula.asset.domain.AccountTransactionVO;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
 
 public interface AssetAccountTransactionMapper {
@@ -30,6 +31,19 @@ public interface AssetAccountTransactionMapper {
             @Param("sort") String sort // latest | oldest
     );
 
+    // 커서 조회 (cursorDate 가 null 이면 첫 페이지)
+    List<AccountTransactionVO> findByAccountIdAfterCursor(
+            @Param("accountId") Long accountId,
+            @Param("size") int size,
+            @Param("txType") String txType,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("q") String q,
+            @Param("sort") String sort, // latest | oldest
+            @Param("cursorDate") Date cursorDate,
+            @Param("cursorId") Long cursorId
+    );
+
     int countByAccountIdFiltered(
             @Param("accountId") Long accountId,
             @Param("txType") String txType,
@@ -1,17 +1,19 @@
 package org.scoula.asset.mapper;
 
 import org.apache.ibatis.annotations.Param;
+import org.scoula.asset.domain.CardMonthlySpendingVO;
 import org.scoula.asset.domain.CardTransactionVO;
 import org.scoula.asset.dto.CategorySpending;
 import org.scoula.asset.dto.MonthlyTrendDTO;
 
 import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 public interface AssetCardTransactionMapper {
-    Long sumThisMonthUsedByUserId(Long userId);
-    Long sumThisMonthUsedByCardId(Long cardId);
+    // 이번 달 카드별 사용금액 (월별 집계에 행이 없는 카드는 빠짐 → 0)
+    List<CardMonthlySpendingVO> findThisMonthUsedByUserId(@Param("userId") Long userId);
 
     List<CardTransactionVO> findByCardIdWithPaging(@Param("cardId") Long cardId,
                                                    @Param("offset") int offset,
@@ -54,6 +56,19 @@ public interface AssetCardTransactionMapper {
             @Param("sort") String sort         // "DESC" | "ASC"
     );
 
+    // 커서 조회 (cursorDate 가 null 이면 첫 페이지)
+    List<CardTransactionVO> findByCardIdAfterCursor(
+            @Param("cardId") Long cardId,
+            @Param("size") int size,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("q") String q,
+            @Param("txType") String txType,    // expense | refund
+            @Param("sort") String sort,        // "DESC" | "ASC"
+            @Param("cursorDate") Date cursorDate,
+            @Param("cursorId") Long cursorId
+    );
+
     int countByCardIdWithFilters(
             @Param("cardId") Long cardId,
             @Param("start") LocalDateTime start,
@@ -1,9 +1,13 @@
 package org.scoula.asset.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.scoula.codef.domain.TransactionCategoryVO;
+
+import java.util.List;
 
 @Mapper
 public interface AssetCategoryMapper {
 
-    Long findIdByNameAndGlobal(String name);
+    // 글로벌 카테고리(user_id IS NULL) 전체, id 순
+    List<TransactionCategoryVO> findGlobalCategories();
 }
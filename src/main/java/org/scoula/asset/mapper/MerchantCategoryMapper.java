@@ -0,0 +1,27 @@
+package org.scoula.asset.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.scoula.asset.domain.MerchantCategoryVO;
+import org.scoula.codef.domain.CardTransactionVO;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MerchantCategoryMapper {
+
+    // 사용자가 지정한 가맹점 → 카테고리 저장 (이미 있으면 변경)
+    void upsertUserMerchantCategory(@Param("userId") Long userId,
+                                    @Param("merchantKey") String merchantKey,
+                                    @Param("categoryId") Long categoryId);
+
+    List<MerchantCategoryVO> findUserMerchantCategories(@Param("userId") Long userId,
+                                                        @Param("merchantKeys") Collection<String> merchantKeys);
+
+    // 가맹점별로 가장 많은 사용자가 고른 글로벌 카테고리 (minUsers 명 이상), 가맹점별 1건
+    List<MerchantCategoryVO> findGlobalMerchantCategories(@Param("merchantKeys") Collection<String> merchantKeys,
+                                                          @Param("minUsers") int minUsers);
+
+    // 사용자 본인 카드 거래의 가맹점명 (store_name, store_name1), 없으면 null
+    CardTransactionVO findUserCardTransactionMerchant(@Param("userId") Long userId,
+                                                      @Param("transactionId") Long transactionId);
+}
@@ -0,0 +1,28 @@
+package org.scoula.asset.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+public interface SpendingRollupMapper {
+
+    // cardId 가 null 이면 사용자의 모든 카드, monthStart 가 null 이면 모든 월 대상 (전체 재집계)
+    int deleteCardMonthly(@Param("userId") Long userId, @Param("cardId") Long cardId,
+                          @Param("monthStart") LocalDate monthStart);
+
+    int insertCardMonthly(@Param("userId") Long userId, @Param("cardId") Long cardId,
+                          @Param("monthStart") LocalDate monthStart);
+
+    // monthStart 가 null 이면 사용자의 모든 월 대상
+    int deleteUserCategoryMonthly(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
+
+    int insertUserCategoryMonthly(@Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
+
+    // 카드가 있는 사용자 전체 (재집계 대상)
+    List<Long> findUserIdsWithCards();
+
+    // 사용자 본인 카드 거래의 거래일시, 없으면 null
+    Date findUserCardTransactionDate(@Param("userId") Long userId, @Param("transactionId") Long transactionId);
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.asset.domain.AccountSummaryVO;
 import org.scoula.asset.domain.AccountTransactionVO;
+import org.scoula.asset.domain.CardMonthlySpendingVO;
 import org.scoula.asset.domain.CardSummaryVO;
 import org.scoula.asset.domain.CardTransactionVO;
 import org.scoula.asset.dto.*;
@@ -11,6 +12,7 @@ import org.scoula.asset.mapper.AssetAccountTransactionMapper;
 import org.scoula.asset.mapper.AssetCardTransactionMapper;
 import org.scoula.asset.mapper.AssetUserAccountMapper;
 import org.scoula.asset.mapper.AssetUserCardMapper;
+import org.scoula.asset.util.TransactionCursor;
 import org.scoula.common.dto.PageResponse;
 import org.scoula.common.exception.UnauthorizedException;
 import org.springframework.stereotype.Service;
@@ -28,10 +30,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AssetService {
 
+    // 커서 조회 한 번에 가져오는 최대 건수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final AssetUserAccountMapper assetUserAccountMapper;
     private final AssetUserCardMapper assetUserCardMapper;
     private final AssetCardTransactionMapper assetCardTransactionMapper;
     private final AssetAccountTransactionMapper assetAccountTransactionMapper;
+    private final MerchantCategoryMemory merchantCategoryMemory;
+    private final SpendingRollupService spendingRollupService;
+    private final TransactionCountCache transactionCountCache;
 
     public AssetSummaryResponse getSummary(Long userId) {
 //        Long userId = assetUserAccountMapper.findUserIdByLoginId(loginId);
@@ -47,20 +55,18 @@ public class AssetService {
 
         // 2. 카드 현황(카드별 이번달 사용금액 포함)
         List<CardSummaryVO> cards = assetUserCardMapper.findCardSummariesByUserId(userId);
-        for (CardSummaryVO card : cards) {
-            Long cardUsed = assetCardTransactionMapper.sumThisMonthUsedByCardId(card.getId());
-            card.setThisMonthUsed(cardUsed != null ? cardUsed : 0L);
-            log.info("[ASSET] 카드 {}({})의 이번달 사용액: {}", card.getCardName(), card.getId(), card.getThisMonthUsed());
-        }
+        applyThisMonthUsed(userId, cards);
 
-        // 3. 전체 카드 이번달 사용 총액
-        Long thisMonthCardUsed = assetCardTransactionMapper.sumThisMonthUsedByUserId(userId);
+        // 3. 전체 카드 이번달 사용 총액 (카드별 사용액 합)
+        long thisMonthCardUsed = cards.stream()
+                .mapToLong(CardSummaryVO::getThisMonthUsed)
+                .sum();
         log.info("[ASSET] 전체 카드 이번달 사용 총액 = {}", thisMonthCardUsed);
 
         // 4. 조합
         AssetSummaryResponse resp = new AssetSummaryResponse();
         resp.setTotalAsset(totalAsset);
-        resp.setThisMonthCardUsed(thisMonthCardUsed != null ? thisMonthCardUsed : 0L);
+        resp.setThisMonthCardUsed(thisMonthCardUsed);
         resp.setAccounts(accounts);
         resp.setCards(cards);
 
@@ -77,13 +83,21 @@ public class AssetService {
     public List<CardSummaryVO> getCards(Long userId) {
 //        Long userId = assetUserAccountMapper.findUserIdByLoginId(loginId);
         List<CardSummaryVO> cards = assetUserCardMapper.findCardSummariesByUserId(userId);
+        applyThisMonthUsed(userId, cards);
+        log.info("[ASSET] 사용자 {}의 카드 전체 목록 조회 ({}건)", userId, cards.size());
+        return cards;
+    }
+
+    // 카드별 이번달 사용금액을 월별 집계에서 한 번에 읽어 채움 (집계 행 없으면 0)
+    private void applyThisMonthUsed(Long userId, List<CardSummaryVO> cards) {
+        Map<Long, Long> usedByCard = new HashMap<>();
+        for (CardMonthlySpendingVO row : assetCardTransactionMapper.findThisMonthUsedByUserId(userId)) {
+            usedByCard.put(row.getCardId(), row.getUsedAmount() != null ? row.getUsedAmount() : 0L);
+        }
         for (CardSummaryVO card : cards) {
-            Long cardUsed = assetCardTransactionMapper.sumThisMonthUsedByCardId(card.getId());
-            card.setThisMonthUsed(cardUsed != null ? cardUsed : 0L);
+            card.setThisMonthUsed(usedByCard.getOrDefault(card.getId(), 0L));
             log.info("[ASSET] 카드 {}({})의 이번달 사용액: {}", card.getCardName(), card.getId(), card.getThisMonthUsed());
         }
-        log.info("[ASSET] 사용자 {}의 카드 전체 목록 조회 ({}건)", userId, cards.size());
-        return cards;
     }
 
     public PageResponse<AccountTransactionVO> getAccountTransactions(
@@ -148,6 +162,93 @@ public class AssetService {
 
 
 
+    /**
+     * 계좌 거래내역 커서 조회 (무한 스크롤)
+     * - (거래일시, id) 기준 keyset 조회라 깊은 페이지도 OFFSET 만큼 건너뛰지 않음
+     * - withTotal 이면 전체 건수를 TransactionCountCache 에서 가져옴 (TTL 동안 근사값), 아니면 -1
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public PageResponse<AccountTransactionVO> getAccountTransactionsByCursor(
+            Long userId, Long accountId, String cursor, int size,
+            String txType, LocalDate startDate, LocalDate endDate, String q, String sort, boolean withTotal
+    ) {
+        if (!assetUserAccountMapper.isAccountOwner(userId, accountId)) {
+            throw new UnauthorizedException("계좌 소유자만 접근 가능합니다.");
+        }
+
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = cursorPageSize(size);
+        LocalDateTime start = (startDate != null) ? startDate.atStartOfDay() : null;
+        LocalDateTime end   = (endDate != null)   ? endDate.atTime(LocalTime.MAX) : null;
+        String normSort = "oldest".equalsIgnoreCase(sort) ? "oldest" : "latest";
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<AccountTransactionVO> list = new ArrayList<>(assetAccountTransactionMapper.findByAccountIdAfterCursor(
+                accountId, pageSize + 1, txType, start, end, q, normSort,
+                after != null ? after.getTransactionDate() : null, after != null ? after.getId() : null));
+        String nextCursor = null;
+        if (list.size() > pageSize) {
+            list = list.subList(0, pageSize);
+            AccountTransactionVO last = list.get(pageSize - 1);
+            nextCursor = TransactionCursor.encode(last.getTransactionDateTime(), last.getId());
+        }
+
+        long total = -1;
+        if (withTotal) {
+            total = transactionCountCache.get(
+                    String.join("|", "account", String.valueOf(accountId), txType, String.valueOf(start), String.valueOf(end), q),
+                    () -> assetAccountTransactionMapper.countByAccountIdFiltered(accountId, txType, start, end, q));
+        }
+
+        log.info("[ASSET] 계좌 {} 거래내역 커서 조회 - size:{}, 건수:{}, hasNext:{}, total:{}, sort:{}",
+                accountId, pageSize, list.size(), nextCursor != null, total, normSort);
+        return PageResponse.ofCursor(list, pageSize, total, nextCursor);
+    }
+
+    /**
+     * 카드 거래내역 커서 조회 (무한 스크롤), 동작은 getAccountTransactionsByCursor 와 같음
+     * @param sort desc | asc
+     */
+    public PageResponse<CardTransactionVO> getCardTransactionsByCursor(
+            Long userId, Long cardId, String cursor, int size,
+            LocalDate startDate, LocalDate endDate, String q, String txType, String sort, boolean withTotal
+    ) {
+        if (!assetUserCardMapper.isCardOwner(userId, cardId)) {
+            throw new UnauthorizedException("카드 소유자만 접근 가능합니다.");
+        }
+
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = cursorPageSize(size);
+        LocalDateTime start = (startDate != null) ? startDate.atStartOfDay() : null;
+        LocalDateTime end   = (endDate != null)   ? endDate.atTime(LocalTime.MAX) : null;
+        String order = "asc".equalsIgnoreCase(sort) ? "ASC" : "DESC";
+
+        List<CardTransactionVO> list = new ArrayList<>(assetCardTransactionMapper.findByCardIdAfterCursor(
+                cardId, pageSize + 1, start, end, q, txType, order,
+                after != null ? after.getTransactionDate() : null, after != null ? after.getId() : null));
+        String nextCursor = null;
+        if (list.size() > pageSize) {
+            list = list.subList(0, pageSize);
+            CardTransactionVO last = list.get(pageSize - 1);
+            nextCursor = TransactionCursor.encode(last.getTransactionDate(), last.getId());
+        }
+
+        long total = -1;
+        if (withTotal) {
+            total = transactionCountCache.get(
+                    String.join("|", "card", String.valueOf(cardId), txType, String.valueOf(start), String.valueOf(end), q),
+                    () -> assetCardTransactionMapper.countByCardIdWithFilters(cardId, start, end, q, txType));
+        }
+
+        log.info("[ASSET] 카드 {} 거래내역 커서 조회 - size:{}, 건수:{}, hasNext:{}, total:{}, sort:{}",
+                cardId, pageSize, list.size(), nextCursor != null, total, order);
+        return PageResponse.ofCursor(list, pageSize, total, nextCursor);
+    }
+
+    private static int cursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
     public void updateCardTransactionMemo(Long transactionId, String memo) {
         assetCardTransactionMapper.updateMemo(transactionId, memo);
     }
@@ -182,12 +283,18 @@ public class AssetService {
         return assetCardTransactionMapper.findCategoryTransactions(userId, categoryId, year, month);
     }
 
+    /**
+     * 거래 카테고리 변경 + 같은 가맹점의 이후 거래에 쓰도록 가맹점 → 카테고리 기억 (비동기)
+     * - 바뀐 거래가 속한 달의 카테고리별 지출 집계도 다시 계산
+     */
     @Transactional
-    public void updateTransactionCategory(Long transactionId, Long newCategoryId) {
+    public void updateTransactionCategory(Long userId, Long transactionId, Long newCategoryId) {
         int updated = assetCardTransactionMapper.updateTransactionCategory(transactionId, newCategoryId);
         if (updated != 1) {
             throw new RuntimeException("카테고리 변경 실패! 거래내역을 확인하세요.");
         }
+        spendingRollupService.refreshForTransaction(userId, transactionId);
+        merchantCategoryMemory.rememberAsync(userId, transactionId, newCategoryId);
     }
 
     public SpendingOverviewDTO getSpendingOverview(Long userId, int year, int month, int trendMonths) {
@@ -0,0 +1,172 @@
+package org.scoula.asset.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.asset.domain.MerchantCategoryVO;
+import org.scoula.asset.mapper.MerchantCategoryMapper;
+import org.scoula.codef.domain.CardTransactionVO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * 가맹점 → 카테고리 학습 기억
+ * - 사용자가 거래 카테고리를 고치면 그 가맹점의 카테고리를 기억 (비동기 저장)
+ * - 분류 시 사용자 기억 → 글로벌 집계(GLOBAL_MIN_USERS 명 이상이 고른 글로벌 카테고리) 순으로 조회,
+ *   둘 다 없을 때만 TransactionCategorizer 키워드 규칙 사용
+ * - DB 앞에 프로세스 내 LRU 를 두고, 없는 가맹점도 "없음"으로 캐시 → 같은 가맹점은 다시 조회하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantCategoryMemory {
+
+    private static final int MAX_MERCHANT_KEY_LENGTH = 100;
+    private static final int MAX_CACHE_ENTRIES = 50_000;
+
+    // 글로벌 집계로 인정할 최소 사용자 수 (한 사용자의 개인 취향이 다른 사용자에게 퍼지지 않도록)
+    private static final int GLOBAL_MIN_USERS = 3;
+
+    // LRU 에 "기억 없음"을 표시하는 값
+    private static final Long NONE = -1L;
+    private static final String GLOBAL_PREFIX = "*|";
+
+    private final MerchantCategoryMapper merchantCategoryMapper;
+
+    @Autowired
+    @Qualifier("categoryMemoryExecutor")
+    private Executor categoryMemoryExecutor;
+
+    // 접근 순서 LinkedHashMap → 가장 오래 안 쓴 항목부터 제거
+    private final Map<String, Long> cache = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+
+    /**
+     * 거래 목록의 학습된 카테고리 조회 (LRU 에 없는 가맹점만 사용자/글로벌 각 1회 IN 조회)
+     * @return 입력 순서대로 카테고리 ID (기억이 없으면 null)
+     */
+    public List<Long> lookupAll(Long userId, List<CardTransactionVO> txList) {
+        List<String> keys = new ArrayList<>(txList.size());
+        Set<String> missingUser = new LinkedHashSet<>();
+        synchronized (cache) {
+            for (CardTransactionVO tx : txList) {
+                String key = merchantKey(tx.getStoreName(), tx.getStoreName1());
+                keys.add(key);
+                if (key != null && !cache.containsKey(userKey(userId, key))) {
+                    missingUser.add(key);
+                }
+            }
+        }
+
+        if (!missingUser.isEmpty()) {
+            Map<String, Long> found = toMap(merchantCategoryMapper.findUserMerchantCategories(userId, missingUser));
+            synchronized (cache) {
+                for (String key : missingUser) {
+                    cache.put(userKey(userId, key), found.getOrDefault(key, NONE));
+                }
+            }
+        }
+
+        // 사용자 기억이 없는 가맹점만 글로벌 집계 확인
+        Set<String> missingGlobal = new LinkedHashSet<>();
+        synchronized (cache) {
+            for (String key : keys) {
+                if (key != null && NONE.equals(cache.get(userKey(userId, key)))
+                        && !cache.containsKey(GLOBAL_PREFIX + key)) {
+                    missingGlobal.add(key);
+                }
+            }
+        }
+        if (!missingGlobal.isEmpty()) {
+            Map<String, Long> found = toMap(
+                    merchantCategoryMapper.findGlobalMerchantCategories(missingGlobal, GLOBAL_MIN_USERS));
+            synchronized (cache) {
+                for (String key : missingGlobal) {
+                    cache.put(GLOBAL_PREFIX + key, found.getOrDefault(key, NONE));
+                }
+            }
+        }
+
+        List<Long> result = new ArrayList<>(keys.size());
+        synchronized (cache) {
+            for (String key : keys) {
+                result.add(key == null ? null : cached(userId, key));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자가 고친 거래의 가맹점 → 카테고리 기억 (요청 스레드를 막지 않도록 비동기 저장)
+     * - 본인 카드 거래가 아니거나 가맹점명이 없으면 무시
+     */
+    public void rememberAsync(Long userId, Long transactionId, Long categoryId) {
+        categoryMemoryExecutor.execute(() -> {
+            try {
+                remember(userId, transactionId, categoryId);
+            } catch (Exception e) {
+                // 기억 저장 실패는 카테고리 변경 자체에 영향 없음
+                log.warn("[가맹점 기억] 저장 실패 - userId: {}, transactionId: {}", userId, transactionId, e);
+            }
+        });
+    }
+
+    private void remember(Long userId, Long transactionId, Long categoryId) {
+        CardTransactionVO tx = merchantCategoryMapper.findUserCardTransactionMerchant(userId, transactionId);
+        String key = tx == null ? null : merchantKey(tx.getStoreName(), tx.getStoreName1());
+        if (key == null) {
+            return;
+        }
+
+        merchantCategoryMapper.upsertUserMerchantCategory(userId, key, categoryId);
+        synchronized (cache) {
+            cache.put(userKey(userId, key), categoryId);
+            // 글로벌 집계가 바뀌었을 수 있으므로 다음 조회 때 다시 계산
+            cache.remove(GLOBAL_PREFIX + key);
+        }
+        log.debug("[가맹점 기억] 저장 - userId: {}, merchant: {}, categoryId: {}", userId, key, categoryId);
+    }
+
+    /**
+     * 가맹점 비교 키: store_name (없으면 store_name1) 앞뒤 공백 제거, 연속 공백 1칸, 대문자, 최대 100자
+     * @return 가맹점명이 없으면 null
+     */
+    static String merchantKey(String storeName, String storeName1) {
+        String name = storeName != null && !storeName.isBlank() ? storeName : storeName1;
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String key = name.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+        return key.length() > MAX_MERCHANT_KEY_LENGTH ? key.substring(0, MAX_MERCHANT_KEY_LENGTH) : key;
+    }
+
+    // cache 잠금 안에서 호출
+    private Long cached(Long userId, String key) {
+        Long userCategory = cache.get(userKey(userId, key));
+        if (userCategory != null && !NONE.equals(userCategory)) {
+            return userCategory;
+        }
+        Long globalCategory = cache.get(GLOBAL_PREFIX + key);
+        return globalCategory != null && !NONE.equals(globalCategory) ? globalCategory : null;
+    }
+
+    private static String userKey(Long userId, String key) {
+        return userId + "|" + key;
+    }
+
+    private static Map<String, Long> toMap(List<MerchantCategoryVO> rows) {
+        // 가맹점별 첫 행 사용 (글로벌 집계는 사용자 수 많은 순으로 정렬되어 있음)
+        Map<String, Long> map = new HashMap<>();
+        for (MerchantCategoryVO row : rows) {
+            map.putIfAbsent(row.getMerchantKey(), row.getCategoryId());
+        }
+        return map;
+    }
+}
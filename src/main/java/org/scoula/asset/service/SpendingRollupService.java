@@ -0,0 +1,158 @@
+package org.scoula.asset.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.asset.mapper.SpendingRollupMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 월별 카드 지출 집계 관리 (card_monthly_spending, user_category_monthly_spending)
+ * - 자산 요약/지출 분석은 거래 원본 대신 이 집계를 월 단위로 읽음
+ * - 거래가 저장되거나 카테고리가 바뀐 달만 삭제 후 원본에서 다시 계산 (중복 무시된 거래도 이중 집계되지 않음)
+ * - 증분 갱신은 호출 측 트랜잭션이 커밋된 뒤 별도 트랜잭션으로 실행
+ *   (카드별 병렬 동기화 트랜잭션 안에서 같은 사용자 집계 행을 지우고 쓰다 서로 잠금을 기다리지 않도록)
+ * - 같은 사용자의 집계 갱신은 사용자별 잠금으로 한 번에 하나씩 (서버 인스턴스 단위, 어긋나도 매일 재집계에서 보정)
+ * - rebuildAll() 은 사용자별로 전체 월을 다시 계산 (최초 적재, 증분 누락 보정)
+ */
+@Slf4j
+@Service
+public class SpendingRollupService {
+
+    // 사용자별 잠금 (userId 해시로 나눈 고정 개수, 사용자 수만큼 늘어나지 않음)
+    private static final int LOCK_STRIPES = 64;
+
+    private final SpendingRollupMapper spendingRollupMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Object[] userLocks = new Object[LOCK_STRIPES];
+
+    public SpendingRollupService(SpendingRollupMapper spendingRollupMapper, PlatformTransactionManager transactionManager) {
+        this.spendingRollupMapper = spendingRollupMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // afterCommit 시점에는 끝난 트랜잭션의 리소스가 아직 묶여 있으므로 항상 새 트랜잭션으로 실행
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            userLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 카드 거래일시가 속한 달들의 집계 다시 계산 (진행 중인 트랜잭션이 있으면 커밋 후, 한 트랜잭션)
+     * - 카드 집계는 해당 카드만, 카테고리 집계는 사용자 단위
+     * @param transactionDates 저장한 거래들의 거래일시 (null 무시)
+     */
+    public void refreshMonths(Long userId, Long cardId, Collection<Date> transactionDates) {
+        Set<LocalDate> months = new TreeSet<>();
+        for (Date date : transactionDates) {
+            if (date != null) {
+                months.add(monthStart(date));
+            }
+        }
+        if (months.isEmpty()) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            executeForUser(userId, () -> {
+                for (LocalDate month : months) {
+                    refreshCardMonthly(userId, cardId, month);
+                    refreshCategoryMonthly(userId, month);
+                }
+            });
+            log.debug("[지출 집계] userId={}, cardId={} {}개월 갱신: {}", userId, cardId, months.size(), months);
+        });
+    }
+
+    /**
+     * 카테고리가 바뀐 거래의 달 카테고리 집계 다시 계산 (본인 카드 거래가 아니면 무시)
+     * - 카드별 사용금액은 카테고리와 무관하므로 그대로 둠
+     */
+    public void refreshForTransaction(Long userId, Long transactionId) {
+        Date transactionDate = spendingRollupMapper.findUserCardTransactionDate(userId, transactionId);
+        if (transactionDate == null) {
+            return;
+        }
+        LocalDate month = monthStart(transactionDate);
+        runAfterCommit(() -> executeForUser(userId, () -> refreshCategoryMonthly(userId, month)));
+    }
+
+    /**
+     * 한 사용자의 전체 월 집계를 원본에서 다시 계산
+     */
+    public void rebuildUser(Long userId) {
+        executeForUser(userId, () -> {
+            refreshCardMonthly(userId, null, null);
+            refreshCategoryMonthly(userId, null);
+        });
+    }
+
+    /**
+     * 카드가 있는 모든 사용자의 집계 재계산 (사용자별 트랜잭션, 한 사용자 실패해도 계속)
+     * @return 재계산 성공 사용자 수
+     */
+    public int rebuildAll() {
+        List<Long> userIds = spendingRollupMapper.findUserIdsWithCards();
+        log.info("[지출 집계] 전체 재집계 시작 - 대상 사용자 {}명", userIds.size());
+
+        int rebuilt = 0;
+        for (Long userId : userIds) {
+            try {
+                rebuildUser(userId);
+                rebuilt++;
+            } catch (Exception e) {
+                log.error("[지출 집계] 재집계 실패 - userId: {}", userId, e);
+            }
+        }
+        log.info("[지출 집계] 전체 재집계 완료 - 성공 {}명 / 대상 {}명", rebuilt, userIds.size());
+        return rebuilt;
+    }
+
+    // 트랜잭션 동기화 중이면 커밋 후 실행 (롤백되면 실행하지 않음), 아니면 바로 실행
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    // 거래는 이미 커밋됨, 집계는 매일 재집계에서 보정
+                    log.error("[지출 집계] 커밋 후 집계 갱신 실패", e);
+                }
+            }
+        });
+    }
+
+    // 사용자 잠금을 잡은 뒤 트랜잭션 시작 (잠금 대기 중에는 DB 커넥션/행 잠금을 잡지 않음)
+    private void executeForUser(Long userId, Runnable work) {
+        synchronized (userLocks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)]) {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        }
+    }
+
+    // cardId 가 null 이면 사용자의 모든 카드, monthStart 가 null 이면 전체 월
+    private void refreshCardMonthly(Long userId, Long cardId, LocalDate monthStart) {
+        spendingRollupMapper.deleteCardMonthly(userId, cardId, monthStart);
+        spendingRollupMapper.insertCardMonthly(userId, cardId, monthStart);
+    }
+
+    private void refreshCategoryMonthly(Long userId, LocalDate monthStart) {
+        spendingRollupMapper.deleteUserCategoryMonthly(userId, monthStart);
+        spendingRollupMapper.insertUserCategoryMonthly(userId, monthStart);
+    }
+
+    static LocalDate monthStart(Date date) {
+        // JDBC 드라이버가 DATETIME 을 JVM 기본 시간대로 읽으므로 같은 시간대로 변환 (java.sql.Date 는 toInstant 미지원)
+        return new Date(date.getTime()).toInstant().atZone(ZoneId.systemDefault()).toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -1,24 +1,35 @@
 package org.scoula.asset.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.scoula.asset.mapper.AssetCategoryMapper;
+import org.scoula.asset.util.KeywordMatcher;
 import org.scoula.codef.domain.CardTransactionVO;
+import org.scoula.codef.domain.TransactionCategoryVO;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.Map.Entry;
 
+/**
+ * 카드 거래 글로벌 카테고리 분류기
+ * - GLOBAL_KEYWORDS + DB 글로벌 카테고리 이름을 하나의 KeywordMatcher(Aho–Corasick)로 컴파일
+ * - 필드(가맹점명, 업종)마다 한 번만 훑어서 분류, 여러 키워드가 걸리면 KeywordMatcher 우선순위로 항상 같은 결과
+ * - reload() 로 새 매처를 만들어 통째로 교체 (분류 중인 요청은 기존 매처를 그대로 사용)
+ */
+@Slf4j
 @Service
 public class TransactionCategorizer {
 
+    private static final String UNCLASSIFIED_CATEGORY_NAME = "카테고리 미지정";
+
     private final AssetCategoryMapper assetCategoryMapper;
-    private final Map<String, Long> typeMap = new HashMap<>();
-    private final Map<String, Long> nameMap = new HashMap<>();
 
-    //글로벌 카테고리 이름 → 키워드 리스트 매핑
-    private static final Map<String, List<String>> GLOBAL_KEYWORDS = Map.ofEntries(
+    // 재적재 시 통째로 교체되는 불변 매처
+    private volatile KeywordMatcher<Long> matcher = new KeywordMatcher<>(List.of());
+
+    //글로벌 카테고리 이름 → 키워드 리스트 매핑 (선언 순서 = 같은 키워드가 겹칠 때의 우선순위)
+    private static final List<Entry<String, List<String>>> GLOBAL_KEYWORDS = List.of(
             Map.entry("교통/자동차", List.of("택시", "버스", "지하철", "철도", "충전소", "주유소")),
             Map.entry("생활", List.of("생활용품", "생활", "다이소")),
             Map.entry("레저와 여가생활", List.of("놀이공원", "영화관", "노래방", "레저", "여가", "티빙", "오락실")),
@@ -34,7 +45,7 @@ public class TransactionCategorizer {
             Map.entry("교육", List.of("학원", "교육", "강의")),
             Map.entry("여행", List.of("항공", "호텔", "리조트", "아고다")),
             Map.entry("주류", List.of("주점", "맥주", "와인", "소주")),
-            Map.entry("카테고리 미지정", List.of())
+            Map.entry(UNCLASSIFIED_CATEGORY_NAME, List.of())
     );
 
     public TransactionCategorizer(AssetCategoryMapper assetCategoryMapper) {
@@ -45,39 +56,83 @@ public class TransactionCategorizer {
 
     @PostConstruct
     public void initMaps() {
-        for (Entry<String, List<String>> entry : GLOBAL_KEYWORDS.entrySet()) {
-            String categoryName = entry.getKey();
-            Long catId = assetCategoryMapper.findIdByNameAndGlobal(categoryName);
+        try {
+            reload();
+        } catch (Exception e) {
+            // 적재 실패 시 빈 매처 → 전부 미분류 처리, 다음 reload 때 복구
+            log.error("[거래 분류기] 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * DB 글로벌 카테고리를 다시 읽어 매처를 새로 컴파일 후 교체
+     * - 키워드 우선순위: GLOBAL_KEYWORDS 선언 순서 → DB 에만 있는 글로벌 카테고리 이름
+     * - DB 에 없는 카테고리의 키워드는 제외
+     */
+    public void reload() {
+        Map<String, Long> globalIds = new LinkedHashMap<>();
+        for (TransactionCategoryVO category : assetCategoryMapper.findGlobalCategories()) {
+            if (category.getName() != null && category.getId() != null) {
+                globalIds.putIfAbsent(category.getName(), category.getId());
+            }
+        }
+
+        List<Entry<String, Long>> entries = new ArrayList<>();
+        for (Entry<String, List<String>> entry : GLOBAL_KEYWORDS) {
+            Long catId = globalIds.get(entry.getKey());
+            if (catId == null) {
+                continue;
+            }
             for (String keyword : entry.getValue()) {
-                typeMap.put(keyword, catId);
-                nameMap.put(keyword, catId);
+                entries.add(Map.entry(keyword, catId));
             }
         }
+        // 관리자가 DB 에 추가한 글로벌 카테고리는 이름 자체를 키워드로 사용
+        globalIds.forEach((name, catId) -> {
+            if (!UNCLASSIFIED_CATEGORY_NAME.equals(name)) {
+                entries.add(Map.entry(name, catId));
+            }
+        });
+
+        KeywordMatcher<Long> compiled = new KeywordMatcher<>(entries);
+        matcher = compiled;
+        log.info("[거래 분류기] 키워드 {}개 적재 (글로벌 카테고리 {}개)", compiled.size(), globalIds.size());
     }
 
     /**
      * 주어진 거래에 대해 글로벌 룰(type/name) 기반으로 카테고리를 분류
      */
     public Long categorizeGlobal(CardTransactionVO tx) {
+        return categorize(matcher, tx);
+    }
+
+    /**
+     * 여러 거래를 한 번에 분류 (모두 같은 매처로 분류, reload 와 섞이지 않음)
+     * @return 입력 순서대로 카테고리 ID (매칭 안 되면 null)
+     */
+    public List<Long> categorizeAll(List<CardTransactionVO> txList) {
+        KeywordMatcher<Long> current = matcher;
+        List<Long> result = new ArrayList<>(txList.size());
+        for (CardTransactionVO tx : txList) {
+            result.add(categorize(current, tx));
+        }
+        return result;
+    }
+
+    private static Long categorize(KeywordMatcher<Long> current, CardTransactionVO tx) {
         // 1) store_name / store_name1 키워드 매핑 최우선
-        String s1 = tx.getStoreName()  != null ? tx.getStoreName()  : "";
-        String s2 = tx.getStoreName1() != null ? tx.getStoreName1() : "";
-        for (Entry<String, Long> entry : nameMap.entrySet()) {
-            String key = entry.getKey();
-            if (s1.contains(key) || s2.contains(key)) {
-                return entry.getValue();
-            }
+        KeywordMatcher.Match<Long> nameMatch = current.findIn(tx.getStoreName(), tx.getStoreName1());
+        if (nameMatch != null) {
+            return nameMatch.getValue();
         }
 
         // 2) store_type 기반 매핑
-        String type = tx.getStoreType() != null ? tx.getStoreType() : "";
-        for (Entry<String, Long> e : typeMap.entrySet()) {
-            if (type.contains(e.getKey())) {
-                return e.getValue();
-            }
+        KeywordMatcher.Match<Long> typeMatch = current.find(tx.getStoreType());
+        if (typeMatch != null) {
+            return typeMatch.getValue();
         }
 
         // 3) 둘 다 매칭 안 되면 null → 서비스 레이어에서 미분류 처리
         return null;
     }
-}
\ No newline at end of file
+}
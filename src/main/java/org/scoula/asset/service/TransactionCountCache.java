@@ -0,0 +1,52 @@
+package org.scoula.asset.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.util.HashUtils;
+import org.scoula.common.util.RedisUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 거래내역 커서 조회용 전체 건수 캐시 (Redis)
+ * - 같은 조건으로 스크롤하는 동안 COUNT(*) 를 매 페이지 다시 실행하지 않도록 TTL 동안 재사용
+ * - 새 거래가 저장되어도 바로 무효화하지 않음 → TTL 동안은 근사값
+ * - Redis 오류 시 캐시 없이 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionCountCache {
+
+    private static final String KEY_PREFIX = "asset:txcount:";
+    private static final long TTL_SECONDS = 300;
+
+    private final RedisUtil redisUtil;
+
+    /**
+     * @param scope  조회 대상과 필터를 이어 붙인 문자열 (예: "account|1|expense|...")
+     * @param counter 캐시에 없을 때 실행할 집계
+     */
+    public long get(String scope, LongSupplier counter) {
+        String key = KEY_PREFIX + HashUtils.sha256Hex(scope);
+        try {
+            String cached = redisUtil.get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[거래 건수 캐시] 조회 실패, 직접 집계: {}", e.getMessage());
+            return counter.getAsLong();
+        }
+
+        long count = counter.getAsLong();
+        try {
+            redisUtil.set(key, String.valueOf(count), TTL_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("[거래 건수 캐시] 저장 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,201 @@
+package org.scoula.asset.util;
+
+import java.util.*;
+
+/**
+ * 다중 키워드 매처 (Aho–Corasick 오토마톤)
+ * - 키워드 전체를 하나의 오토마톤으로 컴파일 → 키워드 수와 무관하게 문자열을 한 번만 훑음
+ * - 생성 후 변경 불가 (여러 스레드에서 동시에 사용 가능, 갱신은 새로 만들어 교체)
+ *
+ * 여러 키워드가 매칭되면 아래 순서로 하나를 고른다 (항상 같은 결과):
+ *   1. 더 긴 키워드 (예: "이마트24" 가 "이마트", "마트" 보다 우선)
+ *   2. 문자열에서 더 앞에 나온 키워드
+ *   3. 같은 키워드가 여러 번 등록되면 먼저 등록된 값
+ *
+ * @param <V> 키워드에 연결된 값 (예: 카테고리 ID)
+ */
+public final class KeywordMatcher<V> {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // 노드별 전이: 정렬된 문자 배열 + 같은 위치의 다음 노드 (이진 탐색)
+    private final char[][] labels;
+    private final int[][] targets;
+
+    // 실패 링크
+    private final int[] fail;
+
+    // 이 노드에서 끝나는 가장 긴 키워드 번호 (없으면 NONE)
+    private final int[] output;
+
+    private final String[] keywords;
+    private final List<V> values;
+
+    /**
+     * @param entries 키워드 → 값 (반복 순서 = 우선순위, 빈 키워드는 무시)
+     */
+    public KeywordMatcher(List<Map.Entry<String, V>> entries) {
+        List<TreeMap<Character, Integer>> gotoMaps = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        gotoMaps.add(new TreeMap<>());
+        terminals.add(NONE);
+
+        List<String> keywordList = new ArrayList<>();
+        List<V> valueList = new ArrayList<>();
+        for (Map.Entry<String, V> entry : entries) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                Integer next = gotoMaps.get(node).get(c);
+                if (next == null) {
+                    next = gotoMaps.size();
+                    gotoMaps.add(new TreeMap<>());
+                    terminals.add(NONE);
+                    gotoMaps.get(node).put(c, next);
+                }
+                node = next;
+            }
+            // 같은 키워드는 먼저 등록된 값 유지
+            if (terminals.get(node) == NONE) {
+                terminals.set(node, keywordList.size());
+                keywordList.add(keyword);
+                valueList.add(entry.getValue());
+            }
+        }
+
+        int size = gotoMaps.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> children = gotoMaps.get(node);
+            labels[node] = new char[children.size()];
+            targets[node] = new int[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> child : children.entrySet()) {
+                labels[node][i] = child.getKey();
+                targets[node][i] = child.getValue();
+                i++;
+            }
+        }
+
+        // BFS 로 실패 링크 계산, 출력은 자기 키워드가 없으면 실패 노드의 출력을 물려받음
+        // (실패 노드는 항상 더 얕으므로 먼저 계산되어 있음)
+        this.fail = new int[size];
+        this.output = new int[size];
+        output[ROOT] = NONE;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            fail[child] = ROOT;
+            output[child] = terminals.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+
+                int f = fail[node];
+                while (f != ROOT && next(f, c) == NONE) {
+                    f = fail[f];
+                }
+                int target = next(f, c);
+                fail[child] = target == NONE ? ROOT : target;
+
+                int own = terminals.get(child);
+                output[child] = own != NONE ? own : output[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        this.keywords = keywordList.toArray(new String[0]);
+        this.values = Collections.unmodifiableList(valueList);
+    }
+
+    /**
+     * 문자열에서 우선순위가 가장 높은 키워드 찾기 (한 번 훑음)
+     * @return 매칭 결과, 없으면 null
+     */
+    public Match<V> find(String text) {
+        if (text == null || text.isEmpty() || keywords.length == 0) {
+            return null;
+        }
+        int state = ROOT;
+        int best = NONE;
+        int bestEnd = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = next(state, c)) == NONE && state != ROOT) {
+                state = fail[state];
+            }
+            state = next == NONE ? ROOT : next;
+
+            // 각 위치에서 끝나는 가장 긴 키워드, 길이가 같으면 먼저 끝난(= 먼저 시작한) 것 유지
+            int out = output[state];
+            if (out != NONE && (best == NONE || keywords[out].length() > keywords[best].length())) {
+                best = out;
+                bestEnd = i;
+            }
+        }
+        if (best == NONE) {
+            return null;
+        }
+        return new Match<>(keywords[best], values.get(best), bestEnd - keywords[best].length() + 1);
+    }
+
+    /**
+     * 여러 문자열 중 우선순위가 가장 높은 키워드 찾기 (길이가 같으면 앞 문자열 우선)
+     */
+    public Match<V> findIn(String... texts) {
+        Match<V> best = null;
+        for (String text : texts) {
+            Match<V> match = find(text);
+            if (match != null && (best == null || match.getKeyword().length() > best.getKeyword().length())) {
+                best = match;
+            }
+        }
+        return best;
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    private int next(int node, char c) {
+        int i = Arrays.binarySearch(labels[node], c);
+        return i >= 0 ? targets[node][i] : NONE;
+    }
+
+    /**
+     * 매칭된 키워드와 값, 문자열 내 시작 위치
+     */
+    public static final class Match<V> {
+        private final String keyword;
+        private final V value;
+        private final int start;
+
+        Match(String keyword, V value, int start) {
+            this.keyword = keyword;
+            this.value = value;
+            this.start = start;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public int getStart() {
+            return start;
+        }
+    }
+}
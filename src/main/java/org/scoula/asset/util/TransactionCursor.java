@@ -0,0 +1,48 @@
+package org.scoula.asset.util;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 거래내역 커서 (거래일시, 거래 ID)
+ * - 클라이언트에는 "epochMillis:id" 를 URL-safe Base64 로 감싼 문자열로 전달
+ * - 같은 일시의 거래는 id 로 순서를 정하므로 페이지 사이에 거래가 추가되어도 중복/누락 없음
+ */
+@Getter
+public final class TransactionCursor {
+
+    private final Date transactionDate;
+    private final Long id;
+
+    private TransactionCursor(Date transactionDate, Long id) {
+        this.transactionDate = transactionDate;
+        this.id = id;
+    }
+
+    public static String encode(Date transactionDate, Long id) {
+        String raw = transactionDate.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어 있으면 null (첫 페이지)
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new TransactionCursor(
+                    new Date(Long.parseLong(raw.substring(0, sep))),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
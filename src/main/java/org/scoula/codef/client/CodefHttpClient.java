@@ -0,0 +1,189 @@
+package org.scoula.codef.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.codef.dto.CodefHttpStatsDto;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * CODEF 공용 HTTP 클라이언트
+ * - 하나의 HttpClient 를 재사용하여 연결(TLS 세션 포함)을 keep-alive 로 유지
+ *   → 여러 계좌/카드를 동기화할 때 요청마다 TLS 핸드셰이크를 하지 않음
+ * - 연결/응답 시간 제한 (CONNECT_TIMEOUT, READ_TIMEOUT)
+ * - 응답은 문자열로 모으지 않고 URL 디코딩하면서 바로 Jackson 으로 파싱
+ * - 엔드포인트(경로)별 요청/실패 횟수와 응답 시간 분포 집계
+ */
+@Slf4j
+@Component
+public class CodefHttpClient {
+
+    private static final String DEFAULT_API_BASE_URL = "https://development.codef.io";
+    private static final String DEFAULT_TOKEN_URL = "https://oauth.codef.io/oauth/token";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    // 거래내역 조회는 CODEF 쪽 스크래핑 시간이 길어 넉넉하게
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(60);
+
+    // 응답 시간 분포 구간 상한 (ms)
+    private static final long[] LATENCY_BOUNDS_MILLIS = {50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    // 응답 스트림은 직접 닫음 (남은 바이트를 비워야 연결이 재사용됨)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+
+    private final String apiBaseUrl;
+    private final String tokenUrl;
+    private final Duration readTimeout;
+    private final HttpClient httpClient;
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public CodefHttpClient() {
+        this(DEFAULT_API_BASE_URL, DEFAULT_TOKEN_URL, CONNECT_TIMEOUT, READ_TIMEOUT);
+    }
+
+    /**
+     * 목 서버 등 다른 주소/시간 제한으로 호출하는 클라이언트 생성 (테스트용)
+     */
+    public CodefHttpClient(String apiBaseUrl, String tokenUrl, Duration connectTimeout, Duration readTimeout) {
+        this.apiBaseUrl = apiBaseUrl;
+        this.tokenUrl = tokenUrl;
+        this.readTimeout = readTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * CODEF API 호출 (Bearer 토큰 포함)
+     * @param path API 경로 (예: /v1/kr/bank/p/account/transaction-list)
+     * @param jsonBody 요청 JSON
+     * @param accessToken CODEF 액세스 토큰
+     * @return URL 디코딩 후 파싱한 응답 (4xx/5xx 여도 본문이 있으면 반환, result.code 로 성공 여부 판단)
+     * @throws IOException 연결 실패, 시간 초과, 빈 응답 또는 파싱 실패
+     */
+    public JsonNode post(String path, String jsonBody, String accessToken) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiBaseUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
+                .build();
+        return execute(path, request, true);
+    }
+
+    /**
+     * CODEF OAuth 토큰 발급 (client_credentials)
+     * @return 토큰 응답 (access_token, expires_in 등, URL 인코딩 없음)
+     * @throws IOException 연결 실패, 시간 초과, 빈 응답 또는 파싱 실패
+     */
+    public JsonNode requestToken(String clientId, String clientSecret) throws IOException {
+        String auth = Base64.getEncoder()
+                .encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+        URI uri = URI.create(tokenUrl);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Authorization", "Basic " + auth)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials&scope=read"))
+                .build();
+        return execute(uri.getPath(), request, false);
+    }
+
+    /**
+     * 엔드포인트(경로)별 호출 통계
+     */
+    public Map<String, CodefHttpStatsDto> getStats() {
+        Map<String, CodefHttpStatsDto> result = new TreeMap<>();
+        stats.forEach((endpoint, endpointStats) -> result.put(endpoint, endpointStats.toDto()));
+        return result;
+    }
+
+    private JsonNode execute(String endpoint, HttpRequest request, boolean urlEncoded) throws IOException {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            JsonNode root;
+            try (InputStream body = response.body()) {
+                root = OBJECT_MAPPER.readTree(urlEncoded ? new UrlDecodingInputStream(body) : body);
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+            if (root == null || root.isMissingNode()) {
+                throw new IOException("CODEF 빈 응답: " + endpoint + " (status=" + response.statusCode() + ")");
+            }
+            if (response.statusCode() >= 400) {
+                log.warn("[CODEF HTTP] 오류 응답: {} status={}", endpoint, response.statusCode());
+            }
+
+            failed = false;
+            return root;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CODEF 요청 중단: " + endpoint, e);
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(elapsedMillis, failed);
+            log.debug("[CODEF HTTP] {} {}ms{}", endpoint, elapsedMillis, failed ? " (실패)" : "");
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 호출 통계
+     */
+    private static class EndpointStats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicLongArray latency = new AtomicLongArray(LATENCY_BOUNDS_MILLIS.length + 1);
+
+        void record(long elapsedMillis, boolean failed) {
+            requests.incrementAndGet();
+            if (failed) {
+                errors.incrementAndGet();
+            }
+            totalMillis.addAndGet(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+
+            int bucket = 0;
+            while (bucket < LATENCY_BOUNDS_MILLIS.length && elapsedMillis > LATENCY_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            latency.incrementAndGet(bucket);
+        }
+
+        CodefHttpStatsDto toDto() {
+            long count = requests.get();
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length; i++) {
+                histogram.put(String.valueOf(LATENCY_BOUNDS_MILLIS[i]), latency.get(i));
+            }
+            histogram.put("+Inf", latency.get(LATENCY_BOUNDS_MILLIS.length));
+            return new CodefHttpStatsDto(count, errors.get(),
+                    count > 0 ? (double) totalMillis.get() / count : 0.0,
+                    maxMillis.get(), histogram);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.scoula.codef.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * URL 인코딩된 응답 본문을 읽으면서 바로 디코딩하는 스트림
+ * - CODEF 응답은 JSON 전체가 URL 인코딩되어 오므로, 문자열로 모은 뒤 URLDecoder 로 한 번 더 복사하지 않고
+ *   Jackson 이 이 스트림을 직접 읽도록 함
+ * - '%XX' → 바이트, '+' → 공백 (URLDecoder.decode(s, UTF_8) 와 같은 결과, UTF-8 해석은 Jackson 이 담당)
+ */
+final class UrlDecodingInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    UrlDecodingInputStream(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = next();
+        if (c == '+') {
+            return ' ';
+        }
+        if (c != '%') {
+            return c;
+        }
+        int high = Character.digit(next(), 16);
+        int low = Character.digit(next(), 16);
+        if (high < 0 || low < 0) {
+            throw new IOException("잘못된 URL 인코딩 (%XX 형식 아님)");
+        }
+        return (high << 4) | low;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            // 이미 읽은 바이트가 있으면 원본 스트림을 더 기다리지 않고 반환
+            if (position == limit && count > 0) {
+                break;
+            }
+            int c = read();
+            if (c < 0) {
+                break;
+            }
+            b[off + count++] = (byte) c;
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int next() throws IOException {
+        if (position == limit) {
+            int n = in.read(buffer, 0, buffer.length);
+            if (n <= 0) {
+                position = limit = 0;
+                return -1;
+            }
+            position = 0;
+            limit = n;
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
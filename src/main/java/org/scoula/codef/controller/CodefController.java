@@ -7,11 +7,13 @@ import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.scoula.asset.dto.AssetSummaryResponse;
 import org.scoula.asset.service.AssetService;
+import org.scoula.codef.client.CodefHttpClient;
 import org.scoula.codef.domain.ConnectedAccountVO;
 import org.scoula.codef.domain.UserAccountVO;
 import org.scoula.codef.domain.UserCardVO;
 import org.scoula.codef.dto.AccountConnectRequest;
 import org.scoula.codef.dto.CardConnectRequest;
+import org.scoula.codef.dto.CodefHttpStatsDto;
 import org.scoula.codef.dto.ErrorResponse;
 import org.scoula.codef.mapper.ConnectedAccountMapper;
 import org.scoula.codef.service.CodefService;
@@ -32,6 +34,7 @@ public class CodefController {
 
     private final CodefService codefService;
     private final AssetService assetService;
+    private final CodefHttpClient codefHttpClient;
 
     // 1. 계좌목록만 프론트로 전달
     @ApiOperation(value = "CODEF 계좌연동/목록조회", notes = "CODEF 계좌 연결 및 계좌목록 반환")
@@ -79,6 +82,13 @@ public class CodefController {
         return ResponseEntity.ok(summary);
     }
 
+    // CODEF 호출 통계
+    @ApiOperation(value = "CODEF 호출 통계", notes = "CODEF 엔드포인트별 요청/실패 횟수, 평균/최대 응답 시간, 응답 시간 분포 반환")
+    @GetMapping("/http-stats")
+    public ResponseEntity<Map<String, CodefHttpStatsDto>> getHttpStats() {
+        return ResponseEntity.ok(codefHttpClient.getStats());
+    }
+
 
 
 
@@ -3,12 +3,12 @@ package org.scoula.codef.controller;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
-import org.scoula.asset.dto.AssetSummaryResponse;
-import org.scoula.asset.service.AssetService;
+import org.scoula.codef.dto.SyncJobStatusDto;
 import org.scoula.codef.service.SyncService;
 import org.scoula.security.account.domain.CustomUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,34 +22,42 @@ import springfox.documentation.annotations.ApiIgnore;
 public class SyncController {
 
     private final SyncService syncService;
-    private final AssetService assetService;
 
     // 1. 계좌 전체 동기화
     @ApiOperation(
             value = "사용자 계좌 동기화",
-            notes = "현재 로그인된 사용자의 모든 계좌 거래내역을 CODEF에서 최신화합니다. (비동기 동작, 202 Accepted 반환)"
+            notes = "현재 로그인된 사용자의 모든 계좌 거래내역을 CODEF에서 최신화합니다. (비동기 동작, 202 Accepted + 작업 상태 반환, 진행 상황은 /jobs/{jobId} 로 조회)"
     )
     @PostMapping("/accounts")
-    public ResponseEntity<AssetSummaryResponse> syncAccounts(
+    public ResponseEntity<SyncJobStatusDto> syncAccounts(
             @ApiIgnore @AuthenticationPrincipal CustomUser customUser) {
         Long userId = customUser.getMember().getUserId();
-        syncService.syncAccountsAsync(userId);
-        AssetSummaryResponse summary = assetService.getSummary(userId);
-        return ResponseEntity.ok(summary);
+        return ResponseEntity.accepted().body(syncService.syncAccountsAsync(userId));
     }
 
     // 2. 카드 전체 동기화
     @ApiOperation(
             value = "사용자 카드 동기화",
-            notes = "현재 로그인된 사용자의 모든 카드 승인내역을 CODEF에서 최신화합니다. (비동기 동작, 202 Accepted 반환)"
+            notes = "현재 로그인된 사용자의 모든 카드 승인내역을 CODEF에서 최신화합니다. (비동기 동작, 202 Accepted + 작업 상태 반환, 진행 상황은 /jobs/{jobId} 로 조회)"
     )
     @PostMapping("/cards")
-    public ResponseEntity<AssetSummaryResponse> syncCards(
+    public ResponseEntity<SyncJobStatusDto> syncCards(
             @ApiIgnore @AuthenticationPrincipal CustomUser customUser) {
         Long userId = customUser.getMember().getUserId();
-        syncService.syncCardsAsync(userId);
-        AssetSummaryResponse summary = assetService.getSummary(userId);
-        return ResponseEntity.ok(summary);
+        return ResponseEntity.accepted().body(syncService.syncCardsAsync(userId));
     }
-}
 
+    // 3. 동기화 작업 진행 상황 조회
+    @ApiOperation(
+            value = "동기화 작업 상태 조회",
+            notes = "계좌/카드 동기화 작업의 진행률(성공/실패 건수)과 상태(RUNNING, COMPLETED, PARTIALLY_FAILED, FAILED)를 반환합니다."
+    )
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SyncJobStatusDto> getSyncJob(
+            @ApiIgnore @AuthenticationPrincipal CustomUser customUser,
+            @PathVariable String jobId) {
+        Long userId = customUser.getMember().getUserId();
+        SyncJobStatusDto job = syncService.getJob(userId, jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.scoula.codef.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주간 지출 집계 원본 행 (사용자 × 요일, 최근 4주 거래를 한 번에 GROUP BY)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyDaySpendingVO {
+    private Long userId;
+    private Integer dayOfWeek;      // 1=일요일 ~ 7=토요일 (MySQL DAYOFWEEK)
+    private Long thisWeekAmount;    // 이번 주 해당 요일 지출
+    private Integer thisWeekCount;  // 이번 주 해당 요일 거래 건수
+    private Long lastWeekAmount;    // 지난 주 해당 요일 지출
+}
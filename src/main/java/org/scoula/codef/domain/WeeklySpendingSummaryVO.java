@@ -0,0 +1,51 @@
+package org.scoula.codef.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.scoula.push.dto.feedback.DayOfWeekPeak;
+import org.scoula.push.dto.feedback.WeeklySpendingComparison;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 주간 지출 요약 (weekly_spending_summary)
+ * - 행이 있으면 최근 4주 안에 카드 거래가 있는 사용자
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklySpendingSummaryVO {
+    private Long userId;
+    private LocalDate weekStart;            // 주 시작일 (일요일)
+    private Long thisWeekAmount;
+    private Long lastWeekAmount;
+    private Integer peakDayOfWeek;          // 이번 주 지출이 가장 큰 요일 (이번 주 거래 없으면 null)
+    private Long peakAmount;
+    private Integer peakTransactionCount;
+
+    public WeeklySpendingComparison toComparison() {
+        return WeeklySpendingComparison.of(
+                thisWeekAmount != null ? thisWeekAmount : 0L,
+                lastWeekAmount != null ? lastWeekAmount : 0L);
+    }
+
+    public DayOfWeekPeak toDayOfWeekPeak() {
+        if (peakDayOfWeek == null) {
+            return DayOfWeekPeak.builder()
+                    .dayOfWeek(0)
+                    .dayName("데이터 없음")
+                    .totalAmount(0L)
+                    .transactionCount(0)
+                    .build();
+        }
+        return DayOfWeekPeak.builder()
+                .dayOfWeek(peakDayOfWeek)
+                .dayName(DayOfWeekPeak.getDayName(peakDayOfWeek))
+                .totalAmount(peakAmount != null ? peakAmount : 0L)
+                .transactionCount(peakTransactionCount != null ? peakTransactionCount : 0)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package org.scoula.codef.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class CodefHttpStatsDto {
+
+    // 요청 / 실패(연결 오류, 시간 초과, 응답 파싱 실패) 횟수 (서버 시작 이후)
+    private long requests;
+    private long errors;
+
+    // 평균 / 최대 응답 시간 (ms)
+    private double averageMillis;
+    private long maxMillis;
+
+    // 응답 시간 분포 (구간 상한 ms → 건수, "+Inf" 는 마지막 구간 초과)
+    private Map<String, Long> latencyMillis;
+}
@@ -0,0 +1,42 @@
+package org.scoula.codef.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncJobStatusDto {
+
+    public enum Status {
+        RUNNING,            // 진행 중
+        COMPLETED,          // 전체 성공
+        PARTIALLY_FAILED,   // 일부 계좌/카드 실패 (재시도 후)
+        FAILED              // 전체 실패 또는 시작 불가 (connectedId 없음 등)
+    }
+
+    private String jobId;
+
+    // ACCOUNT: 계좌, CARD: 카드
+    private String type;
+
+    private Status status;
+
+    // 전체 / 성공 / 실패 계좌(카드) 수
+    private int total;
+    private int succeeded;
+    private int failed;
+
+    // 진행률 (0 ~ 100)
+    private int progress;
+
+    private String errorMessage;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
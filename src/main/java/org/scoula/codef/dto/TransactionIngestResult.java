@@ -0,0 +1,15 @@
+package org.scoula.codef.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TransactionIngestResult {
+
+    // 신규 저장 건수
+    private int inserted;
+
+    // 이미 저장된 거래라 건너뛴 건수 (DB 유니크 키 중복)
+    private int skipped;
+}
@@ -1,19 +1,14 @@
 package org.scoula.codef.mapper;
 
-import org.apache.ibatis.annotations.Param;
 import org.scoula.codef.domain.AccountTransactionVO;
 
 import java.util.List;
-import java.util.Set;
 
 public interface AccountTransactionMapper {
-    void insertAccountTransaction(AccountTransactionVO vo);
-
     String findLastTransactionDateByAccountId(Long accountId);
 
-    Set<String> findAllTxKeyByAccountIdFromDate(@Param("accountId") Long accountId, @Param("startDate") String startDate);
-
-    void insertAccountTransactions(List<AccountTransactionVO> batch);
+    // 여러 건 저장, 이미 있는 거래(유니크 키 중복)는 무시 → 실제 저장 건수 반환
+    int insertIgnoreAccountTransactions(List<AccountTransactionVO> batch);
 
     Long findLatestBalanceAfterByAccountId(Long accountId);
 }
@@ -4,15 +4,13 @@ import org.apache.ibatis.annotations.Param;
 import org.scoula.codef.domain.CardTransactionVO;
 
 import java.util.List;
-import java.util.Set;
 
 public interface CardTransactionMapper {
-    // 카드 거래내역 저장
-    int insertCardTransaction(CardTransactionVO tx);
-
     String findLastTransactionDateByCardId(Long cardId);
 
-    Set<String> findAllTxKeyByCardIdFromDate(@Param("cardId")Long cardId, @Param("startDate")String startDate);
+    // 카드 거래내역 여러 건 저장, 이미 있는 거래(유니크 키 중복)는 무시 → 실제 저장 건수 반환
+    int insertIgnoreCardTransactions(List<CardTransactionVO> batch);
 
-    void insertCardTransactions(List<CardTransactionVO> batch);
+    // 이미 저장된 승인 건의 취소상태/취소금액을 응답 값으로 갱신 → 실제로 바뀐 행 수 반환
+    int updateCancellations(@Param("cardId") Long cardId, @Param("list") List<CardTransactionVO> approvals);
 }
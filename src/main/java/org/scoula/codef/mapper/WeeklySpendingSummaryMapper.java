@@ -0,0 +1,34 @@
+package org.scoula.codef.mapper;
+
+import org.apache.ibatis.annotations.Param;
+import org.scoula.codef.domain.WeeklyDaySpendingVO;
+import org.scoula.codef.domain.WeeklySpendingSummaryVO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface WeeklySpendingSummaryMapper {
+
+    /**
+     * 전체 사용자의 요일별 이번 주 / 지난 주 지출 (since 이후 거래 1회 스캔)
+     * @param weekStart     이번 주 시작일 (일요일)
+     * @param lastWeekStart 지난 주 시작일
+     * @param since         조회 하한 (최근 4주 거래 보유 판단 기준)
+     */
+    List<WeeklyDaySpendingVO> findWeeklyDaySpending(@Param("weekStart") LocalDate weekStart,
+                                                    @Param("lastWeekStart") LocalDate lastWeekStart,
+                                                    @Param("since") LocalDateTime since);
+
+    int deleteByWeekStart(@Param("weekStart") LocalDate weekStart);
+
+    // weekStart 이전 주 요약 정리 (보관 기간 초과분)
+    int deleteBefore(@Param("weekStart") LocalDate weekStart);
+
+    int insertSummaries(@Param("list") List<WeeklySpendingSummaryVO> summaries);
+
+    List<WeeklySpendingSummaryVO> findByWeekStart(@Param("weekStart") LocalDate weekStart);
+
+    WeeklySpendingSummaryVO findByUserIdAndWeekStart(@Param("userId") Long userId,
+                                                     @Param("weekStart") LocalDate weekStart);
+}
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.asset.service.MerchantCategoryMemory;
+import org.scoula.asset.service.SpendingRollupService;
 import org.scoula.asset.service.TransactionCategorizer;
+import org.scoula.codef.client.CodefHttpClient;
 import org.scoula.codef.common.exception.AlreadyRegisteredCardException;
 import org.scoula.codef.common.exception.CodefApiException;
 import org.scoula.codef.domain.*;
 import org.scoula.codef.dto.AccountConnectRequest;
 import org.scoula.codef.dto.CardConnectRequest;
+import org.scoula.codef.dto.TransactionIngestResult;
 import org.scoula.codef.mapper.*;
 import org.scoula.codef.util.CodefUtil;
 import org.scoula.codef.util.RSAUtil;
@@ -17,31 +21,28 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CodefService {
 
+    // 거래내역 저장 시 multi-row INSERT 1회당 행 수
+    private static final int INGEST_BATCH_SIZE = 500;
+
     private final CodefTokenService tokenService;
+    private final CodefHttpClient codefHttpClient;
     @Value("${codef.public_key}")
     private String publicKey;
 
     private final TransactionCategorizer transactionCategorizer;
+    private final MerchantCategoryMemory merchantCategoryMemory;
+    private final SpendingRollupService spendingRollupService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final ConnectedAccountMapper connectedAccountMapper;
@@ -70,7 +71,7 @@ public class CodefService {
                 String encryptedPw = RSAUtil.encryptRSA(request.getPassword(), publicKey);
 
                 // 3. 계정 연결 요청
-                String connectUrl = "https://development.codef.io/v1/account/create";
+                String connectUrl = "/v1/account/create";
                 String connectBody = """
                         {
                           "accountList": [{
@@ -85,16 +86,15 @@ public class CodefService {
                         }
                         """.formatted(request.getOrganization(), request.getLoginId(), encryptedPw);
 
-                String connectResponse = sendPost(connectUrl, connectBody);
-                String decodedResponse = URLDecoder.decode(connectResponse, StandardCharsets.UTF_8);
-                log.debug("[CODEF 계정연결 응답] {}", decodedResponse);
+                JsonNode connectResponse = sendPost(connectUrl, connectBody);
+                log.debug("[CODEF 계정연결 응답] {}", connectResponse);
 
 //                if (!CodefUtil.isSuccess(decodedResponse)) {
 //                    // throw new RuntimeException("계정 연결 실패: " + CodefUtil.getResultMessage(decodedResponse));
 //                }
 
-                if (!CodefUtil.isSuccess(decodedResponse)) {
-                    JsonNode errorNode = objectMapper.readTree(decodedResponse)
+                if (!CodefUtil.isSuccess(connectResponse)) {
+                    JsonNode errorNode = connectResponse
                             .get("data").get("errorList").get(0);
 
                     String errorCode = errorNode.get("code").asText();
@@ -105,7 +105,7 @@ public class CodefService {
                     throw new CodefApiException(errorCode, errorMessage);
                 }
 
-                connectedId = objectMapper.readTree(decodedResponse)
+                connectedId = connectResponse
                         .get("data").get("connectedId").asText();
                 log.info("[CODEF connectedId 발급완료] userId={}, connectedId={}", userId, connectedId);
 
@@ -117,7 +117,7 @@ public class CodefService {
                 log.info("[CODEF 계좌연동] 기존 connectedId 사용: {}", connectedId);
                 String encryptedPw = RSAUtil.encryptRSA(request.getPassword(), publicKey);
 
-                String addUrl = "https://development.codef.io/v1/account/add";
+                String addUrl = "/v1/account/add";
                 String addBody = """
                         {
                           "accountList": [{
@@ -138,13 +138,12 @@ public class CodefService {
                         connectedId
                 );
 
-                String addResponse = sendPost(addUrl, addBody);
-                String decodedAddResponse = URLDecoder.decode(addResponse, StandardCharsets.UTF_8);
+                JsonNode addResponse = sendPost(addUrl, addBody);
 
-                log.debug("[CODEF 계정추가 응답] {}", decodedAddResponse);
+                log.debug("[CODEF 계정추가 응답] {}", addResponse);
 
-                if (!CodefUtil.isSuccess(decodedAddResponse)) {
-                    JsonNode errorNode = objectMapper.readTree(decodedAddResponse)
+                if (!CodefUtil.isSuccess(addResponse)) {
+                    JsonNode errorNode = addResponse
                             .get("data").get("errorList").get(0);
 
                     String errorCode = errorNode.get("code").asText();
@@ -158,7 +157,7 @@ public class CodefService {
 
 
             // 3. 계좌목록 조회
-            String accountUrl = "https://development.codef.io/v1/kr/bank/p/account/account-list";
+            String accountUrl = "/v1/kr/bank/p/account/account-list";
             String accountBody = """
                     {
                       "organization": "%s",
@@ -166,18 +165,13 @@ public class CodefService {
                     }
                     """.formatted(request.getOrganization(), connectedId);
 
-            String response = sendPost(accountUrl, accountBody);
-            String decodedAccountResponse = URLDecoder.decode(response, StandardCharsets.UTF_8);
-            log.debug("[CODEF 계좌목록 응답] {}", decodedAccountResponse);
-
-            JsonNode root = objectMapper.readTree(decodedAccountResponse);
+            JsonNode root = sendPost(accountUrl, accountBody);
+            log.debug("[CODEF 계좌목록 응답] {}", root);
 
-            log.debug("[CODEF 최종 root] root={}", root);
 
-
-            if (!CodefUtil.isSuccess(decodedAccountResponse)) {
-                log.error("[CODEF 계좌조회 실패] {}", CodefUtil.getResultMessage(decodedAccountResponse));
-                throw new RuntimeException("계좌 조회 실패: " + CodefUtil.getResultMessage(decodedAccountResponse));
+            if (!CodefUtil.isSuccess(root)) {
+                log.error("[CODEF 계좌조회 실패] {}", CodefUtil.getResultMessage(root));
+                throw new RuntimeException("계좌 조회 실패: " + CodefUtil.getResultMessage(root));
             }
 
             JsonNode accountList = root.get("data").get("resDepositTrust");
@@ -250,14 +244,7 @@ public class CodefService {
             );
             log.info("[계좌등록] 거래내역 조회 완료: 내역건수={}",  txList.size());
 
-            for (int i = 0; i < txList.size(); i += 500) {
-                List<AccountTransactionVO> batch = txList.subList(i, Math.min(i + 500, txList.size()));
-                for (AccountTransactionVO tx : batch) {
-                    tx.setAccountId(accountId);
-                }
-                accountTransactionMapper.insertAccountTransactions(batch);
-                log.info("[계좌등록] 거래내역 배치 저장: 저장건수={}",  batch.size());
-            }
+            ingestAccountTransactions(accountId, txList);
         }
     }
 
@@ -268,84 +255,91 @@ public class CodefService {
      * - startDate~endDate 범위의 거래내역을 조회
      * - 파싱하여 AccountTransactionVO 리스트로 반환
      */
-    // 거래내역 API 호출 및 파싱
+    // 거래내역 API 호출 및 파싱 (실패 시 빈 목록)
     public List<AccountTransactionVO> fetchAndParseAccountTransactions(
             String bankCode, String connectedId, String accountNumber, String startDate, String endDate) {
-        List<AccountTransactionVO> txList = new ArrayList<>();
-        log.info("[거래내역] 거래내역 조회 시작: bankCode={}, 기간={}-{}", bankCode, startDate, endDate);
         try {
-            String reqBody = """
-                    {
-                        "organization": "%s",
-                        "connectedId": "%s",
-                        "account": "%s",
-                        "startDate": "%s",
-                        "endDate": "%s",
-                        "orderBy": "0",
-                        "inquiryType": "1"
-                    }
-                    """.formatted(bankCode, connectedId, accountNumber, startDate, endDate);
+            return requestAccountTransactions(bankCode, connectedId, accountNumber, startDate, endDate);
+        } catch (Exception e) {
+            log.error("[거래내역] 거래내역 파싱 실패! bankCode={}, 에러={}", bankCode, e.getMessage(), e);
+            return new ArrayList<>();
+        }
+    }
 
+    /**
+     * 특정 계좌의 거래내역을 CODEF API로 조회하고 파싱 (실패 시 예외 → 호출자가 재시도 판단)
+     */
+    public List<AccountTransactionVO> requestAccountTransactions(
+            String bankCode, String connectedId, String accountNumber, String startDate, String endDate) throws Exception {
+        List<AccountTransactionVO> txList = new ArrayList<>();
+        log.info("[거래내역] 거래내역 조회 시작: bankCode={}, 기간={}-{}", bankCode, startDate, endDate);
+        String reqBody = """
+                {
+                    "organization": "%s",
+                    "connectedId": "%s",
+                    "account": "%s",
+                    "startDate": "%s",
+                    "endDate": "%s",
+                    "orderBy": "0",
+                    "inquiryType": "1"
+                }
+                """.formatted(bankCode, connectedId, accountNumber, startDate, endDate);
 
-            String url = "https://development.codef.io/v1/kr/bank/p/account/transaction-list";
-            String apiResp = sendPost(url, reqBody);
 
-            String decodedResp = URLDecoder.decode(apiResp, StandardCharsets.UTF_8);
-            log.debug("[거래내역] 디코드된 응답: {}", decodedResp);
+        String url = "/v1/kr/bank/p/account/transaction-list";
+        JsonNode root = sendPost(url, reqBody);
 
-            JsonNode root = objectMapper.readTree(decodedResp);
-            if (!CodefUtil.isSuccess(decodedResp)) {
-                log.warn("[거래내역] CODEF API 실패: {}", CodefUtil.getResultMessage(decodedResp));
-                throw new CodefApiException("TRANSACTION_ERROR", "거래내역 조회 실패");
-            }
-            JsonNode txArr = root.get("data").get("resTrHistoryList");
-            if (txArr == null || !txArr.isArray()) {
-                log.info("[거래내역] 반환된 거래내역 없음");
-                return txList;
-            }
+        log.debug("[거래내역] 디코드된 응답: {}", root);
 
-            for (JsonNode node : txArr) {
-                String out = node.path("resAccountOut").asText("");
-                String in = node.path("resAccountIn").asText("");
-
-                // 입출금 구분
-                String txType;
-                long amount;
-                if (!out.isEmpty() && Long.parseLong(out) > 0) {
-                    txType = "expense";
-                    amount = Long.parseLong(out);
-                } else if (!in.isEmpty() && Long.parseLong(in) > 0) {
-                    txType = "income";
-                    amount = Long.parseLong(in);
-                } else {
-                    txType = "saving";
-                    amount = 0L; // 예금/적금 등은 따로 분기 필요
-                }
+        if (!CodefUtil.isSuccess(root)) {
+            log.warn("[거래내역] CODEF API 실패: {}", CodefUtil.getResultMessage(root));
+            throw new CodefApiException("TRANSACTION_ERROR", "거래내역 조회 실패");
+        }
+        JsonNode txArr = root.get("data").get("resTrHistoryList");
+        if (txArr == null || !txArr.isArray()) {
+            log.info("[거래내역] 반환된 거래내역 없음");
+            return txList;
+        }
 
-                // 거래 일시 합치기 (yyyyMMdd + HHmmss → yyyy-MM-dd HH:mm:ss)
-                String date = node.path("resAccountTrDate").asText();
-                String time = node.path("resAccountTrTime").asText();
-                String dateTimeStr = date + time;
-                LocalDateTime txDateTime = LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-
-                AccountTransactionVO tx = AccountTransactionVO.builder()
-                        .amount(amount)
-                        .txType(txType)
-                        .transactionDateTime(Timestamp.valueOf(txDateTime))
-                        .balanceAfter(node.path("resAfterTranBalance").asLong(0))
-                        .storeName(node.path("resAccountDesc3").asText())
-                        .branchName(node.path("resAccountDesc4").asText())
-                        .build();
-
-                log.debug("[거래내역] 저장 예정 거래내역: {}", tx);
-                txList.add(tx);
+        for (JsonNode node : txArr) {
+            String out = node.path("resAccountOut").asText("");
+            String in = node.path("resAccountIn").asText("");
+
+            // 입출금 구분
+            String txType;
+            long amount;
+            if (!out.isEmpty() && Long.parseLong(out) > 0) {
+                txType = "expense";
+                amount = Long.parseLong(out);
+            } else if (!in.isEmpty() && Long.parseLong(in) > 0) {
+                txType = "income";
+                amount = Long.parseLong(in);
+            } else {
+                txType = "saving";
+                amount = 0L; // 예금/적금 등은 따로 분기 필요
             }
 
-            log.info("[거래내역] 거래내역 파싱 및 생성 완료:  건수={}", txList.size());
-
-        } catch (Exception e) {
-            log.error("[거래내역] 거래내역 파싱 실패! bankCode={}, 에러={}", bankCode, e.getMessage(), e);
+            // 거래 일시 합치기 (yyyyMMdd + HHmmss → yyyy-MM-dd HH:mm:ss)
+            String date = node.path("resAccountTrDate").asText();
+            String time = node.path("resAccountTrTime").asText();
+            String dateTimeStr = date + time;
+            LocalDateTime txDateTime = LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+            AccountTransactionVO tx = AccountTransactionVO.builder()
+                    .amount(amount)
+                    .txType(txType)
+                    .transactionDateTime(Timestamp.valueOf(txDateTime))
+                    .balanceAfter(node.path("resAfterTranBalance").asLong(0))
+                    .storeName(node.path("resAccountDesc3").asText())
+                    .branchName(node.path("resAccountDesc4").asText())
+                    .build();
+
+            log.debug("[거래내역] 저장 예정 거래내역: {}", tx);
+            txList.add(tx);
         }
+
+        log.info("[거래내역] 거래내역 파싱 및 생성 완료:  건수={}", txList.size());
+
         return txList;
     }
 
@@ -366,7 +360,7 @@ public class CodefService {
 
             if (connectedId == null) {
                 log.info("[카드] connectedId 없음 → 계정 연결 요청 진행");
-                String connectUrl = "https://development.codef.io/v1/account/create";
+                String connectUrl = "/v1/account/create";
                 String connectBody = """
                         {
                           "accountList": [{
@@ -385,14 +379,13 @@ public class CodefService {
                         encryptedPw
                 );
 
-                String connectResponse = sendPost(connectUrl, connectBody);
-                String decodedResponse = URLDecoder.decode(connectResponse, StandardCharsets.UTF_8);
+                JsonNode connectResponse = sendPost(connectUrl, connectBody);
 
 
-                log.debug("[카드] 계정 연결 API 응답: {}", decodedResponse);
+                log.debug("[카드] 계정 연결 API 응답: {}", connectResponse);
 
-                if (!CodefUtil.isSuccess(decodedResponse)) {
-                    JsonNode errorNode = objectMapper.readTree(decodedResponse)
+                if (!CodefUtil.isSuccess(connectResponse)) {
+                    JsonNode errorNode = connectResponse
                             .get("data").get("errorList").get(0);
                     String errorCode = errorNode.get("code").asText();
                     String errorMessage = errorNode.get("message").asText();
@@ -400,7 +393,7 @@ public class CodefService {
                     throw new CodefApiException(errorCode, errorMessage);
                 }
 
-                connectedId = objectMapper.readTree(decodedResponse)
+                connectedId = connectResponse
                         .get("data").get("connectedId").asText();
 
                 log.info("[카드] connectedId 신규 발급 완료: {}", connectedId);
@@ -411,7 +404,7 @@ public class CodefService {
             } else {
                 // 이미 connectedId가 있으면 카드 계정 추가 (추가 연결)
                 log.info("[카드] connectedId 존재 → 카드 계정 추가 연결 진행");
-                String addUrl = "https://development.codef.io/v1/account/add";
+                String addUrl = "/v1/account/add";
                 String addBody = """
                         {
                           "accountList": [{
@@ -432,13 +425,12 @@ public class CodefService {
                         connectedId
                 );
 
-                String addResponse = sendPost(addUrl, addBody);
-                String decodedAddResponse = URLDecoder.decode(addResponse, StandardCharsets.UTF_8);
+                JsonNode addResponse = sendPost(addUrl, addBody);
 
-                log.debug("[카드] 계정 추가 API 응답: {}", decodedAddResponse);
+                log.debug("[카드] 계정 추가 API 응답: {}", addResponse);
 
-                if (!CodefUtil.isSuccess(decodedAddResponse)) {
-                    JsonNode errorNode = objectMapper.readTree(decodedAddResponse)
+                if (!CodefUtil.isSuccess(addResponse)) {
+                    JsonNode errorNode = addResponse
                             .get("data").get("errorList").get(0);
                     String errorCode = errorNode.get("code").asText();
                     String errorMessage = errorNode.get("message").asText();
@@ -448,7 +440,7 @@ public class CodefService {
             }
 
             // 3. 카드 목록 조회
-            String cardListUrl = "https://development.codef.io/v1/kr/card/p/account/card-list";
+            String cardListUrl = "/v1/kr/card/p/account/card-list";
             String cardListBody = """
                     {
                         "organization": "%s",
@@ -458,17 +450,13 @@ public class CodefService {
                     """.formatted(request.getOrganization(), connectedId);
 
 
-            String response = sendPost(cardListUrl, cardListBody);
-            String decodedCardListResponse = URLDecoder.decode(response, StandardCharsets.UTF_8);
-
-
-            log.debug("[카드] 카드목록 API 응답: {}", decodedCardListResponse);
+            JsonNode root = sendPost(cardListUrl, cardListBody);
 
-            JsonNode root = objectMapper.readTree(decodedCardListResponse);
+            log.debug("[카드] 카드목록 API 응답: {}", root);
 
-            if (!CodefUtil.isSuccess(decodedCardListResponse)) {
-                log.warn("[카드] 카드목록 조회 실패: {}", CodefUtil.getResultMessage(decodedCardListResponse));
-                throw new RuntimeException("카드 목록 조회 실패: " + CodefUtil.getResultMessage(decodedCardListResponse));
+            if (!CodefUtil.isSuccess(root)) {
+                log.warn("[카드] 카드목록 조회 실패: {}", CodefUtil.getResultMessage(root));
+                throw new RuntimeException("카드 목록 조회 실패: " + CodefUtil.getResultMessage(root));
             }
 
             List<UserCardVO> result = new ArrayList<>();
@@ -514,7 +502,7 @@ public class CodefService {
 
     /**
      * (트랜잭션) 사용자의 선택 카드 목록을 DB에 등록
-     * - 카드별로 1년치 거래내역을 CODEF에서 조회해 배치로 저장
+     * - 카드별로 1년치 거래내역을 CODEF에서 조회해 배치로 저장 (카테고리 분류 포함)
      */
     @Transactional
     public void registerUserCards(Long userId, List<UserCardVO> selectedCards) {
@@ -528,9 +516,6 @@ public class CodefService {
         String endDate = today.format(DateTimeFormatter.BASIC_ISO_DATE);
         String startDate = today.minusYears(1).format(DateTimeFormatter.BASIC_ISO_DATE);
 
-        // 기본 미분류 카테고리 ID
-        Long defaultCatId = categoryMapper.findUnclassifiedId();
-
         for (UserCardVO card : selectedCards) {
             // 1. 이미 등록된 카드면 skip
             if (userCardMapper.existsCard(userId, card.getCardMaskedNumber()) > 0) {
@@ -557,19 +542,7 @@ public class CodefService {
             log.info("[카드등록] 거래내역 조회 완료: cardId={}, 내역건수={}", cardId, txList.size());
             log.debug("[카드등록] 거래내역 샘플: {}", txList.isEmpty() ? "없음" : txList.get(0));
 
-            for (int i = 0; i < txList.size(); i += 500) {
-                List<CardTransactionVO> batch = txList.subList(i, Math.min(i + 500, txList.size()));
-                for (CardTransactionVO tx : batch) {
-                    tx.setCardId(cardId);
-
-                    Long globalCat = transactionCategorizer.categorizeGlobal(tx);
-                    Long appliedCat = globalCat != null ? globalCat : defaultCatId;
-                    tx.setCategoryId(appliedCat);
-
-                }
-                cardTransactionMapper.insertCardTransactions(batch);
-                log.debug("[카드등록] 배치 insert: cardId={}, batchStart={}, batchEnd={}", cardId, i, Math.min(i + 500, txList.size()));
-            }
+            ingestCardTransactions(userId, cardId, txList);
             log.info("[카드등록] 카드 등록+내역저장 완료: 전체내역={}",  txList.size());
         }
         log.info("[카드등록] 전체 완료: userId={}, 요청카드수={}", userId, selectedCards.size());
@@ -577,7 +550,7 @@ public class CodefService {
 
 
 
-    // Codef 카드 거래내역 API 호출 및 파싱
+    // Codef 카드 거래내역 API 호출 및 파싱 (실패 시 빈 목록)
     public List<CardTransactionVO> fetchAndParseCardTransactions(
             String cardCode,
             String connectedId,
@@ -586,119 +559,132 @@ public class CodefService {
             String cardName,
             String cardNo
     ) {
-        List<CardTransactionVO> txList = new ArrayList<>();
         try {
-            // 1. CODEF 카드 승인내역 API 호출
-            String url = "https://development.codef.io/v1/kr/card/p/account/approval-list";
-            String reqBody = """
-        {
-            "connectedId": "%s",
-            "organization": "%s",
-            "startDate": "%s",
-            "endDate": "%s",
-            "orderBy": "0",
-            "inquiryType": "0",
-            "cardName": "%s",
-            "cardNo": "%s",
-            "memberStoreInfoType": "1"
+            return requestCardTransactions(cardCode, connectedId, startDate, endDate, cardName, cardNo);
+        } catch (Exception e) {
+            log.error("[카드거래] 승인내역 파싱 실패: , msg={}", e.getMessage(), e);
+            return new ArrayList<>();
         }
-        """.formatted(connectedId, cardCode, startDate, endDate, cardName, cardNo);
+    }
+
+    /**
+     * 카드 승인내역을 CODEF API로 조회하고 파싱 (실패 시 예외 → 호출자가 재시도 판단)
+     */
+    public List<CardTransactionVO> requestCardTransactions(
+            String cardCode,
+            String connectedId,
+            String startDate,
+            String endDate,
+            String cardName,
+            String cardNo
+    ) throws Exception {
+        List<CardTransactionVO> txList = new ArrayList<>();
+        // 1. CODEF 카드 승인내역 API 호출
+        String url = "/v1/kr/card/p/account/approval-list";
+        String reqBody = """
+    {
+        "connectedId": "%s",
+        "organization": "%s",
+        "startDate": "%s",
+        "endDate": "%s",
+        "orderBy": "0",
+        "inquiryType": "0",
+        "cardName": "%s",
+        "cardNo": "%s",
+        "memberStoreInfoType": "1"
+    }
+    """.formatted(connectedId, cardCode, startDate, endDate, cardName, cardNo);
 
-            log.info("[카드거래] CODEF 승인내역 API 호출: 기간={}-{}", startDate, endDate);
+        log.info("[카드거래] CODEF 승인내역 API 호출: 기간={}-{}", startDate, endDate);
 
-            String apiResp = sendPost(url, reqBody);
-            String decodedResp = URLDecoder.decode(apiResp, StandardCharsets.UTF_8);
+        JsonNode root = sendPost(url, reqBody);
 
-            log.debug("[카드거래] CODEF 응답: {}", decodedResp);
+        log.debug("[카드거래] CODEF 응답: {}", root);
 
-            JsonNode root = objectMapper.readTree(decodedResp);
-            if (!CodefUtil.isSuccess(decodedResp)) {
-                log.error("[카드거래] CODEF 응답 실패: {}", CodefUtil.getResultMessage(decodedResp));
-                throw new CodefApiException("CARD_TRANSACTION_ERROR", "카드 승인내역 조회 실패");
-            }
+        if (!CodefUtil.isSuccess(root)) {
+            log.error("[카드거래] CODEF 응답 실패: {}", CodefUtil.getResultMessage(root));
+            throw new CodefApiException("CARD_TRANSACTION_ERROR", "카드 승인내역 조회 실패");
+        }
+
+        JsonNode txArr = root.get("data");
+        if (txArr == null || !txArr.isArray()) {
+            log.warn("[카드거래] 승인내역 데이터 없음 or 배열 아님");
+            return txList;
+        }
 
-            JsonNode txArr = root.get("data");
-            if (txArr == null || !txArr.isArray()) {
-                log.warn("[카드거래] 승인내역 데이터 없음 or 배열 아님");
-                return txList;
+        for (JsonNode node : txArr) {
+            // 2. 거래 일시 파싱 (yyyyMMdd + HHmmss → yyyy-MM-dd HH:mm:ss)
+            String usedDate = node.path("resUsedDate").asText("");
+            String usedTime = node.path("resUsedTime").asText("");
+
+            String dateTimeStr = usedDate + usedTime;
+            LocalDateTime txDateTime;
+            try {
+                txDateTime = LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+            } catch (Exception e) {
+                log.warn("[카드거래] 일시 파싱 실패: usedDate={}, usedTime={}", usedDate, usedTime);
+                txDateTime = null;
             }
 
-            for (JsonNode node : txArr) {
-                // 2. 거래 일시 파싱 (yyyyMMdd + HHmmss → yyyy-MM-dd HH:mm:ss)
-                String usedDate = node.path("resUsedDate").asText("");
-                String usedTime = node.path("resUsedTime").asText("");
+            // 3. 금액 파싱 (null/빈값 방지)
+            long amount = 0L;
+            try {
+                amount = Long.parseLong(node.path("resUsedAmount").asText("0"));
+            } catch (Exception e) {
+                log.warn("[카드거래] 금액 파싱 실패: {}", node.path("resUsedAmount").asText(""));
+                amount = 0L;
+            }
 
-                String dateTimeStr = usedDate + usedTime;
-                LocalDateTime txDateTime;
+            // 파싱 전 String을 변수에 받고
+            String installmentMonthStr = node.path("resInstallmentMonth").asText("");
+            Integer installmentMonth = null;
+            if (!installmentMonthStr.isEmpty()) {
                 try {
-                    txDateTime = LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+                    installmentMonth = Integer.valueOf(installmentMonthStr);
                 } catch (Exception e) {
-                    log.warn("[카드거래] 일시 파싱 실패: usedDate={}, usedTime={}", usedDate, usedTime);
-                    txDateTime = null;
+                    log.warn("[카드거래] 할부개월 파싱 실패: {}", installmentMonthStr);
+                    installmentMonth = null;
                 }
+            }
 
-                // 3. 금액 파싱 (null/빈값 방지)
-                long amount = 0L;
+            // cancelAmount도 마찬가지!
+            String cancelAmountStr = node.path("resCancelAmount").asText("");
+            Long cancelAmount = null;
+            if (!cancelAmountStr.isEmpty()) {
                 try {
-                    amount = Long.parseLong(node.path("resUsedAmount").asText("0"));
+                    cancelAmount = Long.valueOf(cancelAmountStr);
                 } catch (Exception e) {
-                    log.warn("[카드거래] 금액 파싱 실패: {}", node.path("resUsedAmount").asText(""));
-                    amount = 0L;
-                }
-
-                // 파싱 전 String을 변수에 받고
-                String installmentMonthStr = node.path("resInstallmentMonth").asText("");
-                Integer installmentMonth = null;
-                if (!installmentMonthStr.isEmpty()) {
-                    try {
-                        installmentMonth = Integer.valueOf(installmentMonthStr);
-                    } catch (Exception e) {
-                        log.warn("[카드거래] 할부개월 파싱 실패: {}", installmentMonthStr);
-                        installmentMonth = null;
-                    }
-                }
-
-                // cancelAmount도 마찬가지!
-                String cancelAmountStr = node.path("resCancelAmount").asText("");
-                Long cancelAmount = null;
-                if (!cancelAmountStr.isEmpty()) {
-                    try {
-                        cancelAmount = Long.valueOf(cancelAmountStr);
-                    } catch (Exception e) {
-                        log.warn("[카드거래] 취소금액 파싱 실패: {}", cancelAmountStr);
-                        cancelAmount = null;
-                    }
+                    log.warn("[카드거래] 취소금액 파싱 실패: {}", cancelAmountStr);
+                    cancelAmount = null;
                 }
+            }
 
 
-                // 4. CardTransactionVO 생성
-                CardTransactionVO tx = CardTransactionVO.builder()
-                        .transactionDate(txDateTime != null ? Timestamp.valueOf(txDateTime) : null)
-                        .storeName(node.path("resMemberStoreName").asText(""))
-                        .amount(amount)
-                        .paymentType(node.path("resPaymentType").asText(""))
-                        .installmentMonth(installmentMonth)
-                        .approvalNo(node.path("resApprovalNo").asText(""))
-                        .storeType(node.path("resMemberStoreType").asText(""))
-                        .cancelStatus(node.path("resCancelYN").asText(""))
-                        .cancelAmount(cancelAmount)
-                        .storeName1(node.path("resMemberStoreName1").asText(""))
-                        .build();
-
-                log.debug("[거래내역] 저장 예정 거래내역: {}", tx);
-                txList.add(tx);
-            }
-            log.info("[거래내역] 거래내역 파싱 및 생성 완료: 건수={}", txList.size());
-        } catch (Exception e) {
-            log.error("[카드거래] 승인내역 파싱 실패: , msg={}", e.getMessage(), e);
+            // 4. CardTransactionVO 생성
+            CardTransactionVO tx = CardTransactionVO.builder()
+                    .transactionDate(txDateTime != null ? Timestamp.valueOf(txDateTime) : null)
+                    .storeName(node.path("resMemberStoreName").asText(""))
+                    .amount(amount)
+                    .paymentType(node.path("resPaymentType").asText(""))
+                    .installmentMonth(installmentMonth)
+                    .approvalNo(blankToNull(node.path("resApprovalNo").asText("")))
+                    .storeType(node.path("resMemberStoreType").asText(""))
+                    .cancelStatus(node.path("resCancelYN").asText(""))
+                    .cancelAmount(cancelAmount)
+                    .storeName1(node.path("resMemberStoreName1").asText(""))
+                    .build();
+
+            log.debug("[거래내역] 저장 예정 거래내역: {}", tx);
+            txList.add(tx);
         }
+        log.info("[거래내역] 거래내역 파싱 및 생성 완료: 건수={}", txList.size());
         return txList;
     }
 
 
     /**
      * 사용자의 특정 계좌의 거래내역을 CODEF와 동기화(신규만 insert)
-     * - DB 내 기존 거래와 CODEF 거래내역을 비교해 신규건만 insert
+     * - 중복 거래는 DB 유니크 키로 걸러 신규건만 insert
      */
     public void syncAccountTransaction(Long userId, Long accountId, String bankCode, String connectedId, String accountNo, String startDate, String endDate) {
         log.info("[CODEF] 거래내역 fetch 시작: bankCode={}, 기간={}-{}", bankCode, startDate, endDate);
@@ -710,29 +696,28 @@ public class CodefService {
 
         log.info("[CODEF] API에서 받은 거래내역 개수: {}", apiTxList.size());
 
-        // 2. 해당 계좌의 모든 기존 거래 (중복 비교 키 세트로!)
-        Set<String> dbTxKeySet = accountTransactionMapper.findAllTxKeyByAccountIdFromDate(accountId, startDate);
-        log.debug("[DB] 기존 거래내역(중복키) 개수: {}", dbTxKeySet.size());
-
-
-        int newTxCount = 0;
-        for (AccountTransactionVO tx : apiTxList) {
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            String dateStr = sdf.format(tx.getTransactionDateTime());
-            String key = dateStr + "|" + tx.getAmount() + "|" + tx.getTxType();
+        ingestAccountTransactions(accountId, apiTxList);
+    }
 
-//            if (dbTxKeySet.contains(key)) continue;
-            if (dbTxKeySet.contains(key)) {
-                log.debug("⏭[중복] {} → skip", key);
-                continue;
+    /**
+     * CODEF 에서 받은 계좌 거래내역을 배치 단위 INSERT IGNORE 로 저장
+     * - 중복 판단은 DB 유니크 키(계좌ID, 거래일시, 금액, 유형)에 맡김 → 기존 거래 키를 메모리로 읽지 않음
+     * - INGEST_BATCH_SIZE 건당 1회 왕복
+     * @return 신규 저장 / 중복 skip 건수
+     */
+    public TransactionIngestResult ingestAccountTransactions(Long accountId, List<AccountTransactionVO> apiTxList) {
+        int inserted = 0;
+        for (int i = 0; i < apiTxList.size(); i += INGEST_BATCH_SIZE) {
+            List<AccountTransactionVO> batch = apiTxList.subList(i, Math.min(i + INGEST_BATCH_SIZE, apiTxList.size()));
+            for (AccountTransactionVO tx : batch) {
+                tx.setAccountId(accountId);
             }
-            tx.setAccountId(accountId);
-            accountTransactionMapper.insertAccountTransaction(tx);
-            newTxCount++;
-            log.debug("[신규] {} → insert", key);
-            dbTxKeySet.add(key);
+            inserted += accountTransactionMapper.insertIgnoreAccountTransactions(batch);
         }
-        log.info("[Sync] 동기화 완료! 신규 {}건 추가",  newTxCount);
+
+        TransactionIngestResult result = new TransactionIngestResult(inserted, apiTxList.size() - inserted);
+        log.info("[Sync] 계좌 {} 거래내역 저장 완료! 신규 {}건, 중복 {}건", accountId, result.getInserted(), result.getSkipped());
+        return result;
     }
 
 
@@ -740,7 +725,7 @@ public class CodefService {
 
     /**
      * 사용자의 특정 카드의 승인내역을 CODEF와 동기화(신규만 insert)
-     * - DB 내 기존 승인내역과 CODEF 승인내역을 비교해 신규건만 insert
+     * - 중복 승인내역은 DB 유니크 키로 걸러 신규건만 insert
      */
     public void syncCardTransaction(Long userId, Long cardId, String cardCode, String connectedId, String cardNo, String startDate, String endDate, String cardName) {
         log.info("[Sync] 카드거래 동기화 시작: cardId={}, 기간={}~{}", cardId, startDate, endDate);
@@ -749,36 +734,72 @@ public class CodefService {
         List<CardTransactionVO> apiTxList = fetchAndParseCardTransactions(cardCode, connectedId, startDate, endDate, cardName, cardNo);
         log.info("[CODEF] API 거래내역 개수: {}", apiTxList.size());
 
-        // 2. 해당 카드의 기존 거래키 세트 (approval_no + card_id)
-        Set<String> dbTxKeySet = cardTransactionMapper.findAllTxKeyByCardIdFromDate(cardId, startDate);
-        log.debug("[DB] 기존 승인번호+카드ID 키 개수: {}", dbTxKeySet.size());
+        ingestCardTransactions(userId, cardId, apiTxList);
+    }
 
+    /**
+     * CODEF 에서 받은 카드 승인내역을 카테고리 분류 후 배치 단위 INSERT IGNORE 로 저장
+     * - 분류 순서: 사용자가 고친 가맹점 기억(MerchantCategoryMemory) → 키워드 규칙 → 미분류
+     * - 중복 판단은 DB 유니크 키에 맡김 → 기존 거래 키를 메모리로 읽지 않음
+     *   (승인번호가 있으면 카드ID + 승인번호, 없으면 카드ID + 거래일시 + 금액 + 가맹점명)
+     * - INGEST_BATCH_SIZE 건당 1회 왕복, 중복으로 무시된 승인 건이 있으면 취소상태/취소금액만 1회 더 반영
+     *   (CODEF 가 취소된 승인을 같은 승인번호로 다시 보고하면 새 행이 아니라 기존 행이 취소로 바뀜)
+     * - 신규 저장이나 취소 반영이 있으면 해당 카드/월의 지출 집계(SpendingRollupService) 재계산 (트랜잭션 안에서 호출되면 커밋 후)
+     * @return 신규 저장 / 중복 skip 건수
+     */
+    public TransactionIngestResult ingestCardTransactions(Long userId, Long cardId, List<CardTransactionVO> apiTxList) {
+        // 기본 미분류 카테고리 ID
         Long defaultCatId = categoryMapper.findUnclassifiedId();
-        int insertCount = 0;
-
-        for (CardTransactionVO tx : apiTxList) {
-            String key = tx.getApprovalNo() + "|" + cardId;
-            log.debug("   [중복체크] key: {}", key);
 
-            if (dbTxKeySet.contains(key)) {
-                log.debug("⏭[중복] {} → skip", key);
-                continue;
+        int inserted = 0;
+        int cancelUpdated = 0;
+        for (int i = 0; i < apiTxList.size(); i += INGEST_BATCH_SIZE) {
+            List<CardTransactionVO> batch = apiTxList.subList(i, Math.min(i + INGEST_BATCH_SIZE, apiTxList.size()));
+            // 1) 학습된 가맹점 카테고리 (사용자 → 글로벌), 없는 거래만 2) 키워드 규칙, 그래도 없으면 미분류
+            List<Long> learnedCats = merchantCategoryMemory.lookupAll(userId, batch);
+            List<CardTransactionVO> unlearned = new ArrayList<>();
+            for (int j = 0; j < batch.size(); j++) {
+                CardTransactionVO tx = batch.get(j);
+                tx.setCardId(cardId);
+                // 빈 승인번호는 NULL 로 → 승인번호 대신 (거래일시, 금액, 가맹점명) 유니크 키로 중복 판단
+                tx.setApprovalNo(blankToNull(tx.getApprovalNo()));
+                tx.setCategoryId(learnedCats.get(j));
+                if (tx.getCategoryId() == null) {
+                    unlearned.add(tx);
+                }
             }
+            if (!unlearned.isEmpty()) {
+                List<Long> globalCats = transactionCategorizer.categorizeAll(unlearned);
+                for (int j = 0; j < unlearned.size(); j++) {
+                    Long globalCat = globalCats.get(j);
+                    unlearned.get(j).setCategoryId(globalCat != null ? globalCat : defaultCatId);
+                }
+            }
+            int batchInserted = cardTransactionMapper.insertIgnoreCardTransactions(batch);
+            inserted += batchInserted;
+
+            // 이미 저장된 승인 건이 있으면 취소상태/취소금액을 이번 응답 기준으로 반영
+            if (batchInserted < batch.size()) {
+                List<CardTransactionVO> approvals = latestByApprovalNo(batch);
+                if (!approvals.isEmpty()) {
+                    cancelUpdated += cardTransactionMapper.updateCancellations(cardId, approvals);
+                }
+            }
+        }
 
-            Long globalCat = transactionCategorizer.categorizeGlobal(tx);
-            Long appliedCat = globalCat != null ? globalCat : defaultCatId;
-            tx.setCategoryId(appliedCat);
-
-
-
-            log.debug("  신규 삽입: {}", key);
-            tx.setCardId(cardId);
-            insertCount++;
-            cardTransactionMapper.insertCardTransaction(tx);
-            dbTxKeySet.add(key);
+        // 새로 저장되거나 취소로 바뀐 거래가 있으면 그 거래들이 속한 달의 월별 지출 집계 갱신
+        if (inserted > 0 || cancelUpdated > 0) {
+            List<Date> txDates = new ArrayList<>(apiTxList.size());
+            for (CardTransactionVO tx : apiTxList) {
+                txDates.add(tx.getTransactionDate());
+            }
+            spendingRollupService.refreshMonths(userId, cardId, txDates);
         }
 
-        log.info("[Sync] 카드 {} 동기화 완료! 신규 {}건 추가", cardId, insertCount);
+        TransactionIngestResult result = new TransactionIngestResult(inserted, apiTxList.size() - inserted);
+        log.info("[Sync] 카드 {} 승인내역 저장 완료! 신규 {}건, 중복 {}건, 취소 반영 {}건",
+                cardId, result.getInserted(), result.getSkipped(), cancelUpdated);
+        return result;
     }
 
 
@@ -788,37 +809,30 @@ public class CodefService {
 
 
 
-    /**
-     * CODEF API에 POST 요청 전송 (Bearer 토큰 포함)
-     * - HTTP 요청/응답 바이트 변환 등 공통 처리
-     */
-    private String sendPost(String urlStr, String jsonBody) throws Exception {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Authorization", "Bearer " + tokenService.getAccessToken());
-        conn.setRequestProperty("Content-Type", "application/json");
-        conn.setDoOutput(true);
-
-        try (OutputStream os = conn.getOutputStream()) {
-            os.write(jsonBody.getBytes(StandardCharsets.UTF_8));
-        }
-//        try (BufferedReader reader = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-//            return reader.lines().collect(Collectors.joining());
-//        }
-        int responseCode = conn.getResponseCode();
-
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(
-                        responseCode >= 400 ? conn.getErrorStream() : conn.getInputStream()
-                ))) {
-            return reader.lines().collect(Collectors.joining());
+    // 승인번호별 마지막 응답 행 (같은 응답에 승인 → 취소가 함께 오면 취소 상태가 남음), 승인번호 없는 행 제외
+    private static List<CardTransactionVO> latestByApprovalNo(List<CardTransactionVO> batch) {
+        Map<String, CardTransactionVO> latest = new LinkedHashMap<>();
+        for (CardTransactionVO tx : batch) {
+            if (tx.getApprovalNo() != null) {
+                latest.put(tx.getApprovalNo(), tx);
+            }
         }
+        return new ArrayList<>(latest.values());
     }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 
-
-
+    /**
+     * CODEF API에 POST 요청 전송 (Bearer 토큰 포함)
+     * - 연결 재사용, 시간 제한, URL 디코딩 + 파싱은 CodefHttpClient 가 담당
+     * @param path API 경로 (예: /v1/account/create)
+     * @return 파싱된 응답
+     */
+    private JsonNode sendPost(String path, String jsonBody) throws Exception {
+        return codefHttpClient.post(path, jsonBody, tokenService.getAccessToken());
+    }
 
 
 
@@ -833,7 +847,7 @@ public class CodefService {
         log.debug("connectedId 조회 결과: {}", connectedId);
 
 
-        String url = "https://development.codef.io/v1/account/list";
+        String url = "/v1/account/list";
         String body = String.format("""
         {
             "connectedId": "%s"
@@ -841,23 +855,18 @@ public class CodefService {
         """, connectedId);
 
         try {
-            String response = sendPost(url, body);
-            String response2 = URLDecoder.decode(response, StandardCharsets.UTF_8);
-            return response2;
+            return sendPost(url, body).toString();
         } catch (Exception e) {
             throw new RuntimeException("계정 목록 조회 실패: " + e.getMessage());
         }
     }
 
     public String deleteAccountsRaw(Map<String, Object> body) {
-        String url = "https://development.codef.io/v1/account/delete";
+        String url = "/v1/account/delete";
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            String jsonBody = mapper.writeValueAsString(body);
+            String jsonBody = objectMapper.writeValueAsString(body);
 
-            String response = sendPost(url, jsonBody);
-            String response2 = URLDecoder.decode(response, StandardCharsets.UTF_8);
-            return response2;
+            return sendPost(url, jsonBody).toString();
         } catch (Exception e) {
             throw new RuntimeException("계정 삭제 실패: " + e.getMessage());
         }
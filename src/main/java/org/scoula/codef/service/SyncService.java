@@ -1,138 +1,460 @@
 package org.scoula.codef.service;
 
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.codef.domain.AccountTransactionVO;
+import org.scoula.codef.domain.CardTransactionVO;
 import org.scoula.codef.domain.ConnectedAccountVO;
 import org.scoula.codef.domain.UserAccountVO;
 import org.scoula.codef.domain.UserCardVO;
+import org.scoula.codef.dto.SyncJobStatusDto;
 import org.scoula.codef.mapper.*;
-import org.scoula.codef.util.RetryUtil;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-@Service
-@RequiredArgsConstructor
+/**
+ * CODEF 거래내역 동기화 서비스
+ * - 요청 스레드는 작업(job)만 등록하고 바로 반환, 진행 상황은 jobId 로 조회
+ * - 계좌/카드별로 codefSyncExecutor 에서 병렬 처리, 같은 기관(은행/카드사)은 동시에 MAX_CONCURRENT_PER_ORGANIZATION 건까지
+ * - CODEF 조회는 트랜잭션 밖에서, 저장(+잔액 갱신)은 계좌/카드마다 별도 트랜잭션으로 커밋
+ * - 실패 시 스레드를 재우지 않고 지연 후 다시 등록하는 방식으로 최대 3회 시도 (1초, 2초 간격)
+ */
 @Slf4j
+@Service
 public class SyncService {
 
+    private static final String JOB_TYPE_ACCOUNT = "ACCOUNT";
+    private static final String JOB_TYPE_CARD = "CARD";
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 1000;
+    private static final int BACKOFF_MULTIPLIER = 2;
+
+    // 같은 기관에 동시에 보내는 조회 수 (기관별 동시 접속 제한 대응)
+    private static final int MAX_CONCURRENT_PER_ORGANIZATION = 2;
+
+    // 끝난 작업 상태 보관 시간
+    private static final long JOB_TTL_MILLIS = 60 * 60 * 1000L;
+
     private final ConnectedAccountMapper connectedAccountMapper;
     private final UserAccountMapper userAccountMapper;
     private final AccountTransactionMapper accountTransactionMapper;
     private final UserCardMapper userCardMapper;
     private final CardTransactionMapper cardTransactionMapper;
     private final CodefService codefService;
+    private final TransactionTemplate transactionTemplate;
 
+    @Autowired
+    @Qualifier("codefSyncExecutor")
+    private Executor codefSyncExecutor;
+
+    // 재시도 첫 대기 시간 (테스트에서 0 으로 교체)
+    private long initialBackoffMillis = INITIAL_BACKOFF_MS;
+
+    private final Map<String, SyncJob> jobs = new ConcurrentHashMap<>();
+    // 사용자·유형("userId:type") 별 마지막 작업 (진행 중 작업 중복 등록 방지)
+    private final Map<String, SyncJob> activeJobs = new ConcurrentHashMap<>();
+    private final Map<String, OrganizationLane> lanes = new ConcurrentHashMap<>();
+
+    public SyncService(ConnectedAccountMapper connectedAccountMapper,
+                       UserAccountMapper userAccountMapper,
+                       AccountTransactionMapper accountTransactionMapper,
+                       UserCardMapper userCardMapper,
+                       CardTransactionMapper cardTransactionMapper,
+                       CodefService codefService,
+                       PlatformTransactionManager transactionManager) {
+        this.connectedAccountMapper = connectedAccountMapper;
+        this.userAccountMapper = userAccountMapper;
+        this.accountTransactionMapper = accountTransactionMapper;
+        this.userCardMapper = userCardMapper;
+        this.cardTransactionMapper = cardTransactionMapper;
+        this.codefService = codefService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
 
     /**
      * [비동기] 사용자의 모든 계좌 거래내역을 최신 상태로 동기화
-     * - 각 계좌의 가장 최근 거래일 이후(없으면 1년 전부터) CODEF 거래내역을 불러와 DB에 추가
-     * - 실패시 1초간격 3회 재시도
+     * - 각 계좌의 가장 최근 거래일 이후(없으면 1년 전부터) CODEF 거래내역을 불러와 DB에 추가 후 잔액 갱신
+     * - 같은 사용자의 계좌 동기화가 진행 중이면 그 작업을 반환
+     * @return 작업 상태 (jobId 로 진행 상황 조회)
      */
-    @Transactional
-    public void syncAccountsAsync(Long userId) {
+    public SyncJobStatusDto syncAccountsAsync(Long userId) {
+        SyncJob job = new SyncJob(UUID.randomUUID().toString(), userId, JOB_TYPE_ACCOUNT);
+        SyncJob running = registerJob(job);
+        if (running != job) {
+            log.info("[SYNC][계좌] 이미 진행 중인 작업 반환: userId={}, jobId={}", userId, running.jobId);
+            return running.toDto();
+        }
+
+        try {
+            return startAccountSync(job, userId);
+        } catch (RuntimeException e) {
+            // 등록한 작업이 진행 중으로 남아 다음 요청을 막지 않도록 종료
+            job.abort(e.getMessage());
+            throw e;
+        }
+    }
+
+    private SyncJobStatusDto startAccountSync(SyncJob job, Long userId) {
         // 1. 사용자 보유 계좌 전체 조회
         List<UserAccountVO> accountList = userAccountMapper.findByUserId(userId);
+        job.start(accountList.size());
 
-        log.info("[SYNC][계좌] userId={} 계좌 {}건 동기화 시작!", userId, accountList.size());
+        log.info("[SYNC][계좌] userId={} 계좌 {}건 동기화 시작! jobId={}", userId, accountList.size(), job.jobId);
 
         if (accountList.isEmpty()) {
             log.info("[SYNC][계좌] 동기화할 계좌 없음. userId={}", userId);
-            return;
+            return job.toDto();
         }
 
         ConnectedAccountVO vo = connectedAccountMapper.findConnectedIdByUserId(userId);
+        if (vo == null) {
+            job.abort("connectedId 없음");
+            return job.toDto();
+        }
         String connectedId = vo.getConnectedId();
 
-        // 2. 계좌별로 최신 거래일자 조회
+        // 2. 계좌별로 기관 대기열에 등록
         for (UserAccountVO account : accountList) {
-            String accountNo = account.getAccountNumber();
-            Long accountId = account.getId();
-            String bankCode = account.getBankCode();
-
-            // 이 계좌의 DB 내 가장 최근 거래일 (yyyyMMdd)
-            String lastDbDate = accountTransactionMapper.findLastTransactionDateByAccountId(accountId);
-
-            // 2. null이면 1년 전, 아니면 lastDbDate부터
-            String startDate = (lastDbDate == null)
-                    ? LocalDate.now().minusYears(1).format(DateTimeFormatter.BASIC_ISO_DATE)
-                    : lastDbDate;
-            String endDate = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
-
-            log.info("[SYNC][계좌] 기간 {}~{} 동기화 시도", startDate, endDate);
-
-            // 3. 최신 내역 CODEF로 요청
-            try {
-                RetryUtil.retryVoid(3, 1000, () -> {
-                    codefService.syncAccountTransaction(userId, accountId, bankCode, connectedId, accountNo, startDate, endDate);
-                });
-                log.info("[SYNC][계좌] 동기화 완료!");
-
-                Long latestBalance = accountTransactionMapper.findLatestBalanceAfterByAccountId(accountId);
-                if (latestBalance != null) {
-                    userAccountMapper.updateBalance(accountId, latestBalance);
-                    log.info("[SYNC][계좌] 계좌잔액 최신화 완료! accountId={}, latestBalance={}", accountId, latestBalance);
-                } else {
-                    log.warn("[SYNC][계좌] 거래내역이 없어 잔액 업데이트 건너뜀 accountId={}", accountId);
-                }
-            } catch (Exception e) {
-                log.error("[SYNC][계좌] 동기화 3회 재시도 실패", e);
-            }
+            submit(job, account.getBankCode(), "[SYNC][계좌] accountId=" + account.getId(),
+                    () -> syncAccount(connectedId, account), 1);
         }
+        return job.toDto();
     }
 
 
     /**
      * [비동기] 사용자의 모든 카드 거래내역을 최신 상태로 동기화
      * - 각 카드의 가장 최근 거래일 이후(없으면 1년 전부터) CODEF 승인내역을 불러와 DB에 추가
-     * - 실패시 1초간격 3회 재시도
+     * - 같은 사용자의 카드 동기화가 진행 중이면 그 작업을 반환
+     * @return 작업 상태 (jobId 로 진행 상황 조회)
      */
-    @Transactional
-    public void syncCardsAsync(Long userId) {
+    public SyncJobStatusDto syncCardsAsync(Long userId) {
+        SyncJob job = new SyncJob(UUID.randomUUID().toString(), userId, JOB_TYPE_CARD);
+        SyncJob running = registerJob(job);
+        if (running != job) {
+            log.info("[SYNC][카드] 이미 진행 중인 작업 반환: userId={}, jobId={}", userId, running.jobId);
+            return running.toDto();
+        }
+
+        try {
+            return startCardSync(job, userId);
+        } catch (RuntimeException e) {
+            // 등록한 작업이 진행 중으로 남아 다음 요청을 막지 않도록 종료
+            job.abort(e.getMessage());
+            throw e;
+        }
+    }
+
+    private SyncJobStatusDto startCardSync(SyncJob job, Long userId) {
         // 1. 사용자 보유 카드 전체 조회
         List<UserCardVO> cardList = userCardMapper.findByUserId(userId);
+        job.start(cardList.size());
 
-        log.info("[SYNC][카드] userId={} 카드 {}건 동기화 시작!", userId, cardList.size());
+        log.info("[SYNC][카드] userId={} 카드 {}건 동기화 시작! jobId={}", userId, cardList.size(), job.jobId);
 
         if (cardList.isEmpty()) {
             log.info("[SYNC][카드] 동기화할 카드 없음. userId={}", userId);
-            return;
+            return job.toDto();
         }
 
         ConnectedAccountVO vo = connectedAccountMapper.findConnectedIdByUserId(userId);
+        if (vo == null) {
+            job.abort("connectedId 없음");
+            return job.toDto();
+        }
         String connectedId = vo.getConnectedId();
 
         for (UserCardVO card : cardList) {
-            String cardNo = card.getCardMaskedNumber();
-            Long cardId = card.getId();
-            String cardCode = card.getIssuerCode();
-            String cardName = card.getCardName();
+            submit(job, card.getIssuerCode(), "[SYNC][카드] cardId=" + card.getId(),
+                    () -> syncCard(userId, connectedId, card), 1);
+        }
+        return job.toDto();
+    }
+
+    /**
+     * 작업 상태 조회
+     * @return 작업 상태 (없거나 다른 사용자의 작업이면 null)
+     */
+    public SyncJobStatusDto getJob(Long userId, String jobId) {
+        SyncJob job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            return null;
+        }
+        return job.toDto();
+    }
+
+    // ────────────────────────────────────────
+    // 계좌/카드 1건 동기화
+    // ────────────────────────────────────────
+
+    private void syncAccount(String connectedId, UserAccountVO account) throws Exception {
+        Long accountId = account.getId();
+
+        // 이 계좌의 DB 내 가장 최근 거래일 (yyyyMMdd), 없으면 1년 전부터
+        String lastDbDate = accountTransactionMapper.findLastTransactionDateByAccountId(accountId);
+        String startDate = (lastDbDate == null)
+                ? LocalDate.now().minusYears(1).format(DateTimeFormatter.BASIC_ISO_DATE)
+                : lastDbDate;
+        String endDate = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
 
-            // 카드의 DB 내 가장 최근 거래일 (yyyyMMdd)
-            String lastDbDate = cardTransactionMapper.findLastTransactionDateByCardId(cardId);
-            String startDate = (lastDbDate == null)
-                    ? LocalDate.now().minusYears(1).format(DateTimeFormatter.BASIC_ISO_DATE)
-                    : lastDbDate;
-            String endDate = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+        log.info("[SYNC][계좌] accountId={} 기간 {}~{} 동기화 시도", accountId, startDate, endDate);
 
-            log.info("[SYNC][카드] 기간 {}~{} 동기화 시도", startDate, endDate);
+        // CODEF 조회는 트랜잭션 밖에서 (응답 대기 중 DB 커넥션 점유 방지)
+        List<AccountTransactionVO> apiTxList = codefService.requestAccountTransactions(
+                account.getBankCode(), connectedId, account.getAccountNumber(), startDate, endDate);
 
-            // 3. 최신 내역 CODEF로 요청
+        transactionTemplate.executeWithoutResult(status -> {
+            codefService.ingestAccountTransactions(accountId, apiTxList);
+
+            Long latestBalance = accountTransactionMapper.findLatestBalanceAfterByAccountId(accountId);
+            if (latestBalance != null) {
+                userAccountMapper.updateBalance(accountId, latestBalance);
+                log.info("[SYNC][계좌] 계좌잔액 최신화 완료! accountId={}, latestBalance={}", accountId, latestBalance);
+            } else {
+                log.warn("[SYNC][계좌] 거래내역이 없어 잔액 업데이트 건너뜀 accountId={}", accountId);
+            }
+        });
+    }
+
+    private void syncCard(Long userId, String connectedId, UserCardVO card) throws Exception {
+        Long cardId = card.getId();
+
+        // 카드의 DB 내 가장 최근 거래일 (yyyyMMdd), 없으면 1년 전부터
+        String lastDbDate = cardTransactionMapper.findLastTransactionDateByCardId(cardId);
+        String startDate = (lastDbDate == null)
+                ? LocalDate.now().minusYears(1).format(DateTimeFormatter.BASIC_ISO_DATE)
+                : lastDbDate;
+        String endDate = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+
+        log.info("[SYNC][카드] cardId={} 기간 {}~{} 동기화 시도", cardId, startDate, endDate);
+
+        List<CardTransactionVO> apiTxList = codefService.requestCardTransactions(
+                card.getIssuerCode(), connectedId, startDate, endDate, card.getCardName(), card.getCardMaskedNumber());
+
+        transactionTemplate.executeWithoutResult(status ->
+                codefService.ingestCardTransactions(userId, cardId, apiTxList));
+    }
+
+    // ────────────────────────────────────────
+    // 실행 / 재시도
+    // ────────────────────────────────────────
+
+    /**
+     * 기관 대기열에 1회 시도 등록, 실패하면 대기 후 다음 시도 등록 (대기 중에는 스레드/기관 슬롯을 점유하지 않음)
+     */
+    private void submit(SyncJob job, String organization, String label, SyncTask task, int attempt) {
+        laneOf(organization).execute(() -> {
             try {
-                RetryUtil.retryVoid(3, 1000, () -> {
-                    codefService.syncCardTransaction(userId, cardId, cardCode, connectedId, cardNo, startDate, endDate, cardName);
-                });
-                log.info("[SYNC][카드] 동기화 완료!");
+                task.run();
+                job.succeed();
+                log.info("{} 동기화 완료! ({}/{})", label, job.done(), job.total);
             } catch (Exception e) {
-                log.error("[SYNC][카드] 동기화 3회 재시도 실패", e);
+                if (attempt < MAX_ATTEMPTS) {
+                    long backoff = initialBackoffMillis * (long) Math.pow(BACKOFF_MULTIPLIER, attempt - 1);
+                    log.warn("{} {}회 실패, {}ms 후 재시도: {}", label, attempt, backoff, e.getMessage());
+                    schedule(backoff, () -> submit(job, organization, label, task, attempt + 1));
+                } else {
+                    log.error("{} 동기화 {}회 재시도 실패", label, MAX_ATTEMPTS, e);
+                    job.fail();
+                }
             }
+        });
+    }
+
+    private void schedule(long delayMillis, Runnable action) {
+        if (delayMillis <= 0) {
+            action.run();
+            return;
         }
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, codefSyncExecutor).execute(action);
     }
-}
 
+    private OrganizationLane laneOf(String organization) {
+        return lanes.computeIfAbsent(organization != null ? organization : "", key -> new OrganizationLane());
+    }
+
+    // ────────────────────────────────────────
+    // 작업 상태
+    // ────────────────────────────────────────
+
+    /**
+     * 같은 사용자·유형의 진행 중인 작업이 없을 때만 job 을 등록 (사용자·유형 키 단위로 원자적)
+     * @return 등록된 job, 또는 이미 진행 중인 작업
+     */
+    private SyncJob registerJob(SyncJob job) {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(old -> old.isFinished() && now - old.finishedAtMillis > JOB_TTL_MILLIS);
+        activeJobs.values().removeIf(old -> old.isFinished() && now - old.finishedAtMillis > JOB_TTL_MILLIS);
+
+        // 진행 중 작업을 돌려받은 요청도 바로 getJob 으로 조회할 수 있도록 먼저 넣고, 등록되지 않으면 제거
+        jobs.put(job.jobId, job);
+        SyncJob registered = activeJobs.merge(job.userId + ":" + job.type, job,
+                (existing, created) -> existing.isFinished() ? created : existing);
+        if (registered != job) {
+            jobs.remove(job.jobId);
+        }
+        return registered;
+    }
+
+    @FunctionalInterface
+    private interface SyncTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * 기관 하나의 실행 대기열 (동시 실행 수 제한, 넘치면 앞선 작업이 끝날 때 이어서 실행)
+     */
+    private class OrganizationLane {
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        void execute(Runnable task) {
+            synchronized (this) {
+                if (running >= MAX_CONCURRENT_PER_ORGANIZATION) {
+                    waiting.add(task);
+                    return;
+                }
+                running++;
+            }
+            dispatch(task);
+        }
+
+        private void dispatch(Runnable task) {
+            codefSyncExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    Runnable next;
+                    synchronized (this) {
+                        next = waiting.poll();
+                        if (next == null) {
+                            running--;
+                        }
+                    }
+                    if (next != null) {
+                        dispatch(next);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 동기화 작업 1건의 진행 상황
+     */
+    private static class SyncJob {
+        private final String jobId;
+        private final Long userId;
+        private final String type;
+        private volatile int total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedAtMillis;
+        private volatile String errorMessage;
+
+        SyncJob(String jobId, Long userId, String type) {
+            this.jobId = jobId;
+            this.userId = userId;
+            this.type = type;
+        }
+
+        /**
+         * 대상 수 확정 (대상이 없으면 바로 완료)
+         */
+        void start(int total) {
+            this.total = total;
+            if (total == 0) {
+                finish();
+            }
+        }
+
+        void succeed() {
+            succeeded.incrementAndGet();
+            finishIfDone();
+        }
+
+        void fail() {
+            failed.incrementAndGet();
+            finishIfDone();
+        }
+
+        void abort(String message) {
+            log.error("[SYNC] 작업 시작 실패: jobId={}, 사유={}", jobId, message);
+            errorMessage = message;
+            finish();
+        }
+
+        int done() {
+            return succeeded.get() + failed.get();
+        }
+
+        boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private void finishIfDone() {
+            if (done() >= total && finish()) {
+                log.info("[SYNC] 작업 완료: jobId={}, 성공: {}, 실패: {}", jobId, succeeded.get(), failed.get());
+            }
+        }
+
+        private synchronized boolean finish() {
+            if (finishedAt != null) {
+                return false;
+            }
+            finishedAtMillis = System.currentTimeMillis();
+            finishedAt = LocalDateTime.now();
+            return true;
+        }
+
+        SyncJobStatusDto toDto() {
+            int successCount = succeeded.get();
+            int failCount = failed.get();
+
+            SyncJobStatusDto.Status status;
+            if (!isFinished()) {
+                status = SyncJobStatusDto.Status.RUNNING;
+            } else if (errorMessage != null || (failCount > 0 && successCount == 0)) {
+                status = SyncJobStatusDto.Status.FAILED;
+            } else if (failCount > 0) {
+                status = SyncJobStatusDto.Status.PARTIALLY_FAILED;
+            } else {
+                status = SyncJobStatusDto.Status.COMPLETED;
+            }
+
+            return SyncJobStatusDto.builder()
+                    .jobId(jobId)
+                    .type(type)
+                    .status(status)
+                    .total(total)
+                    .succeeded(successCount)
+                    .failed(failCount)
+                    .progress(isFinished() ? 100 : total == 0 ? 0 : (successCount + failCount) * 100 / total)
+                    .errorMessage(errorMessage)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.scoula.codef.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.codef.domain.WeeklyDaySpendingVO;
+import org.scoula.codef.domain.WeeklySpendingSummaryVO;
+import org.scoula.codef.mapper.WeeklySpendingSummaryMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * 주간 지출 요약 사전 계산 (weekly_spending_summary)
+ * - 전체 사용자의 이번 주 / 지난 주 지출, 이번 주 피크 요일을 (사용자 × 요일) GROUP BY 한 번으로 계산
+ * - 피드백 알림 일괄 발송과 화면 조회는 사용자별 card_transaction 조회 대신 이 요약을 읽음
+ * - 주 시작은 일요일 (기존 DAYOFWEEK 기준과 동일)
+ */
+@Slf4j
+@Service
+public class WeeklySpendingSummaryService {
+
+    // 요약 INSERT 1회당 행 수
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    // 카드 데이터 보유로 보는 기간 (최근 4주 안에 거래가 있는 사용자만 요약)
+    private static final int RECENT_WEEKS = 4;
+
+    // 지난 요약 보관 주 수
+    private static final int RETENTION_WEEKS = 8;
+
+    private final WeeklySpendingSummaryMapper weeklySpendingSummaryMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public WeeklySpendingSummaryService(WeeklySpendingSummaryMapper weeklySpendingSummaryMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.weeklySpendingSummaryMapper = weeklySpendingSummaryMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이번 주 요약 전체 재계산 (이번 주 행 삭제 후 다시 저장, 한 트랜잭션)
+     * @return 요약 저장 사용자 수
+     */
+    public int refreshCurrentWeek() {
+        return refresh(LocalDateTime.now());
+    }
+
+    int refresh(LocalDateTime now) {
+        LocalDate weekStart = weekStart(now.toLocalDate());
+        List<WeeklyDaySpendingVO> rows = weeklySpendingSummaryMapper.findWeeklyDaySpending(
+                weekStart, weekStart.minusWeeks(1), now.minusWeeks(RECENT_WEEKS));
+        List<WeeklySpendingSummaryVO> summaries = summarize(weekStart, rows);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            weeklySpendingSummaryMapper.deleteByWeekStart(weekStart);
+            for (int i = 0; i < summaries.size(); i += INSERT_BATCH_SIZE) {
+                weeklySpendingSummaryMapper.insertSummaries(
+                        summaries.subList(i, Math.min(i + INSERT_BATCH_SIZE, summaries.size())));
+            }
+            weeklySpendingSummaryMapper.deleteBefore(weekStart.minusWeeks(RETENTION_WEEKS));
+        });
+
+        log.info("[주간 지출 요약] {} 주 요약 갱신 - 사용자 {}명 (집계 행 {}건)", weekStart, summaries.size(), rows.size());
+        return summaries.size();
+    }
+
+    /**
+     * 이번 주 요약 전체 (userId → 요약), 요약이 없는 사용자는 최근 카드 거래 없음
+     */
+    public Map<Long, WeeklySpendingSummaryVO> getCurrentWeekSummaries() {
+        Map<Long, WeeklySpendingSummaryVO> byUser = new HashMap<>();
+        for (WeeklySpendingSummaryVO summary : weeklySpendingSummaryMapper.findByWeekStart(weekStart(LocalDate.now()))) {
+            byUser.put(summary.getUserId(), summary);
+        }
+        return byUser;
+    }
+
+    /**
+     * 사용자의 이번 주 요약 (없으면 null)
+     */
+    public WeeklySpendingSummaryVO getCurrentWeekSummary(Long userId) {
+        return weeklySpendingSummaryMapper.findByUserIdAndWeekStart(userId, weekStart(LocalDate.now()));
+    }
+
+    /**
+     * (사용자 × 요일) 행을 사용자별 요약으로 합침
+     * - 피크 요일: 이번 주 거래가 있는 요일 중 지출이 가장 큰 요일, 같으면 앞 요일
+     */
+    static List<WeeklySpendingSummaryVO> summarize(LocalDate weekStart, List<WeeklyDaySpendingVO> rows) {
+        Map<Long, WeeklySpendingSummaryVO> byUser = new LinkedHashMap<>();
+        for (WeeklyDaySpendingVO row : rows) {
+            WeeklySpendingSummaryVO summary = byUser.computeIfAbsent(row.getUserId(), userId ->
+                    WeeklySpendingSummaryVO.builder()
+                            .userId(userId)
+                            .weekStart(weekStart)
+                            .thisWeekAmount(0L)
+                            .lastWeekAmount(0L)
+                            .peakAmount(0L)
+                            .peakTransactionCount(0)
+                            .build());
+
+            long thisWeek = row.getThisWeekAmount() != null ? row.getThisWeekAmount() : 0L;
+            long lastWeek = row.getLastWeekAmount() != null ? row.getLastWeekAmount() : 0L;
+            int count = row.getThisWeekCount() != null ? row.getThisWeekCount() : 0;
+            summary.setThisWeekAmount(summary.getThisWeekAmount() + thisWeek);
+            summary.setLastWeekAmount(summary.getLastWeekAmount() + lastWeek);
+
+            if (count > 0 && (summary.getPeakDayOfWeek() == null
+                    || thisWeek > summary.getPeakAmount()
+                    || (thisWeek == summary.getPeakAmount() && row.getDayOfWeek() < summary.getPeakDayOfWeek()))) {
+                summary.setPeakDayOfWeek(row.getDayOfWeek());
+                summary.setPeakAmount(thisWeek);
+                summary.setPeakTransactionCount(count);
+            }
+        }
+        return new ArrayList<>(byUser.values());
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+    }
+}
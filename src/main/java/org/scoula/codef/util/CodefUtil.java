@@ -20,6 +20,20 @@ public class CodefUtil {
         }
     }
 
+    /**
+     * 파싱된 CODEF 응답에서 result.code가 "CF-00000"이면 true (성공), 아니면 false (실패)
+     */
+    public static boolean isSuccess(JsonNode root) {
+        return root != null && "CF-00000".equals(root.path("result").path("code").asText());
+    }
+
+    /**
+     * 파싱된 CODEF 응답에서 result.message 메시지 추출 (없으면 null)
+     */
+    public static String getResultMessage(JsonNode root) {
+        return root == null ? null : root.path("result").path("message").asText(null);
+    }
+
     /**
      * CODEF 응답에서 result.message 메시지 추출 (없으면 null)
      */
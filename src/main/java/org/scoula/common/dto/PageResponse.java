@@ -1,6 +1,7 @@
 package org.scoula.common.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import java.util.List;
@@ -14,6 +15,12 @@ public class PageResponse<T> {
     private long totalElements;
     private int totalPages;
 
+    // 커서(무한 스크롤) 조회에서만 채움, 페이지 번호 조회 응답에는 포함하지 않음
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
     public PageResponse(List<T> content, int page, int size, long totalElements) {
         this.content = content;
         this.page = page;
@@ -21,4 +28,14 @@ public class PageResponse<T> {
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / size);
     }
+
+    /**
+     * 커서 조회 응답
+     * @param totalElements 전체 건수, 집계하지 않았으면 -1 (totalPages 도 -1)
+     * @param nextCursor 다음 조회에 넘길 커서, 마지막이면 null
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, long totalElements, String nextCursor) {
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / size);
+        return new PageResponse<>(content, 0, size, totalElements, totalPages, nextCursor, nextCursor != null);
+    }
 }
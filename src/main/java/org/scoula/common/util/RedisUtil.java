@@ -1,13 +1,21 @@
 package org.scoula.common.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 public class RedisUtil {
@@ -17,6 +25,9 @@ public class RedisUtil {
     // 일일 조회 기록 TTL (2일 - 배치 처리 실패 대비)
     private static final long DAILY_VIEW_TTL_DAYS = 2;
     
+    // 이전 형식 일일 조회 키 이전 완료 표시 (있으면 다시 SCAN 하지 않음)
+    private static final String LEGACY_DAILY_VIEW_MIGRATED_KEY = "user:daily:legacy-migrated";
+
     // 날짜 포맷터
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
@@ -52,6 +63,38 @@ public class RedisUtil {
         return result != null && result;
     }
 
+    /**
+     * 패턴에 맞는 키 일괄 삭제 (KEYS 대신 SCAN 으로 나눠 찾고 500개씩 DEL)
+     * @param pattern 키 패턴 (예: "guest:search:*")
+     * @return 삭제된 키 수
+     */
+    public long deleteByPattern(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+        Long deleted = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            long count = 0;
+            List<byte[]> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() >= 500) {
+                        count += deleteKeys(connection, keys);
+                        keys.clear();
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                count += deleteKeys(connection, keys);
+            }
+            return count;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private static long deleteKeys(RedisConnection connection, List<byte[]> keys) {
+        Long count = connection.del(keys.toArray(new byte[0][]));
+        return count != null ? count : 0;
+    }
+
     // TTL(초) 단위로 반환 (없으면 -2)
     public long getExpire(String key) {
         Long expire = redisTemplate.getExpire(key, TimeUnit.SECONDS);
@@ -115,41 +158,41 @@ public class RedisUtil {
     }
 
     // 사용자별 일일 정책 조회 기록 관련
+    // 키: user:daily:{date}:users    → 해당 날짜에 조회 기록이 있는 사용자 ID Set
+    // 키: user:daily:{date}:{userId} → Hash (field: 정책 ID, value: 조회수)
 
     /**
      * 사용자의 일일 정책 조회 기록 (하루 단위로 조회수 카운트)
-     * 키: user:daily:{userId}:{date}:{policyId} → count
+     * HINCRBY + SADD + EXPIRE 를 한 번의 파이프라인으로 전송
      * @param userId 사용자 ID
      * @param policyId 정책 ID
      * @return 오늘 해당 정책 조회수
      */
     public Long recordDailyPolicyView(Long userId, Long policyId) {
         String today = LocalDate.now().format(DATE_FORMATTER);
-        String key = String.format("user:daily:%d:%s:%d", userId, today, policyId);
-        
-        Long count = redisTemplate.opsForValue().increment(key);
-        // 첫 조회시에만 TTL 설정 (2일)
-        if (count == 1) {
-            redisTemplate.expire(key, Duration.ofDays(DAILY_VIEW_TTL_DAYS));
-        }
-        
+        String key = dailyViewKey(today, userId);
+        String usersKey = dailyViewUsersKey(today);
+        Duration ttl = Duration.ofDays(DAILY_VIEW_TTL_DAYS);
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().increment(key, policyId.toString(), 1);
+                ops.opsForSet().add(usersKey, userId.toString());
+                ops.expire(key, ttl);
+                ops.expire(usersKey, ttl);
+                return null;
+            }
+        });
+        Long count = (Long) results.get(0);
+
         log.trace("일일 정책 조회 기록 - userId: {}, policyId: {}, date: {}, count: {}", 
                 userId, policyId, today, count);
         return count;
     }
 
-    /**
-     * 특정 날짜의 사용자가 조회한 정책 목록 조회
-     * @param userId 사용자 ID
-     * @param date 날짜 (yyyyMMdd 형식)
-     * @return 해당 날짜에 조회한 정책 ID와 조회수 목록
-     */
-    public Set<String> getUserDailyViewKeys(Long userId, String date) {
-        String pattern = String.format("user:daily:%d:%s:*", userId, date);
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys != null ? keys : Set.of();
-    }
-
     /**
      * 특정 날짜의 특정 사용자-정책 조회수 조회
      * @param userId 사용자 ID
@@ -158,54 +201,217 @@ public class RedisUtil {
      * @return 조회수 (없으면 0)
      */
     public Long getDailyViewCount(Long userId, Long policyId, String date) {
-        String key = String.format("user:daily:%d:%s:%d", userId, date, policyId);
-        String count = redisTemplate.opsForValue().get(key);
-        return count != null ? Long.parseLong(count) : 0L;
+        Object count = redisTemplate.opsForHash().get(dailyViewKey(date, userId), policyId.toString());
+        return count != null ? Long.parseLong(count.toString()) : 0L;
     }
-    
+
     /**
-     * 특정 날짜의 모든 사용자 일일 조회 키 목록 조회 (배치 처리용)
+     * 특정 날짜의 조회 기록을 사용자 청크 단위로 순회 (배치 처리용)
+     * - 사용자 Set 은 SSCAN 으로 나눠 읽고, 청크의 사용자별 Hash 는 파이프라인 HGETALL 한 번으로 읽음
+     * - KEYS 를 사용하지 않으므로 다른 Redis 요청을 막지 않음
      * @param date 날짜 (yyyyMMdd 형식)
-     * @return 해당 날짜의 모든 조회 키 Set
+     * @param chunkSize 청크당 사용자 수
+     * @param chunkConsumer 사용자 ID → (정책 ID → 조회수) 맵을 받는 처리 함수
+     * @return 순회한 사용자 수
      */
-    public Set<String> getAllDailyViewKeys(String date) {
-        String pattern = String.format("user:daily:*:%s:*", date);
-        Set<String> keys = redisTemplate.keys(pattern);
-        return keys != null ? keys : Set.of();
+    public int scanDailyViews(String date, int chunkSize, Consumer<Map<Long, Map<Long, Long>>> chunkConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(chunkSize).build();
+        int scannedUsers = 0;
+
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(dailyViewUsersKey(date), options)) {
+            Set<Long> chunk = new LinkedHashSet<>();
+            while (cursor.hasNext()) {
+                Long userId = parseId(cursor.next());
+                if (userId != null) {
+                    chunk.add(userId);
+                }
+                if (chunk.size() >= chunkSize) {
+                    scannedUsers += consumeDailyViewChunk(date, chunk, chunkConsumer);
+                    chunk = new LinkedHashSet<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                scannedUsers += consumeDailyViewChunk(date, chunk, chunkConsumer);
+            }
+        }
+        return scannedUsers;
     }
-    
+
+    private int consumeDailyViewChunk(String date, Set<Long> userIds,
+                                      Consumer<Map<Long, Map<Long, Long>>> chunkConsumer) {
+        List<Long> orderedIds = new ArrayList<>(userIds);
+        List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long userId : orderedIds) {
+                    ops.opsForHash().entries(dailyViewKey(date, userId));
+                }
+                return null;
+            }
+        });
+
+        Map<Long, Map<Long, Long>> viewsByUser = new LinkedHashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            Map<Long, Long> views = toViewCounts((Map<?, ?>) hashes.get(i));
+            // SSCAN 중복 반환 또는 이미 처리되어 삭제된 사용자는 건너뜀
+            if (!views.isEmpty()) {
+                viewsByUser.put(orderedIds.get(i), views);
+            }
+        }
+        if (!viewsByUser.isEmpty()) {
+            chunkConsumer.accept(viewsByUser);
+        }
+        return viewsByUser.size();
+    }
+
+    private Map<Long, Long> toViewCounts(Map<?, ?> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> views = new HashMap<>(hash.size() * 2);
+        for (Map.Entry<?, ?> field : hash.entrySet()) {
+            Long policyId = parseId(String.valueOf(field.getKey()));
+            Long count = parseId(String.valueOf(field.getValue()));
+            if (policyId != null && count != null) {
+                views.put(policyId, count);
+            }
+        }
+        return views;
+    }
+
     /**
      * 특정 날짜의 사용자별 조회 데이터 삭제 (배치 처리 완료 후)
      * @param userId 사용자 ID
      * @param date 날짜 (yyyyMMdd 형식)
      */
     public void deleteDailyViewData(Long userId, String date) {
+        deleteDailyViewData(List.of(userId), date);
+    }
+
+    /**
+     * 특정 날짜의 여러 사용자 조회 데이터 삭제 (청크 처리 완료 후, 파이프라인 1회)
+     * @param userIds 사용자 ID 목록
+     * @param date 날짜 (yyyyMMdd 형식)
+     */
+    public void deleteDailyViewData(Collection<Long> userIds, String date) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
         try {
-            Set<String> keys = getUserDailyViewKeys(userId, date);
-            if (!keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.info("일일 조회 데이터 삭제 완료 - userId: {}, date: {}, 삭제 수: {}", 
-                        userId, date, keys.size());
-            }
+            String usersKey = dailyViewUsersKey(date);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    List<String> keys = new ArrayList<>(userIds.size());
+                    for (Long userId : userIds) {
+                        keys.add(dailyViewKey(date, userId));
+                    }
+                    ops.delete(keys);
+                    ops.opsForSet().remove(usersKey, userIds.stream().map(String::valueOf).toArray());
+                    return null;
+                }
+            });
+            log.info("일일 조회 데이터 삭제 완료 - date: {}, 사용자 수: {}", date, userIds.size());
         } catch (Exception e) {
-            log.error("일일 조회 데이터 삭제 실패 - userId: {}, date: {}, 오류: {}", 
-                    userId, date, e.getMessage());
+            log.error("일일 조회 데이터 삭제 실패 - date: {}, 사용자 수: {}, 오류: {}",
+                    date, userIds.size(), e.getMessage());
         }
     }
-    
+
     /**
-     * 키에서 사용자 ID와 정책 ID 추출 (배치 처리용)
-     * @param key Redis 키 (user:daily:{userId}:{date}:{policyId})
-     * @return [userId, policyId] 배열
+     * 이전 형식 일일 조회 키(user:daily:{userId}:{date}:{policyId} → 조회수)를 사용자별 Hash 로 이전 (배포 후 1회)
+     * - 배포 직전까지 쌓인 조회 기록이 배치에서 빠지지 않도록, 조회 데이터를 읽기 전에 호출
+     * - SCAN 으로 찾아 500개씩 HINCRBY + SADD + EXPIRE 후 DEL, 끝나면 완료 표시를 남겨 이후에는 바로 반환
+     * @return 이전한 키 수
      */
-    public Long[] extractIdsFromKey(String key) {
+    public long migrateLegacyDailyViews() {
+        if (hasKey(LEGACY_DAILY_VIEW_MIGRATED_KEY)) {
+            return 0;
+        }
+
+        ScanOptions options = ScanOptions.scanOptions().match("user:daily:*").count(500).build();
+        List<String> legacyKeys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(options)) {
+                while (cursor.hasNext()) {
+                    String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                    if (isLegacyDailyViewKey(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+            return keys;
+        });
+
+        long migrated = 0;
+        if (legacyKeys != null) {
+            for (int from = 0; from < legacyKeys.size(); from += 500) {
+                migrated += migrateLegacyDailyViewKeys(legacyKeys.subList(from, Math.min(from + 500, legacyKeys.size())));
+            }
+        }
+        redisTemplate.opsForValue().set(LEGACY_DAILY_VIEW_MIGRATED_KEY, "true");
+        log.info("이전 형식 일일 조회 키 이전 완료 - 키 수: {}", migrated);
+        return migrated;
+    }
+
+    private long migrateLegacyDailyViewKeys(List<String> keys) {
+        List<String> counts = redisTemplate.opsForValue().multiGet(keys);
+        Duration ttl = Duration.ofDays(DAILY_VIEW_TTL_DAYS);
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < keys.size(); i++) {
+                    // user:daily:{userId}:{date}:{policyId}
+                    String[] parts = keys.get(i).split(":");
+                    Long count = counts != null && counts.get(i) != null ? parseId(counts.get(i)) : null;
+                    if (count == null) {
+                        continue;
+                    }
+                    Long userId = Long.parseLong(parts[2]);
+                    String key = dailyViewKey(parts[3], userId);
+                    String usersKey = dailyViewUsersKey(parts[3]);
+                    ops.opsForHash().increment(key, parts[4], count);
+                    ops.opsForSet().add(usersKey, userId.toString());
+                    ops.expire(key, ttl);
+                    ops.expire(usersKey, ttl);
+                }
+                ops.delete(keys);
+                return null;
+            }
+        });
+        return keys.size();
+    }
+
+    // user:daily:{userId}:{date}:{policyId} (현재 형식은 user:daily:{date}:{userId}, user:daily:{date}:users)
+    private static boolean isLegacyDailyViewKey(String key) {
         String[] parts = key.split(":");
-        if (parts.length >= 5) {
-            Long userId = Long.parseLong(parts[2]);
-            Long policyId = Long.parseLong(parts[4]);
-            return new Long[]{userId, policyId};
+        return parts.length == 5
+                && parseId(parts[2]) != null
+                && parts[3].length() == 8 && parseId(parts[3]) != null
+                && parseId(parts[4]) != null;
+    }
+
+    private static String dailyViewUsersKey(String date) {
+        return "user:daily:" + date + ":users";
+    }
+
+    private static String dailyViewKey(String date, Long userId) {
+        return "user:daily:" + date + ":" + userId;
+    }
+
+    private static Long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
         }
-        return null;
     }
 
     // ────────────────────────────────────────
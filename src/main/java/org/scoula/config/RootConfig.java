@@ -18,6 +18,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import javax.sql.DataSource;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Root Application Context 설정 클래스
@@ -167,4 +168,124 @@ public class RootConfig {
         return executor;
     }
 
+
+    /**
+     * 사용자 벡터 배치 전용 스레드풀 설정
+     * - 사용자 청크 단위 EMA 계산 + 일괄 저장을 병렬 처리
+     * - DB 커넥션 풀(최대 10)을 점유하지 않도록 작업 스레드 수를 제한
+     * - 큐가 가득 차면 호출 스레드(Redis 순회 스레드)가 직접 실행 → Redis 읽기 속도 자동 조절
+     */
+    @Bean(name = "vectorBatchExecutor")
+    public Executor vectorBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(8);
+        executor.setThreadNamePrefix("VectorBatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("[벡터 배치 스레드풀] 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 정책 수집 페이지 조회 전용 스레드풀 설정
+     * - 온통청년 API 페이지 조회 + 기존 정책 분류를 동시에 진행 (동시 요청 수 제한)
+     */
+    @Bean(name = "policyFetchExecutor")
+    public Executor policyFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("PolicyFetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("[정책 수집 스레드풀] 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 정책 GPT 분석 전용 스레드풀 설정
+     * - 신규 정책의 GPT 분석을 병렬 처리 (호출 속도는 GptRateLimiter 로 별도 제한)
+     * - 큐는 수집 중 동시에 진행되는 페이지들의 신규 정책 수를 수용할 크기
+     */
+    @Bean(name = "gptAnalysisExecutor")
+    public Executor gptAnalysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("GptAnalysis-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("[GPT 분석 스레드풀] 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * CODEF 거래내역 동기화 전용 스레드풀 설정
+     * - 계좌/카드별 동기화를 병렬 처리 (기관별 동시 요청 수는 SyncService 에서 별도 제한)
+     * - 각 작업이 DB 커넥션 풀(최대 10)을 잠깐씩만 쓰도록 작업 스레드 수를 제한
+     */
+    @Bean(name = "codefSyncExecutor")
+    public Executor codefSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("CodefSync-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("[CODEF 동기화 스레드풀] 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 가맹점 카테고리 학습 저장 전용 스레드풀 설정
+     * - 사용자의 카테고리 변경 요청이 기억 저장(DB upsert)을 기다리지 않도록 분리
+     */
+    @Bean(name = "categoryMemoryExecutor")
+    public Executor categoryMemoryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("CategoryMemory-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("[가맹점 카테고리 기억 스레드풀] 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
 }
@@ -11,9 +11,15 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 @Slf4j
 @Component
-public class GptApiClient {
+public class GptApiClient implements GptClient {
+
+    private static final String DEFAULT_API_URL = "https://api.openai.com/v1/chat/completions";
 
     private final RestTemplate restTemplate = new RestTemplate(); // 나중에 Bean 주입으로 바꾸면 더 좋음
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -21,66 +27,146 @@ public class GptApiClient {
     @Value("${gpt.secretkey}")
     private String apiKey;
 
+    // 로컬 스텁 서버로 테스트할 때는 아래 생성자로 교체
+    private String apiUrl = DEFAULT_API_URL;
+
+    public GptApiClient() {
+    }
+
+    /**
+     * 스텁 서버 등 다른 주소로 호출하는 클라이언트 생성 (테스트용)
+     */
+    public GptApiClient(String apiUrl, String apiKey) {
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+    }
+
+    @Override
     public GptResponseDto analyzePolicy(GptRequestDto dto) {
         try {
             String prompt = dto.getPrompt();
             log.info("[GPT 분석] 프롬프트 길이: {}", prompt.length());
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+            JsonNode root = requestCompletion(prompt);
+            String content = root.path("choices").get(0).path("message").path("content").asText();
+            int totalTokens = logTokenUsage(root);
 
-            //  JSON body 구성 시 ObjectMapper 사용
-            ObjectNode systemMessage = objectMapper.createObjectNode();
-            systemMessage.put("role", "user");
-            systemMessage.put("content", prompt);
+            // 세 키를 모두 포함하는 JSON 블록만 추출
+            content = content.replaceAll("(?s).*?(\\{[^}]*\"isFinancialSupport\"[^}]*\"estimatedAmount\"[^}]*\"policyBenefitDescription\"[^}]*\\}).*", "$1");
 
-            ObjectNode request = objectMapper.createObjectNode();
-            request.put("model", "gpt-4o");
-            request.set("messages", objectMapper.createArrayNode().add(systemMessage));
-            request.put("temperature", 0.2);
+            // 그대로 파싱
+            GptResponseDto result = toResponse(objectMapper.readTree(content), totalTokens);
+            log.info("[GPT 분석 완료] isFinancial: {}, estimated: {}", result.isFinancialSupport(), result.getEstimatedAmount());
+            return result;
 
-            String requestBody = objectMapper.writeValueAsString(request);
+        } catch (Exception e) {
+            log.warn("[GPT 분석 실패]", e);
+            return new GptResponseDto(false, 0, "금전적 지원 없음") ;
+        }
+    }
 
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+    @Override
+    public List<GptResponseDto> analyzePolicies(GptRequestDto dto, int expectedCount) {
+        JsonNode root;
+        try {
+            log.info("[GPT 묶음 분석] 정책 수: {}, 프롬프트 길이: {}", expectedCount, dto.getPrompt().length());
+            root = requestCompletion(dto.getPrompt());
+        } catch (Exception e) {
+            throw new GptBatchAnalysisException("GPT 묶음 분석 호출 실패", e);
+        }
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    "https://api.openai.com/v1/chat/completions",
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+        String content = root.path("choices").path(0).path("message").path("content").asText("");
+        int totalTokens = logTokenUsage(root);
 
-            String json = response.getBody();
-            JsonNode root = objectMapper.readTree(json);
-            String content = root.path("choices").get(0).path("message").path("content").asText();
-            
-            // 토큰 사용량 로그 출력
-            JsonNode usage = root.path("usage");
-            if (!usage.isMissingNode()) {
-                int promptTokens = usage.path("prompt_tokens").asInt(0);
-                int completionTokens = usage.path("completion_tokens").asInt(0);
-                int totalTokens = usage.path("total_tokens").asInt(0);
-                log.info("[GPT 토큰 사용량] Request: {} tokens, Response: {} tokens, Total: {} tokens", 
-                        promptTokens, completionTokens, totalTokens);
+        // 응답에서 JSON 배열 부분만 추출
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start < 0 || end <= start) {
+            throw new GptBatchAnalysisException("GPT 묶음 분석 응답에 JSON 배열 없음");
+        }
+
+        JsonNode array;
+        try {
+            array = objectMapper.readTree(content.substring(start, end + 1));
+        } catch (Exception e) {
+            throw new GptBatchAnalysisException("GPT 묶음 분석 응답 파싱 실패", e);
+        }
+        if (!array.isArray()) {
+            throw new GptBatchAnalysisException("GPT 묶음 분석 응답이 배열이 아님");
+        }
+
+        // 토큰은 정책 수로 나누어 각 결과에 기록 (분석 캐시 절약 토큰 집계용)
+        int tokensPerPolicy = Math.max(totalTokens / Math.max(expectedCount, 1), totalTokens > 0 ? 1 : 0);
+        GptResponseDto[] results = new GptResponseDto[expectedCount];
+        for (int i = 0; i < array.size(); i++) {
+            JsonNode node = array.get(i);
+            // index(1부터)가 있으면 그 위치에, 없으면 배열 순서대로
+            int index = node.path("index").asInt(i + 1) - 1;
+            if (index < 0 || index >= expectedCount || !node.has("isFinancialSupport")) {
+                continue;
             }
+            results[index] = toResponse(node, tokensPerPolicy);
+        }
 
-            // 세 키를 모두 포함하는 JSON 블록만 추출
-            content = content.replaceAll("(?s).*?(\\{[^}]*\"isFinancialSupport\"[^}]*\"estimatedAmount\"[^}]*\"policyBenefitDescription\"[^}]*\\}).*", "$1");
+        List<GptResponseDto> resultList = new ArrayList<>(Arrays.asList(results));
+        log.info("[GPT 묶음 분석 완료] 요청: {}건, 응답: {}건", expectedCount,
+                resultList.stream().filter(r -> r != null).count());
+        return resultList;
+    }
 
-            // 그대로 파싱
-            JsonNode resultNode = objectMapper.readTree(content);
-            boolean isFinancial = resultNode.path("isFinancialSupport").asBoolean(false);
-            long estimated = resultNode.path("estimatedAmount").asLong(0);
-            String description = resultNode.path("policyBenefitDescription").asText("금전적 지원 없음");
+    /**
+     * Chat Completions 호출 후 응답 JSON 반환
+     */
+    private JsonNode requestCompletion(String prompt) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
 
-            log.info("[GPT 분석 완료] isFinancial: {}, estimated: {}", isFinancial, estimated);
-            return new GptResponseDto(isFinancial, estimated, description);
+        //  JSON body 구성 시 ObjectMapper 사용
+        ObjectNode systemMessage = objectMapper.createObjectNode();
+        systemMessage.put("role", "user");
+        systemMessage.put("content", prompt);
 
-        } catch (Exception e) {
-            log.warn("[GPT 분석 실패]", e);
-            return new GptResponseDto(false, 0, "금전적 지원 없음") ;
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("model", "gpt-4o");
+        request.set("messages", objectMapper.createArrayNode().add(systemMessage));
+        request.put("temperature", 0.2);
+
+        String requestBody = objectMapper.writeValueAsString(request);
+
+        HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                apiUrl,
+                HttpMethod.POST,
+                entity,
+                String.class
+        );
+
+        return objectMapper.readTree(response.getBody());
+    }
+
+    /**
+     * 토큰 사용량 로그 출력
+     * @return 총 토큰 수 (usage 가 없으면 0)
+     */
+    private int logTokenUsage(JsonNode root) {
+        JsonNode usage = root.path("usage");
+        if (usage.isMissingNode()) {
+            return 0;
         }
+        int promptTokens = usage.path("prompt_tokens").asInt(0);
+        int completionTokens = usage.path("completion_tokens").asInt(0);
+        int totalTokens = usage.path("total_tokens").asInt(0);
+        log.info("[GPT 토큰 사용량] Request: {} tokens, Response: {} tokens, Total: {} tokens",
+                promptTokens, completionTokens, totalTokens);
+        return totalTokens;
     }
 
+    private GptResponseDto toResponse(JsonNode node, int totalTokens) {
+        boolean isFinancial = node.path("isFinancialSupport").asBoolean(false);
+        long estimated = node.path("estimatedAmount").asLong(0);
+        String description = node.path("policyBenefitDescription").asText("금전적 지원 없음");
+        return new GptResponseDto(isFinancial, estimated, description, totalTokens);
+    }
 }
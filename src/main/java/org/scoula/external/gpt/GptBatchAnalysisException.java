@@ -0,0 +1,16 @@
+package org.scoula.external.gpt;
+
+/**
+ * 묶음 분석 요청 실패 (호출 오류 또는 응답 배열 파싱 실패)
+ * 호출 측은 정책별 단건 분석으로 대체한다.
+ */
+public class GptBatchAnalysisException extends RuntimeException {
+
+    public GptBatchAnalysisException(String message) {
+        super(message);
+    }
+
+    public GptBatchAnalysisException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
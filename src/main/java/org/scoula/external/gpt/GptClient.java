@@ -0,0 +1,30 @@
+package org.scoula.external.gpt;
+
+import org.scoula.external.gpt.dto.GptRequestDto;
+import org.scoula.external.gpt.dto.GptResponseDto;
+
+import java.util.List;
+
+/**
+ * GPT 정책 분석 클라이언트
+ * - 기본 구현은 OpenAI Chat Completions 를 호출하는 GptApiClient
+ * - 테스트에서는 로컬 스텁 서버 주소로 만든 GptApiClient 나 목 구현으로 교체
+ */
+public interface GptClient {
+
+    /**
+     * 정책 1건 분석
+     * @return 분석 결과 (실패 시 금전적 지원 없음 대체값, totalTokens = 0)
+     */
+    GptResponseDto analyzePolicy(GptRequestDto dto);
+
+    /**
+     * 여러 정책을 묶은 프롬프트 1건으로 분석 (PromptBuilderService.buildBatchPrompt)
+     *
+     * @param dto 묶음 프롬프트
+     * @param expectedCount 프롬프트에 포함된 정책 수
+     * @return 정책 순서대로의 분석 결과, 응답에서 찾지 못한 정책은 null
+     * @throws GptBatchAnalysisException 호출 또는 응답 배열 파싱 실패 시
+     */
+    List<GptResponseDto> analyzePolicies(GptRequestDto dto, int expectedCount);
+}
@@ -0,0 +1,44 @@
+package org.scoula.external.gpt;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPT API 호출 속도 제한기
+ * - 호출 간격을 일정하게 벌려 초당 호출 수를 제한 (여러 스레드가 공유)
+ * - 정책 수집 시 GPT 분석 스레드풀에서 호출 직전에 acquire()
+ */
+@Component
+public class GptRateLimiter {
+
+    // 초당 최대 GPT 호출 수
+    private static final int PERMITS_PER_SECOND = 5;
+
+    private final long intervalNanos;
+    private long nextPermitAt = System.nanoTime();
+
+    public GptRateLimiter() {
+        this(PERMITS_PER_SECOND);
+    }
+
+    GptRateLimiter(int permitsPerSecond) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    /**
+     * 호출 허가를 받을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitAt);
+            nextPermitAt = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
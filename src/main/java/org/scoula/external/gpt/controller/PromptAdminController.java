@@ -10,7 +10,9 @@ import org.scoula.external.gpt.domain.PromptCalculationRuleVO;
 import org.scoula.external.gpt.domain.PromptConditionVO;
 import org.scoula.external.gpt.domain.PromptExampleVO;
 import org.scoula.external.gpt.domain.PromptConditionType;
+import org.scoula.external.gpt.dto.GptAnalysisCacheStatsDto;
 import org.scoula.external.gpt.mapper.PromptConditionMapper;
+import org.scoula.external.gpt.service.GptAnalysisCacheService;
 import org.scoula.external.gpt.service.PromptBuilderService;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,7 @@ public class PromptAdminController {
 
     private final PromptConditionMapper promptConditionMapper;
     private final PromptBuilderService promptBuilderService;
+    private final GptAnalysisCacheService gptAnalysisCacheService;
 
     // ========== 조건 관리 API ==========
 
@@ -56,6 +59,7 @@ public class PromptAdminController {
     public ResponseEntity<PromptConditionVO> createCondition(@RequestBody PromptConditionVO condition) {
         log.info("프롬프트 조건 추가 요청: {}", condition);
         promptConditionMapper.insertCondition(condition);
+        onPromptChanged();
         return ResponseEntity.status(201).body(condition);
     }
 
@@ -70,6 +74,7 @@ public class PromptAdminController {
         log.info("프롬프트 조건 수정 요청 ID: {}, 데이터: {}", id, condition);
         condition.setId(id);
         promptConditionMapper.updateCondition(condition);
+        onPromptChanged();
         return ResponseEntity.ok(condition);
     }
 
@@ -83,6 +88,7 @@ public class PromptAdminController {
     public ResponseEntity<Void> deleteCondition(@PathVariable Long id) {
         log.info("프롬프트 조건 삭제 요청 ID: {}", id);
         promptConditionMapper.deleteCondition(id);
+        onPromptChanged();
         return ResponseEntity.ok().build();
     }
 
@@ -101,6 +107,7 @@ public class PromptAdminController {
     public ResponseEntity<PromptExampleVO> createExample(@RequestBody PromptExampleVO example) {
         log.info("프롬프트 예시 추가 요청: {}", example);
         promptConditionMapper.insertExample(example);
+        onPromptChanged();
         return ResponseEntity.status(201).body(example);
     }
 
@@ -110,6 +117,7 @@ public class PromptAdminController {
         log.info("프롬프트 예시 수정 요청 ID: {}, 데이터: {}", id, example);
         example.setId(id);
         promptConditionMapper.updateExample(example);
+        onPromptChanged();
         return ResponseEntity.ok(example);
     }
 
@@ -118,6 +126,7 @@ public class PromptAdminController {
     public ResponseEntity<Void> deleteExample(@PathVariable Long id) {
         log.info("프롬프트 예시 삭제 요청 ID: {}", id);
         promptConditionMapper.deleteExample(id);
+        onPromptChanged();
         return ResponseEntity.ok().build();
     }
 
@@ -136,6 +145,7 @@ public class PromptAdminController {
     public ResponseEntity<PromptCalculationRuleVO> createCalculationRule(@RequestBody PromptCalculationRuleVO rule) {
         log.info("프롬프트 계산 규칙 추가 요청: {}", rule);
         promptConditionMapper.insertCalculationRule(rule);
+        onPromptChanged();
         return ResponseEntity.status(201).body(rule);
     }
 
@@ -145,6 +155,7 @@ public class PromptAdminController {
         log.info("프롬프트 계산 규칙 수정 요청 ID: {}, 데이터: {}", id, rule);
         rule.setId(id);
         promptConditionMapper.updateCalculationRule(rule);
+        onPromptChanged();
         return ResponseEntity.ok(rule);
     }
 
@@ -153,11 +164,18 @@ public class PromptAdminController {
     public ResponseEntity<Void> deleteCalculationRule(@PathVariable Long id) {
         log.info("프롬프트 계산 규칙 삭제 요청 ID: {}", id);
         promptConditionMapper.deleteCalculationRule(id);
+        onPromptChanged();
         return ResponseEntity.ok().build();
     }
 
     // ========== 유틸리티 API ==========
 
+    @GetMapping("/analysis-cache/stats")
+    @ApiOperation(value = "GPT 분석 캐시 통계", notes = "현재 프롬프트 버전과 분석 캐시 적중/미적중 횟수, 절약된 토큰 수를 조회합니다.")
+    public ResponseEntity<GptAnalysisCacheStatsDto> getAnalysisCacheStats() {
+        return ResponseEntity.ok(gptAnalysisCacheService.getStats());
+    }
+
     @GetMapping(value = "/preview", produces = "text/plain; charset=UTF-8")
     @ApiOperation(value = "프롬프트 미리보기", notes = "현재 설정으로 생성되는 완전한 프롬프트를 미리 확인합니다.")
     public ResponseEntity<String> previewPrompt(@RequestParam String sampleContent) {
@@ -170,4 +188,12 @@ public class PromptAdminController {
                 .contentType(MediaType.valueOf("text/plain; charset=UTF-8"))
                 .body(fullPrompt);
     }
-}
\ No newline at end of file
+
+    /**
+     * 조건/예시/계산 규칙 변경 시 프롬프트 템플릿 재생성 후 이전 버전의 GPT 분석 캐시 무효화
+     */
+    private void onPromptChanged() {
+        promptBuilderService.rebuildTemplate();
+        gptAnalysisCacheService.invalidate();
+    }
+}
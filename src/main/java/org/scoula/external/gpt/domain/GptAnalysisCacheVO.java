@@ -0,0 +1,31 @@
+package org.scoula.external.gpt.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GptAnalysisCacheVO {
+
+    // 정규화된 지원내용의 SHA-256 (hex)
+    private String contentHash;
+
+    // 분석에 사용된 프롬프트 버전
+    private String promptVersion;
+
+    // GPT 분석 결과
+    private Boolean isFinancialSupport;
+    private Long estimatedAmount;
+    private String policyBenefitDescription;
+
+    // 분석에 사용된 총 토큰 수 (캐시 적중 시 절약된 토큰)
+    private Integer totalTokens;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package org.scoula.external.gpt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GptAnalysisCacheStatsDto {
+
+    // 현재 프롬프트 버전
+    private String promptVersion;
+
+    // 캐시 적중 / 미적중 횟수 (서버 시작 이후)
+    private long hits;
+    private long misses;
+
+    // 캐시 적중으로 절약된 GPT 토큰 수
+    private long tokensSaved;
+}
@@ -1,5 +1,6 @@
 package org.scoula.external.gpt.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,4 +16,12 @@ public class GptResponseDto {
     private long estimatedAmount;
 
     private String policyBenefitDescription;
+
+    // 이 분석에 사용된 총 토큰 수 (API 응답 usage, 실패 대체값이면 0)
+    @JsonIgnore
+    private int totalTokens;
+
+    public GptResponseDto(boolean isFinancialSupport, long estimatedAmount, String policyBenefitDescription) {
+        this(isFinancialSupport, estimatedAmount, policyBenefitDescription, 0);
+    }
 }
@@ -0,0 +1,19 @@
+package org.scoula.external.gpt.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.scoula.external.gpt.domain.GptAnalysisCacheVO;
+
+@Mapper
+public interface GptAnalysisCacheMapper {
+
+    // 지원내용 해시 + 프롬프트 버전으로 분석 결과 조회
+    GptAnalysisCacheVO findAnalysis(@Param("contentHash") String contentHash,
+                                    @Param("promptVersion") String promptVersion);
+
+    // 분석 결과 저장 (같은 키가 있으면 덮어씀)
+    int upsertAnalysis(GptAnalysisCacheVO analysis);
+
+    // 현재 버전이 아닌 분석 결과 삭제 (프롬프트 변경 시)
+    int deleteAnalysesNotInVersion(@Param("promptVersion") String promptVersion);
+}
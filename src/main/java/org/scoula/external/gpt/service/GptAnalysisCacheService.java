@@ -0,0 +1,286 @@
+package org.scoula.external.gpt.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.util.HashUtils;
+import org.scoula.external.gpt.GptBatchAnalysisException;
+import org.scoula.external.gpt.GptClient;
+import org.scoula.external.gpt.GptRateLimiter;
+import org.scoula.external.gpt.domain.GptAnalysisCacheVO;
+import org.scoula.external.gpt.dto.GptAnalysisCacheStatsDto;
+import org.scoula.external.gpt.dto.GptRequestDto;
+import org.scoula.external.gpt.dto.GptResponseDto;
+import org.scoula.external.gpt.mapper.GptAnalysisCacheMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GPT 정책 분석 결과 캐시 (DB 영구 저장)
+ * - 키: 정규화된 지원내용의 SHA-256 + 프롬프트 버전
+ * - 적중 시 GPT 호출을 하지 않음 (지역별로 같은 지원내용을 쓰는 정책이 많음)
+ * - 같은 지원내용을 여러 스레드가 동시에 분석하려 하면 한 번만 호출하고 결과를 공유
+ * - 프롬프트 조건/예시/계산 규칙이 바뀌면 템플릿 버전이 바뀌어 이전 결과는 사용되지 않음
+ * - analyzeAll: 캐시 미적중 정책을 MAX_BATCH_SIZE 건씩 묶어 한 요청으로 분석 (공통 조건/규칙 토큰 절약)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GptAnalysisCacheService {
+
+    // 묶음 분석 1회 요청에 넣는 최대 정책 수 (응답 길이/누락 위험과 절약 토큰 사이 절충)
+    public static final int MAX_BATCH_SIZE = 10;
+
+    private final GptAnalysisCacheMapper gptAnalysisCacheMapper;
+    private final PromptBuilderService promptBuilderService;
+    private final GptClient gptClient;
+    private final GptRateLimiter gptRateLimiter;
+
+    private final Map<String, CompletableFuture<GptResponseDto>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong tokensSaved = new AtomicLong();
+
+    /**
+     * 지원내용 분석 (캐시 적중 시 GPT 미호출)
+     *
+     * @param supportContent 정책 지원내용
+     * @return GPT 분석 결과
+     */
+    public GptResponseDto analyze(String supportContent) throws InterruptedException {
+        String version = getPromptVersion();
+        String contentHash = hashContent(supportContent);
+        String key = contentHash + ":" + version;
+
+        // 같은 지원내용을 분석 중인 스레드가 있으면 그 결과를 기다림
+        CompletableFuture<GptResponseDto> analysis = new CompletableFuture<>();
+        CompletableFuture<GptResponseDto> running = inFlight.putIfAbsent(key, analysis);
+        if (running != null) {
+            GptResponseDto shared = running.join();
+            recordHit(shared.getTotalTokens());
+            return shared;
+        }
+
+        try {
+            GptResponseDto result = loadOrAnalyze(contentHash, version, supportContent);
+            analysis.complete(result);
+            return result;
+        } catch (InterruptedException | RuntimeException e) {
+            analysis.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, analysis);
+        }
+    }
+
+    private GptResponseDto loadOrAnalyze(String contentHash, String version, String supportContent) throws InterruptedException {
+        GptAnalysisCacheVO cached = findCached(contentHash, version);
+        if (cached != null) {
+            GptResponseDto response = toResponse(cached);
+            recordHit(response.getTotalTokens());
+            return response;
+        }
+
+        misses.incrementAndGet();
+        GptResponseDto response = analyzeSingle(supportContent);
+
+        // usage 가 없는 응답은 API 실패 시 대체값이므로 저장하지 않음 (다음에 다시 분석)
+        if (response.getTotalTokens() > 0) {
+            save(contentHash, version, response);
+        }
+        return response;
+    }
+
+    /**
+     * 여러 지원내용 일괄 분석
+     * - 캐시 적중분은 DB 결과 사용, 미적중분은 MAX_BATCH_SIZE 건씩 묶음 요청
+     * - 묶음 응답 파싱 실패 또는 응답에서 빠진 정책은 1건씩 다시 분석
+     * - 다른 스레드가 분석 중인 지원내용은 자기 몫을 모두 끝낸 뒤 그 결과를 기다림
+     *
+     * @param supportContents 정책 지원내용 목록
+     * @return 입력 순서대로의 GPT 분석 결과
+     */
+    public List<GptResponseDto> analyzeAll(List<String> supportContents) throws InterruptedException {
+        String version = getPromptVersion();
+        String[] keys = new String[supportContents.size()];
+        Map<String, CompletableFuture<GptResponseDto>> owned = new LinkedHashMap<>();
+        Map<String, CompletableFuture<GptResponseDto>> shared = new HashMap<>();
+        Map<String, String> contentsByHash = new LinkedHashMap<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            String contentHash = hashContent(supportContents.get(i));
+            String key = contentHash + ":" + version;
+            keys[i] = key;
+            if (owned.containsKey(key) || shared.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<GptResponseDto> analysis = new CompletableFuture<>();
+            CompletableFuture<GptResponseDto> running = inFlight.putIfAbsent(key, analysis);
+            if (running != null) {
+                shared.put(key, running);
+            } else {
+                owned.put(key, analysis);
+                contentsByHash.put(contentHash, supportContents.get(i));
+            }
+        }
+
+        try {
+            analyzeOwned(version, contentsByHash, owned);
+        } catch (InterruptedException | RuntimeException e) {
+            owned.values().forEach(analysis -> analysis.completeExceptionally(e));
+            throw e;
+        } finally {
+            owned.forEach(inFlight::remove);
+        }
+
+        List<GptResponseDto> results = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            CompletableFuture<GptResponseDto> analysis = owned.get(key);
+            if (analysis == null) {
+                analysis = shared.get(key);
+                recordHit(analysis.join().getTotalTokens());
+            }
+            results.add(analysis.join());
+        }
+        return results;
+    }
+
+    private void analyzeOwned(String version, Map<String, String> contentsByHash,
+                              Map<String, CompletableFuture<GptResponseDto>> owned) throws InterruptedException {
+        List<String> missHashes = new ArrayList<>();
+        for (Map.Entry<String, String> entry : contentsByHash.entrySet()) {
+            GptAnalysisCacheVO cached = findCached(entry.getKey(), version);
+            if (cached != null) {
+                GptResponseDto response = toResponse(cached);
+                recordHit(response.getTotalTokens());
+                owned.get(entry.getKey() + ":" + version).complete(response);
+            } else {
+                missHashes.add(entry.getKey());
+            }
+        }
+        misses.addAndGet(missHashes.size());
+
+        for (int from = 0; from < missHashes.size(); from += MAX_BATCH_SIZE) {
+            List<String> batchHashes = missHashes.subList(from, Math.min(from + MAX_BATCH_SIZE, missHashes.size()));
+            List<String> batchContents = new ArrayList<>(batchHashes.size());
+            for (String contentHash : batchHashes) {
+                batchContents.add(contentsByHash.get(contentHash));
+            }
+
+            List<GptResponseDto> responses = analyzeBatch(batchContents);
+            for (int i = 0; i < batchHashes.size(); i++) {
+                GptResponseDto response = responses.get(i);
+                if (response.getTotalTokens() > 0) {
+                    save(batchHashes.get(i), version, response);
+                }
+                owned.get(batchHashes.get(i) + ":" + version).complete(response);
+            }
+        }
+    }
+
+    /**
+     * 묶음 요청 1회, 실패하거나 응답에서 빠진 정책은 1건씩 분석
+     */
+    private List<GptResponseDto> analyzeBatch(List<String> supportContents) throws InterruptedException {
+        if (supportContents.size() == 1) {
+            return Collections.singletonList(analyzeSingle(supportContents.get(0)));
+        }
+
+        List<GptResponseDto> responses;
+        gptRateLimiter.acquire();
+        try {
+            String prompt = promptBuilderService.buildBatchPrompt(supportContents);
+            responses = gptClient.analyzePolicies(GptRequestDto.of(prompt), supportContents.size());
+        } catch (GptBatchAnalysisException e) {
+            log.warn("[GPT 분석 캐시] 묶음 분석 실패 - {}건 개별 분석으로 대체: {}", supportContents.size(), e.getMessage());
+            responses = null;
+        }
+
+        List<GptResponseDto> results = new ArrayList<>(supportContents.size());
+        for (int i = 0; i < supportContents.size(); i++) {
+            GptResponseDto response = responses != null && i < responses.size() ? responses.get(i) : null;
+            if (response == null) {
+                response = analyzeSingle(supportContents.get(i));
+            }
+            results.add(response);
+        }
+        return results;
+    }
+
+    private GptResponseDto analyzeSingle(String supportContent) throws InterruptedException {
+        gptRateLimiter.acquire();
+        String prompt = promptBuilderService.buildPromptOptimized(supportContent);
+        return gptClient.analyzePolicy(GptRequestDto.of(prompt));
+    }
+
+    private GptResponseDto toResponse(GptAnalysisCacheVO cached) {
+        return new GptResponseDto(Boolean.TRUE.equals(cached.getIsFinancialSupport()),
+                cached.getEstimatedAmount() != null ? cached.getEstimatedAmount() : 0L,
+                cached.getPolicyBenefitDescription(),
+                cached.getTotalTokens() != null ? cached.getTotalTokens() : 0);
+    }
+
+    private GptAnalysisCacheVO findCached(String contentHash, String version) {
+        try {
+            return gptAnalysisCacheMapper.findAnalysis(contentHash, version);
+        } catch (Exception e) {
+            log.warn("[GPT 분석 캐시] 조회 실패 - GPT 직접 호출: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(String contentHash, String version, GptResponseDto response) {
+        try {
+            gptAnalysisCacheMapper.upsertAnalysis(GptAnalysisCacheVO.builder()
+                    .contentHash(contentHash)
+                    .promptVersion(version)
+                    .isFinancialSupport(response.isFinancialSupport())
+                    .estimatedAmount(response.getEstimatedAmount())
+                    .policyBenefitDescription(response.getPolicyBenefitDescription())
+                    .totalTokens(response.getTotalTokens())
+                    .build());
+        } catch (Exception e) {
+            log.warn("[GPT 분석 캐시] 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recordHit(int savedTokens) {
+        hits.incrementAndGet();
+        tokensSaved.addAndGet(savedTokens);
+    }
+
+    /**
+     * 현재 프롬프트 버전 (PromptBuilderService 템플릿 버전)
+     */
+    public String getPromptVersion() {
+        return promptBuilderService.getTemplateVersion();
+    }
+
+    /**
+     * 프롬프트 변경 시 호출 (템플릿 재생성 이후): 이전 버전의 분석 결과 삭제
+     */
+    public void invalidate() {
+        String version = getPromptVersion();
+        try {
+            int deleted = gptAnalysisCacheMapper.deleteAnalysesNotInVersion(version);
+            log.info("[GPT 분석 캐시] 프롬프트 변경으로 무효화 - 새 버전: {}, 삭제: {}건", version, deleted);
+        } catch (Exception e) {
+            log.warn("[GPT 분석 캐시] 이전 버전 삭제 실패 (버전이 달라 사용되지 않음): {}", e.getMessage());
+        }
+    }
+
+    public GptAnalysisCacheStatsDto getStats() {
+        return new GptAnalysisCacheStatsDto(getPromptVersion(), hits.get(), misses.get(), tokensSaved.get());
+    }
+
+    /**
+     * 지원내용 정규화 (앞뒤 공백 제거, 연속 공백/줄바꿈을 공백 하나로) 후 SHA-256
+     */
+    static String hashContent(String supportContent) {
+        String normalized = supportContent == null ? "" : supportContent.trim().replaceAll("\\s+", " ");
+        return HashUtils.sha256Hex(normalized);
+    }
+}
@@ -2,6 +2,7 @@ package org.scoula.external.gpt.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.util.HashUtils;
 import org.scoula.external.gpt.domain.PromptCalculationRuleVO;
 import org.scoula.external.gpt.domain.PromptConditionVO;
 import org.scoula.external.gpt.domain.PromptExampleVO;
@@ -11,32 +12,119 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * GPT 정책 분석 프롬프트 생성 서비스
+ * - 조건/예시/계산 규칙으로 만든 프롬프트 고정 부분을 템플릿으로 메모리에 보관
+ * - 호출마다 지원내용만 끼워 넣음 (매번 5개 조회 쿼리를 실행하지 않음)
+ * - 관리자 API 로 조건이 바뀌면 rebuildTemplate() 으로 다시 생성
+ * - 템플릿 버전(고정 부분의 해시)은 GPT 분석 캐시 키로 사용
+ * - 여러 정책을 한 요청으로 분석하는 묶음 프롬프트도 같은 조건/규칙 부분을 공유
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PromptBuilderService {
 
+    // 템플릿 버전 길이 (SHA-256 hex 앞부분)
+    private static final int TEMPLATE_VERSION_LENGTH = 16;
+
+    private static final String CONTENT_PREFIX = "다음은 청년 정책의 '지원내용'이다.\n\n지원내용: ";
+
+    // 정책 1건 응답 형식
+    private static final String SINGLE_RESPONSE_FORMAT =
+            "결과는 다음 JSON 형식으로 정확히 반환한다. 설명은 포함하지 않는다.\n\n"
+            + "{\n"
+            + "  \"isFinancialSupport\": true,\n"
+            + "  \"estimatedAmount\": 0,\n"
+            + "  \"policyBenefitDescription\": \"교통비 30% 환급\"\n"
+            + "}\n";
+
+    // 묶음 응답 형식 (정책 번호를 index 로 돌려받아 순서가 바뀌거나 누락돼도 매칭)
+    private static final String BATCH_RESPONSE_FORMAT =
+            "각 정책을 독립적으로 판단하여, 결과를 정책 번호(index) 순서대로 다음 JSON 배열 형식으로 정확히 반환한다. 설명은 포함하지 않는다.\n\n"
+            + "[\n"
+            + "  {\n"
+            + "    \"index\": 1,\n"
+            + "    \"isFinancialSupport\": true,\n"
+            + "    \"estimatedAmount\": 0,\n"
+            + "    \"policyBenefitDescription\": \"교통비 30% 환급\"\n"
+            + "  }\n"
+            + "]\n";
+
     private final PromptConditionMapper promptConditionMapper;
 
+    private volatile PromptTemplate template;
+
     /**
-     * 타입별로 조건을 조회하여 프롬프트 생성 (효율적인 방식)
+     * 지원내용을 템플릿에 넣어 프롬프트 생성
      */
     public String buildPromptOptimized(String supportContent) {
+        return getTemplate().render(supportContent);
+    }
+
+    /**
+     * 여러 정책의 지원내용을 한 프롬프트로 묶음 (조건/규칙 부분은 한 번만 포함)
+     * - 응답은 index(1부터)를 포함한 JSON 배열
+     */
+    public String buildBatchPrompt(List<String> supportContents) {
+        return getTemplate().renderBatch(supportContents);
+    }
+
+    /**
+     * 현재 템플릿 버전 (조건/예시/계산 규칙이 같으면 서버가 재시작돼도 같은 값)
+     */
+    public String getTemplateVersion() {
+        return getTemplate().version;
+    }
+
+    /**
+     * 조건/예시/계산 규칙을 다시 조회하여 템플릿 재생성
+     * @return 새 템플릿 버전
+     */
+    public synchronized String rebuildTemplate() {
+        PromptTemplate rebuilt = loadTemplate();
+        PromptTemplate previous = template;
+        template = rebuilt;
+        log.info("[프롬프트 템플릿] 재생성 - 버전: {} → {}", previous != null ? previous.version : null, rebuilt.version);
+        return rebuilt.version;
+    }
+
+    private PromptTemplate getTemplate() {
+        PromptTemplate current = template;
+        if (current == null) {
+            synchronized (this) {
+                current = template;
+                if (current == null) {
+                    current = loadTemplate();
+                    template = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 타입별로 조건을 조회하여 템플릿 생성
+     */
+    private PromptTemplate loadTemplate() {
         List<PromptConditionVO> positiveConditions = promptConditionMapper.findConditionsByType(PromptConditionType.POSITIVE);
         List<PromptConditionVO> negativeConditions = promptConditionMapper.findConditionsByType(PromptConditionType.NEGATIVE);
         List<PromptCalculationRuleVO> calculationRules = promptConditionMapper.findAllCalculationRules();
         List<PromptExampleVO> positiveExamples = promptConditionMapper.findExamplesByType(PromptConditionType.POSITIVE);
         List<PromptExampleVO> negativeExamples = promptConditionMapper.findExamplesByType(PromptConditionType.NEGATIVE);
         
-        return buildPromptString(supportContent, positiveConditions, negativeConditions,
+        String rules = buildPromptString(positiveConditions, negativeConditions,
                                 calculationRules, positiveExamples, negativeExamples);
+        // 묶음 형식은 상수이므로 버전은 정책 1건 프롬프트 기준 (조건/규칙이 같으면 두 방식의 분석 결과를 공유)
+        String version = HashUtils.sha256Hex(CONTENT_PREFIX + rules + SINGLE_RESPONSE_FORMAT)
+                .substring(0, TEMPLATE_VERSION_LENGTH);
+        return new PromptTemplate(CONTENT_PREFIX, rules, version);
     }
 
     /**
-     * 실제 프롬프트 문자열을 생성
+     * 프롬프트에서 지원내용 뒤에 오는 조건/예시/계산 규칙 부분을 생성 (응답 형식 제외)
      */
-    private String buildPromptString(String supportContent, 
-                                    List<PromptConditionVO> positiveConditions,
+    private String buildPromptString(List<PromptConditionVO> positiveConditions,
                                     List<PromptConditionVO> negativeConditions,
                                     List<PromptCalculationRuleVO> calculationRules,
                                     List<PromptExampleVO> positiveExamples,
@@ -44,9 +132,8 @@ public class PromptBuilderService {
         
         StringBuilder prompt = new StringBuilder();
         
-        // 기본 헤더
-        prompt.append("다음은 청년 정책의 '지원내용'이다.\n\n");
-        prompt.append("지원내용: ").append(supportContent).append("\n\n");
+        // 기본 헤더 (CONTENT_PREFIX + 지원내용) 이후
+        prompt.append("\n\n");
         
         // POSITIVE 조건들 (기존 GptRequestDto와 동일한 구조)
         prompt.append("이 정책이 다음 조건에 해당하는 경우 isFinancialSupport를 true로 판단한다:\n\n");
@@ -92,19 +179,48 @@ public class PromptBuilderService {
         prompt.append("지원 형태를 policyBenefitDescription에 간단히 서술한다:\n\n");
         prompt.append("- 예: \"월 30만원 정기 지원\", \"교통비 30% 환급\", \"금전적 지원 없음\"\n\n");
         
-        // 응답 형식
-        prompt.append("결과는 다음 JSON 형식으로 정확히 반환한다. 설명은 포함하지 않는다.\n\n");
-        prompt.append("{\n");
-        prompt.append("  \"isFinancialSupport\": true,\n");
-        prompt.append("  \"estimatedAmount\": 0,\n");
-        prompt.append("  \"policyBenefitDescription\": \"교통비 30% 환급\"\n");
-        prompt.append("}\n");
-        
         String finalPrompt = prompt.toString();
-        log.debug("Generated prompt with {} positive conditions, {} negative conditions, {} calculation rules, {} positive examples, {} negative examples", 
+        log.debug("Generated prompt template with {} positive conditions, {} negative conditions, {} calculation rules, {} positive examples, {} negative examples", 
                  positiveConditions.size(), negativeConditions.size(), calculationRules.size(),
                  positiveExamples.size(), negativeExamples.size());
         
         return finalPrompt;
     }
+
+    /**
+     * 지원내용 앞 고정 부분, 뒤에 오는 조건/규칙 부분과 버전
+     */
+    private static final class PromptTemplate {
+        private final String prefix;
+        private final String rules;
+        private final String version;
+
+        private PromptTemplate(String prefix, String rules, String version) {
+            this.prefix = prefix;
+            this.rules = rules;
+            this.version = version;
+        }
+
+        private String render(String supportContent) {
+            int contentLength = supportContent != null ? supportContent.length() : 4;
+            return new StringBuilder(prefix.length() + contentLength + rules.length() + SINGLE_RESPONSE_FORMAT.length())
+                    .append(prefix)
+                    .append(supportContent)
+                    .append(rules)
+                    .append(SINGLE_RESPONSE_FORMAT)
+                    .toString();
+        }
+
+        private String renderBatch(List<String> supportContents) {
+            StringBuilder prompt = new StringBuilder()
+                    .append("다음은 청년 정책 ").append(supportContents.size())
+                    .append("건의 '지원내용'이다. 각 정책 앞의 [번호]가 index 이다.\n");
+            for (int i = 0; i < supportContents.size(); i++) {
+                prompt.append("\n[").append(i + 1).append("] 지원내용: ").append(supportContents.get(i));
+            }
+            return prompt.append(rules)
+                    .append(BATCH_RESPONSE_FORMAT)
+                    .toString();
+        }
+    }
 }
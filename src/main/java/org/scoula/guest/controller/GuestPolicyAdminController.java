@@ -0,0 +1,38 @@
+package org.scoula.guest.controller;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.scoula.guest.dto.GuestSearchCacheStatsDto;
+import org.scoula.guest.service.GuestSearchCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 비로그인 정책 조회 운영 API
+ * - /api/guestPolicy/** 는 비로그인 허용이므로 운영 지표는 인증이 필요한 별도 경로로 제공
+ */
+@RestController
+@RequestMapping("/api/admin/guestPolicy")
+@RequiredArgsConstructor
+@Api(
+        tags = "비로그인 정책 조회 관리자 API",
+        description = "비로그인 검색 캐시 운영 지표 조회 API",
+        value = "GuestPolicyAdminController"
+)
+public class GuestPolicyAdminController {
+
+    private final GuestSearchCache guestSearchCache;
+
+    /**
+     * 비로그인 검색 캐시 통계 API
+     * GET: /api/admin/guestPolicy/search/cache-stats
+     */
+    @ApiOperation(value = "비로그인 검색 캐시 통계", notes = "검색 결과 캐시 적중/미적중 횟수, 적중률, 응답 시간 분포를 조회하는 API")
+    @GetMapping("/search/cache-stats")
+    public ResponseEntity<GuestSearchCacheStatsDto> getSearchCacheStats() {
+        return ResponseEntity.ok(guestSearchCache.getStats());
+    }
+}
@@ -89,4 +89,3 @@ public class GuestPolicyController {
         return ResponseEntity.ok(searchResultDTO);
     }
 }
-
@@ -0,0 +1,23 @@
+package org.scoula.guest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class GuestSearchCacheStatsDto {
+
+    // 캐시 적중 / 미적중 / Redis 오류 횟수 (서버 시작 이후)
+    private long hits;
+    private long misses;
+    private long errors;
+
+    // 적중률 (0.0 ~ 1.0)
+    private double hitRatio;
+
+    // 응답 시간 분포 (구간 상한 ms → 건수, "+Inf" 는 마지막 구간 초과)
+    private Map<String, Long> hitLatencyMillis;
+    private Map<String, Long> missLatencyMillis;
+}
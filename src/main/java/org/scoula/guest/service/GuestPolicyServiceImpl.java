@@ -7,6 +7,7 @@ import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
 import org.scoula.userPolicy.dto.SearchRequestDTO;
 import org.scoula.userPolicy.dto.SearchResultDTO;
 import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.scoula.userPolicy.util.PolicySearchRanker;
 import org.scoula.userPolicy.util.VectorUtil;
 import org.springframework.stereotype.Service;
 
@@ -23,6 +24,7 @@ public class GuestPolicyServiceImpl implements GuestPolicyService {
 
     private final UserPolicyMapper userPolicyMapper;
     private final PolicyDataHolder policyDataHolder;
+    private final GuestSearchCache guestSearchCache;
 
     @Override
     public List<SearchResultDTO> searchGuestPolicies(SearchRequestDTO searchRequestDTO) {
@@ -54,10 +56,14 @@ public class GuestPolicyServiceImpl implements GuestPolicyService {
         }
         searchRequestDTO.setRegions(new ArrayList<>(expandedRegionNames));
 
-        List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
-        return policiesWithVectors.stream()
-                .map(VectorUtil::toSearchResultDTO)
-                .collect(Collectors.toList());
+        // 결과는 검색 조건에만 의존하므로 Redis 캐시 사용 (정책 수집 시 무효화)
+        return guestSearchCache.get(searchRequestDTO, () -> {
+            List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
+            // 검색어가 있으면 관련도 순
+            return PolicySearchRanker.rank(policiesWithVectors).stream()
+                    .map(VectorUtil::toSearchResultDTO)
+                    .collect(Collectors.toList());
+        });
     }
 
     /**
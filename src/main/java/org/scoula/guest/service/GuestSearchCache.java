@@ -0,0 +1,302 @@
+package org.scoula.guest.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.common.util.HashUtils;
+import org.scoula.common.util.RedisUtil;
+import org.scoula.guest.dto.GuestSearchCacheStatsDto;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
+import org.scoula.userPolicy.dto.SearchRequestDTO;
+import org.scoula.userPolicy.dto.SearchResultDTO;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 정책 검색 결과 캐시 (Redis)
+ * - 비로그인 검색은 개인화가 없으므로 결과는 검색 조건에만 의존 → 정규화한 조건의 SHA-256 을 키로 사용
+ *   (지역 코드 확장 후 목록 정렬, 마감일 필터가 날짜에 의존하므로 오늘 날짜 포함)
+ * - 값은 필드명 없는 JSON 배열을 gzip + Base64 로 저장
+ * - 같은 조건의 동시 미적중은 한 번만 조회하고, DB 조회는 최대 MAX_CONCURRENT_LOADS 개로 제한 (Hikari 풀 10개)
+ * - 정책 수집 완료(PolicySyncCompletedEvent) 시 전체 삭제, 그 외에는 TTL 로 만료
+ * - Redis 오류 시 캐시 없이 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestSearchCache {
+
+    private static final String KEY_PREFIX = "guest:search:";
+    private static final long TTL_MINUTES = 30;
+    private static final int MAX_CONCURRENT_LOADS = 4;
+
+    // 응답 시간 분포 구간 상한 (ms)
+    private static final long[] LATENCY_BOUNDS_MILLIS = {1, 5, 10, 50, 100, 500, 1000};
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RedisUtil redisUtil;
+
+    private final Map<String, CompletableFuture<List<SearchResultDTO>>> inFlight = new ConcurrentHashMap<>();
+    private final Semaphore loadPermits = new Semaphore(MAX_CONCURRENT_LOADS, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLongArray hitLatency = new AtomicLongArray(LATENCY_BOUNDS_MILLIS.length + 1);
+    private final AtomicLongArray missLatency = new AtomicLongArray(LATENCY_BOUNDS_MILLIS.length + 1);
+
+    /**
+     * 캐시된 검색 결과 조회, 없으면 loader 로 조회 후 저장
+     * @param searchRequestDTO 빈 문자열 제거 및 지역 코드 확장이 끝난 검색 조건
+     * @param loader DB 검색 함수
+     * @return 검색 결과 (호출자별 새 목록)
+     */
+    public List<SearchResultDTO> get(SearchRequestDTO searchRequestDTO, Supplier<List<SearchResultDTO>> loader) {
+        long start = System.nanoTime();
+        String key = keyOf(searchRequestDTO, LocalDate.now());
+
+        List<SearchResultDTO> cached = read(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            record(hitLatency, start);
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        try {
+            return new ArrayList<>(load(key, loader));
+        } finally {
+            record(missLatency, start);
+        }
+    }
+
+    /**
+     * 전체 검색 결과 삭제
+     */
+    public void evictAll() {
+        try {
+            long deleted = redisUtil.deleteByPattern(KEY_PREFIX + "*");
+            log.info("[비로그인 검색 캐시] 전체 무효화 - {}건", deleted);
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            log.error("[비로그인 검색 캐시] 전체 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 정책 수집 완료 시 전체 무효화
+     */
+    @EventListener
+    public void onPolicySyncCompleted(PolicySyncCompletedEvent event) {
+        evictAll();
+    }
+
+    public GuestSearchCacheStatsDto getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return new GuestSearchCacheStatsDto(hitCount, missCount, errors.get(),
+                total > 0 ? (double) hitCount / total : 0.0,
+                toHistogram(hitLatency), toHistogram(missLatency));
+    }
+
+    private List<SearchResultDTO> read(String key) {
+        try {
+            String value = redisUtil.get(key);
+            return value != null ? decode(value) : null;
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            log.warn("[비로그인 검색 캐시] 조회 실패 - DB 조회로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 같은 키의 조회가 진행 중이면 그 결과를 기다리고, 아니면 직접 조회 후 저장
+     */
+    private List<SearchResultDTO> load(String key, Supplier<List<SearchResultDTO>> loader) {
+        CompletableFuture<List<SearchResultDTO>> mine = new CompletableFuture<>();
+        CompletableFuture<List<SearchResultDTO>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            List<SearchResultDTO> results = loadWithPermit(loader);
+            write(key, results);
+            mine.complete(results);
+            return results;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private List<SearchResultDTO> loadWithPermit(Supplier<List<SearchResultDTO>> loader) {
+        try {
+            loadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비로그인 검색 대기 중 인터럽트", e);
+        }
+        try {
+            List<SearchResultDTO> results = loader.get();
+            return results != null ? List.copyOf(results) : List.of();
+        } finally {
+            loadPermits.release();
+        }
+    }
+
+    private void write(String key, List<SearchResultDTO> results) {
+        try {
+            redisUtil.set(key, encode(results), TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            log.warn("[비로그인 검색 캐시] 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // ────────────────────────────────────────
+    // 키 정규화
+    // ────────────────────────────────────────
+
+    /**
+     * 검색 조건 → 캐시 키 (목록은 정렬, 문자열은 길이를 앞에 붙여 구분자 충돌 방지)
+     */
+    static String keyOf(SearchRequestDTO request, LocalDate today) {
+        StringBuilder canonical = new StringBuilder();
+        canonical.append(today).append('|')
+                .append(request.getAge()).append('|')
+                .append(request.getIncome()).append('|');
+        appendValue(canonical, request.getMarriage());
+        appendSorted(canonical, request.getRegions());
+        appendSorted(canonical, request.getEducationLevels());
+        appendSorted(canonical, request.getEmploymentStatuses());
+        appendSorted(canonical, request.getMajors());
+        appendSorted(canonical, request.getSpecialConditions());
+        appendSorted(canonical, request.getKeywords());
+        appendSorted(canonical, request.getSearchTexts());
+        return KEY_PREFIX + HashUtils.sha256Hex(canonical.toString());
+    }
+
+    private static void appendSorted(StringBuilder canonical, List<String> values) {
+        if (values == null) {
+            canonical.append("-|");
+            return;
+        }
+        List<String> sorted = new ArrayList<>(values.size());
+        for (String value : values) {
+            if (value != null && !value.trim().isEmpty()) {
+                sorted.add(value.trim());
+            }
+        }
+        Collections.sort(sorted);
+        canonical.append(sorted.size()).append('[');
+        for (String value : sorted) {
+            appendValue(canonical, value);
+        }
+        canonical.append("]|");
+    }
+
+    private static void appendValue(StringBuilder canonical, String value) {
+        String normalized = value != null ? value.trim() : "";
+        canonical.append(normalized.length()).append(':').append(normalized).append('|');
+    }
+
+    // ────────────────────────────────────────
+    // 값 인코딩 ([정책ID, 제목, 혜택설명, 신청기간, 혜택금액, 대분류, 신청URL] 배열 → gzip → Base64)
+    // ────────────────────────────────────────
+
+    static String encode(List<SearchResultDTO> results) {
+        List<Object[]> rows = new ArrayList<>(results.size());
+        for (SearchResultDTO result : results) {
+            rows.add(new Object[]{
+                    result.getPolicyId(), result.getTitle(), result.getPolicyBenefitDescription(),
+                    result.getEndDate(), result.getPolicyBenefitAmount(), result.getLargeCategory(),
+                    result.getApplyUrl()
+            });
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            OBJECT_MAPPER.writeValue(gzip, rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    static List<SearchResultDTO> decode(String value) throws IOException {
+        JsonNode rows;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            rows = OBJECT_MAPPER.readTree(gzip);
+        }
+        List<SearchResultDTO> results = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            results.add(SearchResultDTO.builder()
+                    .policyId(longOrNull(row.get(0)))
+                    .title(textOrNull(row.get(1)))
+                    .policyBenefitDescription(textOrNull(row.get(2)))
+                    .endDate(textOrNull(row.get(3)))
+                    .policyBenefitAmount(longOrNull(row.get(4)))
+                    .largeCategory(textOrNull(row.get(5)))
+                    .applyUrl(textOrNull(row.get(6)))
+                    .build());
+        }
+        return results;
+    }
+
+    private static Long longOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asLong();
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node == null || node.isNull() ? null : node.asText();
+    }
+
+    // ────────────────────────────────────────
+    // 응답 시간 분포
+    // ────────────────────────────────────────
+
+    private static void record(AtomicLongArray histogram, long startNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS_MILLIS.length && elapsedMillis > LATENCY_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        histogram.incrementAndGet(bucket);
+    }
+
+    private static Map<String, Long> toHistogram(AtomicLongArray histogram) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length; i++) {
+            result.put(String.valueOf(LATENCY_BOUNDS_MILLIS[i]), histogram.get(i));
+        }
+        result.put("+Inf", histogram.get(LATENCY_BOUNDS_MILLIS.length));
+        return result;
+    }
+}
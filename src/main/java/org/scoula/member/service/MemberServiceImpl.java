@@ -6,6 +6,7 @@ import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
 import org.scoula.member.mapper.MemberMapper;
 import org.scoula.security.account.domain.MemberVO;
+import org.scoula.security.util.PrincipalCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +24,7 @@ public class MemberServiceImpl implements MemberService {
 
   private final PasswordEncoder passwordEncoder;
   private final MemberMapper mapper;
+  private final PrincipalCache principalCache;
 
   // ID 중복 체크
   @Override
@@ -116,6 +118,7 @@ public class MemberServiceImpl implements MemberService {
   public MemberDTO updateProfileImage(String loginId, int profileImageId) {
     int updated = mapper.updateProfileImage(loginId, profileImageId);
     log.info("profile_image_id updated rows={}", updated);
+    principalCache.evict(loginId);
     return MemberDTO.of(mapper.findByUsername(loginId)); // DB에서 다시 읽어서 반환
   }
 
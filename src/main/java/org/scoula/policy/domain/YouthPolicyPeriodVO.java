@@ -12,6 +12,9 @@ public class YouthPolicyPeriodVO {
     private Long policyId;
 
     private String applyPeriod;
+    // 수집 시 applyPeriod 를 한 번 파싱해 저장 (조회 시 문자열 파싱 없이 인덱스로 필터링)
+    private LocalDate applyStart;
+    private LocalDate applyEnd;
     private LocalDate bizStartDate;
     private LocalDate bizEndDate;
     private String bizPeriodEtc;
@@ -23,6 +26,8 @@ public class YouthPolicyPeriodVO {
         YouthPolicyPeriodVO vo = new YouthPolicyPeriodVO();
         vo.setPolicyId(policyId);
         vo.setApplyPeriod(dto.getApplyPeriod());
+        vo.setApplyStart(ParseUtils.parseApplyStart(dto.getApplyPeriod()));
+        vo.setApplyEnd(ParseUtils.parseApplyEnd(dto.getApplyPeriod()));
         vo.setBizStartDate(ParseUtils.parseLocalDate(dto.getBizStartDate()));
         vo.setBizEndDate(ParseUtils.parseLocalDate(dto.getBizEndDate()));
         vo.setBizPeriodEtc(dto.getBizPeriodEtc());
@@ -0,0 +1,31 @@
+package org.scoula.policy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정책 벡터 재계산용 DTO
+ * 벡터 계산 입력값과 현재 policy_vector 에 저장된 값을 한 행으로 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyVectorSourceDTO {
+    private Long policyId;
+
+    // 계산 입력값
+    private Long policyBenefitAmount;
+    private Long views;
+    private LocalDate applyEnd;
+
+    // 저장된 벡터 (벡터가 없으면 null)
+    private BigDecimal vecBenefitAmount;
+    private BigDecimal vecDeadline;
+    private BigDecimal vecViews;
+}
@@ -0,0 +1,18 @@
+package org.scoula.policy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 수집(fetchAndSaveAllPolicies)이 커밋된 뒤 발행되는 이벤트
+ * - 정책 데이터를 메모리에 들고 있는 컴포넌트들이 이 이벤트를 받아 다시 적재한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class PolicySyncCompletedEvent {
+
+    /** 수집 완료 시각 */
+    private final LocalDateTime completedAt;
+}
@@ -0,0 +1,19 @@
+package org.scoula.policy.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.scoula.policy.domain.PolicyVectorVO;
+
+import java.util.List;
+
+/**
+ * 정책 벡터 일괄 재계산(PolicyVectorRefreshService) 후 발행되는 이벤트
+ * - 벡터를 메모리에 들고 있는 컴포넌트는 DB 재조회 없이 이 목록으로 교체한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class PolicyVectorsRefreshedEvent {
+
+    /** DB 에 반영된 정책 벡터 (이미 마감되어 다시 계산하지 않은 정책은 없음) */
+    private final List<PolicyVectorVO> vectors;
+}
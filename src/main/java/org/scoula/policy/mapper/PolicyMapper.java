@@ -16,6 +16,7 @@ import org.scoula.policy.domain.region.YouthPolicyRegionVO;
 import org.scoula.policy.domain.specialcondition.PolicySpecialConditionVO;
 import org.scoula.policy.domain.specialcondition.YouthPolicySpecialConditionVO;
 import org.scoula.policy.dto.PolicyDetailDTO;
+import org.scoula.policy.dto.PolicyVectorSourceDTO;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
@@ -161,6 +162,9 @@ public interface PolicyMapper {
 
     PolicyVectorVO findByPolicyId(Long policyId);
 
+    /** 정책 벡터 전체 조회 (메모리 스코어러 적재용) */
+    List<PolicyVectorVO> findAllPolicyVectors();
+
     Long findPolicyIdByPolicyNo(String policyNo);
 
     /** 당일 생성된 신규 정책 조회 */
@@ -176,4 +180,37 @@ public interface PolicyMapper {
     List<MasterPolicySpecialConditionVO> findAllMasterSpecialConditions();
 
     // ...기존 전체 조회 메서드는 필요시 deprecated 처리 또는 내부용으로 유지...
+
+    // 정책 수집 일괄 처리 (페이지 단위)
+
+    /** 정책번호 목록으로 기존 정책 조회 (id, policy_no, policy_benefit_amount) */
+    List<YouthPolicyVO> findPoliciesByPolicyNos(@Param("policyNos") List<String> policyNos);
+
+    /** 정책 일괄 저장 (생성된 id 를 각 VO 에 설정) */
+    int insertPolicies(@Param("policies") List<YouthPolicyVO> policies);
+
+    /** 정책 조건 일괄 저장 */
+    int insertConditions(@Param("conditions") List<YouthPolicyConditionVO> conditions);
+
+    /** 정책 운영 기간 일괄 저장 */
+    int insertPeriods(@Param("periods") List<YouthPolicyPeriodVO> periods);
+
+    /** 기존 정책 조회수/신청URL 일괄 업데이트 (신청URL 이 비어 있으면 기존 값 유지) */
+    int updatePoliciesOnSync(@Param("policies") List<YouthPolicyVO> policies);
+
+    /** 기존 정책 신청 기간 일괄 업데이트 */
+    int updatePeriodsOnSync(@Param("periods") List<YouthPolicyPeriodVO> periods);
+
+    int insertYouthPolicyKeywords(@Param("mappings") List<YouthPolicyKeywordVO> mappings);
+    int insertYouthPolicyRegions(@Param("mappings") List<YouthPolicyRegionVO> mappings);
+    int insertYouthPolicyMajors(@Param("mappings") List<YouthPolicyMajorVO> mappings);
+    int insertYouthPolicyEducationLevels(@Param("mappings") List<YouthPolicyEducationLevelVO> mappings);
+    int insertYouthPolicyEmploymentStatuses(@Param("mappings") List<YouthPolicyEmploymentStatusVO> mappings);
+    int insertYouthPolicySpecialConditions(@Param("mappings") List<YouthPolicySpecialConditionVO> mappings);
+
+    /** 정책 벡터 일괄 저장/갱신 (policy_vector.policy_id UNIQUE 필요) */
+    int upsertPolicyVectors(@Param("vectors") List<PolicyVectorVO> vectors);
+
+    /** 정책 벡터 재계산 입력값 + 현재 저장된 벡터 전체 조회 (PolicyVectorRefreshService) */
+    List<PolicyVectorSourceDTO> findPolicyVectorSources();
 }
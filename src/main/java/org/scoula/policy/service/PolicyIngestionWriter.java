@@ -0,0 +1,321 @@
+package org.scoula.policy.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.external.gpt.dto.GptResponseDto;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.domain.YouthPolicyConditionVO;
+import org.scoula.policy.domain.YouthPolicyPeriodVO;
+import org.scoula.policy.domain.YouthPolicyVO;
+import org.scoula.policy.domain.education.PolicyEducationLevelVO;
+import org.scoula.policy.domain.education.YouthPolicyEducationLevelVO;
+import org.scoula.policy.domain.employment.PolicyEmploymentStatusVO;
+import org.scoula.policy.domain.employment.YouthPolicyEmploymentStatusVO;
+import org.scoula.policy.domain.keyword.PolicyKeywordVO;
+import org.scoula.policy.domain.keyword.YouthPolicyKeywordVO;
+import org.scoula.policy.domain.major.PolicyMajorVO;
+import org.scoula.policy.domain.major.YouthPolicyMajorVO;
+import org.scoula.policy.domain.region.PolicyRegionVO;
+import org.scoula.policy.domain.region.YouthPolicyRegionVO;
+import org.scoula.policy.domain.specialcondition.PolicySpecialConditionVO;
+import org.scoula.policy.domain.specialcondition.YouthPolicySpecialConditionVO;
+import org.scoula.policy.dto.PolicyDTO;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.util.ParseUtils;
+import org.scoula.policy.util.PolicyVectorCalculator;
+import org.scoula.policy.util.StringUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 정책 수집 페이지 일괄 저장기
+ * - 한 페이지(최대 100건)를 하나의 트랜잭션으로 커밋 (전체 수집을 하나의 트랜잭션으로 묶지 않음)
+ * - 정책/조건/기간/6개 매핑/정책 벡터를 테이블별 multi-row INSERT 로 저장
+ * - 기존 정책은 조회수/신청URL/신청기간을 일괄 UPDATE 후 벡터 재계산
+ * - 마스터(키워드, 지역 등) 이름 → ID 는 수집 시작 시 한 번 적재하고,
+ *   없는 마스터만 페이지 트랜잭션 밖에서 저장 (롤백되어도 캐시된 ID 가 유효하도록)
+ */
+@Slf4j
+@Component
+public class PolicyIngestionWriter {
+
+    private final PolicyMapper policyMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public PolicyIngestionWriter(PolicyMapper policyMapper, PlatformTransactionManager transactionManager) {
+        this.policyMapper = policyMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 수집 1회 시작: 마스터 테이블 전체를 이름 → ID 로 적재
+     */
+    public SyncContext startSync() {
+        SyncContext context = new SyncContext();
+        policyMapper.findAllKeywords().forEach(vo -> context.keywordIds.put(vo.getKeyword(), vo.getId()));
+        policyMapper.findAllRegions().forEach(vo -> context.regionIds.put(vo.getRegionCode(), vo.getId()));
+        policyMapper.findAllMajors().forEach(vo -> context.majorIds.put(vo.getMajor(), vo.getId()));
+        policyMapper.findAllEducationLevels().forEach(vo -> context.educationLevelIds.put(vo.getEducationLevel(), vo.getId()));
+        policyMapper.findAllEmploymentStatuses().forEach(vo -> context.employmentStatusIds.put(vo.getEmploymentStatus(), vo.getId()));
+        policyMapper.findAllSpecialConditions().forEach(vo -> context.specialConditionIds.put(vo.getSpecialCondition(), vo.getId()));
+        return context;
+    }
+
+    /**
+     * 한 페이지 저장 (페이지 단위 커밋)
+     *
+     * @param context 수집 1회 동안 유지되는 상태
+     * @param existingPolicies 기존 정책 (조회수/신청URL/신청기간 갱신)
+     * @param newPolicies GPT 분석이 끝난 신규 정책
+     */
+    public PageWriteResult writePage(SyncContext context, List<ExistingPolicy> existingPolicies, List<NewPolicy> newPolicies) {
+        List<ExistingPolicy> updates = new ArrayList<>(existingPolicies);
+        List<NewPolicy> inserts = new ArrayList<>(newPolicies.size());
+
+        // 앞 페이지에서 이미 저장했거나 같은 페이지에 중복된 정책번호는 신규 저장하지 않음
+        Set<String> pagePolicyNos = new HashSet<>();
+        for (NewPolicy newPolicy : newPolicies) {
+            String policyNo = newPolicy.getDto().getPolicyNo();
+            YouthPolicyVO written = context.writtenPolicies.get(policyNo);
+            if (written != null) {
+                updates.add(new ExistingPolicy(newPolicy.getDto(), written));
+            } else if (pagePolicyNos.add(policyNo)) {
+                inserts.add(newPolicy);
+            } else {
+                log.warn("[정책 수집] 같은 페이지에 중복된 정책번호 제외 - {}", policyNo);
+            }
+        }
+
+        resolveMasters(context, inserts);
+
+        List<YouthPolicyVO> insertedPolicies = transactionTemplate.execute(status -> {
+            List<YouthPolicyVO> saved = insertNewPolicies(context, inserts);
+            updateExistingPolicies(updates);
+
+            List<PolicyVectorVO> vectors = new ArrayList<>(saved.size() + updates.size());
+            for (int i = 0; i < saved.size(); i++) {
+                YouthPolicyVO policy = saved.get(i);
+                vectors.add(PolicyVectorCalculator.calculate(policy.getId(), policy.getPolicyBenefitAmount(),
+                        policy.getViews(), ParseUtils.parseApplyEnd(inserts.get(i).getDto().getApplyPeriod())));
+            }
+            for (ExistingPolicy existing : updates) {
+                vectors.add(PolicyVectorCalculator.calculate(existing.getStored().getId(),
+                        existing.getStored().getPolicyBenefitAmount(),
+                        existing.getDto().getViews(), ParseUtils.parseApplyEnd(existing.getDto().getApplyPeriod())));
+            }
+            if (!vectors.isEmpty()) {
+                policyMapper.upsertPolicyVectors(vectors);
+            }
+            return saved;
+        });
+
+        // 커밋 이후에만 저장 완료로 기록
+        for (YouthPolicyVO policy : insertedPolicies) {
+            context.writtenPolicies.put(policy.getPolicyNo(), policy);
+        }
+        return new PageWriteResult(insertedPolicies.size(), updates.size());
+    }
+
+    private List<YouthPolicyVO> insertNewPolicies(SyncContext context, List<NewPolicy> inserts) {
+        if (inserts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<YouthPolicyVO> policies = new ArrayList<>(inserts.size());
+        for (NewPolicy newPolicy : inserts) {
+            GptResponseDto analysis = newPolicy.getAnalysis();
+            YouthPolicyVO policyVO = YouthPolicyVO.fromDTO(newPolicy.getDto());
+            policyVO.setIsFinancialSupport(analysis.isFinancialSupport());
+            policyVO.setPolicyBenefitAmount(analysis.getEstimatedAmount());
+            policyVO.setPolicyBenefitDescription(analysis.getPolicyBenefitDescription());
+            policies.add(policyVO);
+        }
+        // 생성된 id 가 입력 순서대로 각 VO 에 설정됨
+        policyMapper.insertPolicies(policies);
+
+        List<YouthPolicyConditionVO> conditions = new ArrayList<>(inserts.size());
+        List<YouthPolicyPeriodVO> periods = new ArrayList<>(inserts.size());
+        List<YouthPolicyKeywordVO> keywords = new ArrayList<>();
+        List<YouthPolicyRegionVO> regions = new ArrayList<>();
+        List<YouthPolicyMajorVO> majors = new ArrayList<>();
+        List<YouthPolicyEducationLevelVO> educationLevels = new ArrayList<>();
+        List<YouthPolicyEmploymentStatusVO> employmentStatuses = new ArrayList<>();
+        List<YouthPolicySpecialConditionVO> specialConditions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < inserts.size(); i++) {
+            PolicyDTO dto = inserts.get(i).getDto();
+            Long policyId = policies.get(i).getId();
+
+            conditions.add(YouthPolicyConditionVO.fromDTO(dto, policyId));
+            periods.add(YouthPolicyPeriodVO.fromDTO(dto, policyId));
+
+            for (String name : names(dto.getKeywordRaw())) {
+                keywords.add(YouthPolicyKeywordVO.builder()
+                        .policyId(policyId).keywordId(context.keywordIds.get(name)).createdAt(now).build());
+            }
+            for (String name : names(dto.getRegionCode())) {
+                regions.add(YouthPolicyRegionVO.builder()
+                        .policyId(policyId).regionId(context.regionIds.get(name)).createdAt(now).build());
+            }
+            for (String name : names(dto.getMajor())) {
+                majors.add(YouthPolicyMajorVO.builder()
+                        .policyId(policyId).majorId(context.majorIds.get(name)).createdAt(now).build());
+            }
+            for (String name : names(dto.getEducationLevel())) {
+                educationLevels.add(YouthPolicyEducationLevelVO.builder()
+                        .policyId(policyId).educationLevelId(context.educationLevelIds.get(name)).createdAt(now).build());
+            }
+            for (String name : names(dto.getEmploymentStatus())) {
+                employmentStatuses.add(YouthPolicyEmploymentStatusVO.builder()
+                        .policyId(policyId).employmentStatusId(context.employmentStatusIds.get(name)).createdAt(now).build());
+            }
+            for (String name : names(dto.getSpecialCondition())) {
+                specialConditions.add(YouthPolicySpecialConditionVO.builder()
+                        .policyId(policyId).specialConditionId(context.specialConditionIds.get(name)).createdAt(now).build());
+            }
+        }
+
+        policyMapper.insertConditions(conditions);
+        policyMapper.insertPeriods(periods);
+        if (!keywords.isEmpty()) policyMapper.insertYouthPolicyKeywords(keywords);
+        if (!regions.isEmpty()) policyMapper.insertYouthPolicyRegions(regions);
+        if (!majors.isEmpty()) policyMapper.insertYouthPolicyMajors(majors);
+        if (!educationLevels.isEmpty()) policyMapper.insertYouthPolicyEducationLevels(educationLevels);
+        if (!employmentStatuses.isEmpty()) policyMapper.insertYouthPolicyEmploymentStatuses(employmentStatuses);
+        if (!specialConditions.isEmpty()) policyMapper.insertYouthPolicySpecialConditions(specialConditions);
+
+        return policies;
+    }
+
+    private void updateExistingPolicies(List<ExistingPolicy> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        List<YouthPolicyVO> policies = new ArrayList<>(updates.size());
+        List<YouthPolicyPeriodVO> periods = new ArrayList<>(updates.size());
+        for (ExistingPolicy existing : updates) {
+            YouthPolicyVO policy = new YouthPolicyVO();
+            policy.setId(existing.getStored().getId());
+            policy.setViews(existing.getDto().getViews());
+            policy.setApplyUrl(existing.getDto().getApplyUrl());
+            policies.add(policy);
+
+            YouthPolicyPeriodVO period = new YouthPolicyPeriodVO();
+            period.setPolicyId(existing.getStored().getId());
+            period.setApplyPeriod(existing.getDto().getApplyPeriod());
+            period.setApplyStart(ParseUtils.parseApplyStart(existing.getDto().getApplyPeriod()));
+            period.setApplyEnd(ParseUtils.parseApplyEnd(existing.getDto().getApplyPeriod()));
+            periods.add(period);
+        }
+        policyMapper.updatePoliciesOnSync(policies);
+        policyMapper.updatePeriodsOnSync(periods);
+    }
+
+    /**
+     * 신규 정책이 참조하는 마스터 중 없는 것만 저장하고 캐시에 추가
+     */
+    private void resolveMasters(SyncContext context, List<NewPolicy> inserts) {
+        for (NewPolicy newPolicy : inserts) {
+            PolicyDTO dto = newPolicy.getDto();
+            resolveMaster(context.keywordIds, dto.getKeywordRaw(), name -> {
+                PolicyKeywordVO vo = new PolicyKeywordVO();
+                vo.setKeyword(name);
+                policyMapper.insertPolicyKeyword(vo);
+                return vo.getId();
+            });
+            resolveMaster(context.regionIds, dto.getRegionCode(), name -> {
+                PolicyRegionVO vo = new PolicyRegionVO();
+                vo.setRegionCode(name);
+                policyMapper.insertPolicyRegion(vo);
+                return vo.getId();
+            });
+            resolveMaster(context.majorIds, dto.getMajor(), name -> {
+                PolicyMajorVO vo = new PolicyMajorVO();
+                vo.setMajor(name);
+                policyMapper.insertPolicyMajor(vo);
+                return vo.getId();
+            });
+            resolveMaster(context.educationLevelIds, dto.getEducationLevel(), name -> {
+                PolicyEducationLevelVO vo = new PolicyEducationLevelVO();
+                vo.setEducationLevel(name);
+                policyMapper.insertPolicyEducationLevel(vo);
+                return vo.getId();
+            });
+            resolveMaster(context.employmentStatusIds, dto.getEmploymentStatus(), name -> {
+                PolicyEmploymentStatusVO vo = new PolicyEmploymentStatusVO();
+                vo.setEmploymentStatus(name);
+                policyMapper.insertPolicyEmploymentStatus(vo);
+                return vo.getId();
+            });
+            resolveMaster(context.specialConditionIds, dto.getSpecialCondition(), name -> {
+                PolicySpecialConditionVO vo = new PolicySpecialConditionVO();
+                vo.setSpecialCondition(name);
+                policyMapper.insertPolicySpecialCondition(vo);
+                return vo.getId();
+            });
+        }
+    }
+
+    private void resolveMaster(Map<String, Long> ids, String raw, Function<String, Long> inserter) {
+        for (String name : names(raw)) {
+            if (!ids.containsKey(name)) {
+                ids.put(name, inserter.apply(name));
+            }
+        }
+    }
+
+    // 쉼표 구분 문자열 → 중복 제거된 이름 목록 (한 정책에 같은 매핑이 두 번 저장되지 않도록)
+    private static Set<String> names(String raw) {
+        return new LinkedHashSet<>(StringUtils.splitCommaSeparated(raw));
+    }
+
+    /**
+     * 수집 1회 동안 유지되는 상태 (수집 스레드 하나에서만 사용)
+     */
+    public static class SyncContext {
+        private final Map<String, Long> keywordIds = new HashMap<>();
+        private final Map<String, Long> regionIds = new HashMap<>();
+        private final Map<String, Long> majorIds = new HashMap<>();
+        private final Map<String, Long> educationLevelIds = new HashMap<>();
+        private final Map<String, Long> employmentStatusIds = new HashMap<>();
+        private final Map<String, Long> specialConditionIds = new HashMap<>();
+
+        // 이번 수집에서 저장 완료한 신규 정책 (정책번호 → id, 혜택금액)
+        private final Map<String, YouthPolicyVO> writtenPolicies = new HashMap<>();
+    }
+
+    /**
+     * 기존 정책: API 응답 + 저장된 정책(id, 혜택금액)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ExistingPolicy {
+        private final PolicyDTO dto;
+        private final YouthPolicyVO stored;
+    }
+
+    /**
+     * 신규 정책: API 응답 + GPT 분석 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class NewPolicy {
+        private final PolicyDTO dto;
+        private final GptResponseDto analysis;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PageWriteResult {
+        private final int inserted;
+        private final int updated;
+    }
+}
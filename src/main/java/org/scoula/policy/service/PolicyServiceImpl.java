@@ -1,41 +1,37 @@
 package org.scoula.policy.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.common.util.RedisUtil;
-import org.scoula.external.gpt.GptApiClient;
-import org.scoula.external.gpt.dto.GptRequestDto;
 import org.scoula.external.gpt.dto.GptResponseDto;
-import org.scoula.external.gpt.service.PromptBuilderService;
+import org.scoula.external.gpt.service.GptAnalysisCacheService;
 import org.scoula.external.youthapi.YouthPolicyApiClient;
 import org.scoula.policy.domain.*;
 import org.scoula.policy.domain.education.PolicyEducationLevelVO;
-import org.scoula.policy.domain.education.YouthPolicyEducationLevelVO;
 import org.scoula.policy.domain.employment.PolicyEmploymentStatusVO;
-import org.scoula.policy.domain.employment.YouthPolicyEmploymentStatusVO;
 import org.scoula.policy.domain.keyword.PolicyKeywordVO;
-import org.scoula.policy.domain.keyword.YouthPolicyKeywordVO;
 import org.scoula.policy.domain.major.PolicyMajorVO;
-import org.scoula.policy.domain.major.YouthPolicyMajorVO;
 import org.scoula.policy.domain.region.PolicyRegionVO;
-import org.scoula.policy.domain.region.YouthPolicyRegionVO;
 import org.scoula.policy.domain.specialcondition.PolicySpecialConditionVO;
-import org.scoula.policy.domain.specialcondition.YouthPolicySpecialConditionVO;
 import org.scoula.policy.dto.PolicyDTO;
 import org.scoula.policy.dto.PolicyDetailDTO;
 import org.scoula.policy.dto.YouthPolicyApiResponse;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
 import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.service.PolicyIngestionWriter.ExistingPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.NewPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.PageWriteResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -43,6 +39,9 @@ public class PolicyServiceImpl implements PolicyService {
 
     private static final int PAGE_SIZE = 100;
 
+    // 동시에 진행하는 페이지 수 (조회 + GPT 분석), 저장은 페이지 순서대로 호출 스레드에서
+    private static final int MAX_PAGES_IN_FLIGHT = 4;
+
     @Autowired
     private YouthPolicyApiClient policyApiClient;
 
@@ -50,22 +49,35 @@ public class PolicyServiceImpl implements PolicyService {
     private PolicyMapper policyMapper;
 
     @Autowired
-    private GptApiClient gptApiClient;
-    
-    @Autowired
-    private PromptBuilderService promptBuilderService;
+    private GptAnalysisCacheService gptAnalysisCacheService;
     
     @Autowired
     private RedisUtil redisUtil;
 
-//  정책 벡터 설정 관련 변수
-    private static final BigDecimal MAX_AMOUNT_THRESHOLD = new BigDecimal("1000000");
-    private static final BigDecimal MAX_VIEW_THRESHOLD = new BigDecimal("1000");
-    private static final long SCORE_RANGE_DAYS = 100L;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PolicyIngestionWriter policyIngestionWriter;
+
+    @Autowired
+    @Qualifier("policyFetchExecutor")
+    private Executor policyFetchExecutor;
 
+    @Autowired
+    @Qualifier("gptAnalysisExecutor")
+    private Executor gptAnalysisExecutor;
+
+    /**
+     * 정책 전체 수집 (단계별 파이프라인)
+     * 1. 페이지 조회 + 기존/신규 분류 (policyFetchExecutor, 최대 MAX_PAGES_IN_FLIGHT 페이지 동시 진행)
+     * 2. 신규 정책 GPT 분석 (gptAnalysisExecutor, MAX_BATCH_SIZE 건씩 묶음 요청, 같은 지원내용은 분석 캐시에서 재사용)
+     * 3. 페이지 순서대로 일괄 저장, 페이지마다 커밋 (PolicyIngestionWriter)
+     * 한 페이지가 실패해도 나머지 페이지는 저장되며, 저장되지 않은 정책은 다음 수집 때 다시 처리된다.
+     */
     @Override
-    @Transactional
     public void fetchAndSaveAllPolicies() {
+        long start = System.currentTimeMillis();
         log.info("[정책 수집] 1페이지 호출 시작");
         YouthPolicyApiResponse firstResponse = policyApiClient.fetchPolicies(1, PAGE_SIZE);
 
@@ -73,287 +85,170 @@ public class PolicyServiceImpl implements PolicyService {
         int totalPages = (totalCount + PAGE_SIZE - 1) / PAGE_SIZE;
         log.info("[정책 수집] 전체 정책 수: {}, 전체 페이지 수: {}", totalCount, totalPages);
 
-        for (int page = 1; page <= totalPages; page++) {
-            log.info("[정책 수집] {}페이지 수집 중...", page);
-            YouthPolicyApiResponse response = policyApiClient.fetchPolicies(page, PAGE_SIZE);
-            List<PolicyDTO> dtoList = response.getResult().getYouthPolicyList();
-
-            for (PolicyDTO dto : dtoList) {
-                // 기존 정책인 경우 조회수, 신청URL, 신청기간만 업데이트
-                if (policyMapper.existsByPolicyNo(dto.getPolicyNo())) {
-                    log.info("[기존 정책] 정책번호 {} 정보 업데이트 - 조회수: {}", dto.getPolicyNo(), dto.getViews());
-                    
-                    // 1. 조회수 업데이트
-                    policyMapper.updatePolicyViews(dto.getPolicyNo(), dto.getViews());
-                    
-                    // 2. 신청URL 업데이트
-                    if (dto.getApplyUrl() != null && !dto.getApplyUrl().trim().isEmpty()) {
-                        policyMapper.updatePolicyApplyUrl(dto.getPolicyNo(), dto.getApplyUrl());
-                    }
-                    
-                    // 3. 신청 기간 업데이트
-                    policyMapper.updatePolicyPeriod(dto.getPolicyNo(), dto.getApplyPeriod());
-                    
-                    // 기존 정책의 정보 변경 → 벡터 재계산
-                    Long policyId = policyMapper.findPolicyIdByPolicyNo(dto.getPolicyNo());
-                    calculateAndSavePolicyVector(policyId);
-                    continue;
-                }
-
-                // 새로운 정책 추가
-                log.info("[새 정책] 정책번호 {} 저장 시작", dto.getPolicyNo());
-
-                // GPT 분석 (동적 프롬프트)
-                String dynamicPrompt = promptBuilderService.buildPromptOptimized(dto.getSupportContent());
-                GptRequestDto gptRequest = GptRequestDto.of(dynamicPrompt);
-                log.info("\n[GPT 프롬프트 요청]\n{}", gptRequest.getPrompt());
-                GptResponseDto gptResponseDto = gptApiClient.analyzePolicy(gptRequest);
-                log.info("\n[GPT 분석 결과]\n{{\n  \"isFinancialSupport\": {},\n  \"estimatedAmount\": {},\n  \"policyBenefitDescription\": \"{}\"\n}}",
-                        gptResponseDto.isFinancialSupport(),
-                        gptResponseDto.getEstimatedAmount(),
-                        gptResponseDto.getPolicyBenefitDescription());
-
-
-                // VO 변환 및 분석 결과 포함
-                YouthPolicyVO policyVO = YouthPolicyVO.fromDTO(dto);
-                policyVO.setIsFinancialSupport(gptResponseDto.isFinancialSupport());
-                policyVO.setPolicyBenefitAmount(gptResponseDto.getEstimatedAmount());
-                policyVO.setPolicyBenefitDescription(gptResponseDto.getPolicyBenefitDescription());;
-
-                policyMapper.insertPolicy(policyVO);
-                Long policyId = policyVO.getId();
-
-                // 조건 저장
-                YouthPolicyConditionVO conditionVO = YouthPolicyConditionVO.fromDTO(dto, policyId);
-                policyMapper.insertCondition(conditionVO);
-
-                // 운영 기간 저장
-                YouthPolicyPeriodVO periodVO = YouthPolicyPeriodVO.fromDTO(dto, policyId);
-                policyMapper.insertPeriod(periodVO);
-
-                // 키워드 저장 및 매핑
-                List<PolicyKeywordVO> keywords = PolicyKeywordVO.fromCommaSeparated(dto.getKeywordRaw());
-                if (keywords != null && !keywords.isEmpty()) {
-                    for (PolicyKeywordVO keywordVO : keywords) {
-                        PolicyKeywordVO existing = policyMapper.findKeywordByName(keywordVO.getKeyword());
-                        Long keywordId;
-                        if (existing == null) {
-                            policyMapper.insertPolicyKeyword(keywordVO); // insertKeyword → insertPolicyKeyword
-                            keywordId = keywordVO.getId();
-                        } else {
-                            keywordId = existing.getId();
-                        }
-
-                        YouthPolicyKeywordVO mapping = YouthPolicyKeywordVO.builder()
-                                .policyId(policyId)
-                                .keywordId(keywordId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-                        policyMapper.insertYouthPolicyKeyword(mapping); //
-                    }
-                }
-
+        PolicyIngestionWriter.SyncContext context = policyIngestionWriter.startSync();
+        Deque<CompletableFuture<PreparedPage>> inFlight = new ArrayDeque<>();
+        int[] totals = new int[3]; // 신규, 갱신, 실패 페이지
 
-                // 지역 코드도 키워드처럼 처리
-                List<PolicyRegionVO> regionList = PolicyRegionVO.fromCommaSeparated(dto.getRegionCode());
-                if (regionList != null && !regionList.isEmpty()) {
-                    for (PolicyRegionVO regionVO : regionList) {
-                        PolicyRegionVO existing = policyMapper.findRegionByCode(regionVO.getRegionCode());
-                        Long regionId;
-                        if (existing == null) {
-                            policyMapper.insertPolicyRegion(regionVO); // 마스터 insert (selectKey 사용)
-                            regionId = regionVO.getId();
-                        } else {
-                            regionId = existing.getId();
-                        }
-
-                        YouthPolicyRegionVO mapping = YouthPolicyRegionVO.builder()
-                                .policyId(policyId)
-                                .regionId(regionId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-
-                        policyMapper.insertYouthPolicyRegion(mapping); // 매핑 insert (VO 방식)
-                    }
-                }
-
-                // 전공
-                List<PolicyMajorVO> majorList = PolicyMajorVO.fromCommaSeparated(dto.getMajor());
-                if (majorList != null && !majorList.isEmpty()) {
-                    for (PolicyMajorVO majorVO : majorList) {
-                        PolicyMajorVO existing = policyMapper.findMajorByName(majorVO.getMajor());
-                        Long majorId;
-                        if (existing == null) {
-                            policyMapper.insertPolicyMajor(majorVO); // selectKey로 id 세팅됨
-                            majorId = majorVO.getId();
-                        } else {
-                            majorId = existing.getId();
-                        }
+        for (int page = 1; page <= totalPages; page++) {
+            inFlight.add(preparePage(page, page == 1 ? firstResponse : null));
+            if (inFlight.size() >= MAX_PAGES_IN_FLIGHT) {
+                writeNextPage(context, inFlight, totals);
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            writeNextPage(context, inFlight, totals);
+        }
 
-                        YouthPolicyMajorVO mapping = YouthPolicyMajorVO.builder()
-                                .policyId(policyId)
-                                .majorId(majorId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-                        policyMapper.insertYouthPolicyMajor(mapping);
+        log.info("[정책 수집] 전체 완료 - 신규: {}, 갱신: {}, 실패 페이지: {}, 소요: {}ms",
+                totals[0], totals[1], totals[2], System.currentTimeMillis() - start);
+        publishSyncCompletedEvent();
+    }
 
-                    }
-                }
+    /**
+     * 가장 먼저 시작한 페이지의 준비 완료를 기다려 저장 (페이지 단위 커밋)
+     */
+    private void writeNextPage(PolicyIngestionWriter.SyncContext context,
+                               Deque<CompletableFuture<PreparedPage>> inFlight, int[] totals) {
+        CompletableFuture<PreparedPage> next = inFlight.poll();
+        try {
+            PreparedPage page = next.join();
+            PageWriteResult result = policyIngestionWriter.writePage(context, page.existingPolicies, page.newPolicies);
+            totals[0] += result.getInserted();
+            totals[1] += result.getUpdated();
+            log.info("[정책 수집] {}페이지 저장 완료 - 신규: {}, 갱신: {}, GPT 분석 실패: {}",
+                    page.page, result.getInserted(), result.getUpdated(), page.skipped);
+        } catch (Exception e) {
+            totals[2]++;
+            log.error("[정책 수집] 페이지 처리 실패 - 다음 수집 때 다시 처리됨", e);
+        }
+    }
 
-                // 학력
-                List<PolicyEducationLevelVO> eduList = PolicyEducationLevelVO.fromCommaSeparated(dto.getEducationLevel());
-                if (eduList != null && !eduList.isEmpty()) {
-                    for (PolicyEducationLevelVO eduVO : eduList) {
-                        PolicyEducationLevelVO existing = policyMapper.findEducationLevelByName(eduVO.getEducationLevel());
-                        Long eduId;
-                        if (existing == null) {
-                            policyMapper.insertPolicyEducationLevel(eduVO);
-                            eduId = eduVO.getId();
-                        } else {
-                            eduId = existing.getId();
-                        }
+    /**
+     * 페이지 조회 → 기존/신규 분류 → 신규 정책 GPT 분석 (비동기)
+     */
+    private CompletableFuture<PreparedPage> preparePage(int page, YouthPolicyApiResponse preloaded) {
+        CompletableFuture<YouthPolicyApiResponse> fetched = preloaded != null
+                ? CompletableFuture.completedFuture(preloaded)
+                : CompletableFuture.supplyAsync(() -> {
+                    log.info("[정책 수집] {}페이지 수집 중...", page);
+                    return policyApiClient.fetchPolicies(page, PAGE_SIZE);
+                }, policyFetchExecutor);
+
+        return fetched.thenCompose(response -> {
+            List<PolicyDTO> dtoList = response.getResult().getYouthPolicyList();
+            if (dtoList == null) {
+                dtoList = Collections.emptyList();
+            }
+            Map<String, YouthPolicyVO> storedPolicies = findStoredPolicies(dtoList);
 
-                        YouthPolicyEducationLevelVO mapping = YouthPolicyEducationLevelVO.builder()
-                                .policyId(policyId)
-                                .educationLevelId(eduId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-                        policyMapper.insertYouthPolicyEducationLevel(mapping);
-                    }
+            List<ExistingPolicy> existingPolicies = new ArrayList<>();
+            List<PolicyDTO> newDtos = new ArrayList<>();
+            for (PolicyDTO dto : dtoList) {
+                YouthPolicyVO stored = storedPolicies.get(dto.getPolicyNo());
+                if (stored != null) {
+                    existingPolicies.add(new ExistingPolicy(dto, stored));
+                } else {
+                    newDtos.add(dto);
                 }
+            }
 
-                // 취업 상태
-                List<PolicyEmploymentStatusVO> empList = PolicyEmploymentStatusVO.fromCommaSeparated(dto.getEmploymentStatus());
-                if (empList != null && !empList.isEmpty()) {
-                    for (PolicyEmploymentStatusVO empVO : empList) {
-                        PolicyEmploymentStatusVO existing = policyMapper.findEmploymentStatusByName(empVO.getEmploymentStatus());
-                        Long empId;
-                        if (existing == null) {
-                            policyMapper.insertPolicyEmploymentStatus(empVO);
-                            empId = empVO.getId();
-                        } else {
-                            empId = existing.getId();
-                        }
-
-                        YouthPolicyEmploymentStatusVO mapping = YouthPolicyEmploymentStatusVO.builder()
-                                .policyId(policyId)
-                                .employmentStatusId(empId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-                        policyMapper.insertYouthPolicyEmploymentStatus(mapping);
-                    }
-                }
+            // 묶음 단위로 나누어 병렬 분석
+            List<CompletableFuture<List<NewPolicy>>> analyses = new ArrayList<>();
+            for (int from = 0; from < newDtos.size(); from += GptAnalysisCacheService.MAX_BATCH_SIZE) {
+                List<PolicyDTO> batch = newDtos.subList(from,
+                        Math.min(from + GptAnalysisCacheService.MAX_BATCH_SIZE, newDtos.size()));
+                analyses.add(CompletableFuture.supplyAsync(() -> analyzeNewPolicies(batch), gptAnalysisExecutor));
+            }
 
-                // 특수 조건
-                List<PolicySpecialConditionVO> scList = PolicySpecialConditionVO.fromCommaSeparated(dto.getSpecialCondition());
-                if (scList != null && !scList.isEmpty()) {
-                    for (PolicySpecialConditionVO scVO : scList) {
-                        PolicySpecialConditionVO existing = policyMapper.findSpecialConditionByName(scVO.getSpecialCondition());
-                        Long scId;
-                        if (existing == null) {
-                            policyMapper.insertPolicySpecialCondition(scVO);
-                            scId = scVO.getId();
-                        } else {
-                            scId = existing.getId();
+            return CompletableFuture.allOf(analyses.toArray(new CompletableFuture[0]))
+                    .thenApply(done -> {
+                        List<NewPolicy> newPolicies = new ArrayList<>(newDtos.size());
+                        for (CompletableFuture<List<NewPolicy>> analysis : analyses) {
+                            newPolicies.addAll(analysis.join());
                         }
+                        return new PreparedPage(page, existingPolicies, newPolicies, newDtos.size() - newPolicies.size());
+                    });
+        });
+    }
 
-                        YouthPolicySpecialConditionVO mapping = YouthPolicySpecialConditionVO.builder()
-                                .policyId(policyId)
-                                .specialConditionId(scId)
-                                .createdAt(LocalDateTime.now())
-                                .build();
-                        policyMapper.insertYouthPolicySpecialCondition(mapping);
-                    }
-                }
-
-                calculateAndSavePolicyVector(policyId);
-                log.info("[새 정책] 정책번호 {} 저장 완료", dto.getPolicyNo());
-            }
+    /**
+     * 페이지의 정책번호 중 이미 저장된 정책 조회 (정책번호 → id, 혜택금액)
+     */
+    private Map<String, YouthPolicyVO> findStoredPolicies(List<PolicyDTO> dtoList) {
+        List<String> policyNos = new ArrayList<>(dtoList.size());
+        for (PolicyDTO dto : dtoList) {
+            policyNos.add(dto.getPolicyNo());
+        }
+        if (policyNos.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        log.info("[정책 수집] 전체 완료");
+        Map<String, YouthPolicyVO> stored = new HashMap<>();
+        for (YouthPolicyVO policy : policyMapper.findPoliciesByPolicyNos(policyNos)) {
+            stored.put(policy.getPolicyNo(), policy);
+        }
+        return stored;
     }
 
-    // 정책 벡터 계산 + DB 저장
-    private void calculateAndSavePolicyVector(Long policyId) {
-        log.info("[정책 벡터] 계산 시작 - 정책 ID: {}", policyId);
-        
-        YouthPolicyPeriodVO policyPeriod = policyMapper.findYouthPolicyPeriodByPolicyId(policyId);
-        YouthPolicyVO policy = policyMapper.findYouthPolicyById(policyId);
-
-        if (policy == null) {
-            log.error("[정책 벡터] 정책을 찾을 수 없음 - 정책 ID: {}", policyId);
-            return;
+    /**
+     * 신규 정책 묶음 GPT 분석 (지원내용 해시 + 프롬프트 버전 캐시 적중 시 GPT 미호출)
+     * @return 분석 결과, 실패 시 빈 목록 (해당 정책들은 저장하지 않고 다음 수집 때 다시 분석)
+     */
+    private List<NewPolicy> analyzeNewPolicies(List<PolicyDTO> dtos) {
+        List<String> supportContents = new ArrayList<>(dtos.size());
+        for (PolicyDTO dto : dtos) {
+            supportContents.add(dto.getSupportContent());
         }
 
-        double benefitScore = normalizeBenefitAmount(policy.getPolicyBenefitAmount());
-        double deadlineScore = normalizeDeadlineScore(policyPeriod);
-        double viewScore = normalizeViewCount(policy.getViews());
-
-        log.info("[정책 벡터] 점수 계산 완료 - 혜택점수: {}, 마감일점수: {}, 조회수점수: {}", 
-                benefitScore, deadlineScore, viewScore);
-
-        PolicyVectorVO vector = PolicyVectorVO.builder()
-                .policyId(policyId)
-                .vecBenefitAmount(BigDecimal.valueOf(benefitScore))
-                .vecDeadline(BigDecimal.valueOf(deadlineScore))
-                .vecViews(BigDecimal.valueOf(viewScore))
-                .createdAt(LocalDateTime.now())
-                .build();
-
         try {
-            PolicyVectorVO existing = policyMapper.findByPolicyId(policyId);
-            if (existing == null) {
-                policyMapper.insertPolicyVector(vector);
-                log.info("[정책 벡터] 신규 저장 완료 - 정책 ID: {}", policyId);
-            } else {
-                policyMapper.updatePolicyVector(vector);
-                log.info("[정책 벡터] 업데이트 완료 - 정책 ID: {}", policyId);
+            List<GptResponseDto> responses = gptAnalysisCacheService.analyzeAll(supportContents);
+            List<NewPolicy> newPolicies = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                PolicyDTO dto = dtos.get(i);
+                GptResponseDto gptResponseDto = responses.get(i);
+                log.info("[새 정책] 정책번호 {} GPT 분석 완료 - isFinancialSupport: {}, estimatedAmount: {}",
+                        dto.getPolicyNo(), gptResponseDto.isFinancialSupport(), gptResponseDto.getEstimatedAmount());
+                newPolicies.add(new NewPolicy(dto, gptResponseDto));
             }
+            return newPolicies;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
         } catch (Exception e) {
-            log.error("[정책 벡터] DB 저장 실패 - 정책 ID: {}, 오류: {}", policyId, e.getMessage());
-            e.printStackTrace();
+            log.error("[새 정책] 정책 {}건 GPT 분석 실패 - 오류: {}", dtos.size(), e.getMessage());
+            return Collections.emptyList();
         }
     }
 
-    private double normalizeBenefitAmount(Long policyBenefitAmount) {
-        if (policyBenefitAmount == null || policyBenefitAmount <= 0) return 0.0;
-        BigDecimal amount = BigDecimal.valueOf(policyBenefitAmount);
-        if (amount.compareTo(MAX_AMOUNT_THRESHOLD) >= 0) return 1.0;
-        return amount.divide(MAX_AMOUNT_THRESHOLD, 4, RoundingMode.HALF_UP).doubleValue();
+    /**
+     * 조회와 GPT 분석이 끝나 저장만 남은 페이지
+     */
+    @RequiredArgsConstructor
+    private static class PreparedPage {
+        private final int page;
+        private final List<ExistingPolicy> existingPolicies;
+        private final List<NewPolicy> newPolicies;
+        private final int skipped;
     }
 
-    private double normalizeDeadlineScore(YouthPolicyPeriodVO policyPeriod) {
-        // 마감일 정보가 없으면 상시 모집으로 간주하여 최고점(1.0) 부여
-        if (policyPeriod == null || policyPeriod.getApplyPeriod() == null) return 1.0;
-        String[] dates = policyPeriod.getApplyPeriod().split("~");
-        if (dates.length != 2) return 1.0;  // 날짜 형식이 맞지 않으면 상시 모집으로 간주
-
-        try {
-            String endDateStr = dates[1].trim();
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-            LocalDate endDate = LocalDate.parse(endDateStr, formatter);
-            long daysUntilEnd = ChronoUnit.DAYS.between(LocalDate.now(), endDate);
-
-            // 마감일이 지난 경우 -1.0 (지원 불가)
-            if (daysUntilEnd <= 0) return -1.0;
-            // 마감일이 너무 먼 경우 0.0 (중립)
-            if (daysUntilEnd >= SCORE_RANGE_DAYS) return 0.0;
-            // 마감일이 가까울수록 1.0에 가까운 값
-            return 1.0 - ((double) daysUntilEnd / SCORE_RANGE_DAYS);
-        } catch (DateTimeParseException e) {
-            // 날짜 파싱 실패 시 상시 모집으로 간주
-            return 1.0;
+    /**
+     * 정책 수집 완료 이벤트 발행
+     * 트랜잭션 안이면 커밋 이후에 발행하여, 메모리 인덱스가 커밋된 데이터를 읽도록 한다.
+     */
+    private void publishSyncCompletedEvent() {
+        PolicySyncCompletedEvent event = new PolicySyncCompletedEvent(LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
         }
     }
 
-    private double normalizeViewCount(Long viewCount) {
-        if (viewCount == null || viewCount <= 0) return 0.0;
-        BigDecimal views = BigDecimal.valueOf(viewCount);
-        if (views.compareTo(MAX_VIEW_THRESHOLD) >= 0) return 1.0;
-        return views.divide(MAX_VIEW_THRESHOLD, 4, RoundingMode.HALF_UP).doubleValue();
-    }
-
     @Override
     public PolicyDetailDTO getPolicyById(String policyId) {
         Long id = Long.parseLong(policyId);
@@ -0,0 +1,139 @@
+package org.scoula.policy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.dto.PolicyVectorSourceDTO;
+import org.scoula.policy.event.PolicyVectorsRefreshedEvent;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.util.PolicyVectorCalculator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정책 벡터 일괄 재계산 서비스
+ * - 마감일 차원은 날짜가 바뀌면 달라지므로 매일 전체 정책의 3차원 벡터를 다시 계산
+ * - 한 번의 조회로 계산 입력값과 저장된 벡터를 함께 읽고, 값이 바뀐 행만 UPSERT_BATCH_SIZE 건씩 일괄 저장
+ * - 이미 마감되어 마감일 점수가 -1 로 저장된 정책은 다시 계산하지 않음 (더 바뀌지 않고 추천 대상도 아님)
+ * - DB 에 반영된 벡터만 PolicyVectorsRefreshedEvent 로 메모리 스코어러에 전달
+ *   (저장 실패한 배치의 정책은 기존 저장값, 기존 값도 없으면 제외 → 스코어러가 DTO 벡터로 계산)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicyVectorRefreshService {
+
+    static final int UPSERT_BATCH_SIZE = 500;
+
+    // 저장된 값과 이 이하로 차이 나면 변경 없음으로 간주 (점수는 소수 넷째 자리까지)
+    private static final double EPSILON = 1e-6;
+
+    // 마감일이 지난 정책의 마감일 점수
+    private static final double EXPIRED_DEADLINE_SCORE = -1.0;
+
+    private final PolicyMapper policyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 전체 정책 벡터 재계산 후 변경된 벡터만 저장
+     * @return 저장된(변경된) 벡터 수
+     */
+    public int refreshAll() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<PolicyVectorSourceDTO> sources = policyMapper.findPolicyVectorSources();
+
+        List<PolicyVectorVO> published = new ArrayList<>(sources.size());
+        List<PolicyVectorVO> changed = new ArrayList<>();
+        List<PolicyVectorSourceDTO> changedSources = new ArrayList<>();
+        int skipped = 0;
+        for (PolicyVectorSourceDTO source : sources) {
+            if (isExpiredAndStored(source, today)) {
+                skipped++;
+                continue;
+            }
+
+            double benefit = PolicyVectorCalculator.normalizeBenefitAmount(source.getPolicyBenefitAmount());
+            double deadline = PolicyVectorCalculator.normalizeDeadlineScore(source.getApplyEnd(), today);
+            double views = PolicyVectorCalculator.normalizeViewCount(source.getViews());
+
+            PolicyVectorVO vector = PolicyVectorVO.builder()
+                    .policyId(source.getPolicyId())
+                    .vecBenefitAmount(BigDecimal.valueOf(benefit))
+                    .vecDeadline(BigDecimal.valueOf(deadline))
+                    .vecViews(BigDecimal.valueOf(views))
+                    .createdAt(now)
+                    .build();
+
+            if (isChanged(source.getVecBenefitAmount(), benefit)
+                    || isChanged(source.getVecDeadline(), deadline)
+                    || isChanged(source.getVecViews(), views)) {
+                changed.add(vector);
+                changedSources.add(source);
+            } else {
+                published.add(vector);
+            }
+        }
+
+        int saved = 0;
+        for (int from = 0; from < changed.size(); from += UPSERT_BATCH_SIZE) {
+            int to = Math.min(from + UPSERT_BATCH_SIZE, changed.size());
+            List<PolicyVectorVO> batch = changed.subList(from, to);
+            try {
+                policyMapper.upsertPolicyVectors(batch);
+                saved += batch.size();
+                published.addAll(batch);
+            } catch (Exception e) {
+                log.error("[정책 벡터 갱신] {}건 저장 실패: {}", batch.size(), e.getMessage());
+                // DB 에 남아 있는 기존 벡터를 그대로 전달
+                for (PolicyVectorSourceDTO source : changedSources.subList(from, to)) {
+                    PolicyVectorVO stored = storedVector(source);
+                    if (stored != null) {
+                        published.add(stored);
+                    }
+                }
+            }
+        }
+
+        eventPublisher.publishEvent(new PolicyVectorsRefreshedEvent(published));
+
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("[정책 벡터 갱신] 완료 - 전체: {}건, 마감 제외: {}건, 변경: {}건, 저장: {}건, 소요: {}ms ({}건/초)",
+                sources.size(), skipped, changed.size(), saved, elapsed,
+                elapsed > 0 ? sources.size() * 1000L / elapsed : sources.size());
+        return saved;
+    }
+
+    // 마감일이 지났고 (점수 -1) 저장된 마감일 점수도 이미 -1 인 정책
+    private static boolean isExpiredAndStored(PolicyVectorSourceDTO source, LocalDate today) {
+        return source.getApplyEnd() != null
+                && !source.getApplyEnd().isAfter(today)
+                && source.getVecDeadline() != null
+                && !isChanged(source.getVecDeadline(), EXPIRED_DEADLINE_SCORE);
+    }
+
+    // 저장된 벡터 (차원 하나라도 없으면 null)
+    private static PolicyVectorVO storedVector(PolicyVectorSourceDTO source) {
+        if (source.getVecBenefitAmount() == null || source.getVecDeadline() == null || source.getVecViews() == null) {
+            return null;
+        }
+        return PolicyVectorVO.builder()
+                .policyId(source.getPolicyId())
+                .vecBenefitAmount(source.getVecBenefitAmount())
+                .vecDeadline(source.getVecDeadline())
+                .vecViews(source.getVecViews())
+                .build();
+    }
+
+    private static boolean isChanged(BigDecimal stored, double calculated) {
+        return stored == null || Math.abs(stored.doubleValue() - calculated) > EPSILON;
+    }
+}
@@ -39,4 +39,40 @@ public class ParseUtils {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 신청 기간 문자열("yyyyMMdd ~ yyyyMMdd")에서 신청 시작일 파싱
+     * 형식이 다르거나 기간이 없으면(상시 모집 등) null
+     */
+    public static LocalDate parseApplyStart(String applyPeriod) {
+        return parseApplyPeriodDate(applyPeriod, 0);
+    }
+
+    /**
+     * 신청 기간 문자열("yyyyMMdd ~ yyyyMMdd")에서 신청 마감일 파싱
+     * 형식이 다르거나 기간이 없으면(상시 모집 등) null
+     */
+    public static LocalDate parseApplyEnd(String applyPeriod) {
+        return parseApplyPeriodDate(applyPeriod, 1);
+    }
+
+    /**
+     * "~" 로 나눈 index 번째 날짜 파싱 (yyyyMMdd, yyyy.MM.dd 지원, 날짜 뒤 부가 설명은 무시)
+     */
+    private static LocalDate parseApplyPeriodDate(String applyPeriod, int index) {
+        if (applyPeriod == null || !applyPeriod.contains("~")) return null;
+        String[] parts = applyPeriod.split("~");
+        if (parts.length < 2) return null;
+
+        String datePart = parts[index].trim().split(" ")[0].trim();
+        if (datePart.isEmpty()) return null;
+        try {
+            if (datePart.contains(".")) {
+                return LocalDate.parse(datePart, DateTimeFormatter.ofPattern("yyyy.MM.dd"));
+            }
+            return LocalDate.parse(datePart, DateTimeFormatter.ofPattern("yyyyMMdd"));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
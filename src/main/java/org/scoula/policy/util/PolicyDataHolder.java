@@ -7,7 +7,9 @@ import org.scoula.policy.domain.keyword.PolicyKeywordVO;
 import org.scoula.policy.domain.major.PolicyMajorVO;
 import org.scoula.policy.domain.region.PolicyRegionVO;
 import org.scoula.policy.domain.specialcondition.PolicySpecialConditionVO;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
 import org.scoula.policy.mapper.PolicyMapper;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
@@ -47,6 +49,14 @@ public class PolicyDataHolder {
         loadSpecialConditions();
     }
 
+    /**
+     * 정책 수집 중 새로 추가된 마스터 데이터(지역/키워드 등) 반영
+     */
+    @EventListener
+    public void onPolicySyncCompleted(PolicySyncCompletedEvent event) {
+        init();
+    }
+
     private void loadRegions() {
         List<PolicyRegionVO> regions = policyMapper.findAllRegions();
         for (PolicyRegionVO region : regions) {
@@ -0,0 +1,97 @@
+package org.scoula.policy.util;
+
+import org.scoula.policy.domain.PolicyVectorVO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 정책 벡터(혜택금액, 마감일, 조회수) 계산 유틸
+ * - DB 조회 없이 정책 값만으로 계산하므로 수집 배치에서 페이지 단위로 일괄 계산 가능
+ */
+public class PolicyVectorCalculator {
+
+    private static final long MAX_AMOUNT_THRESHOLD = 1_000_000L;
+    private static final long MAX_VIEW_THRESHOLD = 1_000L;
+    private static final long SCORE_RANGE_DAYS = 100L;
+
+    private PolicyVectorCalculator() {
+    }
+
+    /**
+     * 정책 벡터 계산
+     *
+     * @param policyId 정책 ID
+     * @param policyBenefitAmount 혜택 금액 (GPT 분석 결과)
+     * @param views 조회수
+     * @param applyEnd 신청 마감일 (ParseUtils.parseApplyEnd, 없으면 null)
+     */
+    public static PolicyVectorVO calculate(Long policyId, Long policyBenefitAmount, Long views, LocalDate applyEnd) {
+        return PolicyVectorVO.builder()
+                .policyId(policyId)
+                .vecBenefitAmount(BigDecimal.valueOf(normalizeBenefitAmount(policyBenefitAmount)))
+                .vecDeadline(BigDecimal.valueOf(normalizeDeadlineScore(applyEnd)))
+                .vecViews(BigDecimal.valueOf(normalizeViewCount(views)))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static double normalizeBenefitAmount(Long policyBenefitAmount) {
+        return policyBenefitAmount == null ? 0.0 : normalizeBenefitAmount(policyBenefitAmount.longValue());
+    }
+
+    /**
+     * 혜택 금액 점수 (0.0 ~ 1.0, 소수 넷째 자리 반올림)
+     */
+    public static double normalizeBenefitAmount(long policyBenefitAmount) {
+        if (policyBenefitAmount <= 0) return 0.0;
+        if (policyBenefitAmount >= MAX_AMOUNT_THRESHOLD) return 1.0;
+        return round4(policyBenefitAmount, MAX_AMOUNT_THRESHOLD);
+    }
+
+    public static double normalizeDeadlineScore(LocalDate applyEnd) {
+        return normalizeDeadlineScore(applyEnd, LocalDate.now());
+    }
+
+    /**
+     * 마감일 점수 (기준일 today 를 받아 일괄 계산 시 LocalDate.now() 반복 호출을 피함)
+     */
+    public static double normalizeDeadlineScore(LocalDate applyEnd, LocalDate today) {
+        // 마감일 정보가 없거나 형식이 맞지 않으면 상시 모집으로 간주하여 최고점(1.0) 부여
+        if (applyEnd == null) return 1.0;
+
+        long daysUntilEnd = ChronoUnit.DAYS.between(today, applyEnd);
+
+        // 마감일이 지난 경우 -1.0 (지원 불가)
+        if (daysUntilEnd <= 0) return -1.0;
+        // 마감일이 너무 먼 경우 0.0 (중립)
+        if (daysUntilEnd >= SCORE_RANGE_DAYS) return 0.0;
+        // 마감일이 가까울수록 1.0에 가까운 값
+        return 1.0 - ((double) daysUntilEnd / SCORE_RANGE_DAYS);
+    }
+
+    public static double normalizeViewCount(Long viewCount) {
+        return viewCount == null ? 0.0 : normalizeViewCount(viewCount.longValue());
+    }
+
+    /**
+     * 조회수 점수 (0.0 ~ 1.0, 소수 넷째 자리 반올림)
+     */
+    public static double normalizeViewCount(long viewCount) {
+        if (viewCount <= 0) return 0.0;
+        if (viewCount >= MAX_VIEW_THRESHOLD) return 1.0;
+        return round4(viewCount, MAX_VIEW_THRESHOLD);
+    }
+
+    /**
+     * value / threshold 를 소수 넷째 자리까지 반올림 (BigDecimal.divide(threshold, 4, HALF_UP) 와 같은 결과)
+     * - double 로 나눈 뒤 반올림하면 0.00015 처럼 경계값이 0.000149.. 로 표현되어 내림될 수 있으므로 정수로 계산
+     * - 0 < value < threshold 인 경우만 사용 (value * 20000 이 long 범위를 넘지 않음)
+     */
+    private static double round4(long value, long threshold) {
+        long scaled = (value * 10000L * 2 + threshold) / (2 * threshold);
+        return scaled / 10000.0;
+    }
+}
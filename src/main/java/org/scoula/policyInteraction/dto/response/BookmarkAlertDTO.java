@@ -0,0 +1,25 @@
+package org.scoula.policyInteraction.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 오늘 발송할 북마크 알림 대상 (사용자, 정책, 마감까지 남은 일수)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookmarkAlertDTO {
+
+    private Long userId;
+    private String displayName;         // 표시용 사용자명 (name → loginId → "사용자{id}")
+
+    private Long policyId;
+    private String policyTitle;
+
+    private Boolean applyStartToday;    // 오늘이 신청 시작일인지
+    private Integer daysUntilDeadline;  // 마감일까지 남은 일수 (0 = 당일)
+}
@@ -6,10 +6,12 @@ import org.scoula.policyInteraction.domain.UserPolicyApplicationVO;
 import org.scoula.policyInteraction.domain.UserPolicyReviewVO;
 import org.scoula.policyInteraction.domain.YouthPolicyBookmarkVO;
 import org.scoula.policyInteraction.dto.response.ApplicationWithPolicyDTO;
+import org.scoula.policyInteraction.dto.response.BookmarkAlertDTO;
 import org.scoula.policyInteraction.dto.response.BookmarkWithPolicyDTO;
 import org.scoula.policyInteraction.dto.response.ReviewWithUserDTO;
 import org.scoula.policyInteraction.dto.response.ReviewWithPolicyDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -40,6 +42,13 @@ public interface PolicyInteractionMapper {
     /** 북마크 알림을 구독한 사용자의 북마크만 조회 (최적화된 알림 발송용) */
     List<YouthPolicyBookmarkVO> getBookmarksWithActiveSubscription();
 
+    /**
+     * 오늘 발송할 북마크 알림 대상 조회 (북마크 알림 구독자 한정)
+     * - 신청 시작일이 오늘이거나 마감일이 오늘부터 maxDaysBeforeDeadline 일 이내인 북마크만
+     */
+    List<BookmarkAlertDTO> findBookmarkAlertsDue(@Param("today") LocalDate today,
+                                                 @Param("maxDaysBeforeDeadline") int maxDaysBeforeDeadline);
+
     // ────────────────────────────────────────
     // 정책 신청 관련
     // ────────────────────────────────────────
@@ -13,6 +13,7 @@ import org.scoula.policyInteraction.dto.response.BookmarkWithPolicyDTO;
 import org.scoula.policyInteraction.dto.response.ReviewWithUserDTO;
 import org.scoula.policyInteraction.dto.response.ReviewWithPolicyDTO;
 import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
+import org.scoula.userPolicy.util.UserRecommendationCache;
 import org.scoula.userPolicy.util.UserVectorUtil;
 import org.scoula.userPolicy.mapper.UserPolicyMapper;
 import org.scoula.policyInteraction.util.NameMaskingUtil;
@@ -36,6 +37,7 @@ public class PolicyInteractionService {
     private final PolicyMapper policyMapper;
     private final UserPolicyMapper userPolicyMapper;
     private final org.scoula.common.util.RedisUtil redisUtil;
+    private final UserRecommendationCache userRecommendationCache;
     
     @Autowired
     private ProfanityFilter profanityFilter;
@@ -134,6 +136,8 @@ public class PolicyInteractionService {
         // 실제 신청 완료 시 사용자 벡터 갱신 (가중치: 0.7)
         if (result > 0) {
             updateUserVectorWithLinearInterpolation(userId, policyId, 0.7);
+            // 신청 완료 정책은 추천에서 제외되므로 벡터 갱신 여부와 무관하게 무효화
+            userRecommendationCache.evictAfterCommit(userId);
         }
         
         return result > 0;
@@ -154,6 +158,11 @@ public class PolicyInteractionService {
                 userId, policyId, existing.getIsApplied());
         
         int result = policyInteractionMapper.deleteApplication(userId, policyId);
+
+        // 신청 완료 정책은 추천에서 제외되므로 삭제 시 추천 결과 무효화
+        if (result > 0 && Boolean.TRUE.equals(existing.getIsApplied())) {
+            userRecommendationCache.evictAfterCommit(userId);
+        }
         return result > 0;
     }
     
@@ -224,6 +233,9 @@ public class PolicyInteractionService {
                 userPolicyMapper.updateUserVector(userVector);
                 log.info("[사용자 벡터] 업데이트 완료 - userId: {}", userId);
             }
+
+            // 5. 벡터가 바뀌었으므로 추천 결과 무효화
+            userRecommendationCache.evictAfterCommit(userId);
             
         } catch (Exception e) {
             log.error("[사용자 벡터] 갱신 실패 - userId: {}, policyId: {}, 오류: {}", 
@@ -0,0 +1,21 @@
+package org.scoula.push.dto.fcm;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * FCM 발송 대상 메시지 (토큰 1개 = 메시지 1건)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FcmMessage {
+
+    private Long notificationId;   // 알림 아이디 (발송 로그 기록용)
+    private String fcmToken;       // 전송 대상 FCM 토큰
+    private String title;          // data.title
+    private String body;           // data.body
+}
@@ -0,0 +1,27 @@
+package org.scoula.push.dto.fcm;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * FCM 메시지 1건의 발송 결과 (FcmClient.sendEach 응답, 요청 순서와 같음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FcmSendResult {
+
+    private boolean success;       // 발송 성공 여부
+    private String messageId;      // 성공 시 FCM 메시지 ID
+    private String errorMessage;   // 실패 시 오류 메시지
+    private boolean retryable;     // 일시적 오류 여부 (재시도 대상)
+
+    public static FcmSendResult success(String messageId) {
+        return new FcmSendResult(true, messageId, null, false);
+    }
+
+    public static FcmSendResult failure(String errorMessage, boolean retryable) {
+        return new FcmSendResult(false, null, errorMessage, retryable);
+    }
+}
@@ -16,6 +16,11 @@ public interface NotificationSendLogMapper {
      */
     void insertSendLog(NotificationSendLogVO sendLog);
 
+    /**
+     * 발송 로그 일괄 생성 (다중 행 INSERT, 생성된 id 를 각 VO 에 채움)
+     */
+    void insertSendLogs(@Param("sendLogs") List<NotificationSendLogVO> sendLogs);
+
     /**
      * 발송 상태 업데이트 (SUCCESS/FAILED)
      */
@@ -29,6 +34,11 @@ public interface NotificationSendLogMapper {
      */
     void incrementAttemptCount(@Param("id") Long id);
 
+    /**
+     * 발송 결과 일괄 반영 (상태, 오류 메시지, 시도 횟수, 발송 시간)
+     */
+    void updateSendLogResults(@Param("sendLogs") List<NotificationSendLogVO> sendLogs);
+
     /**
      * 재전송 대상 로그 조회 (PENDING 상태이고 생성된 지 일정 시간 경과)
      */
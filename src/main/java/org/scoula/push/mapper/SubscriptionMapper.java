@@ -30,6 +30,9 @@ public interface SubscriptionMapper {
 
     // 특정 사용자의 북마크 알림이 활성화된 모든 토큰 조회
     List<String> findActiveBookmarkTokensByUserId(@Param("userId") Long userId);
+
+    // 여러 사용자의 북마크 알림이 활성화된 토큰 일괄 조회 (userId, fcmToken)
+    List<SubscriptionVO> findActiveBookmarkTokensByUserIds(@Param("userIds") List<Long> userIds);
     
     // 특정 사용자의 TOP3 알림이 활성화된 모든 토큰 조회
     List<String> findActiveTop3TokensByUserId(@Param("userId") Long userId);
@@ -15,6 +15,11 @@ public interface UserNotificationMapper {
      */
     void insertNotification(UserNotificationVO notification);
 
+    /**
+     * 알림 일괄 생성 (다중 행 INSERT, 생성된 id 를 각 VO 에 채움)
+     */
+    void insertNotifications(@Param("notifications") List<UserNotificationVO> notifications);
+
     /**
      * 특정 사용자의 미읽은 알림 조회
      */
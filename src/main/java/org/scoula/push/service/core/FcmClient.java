@@ -0,0 +1,28 @@
+package org.scoula.push.service.core;
+
+import org.scoula.push.dto.fcm.FcmMessage;
+import org.scoula.push.dto.fcm.FcmSendResult;
+
+import java.util.List;
+
+/**
+ * FCM 발송 클라이언트
+ * - 기본 구현은 FirebaseMessaging.sendEach 를 호출하는 FirebaseFcmClient
+ * - 테스트에서는 결과를 바로 돌려주는 가짜 구현으로 교체
+ */
+public interface FcmClient {
+
+    /**
+     * 한 번의 요청으로 보낼 수 있는 최대 메시지 수 (FCM sendEach 제한)
+     */
+    int MAX_BATCH_SIZE = 500;
+
+    /**
+     * 메시지 일괄 발송
+     *
+     * @param messages 최대 MAX_BATCH_SIZE 건
+     * @return 메시지 순서대로의 발송 결과
+     * @throws Exception 요청 자체가 실패한 경우 (모든 메시지 재시도 대상)
+     */
+    List<FcmSendResult> sendEach(List<FcmMessage> messages) throws Exception;
+}
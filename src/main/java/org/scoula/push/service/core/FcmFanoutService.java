@@ -0,0 +1,262 @@
+package org.scoula.push.service.core;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.push.domain.NotificationSendLogVO;
+import org.scoula.push.dto.fcm.FcmMessage;
+import org.scoula.push.dto.fcm.FcmSendResult;
+import org.scoula.push.mapper.NotificationSendLogMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FCM 팬아웃 발송 서비스
+ * - 사용자/알림에 관계없이 발송 메시지를 모아 최대 500건씩 sendEach 한 번으로 발송
+ * - 500건이 모이면 즉시, 그 전에는 NotificationScheduler 가 1초마다 남은 메시지를 발송
+ * - 발송 로그는 묶음마다 다중 행 INSERT 1번 + 결과 일괄 UPDATE 1번 (메시지당 DB 쓰기 1회 미만)
+ * - 발송 로그 INSERT 가 실패해도 이미 꺼낸 묶음은 그대로 발송 (로그만 남기지 못함)
+ * - 일시적 오류(UNAVAILABLE 등)만 최대 3회까지 재시도 (3초, 9초 후 지연 실행, 대기 중에는 스레드를 점유하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmFanoutService {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 3000;
+    private static final int BACKOFF_MULTIPLIER = 3;
+    private static final long MAX_BACKOFF_MS = 15000;
+
+    private final FcmClient fcmClient;
+    private final NotificationSendLogMapper sendLogMapper;
+
+    @Autowired
+    @Qualifier("fcmTaskExecutor")
+    private Executor fcmTaskExecutor;
+
+    // 재시도 첫 대기 시간 (테스트에서 0 으로 교체)
+    private long initialBackoffMillis = INITIAL_BACKOFF_MS;
+
+    private final Queue<FcmMessage> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * 발송 대기열에 추가 (500건이 모일 때마다 fcmTaskExecutor 에 발송 작업 1건 등록)
+     */
+    public void enqueue(FcmMessage message) {
+        pending.add(message);
+        // 500건 경계를 넘을 때만 등록 (쌓여 있는 동안 메시지마다 flush 를 등록하지 않음)
+        if (pendingCount.incrementAndGet() % FcmClient.MAX_BATCH_SIZE == 0) {
+            fcmTaskExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * 대기 중인 메시지가 있으면 fcmTaskExecutor 에서 발송 (스케줄러 스레드를 막지 않음)
+     */
+    public void flushPending() {
+        if (pendingCount.get() > 0) {
+            fcmTaskExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * 종료 시 남은 메시지 발송
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 대기열이 빌 때까지 500건씩 꺼내 발송
+     */
+    void flush() {
+        List<FcmMessage> batch;
+        while (!(batch = drain()).isEmpty()) {
+            try {
+                sendBatch(batch);
+            } catch (Exception e) {
+                log.error("[FCM 팬아웃] 묶음 발송 처리 실패 - {}건, 오류: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private List<FcmMessage> drain() {
+        List<FcmMessage> batch = new ArrayList<>();
+        FcmMessage message;
+        while (batch.size() < FcmClient.MAX_BATCH_SIZE && (message = pending.poll()) != null) {
+            batch.add(message);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * 한 묶음 발송: 로그 일괄 생성 → sendEach (일시적 오류만 지연 후 재시도) → 결과 일괄 반영
+     * - 재시도는 대기 시간 뒤 fcmTaskExecutor 에 다시 등록되므로, 재시도가 남아 있으면 결과 반영 전에 반환
+     */
+    void sendBatch(List<FcmMessage> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationSendLogVO> sendLogs = new ArrayList<>(batch.size());
+        for (FcmMessage message : batch) {
+            sendLogs.add(NotificationSendLogVO.builder()
+                    .notificationId(message.getNotificationId())
+                    .fcmToken(message.getFcmToken())
+                    .sendStatus(NotificationSendLogVO.SendStatus.PENDING)
+                    .attemptCount(0)
+                    .createdAt(now)
+                    .build());
+        }
+
+        boolean logged;
+        try {
+            sendLogMapper.insertSendLogs(sendLogs);
+            logged = true;
+        } catch (Exception e) {
+            // 대기열에서 이미 꺼낸 메시지이므로 버리지 않고 로그 없이 발송
+            logged = false;
+            log.error("[FCM 팬아웃] 발송 로그 생성 실패, 로그 없이 발송 - {}건, 오류: {}", batch.size(), e.getMessage());
+        }
+
+        List<Integer> indexes = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            indexes.add(i);
+        }
+        sendAttempt(new BatchSend(batch, sendLogs, logged), indexes, 1, initialBackoffMillis);
+    }
+
+    private void sendAttempt(BatchSend send, List<Integer> indexes, int attempt, long backoff) {
+        List<Integer> retry = sendOnce(send.batch, send.sendLogs, indexes, attempt == MAX_ATTEMPTS);
+        if (retry.isEmpty()) {
+            complete(send);
+            return;
+        }
+        long nextBackoff = Math.min(backoff * BACKOFF_MULTIPLIER, MAX_BACKOFF_MS);
+        schedule(backoff, () -> sendAttempt(send, retry, attempt + 1, nextBackoff), () -> {
+            // 종료 중이라 재시도를 등록하지 못한 메시지는 실패 처리
+            for (int index : retry) {
+                markFailed(send.sendLogs.get(index), "발송 중단");
+            }
+            complete(send);
+        });
+    }
+
+    /**
+     * 대기 후 fcmTaskExecutor 에서 실행 (대기 시간이 0 이면 바로 실행, 등록이 거절되면 onRejected)
+     */
+    private void schedule(long delayMillis, Runnable action, Runnable onRejected) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("[FCM 팬아웃] 재시도 처리 실패 - 오류: {}", e.getMessage());
+            }
+        };
+        if (delayMillis <= 0) {
+            guarded.run();
+            return;
+        }
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            try {
+                fcmTaskExecutor.execute(guarded);
+            } catch (RejectedExecutionException e) {
+                onRejected.run();
+            }
+        });
+    }
+
+    private void complete(BatchSend send) {
+        if (send.logged) {
+            try {
+                sendLogMapper.updateSendLogResults(send.sendLogs);
+            } catch (Exception e) {
+                log.error("[FCM 팬아웃] 발송 결과 반영 실패 - {}건, 오류: {}", send.sendLogs.size(), e.getMessage());
+            }
+        }
+
+        long succeeded = send.sendLogs.stream()
+                .filter(sendLog -> sendLog.getSendStatus() == NotificationSendLogVO.SendStatus.SUCCESS)
+                .count();
+        log.info("[FCM 팬아웃] 묶음 발송 완료 - 전체: {}, 성공: {}, 실패: {}",
+                send.batch.size(), succeeded, send.batch.size() - succeeded);
+    }
+
+    /**
+     * 남은 메시지 1회 발송
+     * @return 다시 보낼 메시지 인덱스 (일시적 오류)
+     */
+    private List<Integer> sendOnce(List<FcmMessage> batch, List<NotificationSendLogVO> sendLogs,
+                                   List<Integer> indexes, boolean lastAttempt) {
+        List<FcmMessage> messages = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            messages.add(batch.get(index));
+            NotificationSendLogVO sendLog = sendLogs.get(index);
+            sendLog.setAttemptCount(sendLog.getAttemptCount() + 1);
+        }
+
+        List<FcmSendResult> results;
+        try {
+            results = fcmClient.sendEach(messages);
+        } catch (Exception e) {
+            log.warn("[FCM 팬아웃] sendEach 요청 실패 - {}건, 오류: {}", messages.size(), e.getMessage());
+            if (lastAttempt) {
+                for (int index : indexes) {
+                    markFailed(sendLogs.get(index), e.getMessage());
+                }
+                return new ArrayList<>();
+            }
+            return indexes;
+        }
+
+        List<Integer> retry = new ArrayList<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            NotificationSendLogVO sendLog = sendLogs.get(indexes.get(i));
+            FcmSendResult result = i < results.size() ? results.get(i) : FcmSendResult.failure("응답 누락", true);
+            if (result.isSuccess()) {
+                sendLog.setSendStatus(NotificationSendLogVO.SendStatus.SUCCESS);
+                sendLog.setErrorMessage(null);
+                sendLog.setSentAt(LocalDateTime.now());
+            } else if (result.isRetryable() && !lastAttempt) {
+                retry.add(indexes.get(i));
+            } else {
+                markFailed(sendLog, result.getErrorMessage());
+            }
+        }
+        return retry;
+    }
+
+    private void markFailed(NotificationSendLogVO sendLog, String errorMessage) {
+        sendLog.setSendStatus(NotificationSendLogVO.SendStatus.FAILED);
+        sendLog.setErrorMessage(errorMessage);
+        sendLog.setSentAt(LocalDateTime.now());
+    }
+
+    /**
+     * 발송 중인 묶음 (재시도 사이에 전달)
+     */
+    private static final class BatchSend {
+        private final List<FcmMessage> batch;
+        private final List<NotificationSendLogVO> sendLogs;
+        private final boolean logged;
+
+        private BatchSend(List<FcmMessage> batch, List<NotificationSendLogVO> sendLogs, boolean logged) {
+            this.batch = batch;
+            this.sendLogs = sendLogs;
+            this.logged = logged;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.scoula.push.service.core;
+
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+import org.scoula.push.dto.fcm.FcmMessage;
+import org.scoula.push.dto.fcm.FcmSendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * FirebaseMessaging 기반 FCM 발송 클라이언트
+ */
+@Component
+@RequiredArgsConstructor
+public class FirebaseFcmClient implements FcmClient {
+
+    // 잠시 후 다시 보내면 성공할 수 있는 오류
+    private static final Set<MessagingErrorCode> RETRYABLE_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<FcmSendResult> sendEach(List<FcmMessage> messages) throws FirebaseMessagingException {
+        List<Message> fcmMessages = new ArrayList<>(messages.size());
+        for (FcmMessage message : messages) {
+            fcmMessages.add(Message.builder()
+                    .setToken(message.getFcmToken())
+                    .putData("title", message.getTitle())
+                    .putData("body", message.getBody())
+                    .build());
+        }
+
+        BatchResponse response = firebaseMessaging.sendEach(fcmMessages);
+
+        List<FcmSendResult> results = new ArrayList<>(messages.size());
+        for (SendResponse sendResponse : response.getResponses()) {
+            if (sendResponse.isSuccessful()) {
+                results.add(FcmSendResult.success(sendResponse.getMessageId()));
+            } else {
+                FirebaseMessagingException e = sendResponse.getException();
+                results.add(FcmSendResult.failure(e.getMessage(), RETRYABLE_ERRORS.contains(e.getMessagingErrorCode())));
+            }
+        }
+        return results;
+    }
+}
@@ -2,127 +2,86 @@ package org.scoula.push.service.notification;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.scoula.member.mapper.MemberMapper;
-import org.scoula.policy.domain.YouthPolicyPeriodVO;
-import org.scoula.policy.domain.YouthPolicyVO;
-import org.scoula.policy.mapper.PolicyMapper;
-import org.scoula.policyInteraction.domain.YouthPolicyBookmarkVO;
+import org.scoula.policyInteraction.dto.response.BookmarkAlertDTO;
 import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
+import org.scoula.push.domain.UserNotificationVO;
 import org.scoula.push.service.subscription.UserNotificationService;
-import org.scoula.security.account.domain.MemberVO;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 북마크 정책 신청 시작/마감 임박 알림 서비스
+ * - 오늘 발송할 (사용자, 정책, 마감까지 남은 일수) 만 한 번의 조회로 가져옴 (전체 북마크 순회 없음)
+ * - CHUNK_SIZE 건씩 알림 일괄 생성 + FCM 대기열 추가, 청크 하나가 실패해도 나머지는 계속 발송
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookmarkPolicyNotificationService {
 
     private final PolicyInteractionMapper policyInteractionMapper;
-    private final PolicyMapper policyMapper;
-    private final MemberMapper memberMapper;
     private final UserNotificationService userNotificationService;
 
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 마감 알림을 보내기 시작하는 시점 (마감 3일 전부터 당일까지)
+    private static final int MAX_DAYS_BEFORE_DEADLINE = 3;
+
+    // 알림 일괄 생성 단위
+    private static final int CHUNK_SIZE = 500;
 
     /**
-     * 모든 북마크된 정책에 대해 신청일/마감일 알림 체크 및 즉시 발송
+     * 북마크된 정책 중 오늘 신청 시작 또는 마감 임박인 정책 알림 발송
      */
-    @Transactional
     public void checkAndSendBookmarkNotifications() {
         log.info("[북마크 알림] 북마크된 정책 알림 체크 및 발송 시작");
-        
-        // 북마크 알림을 구독한 사용자의 북마크만 조회 (최적화)
-        List<YouthPolicyBookmarkVO> allBookmarks = policyInteractionMapper.getBookmarksWithActiveSubscription();
-        log.info("[북마크 알림] 총 {}개의 북마크 발견", allBookmarks.size());
 
-        LocalDate today = LocalDate.now();
+        List<BookmarkAlertDTO> alerts = policyInteractionMapper.findBookmarkAlertsDue(LocalDate.now(), MAX_DAYS_BEFORE_DEADLINE);
+        log.info("[북마크 알림] 오늘 발송 대상 {}건", alerts.size());
 
-        for (YouthPolicyBookmarkVO bookmark : allBookmarks) {
+        int sent = 0;
+        int failed = 0;
+        for (int from = 0; from < alerts.size(); from += CHUNK_SIZE) {
+            List<BookmarkAlertDTO> chunk = alerts.subList(from, Math.min(from + CHUNK_SIZE, alerts.size()));
             try {
-                processPolicyNotification(bookmark, today);
+                List<UserNotificationVO> notifications = new ArrayList<>(chunk.size());
+                for (BookmarkAlertDTO alert : chunk) {
+                    notifications.add(toNotification(alert));
+                }
+                userNotificationService.createAndSendBookmarkNotifications(notifications);
+                sent += chunk.size();
             } catch (Exception e) {
-                log.error("[북마크 알림] 정책 ID {} 처리 중 오류: {}", bookmark.getPolicyId(), e.getMessage());
+                failed += chunk.size();
+                log.error("[북마크 알림] {}건 발송 중 오류: {}", chunk.size(), e.getMessage());
             }
         }
-        
-        log.info("[북마크 알림] 북마크된 정책 알림 체크 및 발송 완료");
-    }
-
-    /**
-     * 특정 정책에 대한 알림 처리
-     */
-    private void processPolicyNotification(YouthPolicyBookmarkVO bookmark, LocalDate today) {
-        Long policyId = bookmark.getPolicyId();
-        Long userId = bookmark.getUserId();
-
-        // 정책 정보 조회
-        YouthPolicyVO policy = policyMapper.findYouthPolicyById(policyId);
-        if (policy == null) {
-            log.warn("[북마크 알림] 정책을 찾을 수 없음 - 정책 ID: {}", policyId);
-            return;
-        }
-
-        // 정책 기간 정보 조회
-        YouthPolicyPeriodVO period = policyMapper.findYouthPolicyPeriodByPolicyId(policyId);
-        if (period == null || period.getApplyPeriod() == null) {
-            log.debug("[북마크 알림] 신청 기간 정보 없음 - 정책 ID: {}", policyId);
-            return;
-        }
-
-        // 신청 기간 파싱
-        PolicyPeriod policyPeriod = parseApplyPeriod(period.getApplyPeriod());
-        if (policyPeriod == null) {
-            log.warn("[북마크 알림] 신청 기간 파싱 실패 - 정책 ID: {}, 기간: {}", policyId, period.getApplyPeriod());
-            return;
-        }
 
-        // 알림 조건 체크 및 즉시 발송
-        checkAndSendNotification(userId, policy, policyPeriod, today);
+        log.info("[북마크 알림] 북마크된 정책 알림 체크 및 발송 완료 - 발송: {}건, 실패: {}건", sent, failed);
     }
 
     /**
-     * 알림 조건 체크 및 즉시 발송
+     * 알림 대상 → 알림 (신청 시작일 당일이면 시작 알림, 아니면 마감 알림)
      */
-    private void checkAndSendNotification(Long userId, YouthPolicyVO policy, PolicyPeriod period, LocalDate today) {
-        String policyTitle = policy.getTitle();
-        Long policyId = policy.getId();
-
-        // 사용자 정보 조회
-        MemberVO member = memberMapper.findByUserId(userId);
-        if (member == null) {
-            log.warn("[북마크 알림] 사용자 정보를 찾을 수 없음 - userId: {}", userId);
-            return;
-        }
-        String displayName = getDisplayName(member);
-
-        // 1. 신청 시작일 당일 체크
-        if (today.equals(period.getStartDate())) {
-            String title = "[북마크] 정책 신청이 시작됐어요!";
-            String message = String.format("%s님, '%s' 정책 신청이 오늘부터 시작됩니다! 놓치지 마세요", displayName, policyTitle);
-            String targetUrl = "/policy/" + policyId;
-            
-            userNotificationService.createAndSendBookmarkNotification(userId, title, message, targetUrl);
-            log.info("[북마크 알림] 신청 시작 알림 발송 - 사용자: {}, 정책: {}", displayName, policyTitle);
-            return;
+    private UserNotificationVO toNotification(BookmarkAlertDTO alert) {
+        String title;
+        String message;
+        if (Boolean.TRUE.equals(alert.getApplyStartToday())) {
+            title = "[북마크] 정책 신청이 시작됐어요!";
+            message = String.format("%s님, '%s' 정책 신청이 오늘부터 시작됩니다! 놓치지 마세요",
+                    alert.getDisplayName(), alert.getPolicyTitle());
+        } else {
+            int daysUntilDeadline = alert.getDaysUntilDeadline();
+            title = getDeadlineNotificationTitle(daysUntilDeadline);
+            message = getDeadlineNotificationMessage(alert.getPolicyTitle(), daysUntilDeadline, alert.getDisplayName());
         }
 
-        // 2. 마감일 3일 전부터 당일까지 체크
-        long daysUntilDeadline = ChronoUnit.DAYS.between(today, period.getEndDate());
-        
-        if (daysUntilDeadline >= 0 && daysUntilDeadline <= 3) {
-            String title = getDeadlineNotificationTitle(daysUntilDeadline);
-            String message = getDeadlineNotificationMessage(policyTitle, daysUntilDeadline, displayName);
-            String targetUrl = "/policy/" + policyId;
-            
-            userNotificationService.createAndSendBookmarkNotification(userId, title, message, targetUrl);
-            log.info("[북마크 알림] 마감 {}일 전 알림 발송 - 사용자: {}, 정책: {}", daysUntilDeadline, displayName, policyTitle);
-        }
+        return UserNotificationVO.builder()
+                .userId(alert.getUserId())
+                .title(title)
+                .message(message)
+                .targetUrl("/policy/" + alert.getPolicyId())
+                .build();
     }
 
     /**
@@ -150,70 +109,4 @@ public class BookmarkPolicyNotificationService {
             default -> String.format("%s님, '%s' 정책 마감이 임박했습니다! 서둘러 신청하세요!", displayName, policyTitle);
         };
     }
-
-    /**
-     * 신청 기간 문자열 파싱 (예: "20250403 ~ 20250422")
-     */
-    private PolicyPeriod parseApplyPeriod(String applyPeriod) {
-        try {
-            if (applyPeriod == null || applyPeriod.trim().isEmpty()) {
-                return null;
-            }
-
-            // "20250403 ~ 20250422" 형식 파싱
-            String[] parts = applyPeriod.split("~");
-            if (parts.length != 2) {
-                return null;
-            }
-
-            String startDateStr = parts[0].trim().replaceAll("[^0-9]", "");
-            String endDateStr = parts[1].trim().replaceAll("[^0-9]", "");
-
-            if (startDateStr.length() != 8 || endDateStr.length() != 8) {
-                return null;
-            }
-
-            LocalDate startDate = LocalDate.parse(startDateStr, DATE_FORMAT);
-            LocalDate endDate = LocalDate.parse(endDateStr, DATE_FORMAT);
-
-            return new PolicyPeriod(startDate, endDate);
-
-        } catch (Exception e) {
-            log.warn("[북마크 알림] 날짜 파싱 오류: {}, 입력값: {}", e.getMessage(), applyPeriod);
-            return null;
-        }
-    }
-
-    /**
-     * 표시용 사용자명 반환 (name 우선, 없으면 loginId)
-     */
-    private String getDisplayName(MemberVO member) {
-        if (member.getName() != null && !member.getName().trim().isEmpty()) {
-            return member.getName();
-        } else if (member.getLoginId() != null && !member.getLoginId().trim().isEmpty()) {
-            return member.getLoginId();
-        }
-        return "사용자" + member.getUserId(); // fallback
-    }
-
-    /**
-     * 정책 기간 내부 클래스
-     */
-    private static class PolicyPeriod {
-        private final LocalDate startDate;
-        private final LocalDate endDate;
-
-        public PolicyPeriod(LocalDate startDate, LocalDate endDate) {
-            this.startDate = startDate;
-            this.endDate = endDate;
-        }
-
-        public LocalDate getStartDate() {
-            return startDate;
-        }
-
-        public LocalDate getEndDate() {
-            return endDate;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -2,7 +2,8 @@ package org.scoula.push.service.notification;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.scoula.codef.service.FeedbackAnalysisService;
+import org.scoula.codef.domain.WeeklySpendingSummaryVO;
+import org.scoula.codef.service.WeeklySpendingSummaryService;
 import org.scoula.member.mapper.MemberMapper;
 import org.scoula.push.domain.SubscriptionVO;
 import org.scoula.push.dto.feedback.DayOfWeekPeak;
@@ -16,6 +17,7 @@ import java.text.NumberFormat;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -23,19 +25,29 @@ import java.util.Set;
 @Slf4j
 public class FeedbackNotificationService {
     
-    private final FeedbackAnalysisService feedbackAnalysisService;
+    private final WeeklySpendingSummaryService weeklySpendingSummaryService;
     private final UserNotificationService userNotificationService;
     private final SubscriptionMapper subscriptionMapper;
     private final MemberMapper memberMapper;
     
     /**
-     * 사용자에게 주간 소비 리포트 알림 전송
+     * 사용자에게 주간 소비 리포트 알림 전송 (미리 계산된 이번 주 요약 사용)
      * @param userId 사용자 ID
      */
     public void sendWeeklyConsumptionReport(Long userId) {
+        sendWeeklyConsumptionReport(userId, weeklySpendingSummaryService.getCurrentWeekSummary(userId));
+    }
+
+    private void sendWeeklyConsumptionReport(Long userId, WeeklySpendingSummaryVO summary) {
         log.info("[피드백알림] 주간 소비 리포트 전송 시작: userId={}", userId);
         
         try {
+            // 카드 데이터 보유 여부 확인 (요약이 없으면 최근 4주 카드 거래 없음)
+            if (summary == null) {
+                log.info("[피드백알림] 카드 데이터 없음, 알림 건너뜀: userId={}", userId);
+                return;
+            }
+            
             // 사용자 정보 조회
             MemberVO member = memberMapper.findByUserId(userId);
             if (member == null) {
@@ -45,19 +57,11 @@ public class FeedbackNotificationService {
             
             String displayName = getDisplayName(member);
             
-            // 카드 데이터 보유 여부 확인
-            boolean hasCardData = feedbackAnalysisService.hasCardData(userId);
-            log.info("[피드백알림] 카드 데이터 보유 여부 확인: userId={}, hasCardData={}", userId, hasCardData);
-            if (!hasCardData) {
-                log.info("[피드백알림] 카드 데이터 없음, 알림 건너뜀: userId={}", userId);
-                return;
-            }
+            // 1. 주간 지출 비교
+            WeeklySpendingComparison weeklyComparison = summary.toComparison();
             
-            // 1. 주간 지출 비교 분석
-            WeeklySpendingComparison weeklyComparison = feedbackAnalysisService.analyzeWeeklySpending(userId);
-            
-            // 2. 요일별 지출 피크 분석
-            DayOfWeekPeak dayOfWeekPeak = feedbackAnalysisService.analyzeDayOfWeekPeak(userId);
+            // 2. 요일별 지출 피크
+            DayOfWeekPeak dayOfWeekPeak = summary.toDayOfWeekPeak();
             
             // 3. 통합 피드백 메시지 생성 (사용자 이름 포함)
             String message = createFeedbackMessage(displayName, weeklyComparison, dayOfWeekPeak);
@@ -79,6 +83,7 @@ public class FeedbackNotificationService {
     
     /**
      * 모든 FEEDBACK 구독자에게 주간 소비 리포트 발송 (스케줄러용)
+     * - 발송 전 전체 사용자 주간 요약을 한 번에 다시 계산하고, 구독자별로는 요약만 읽음
      */
     public void sendWeeklyConsumptionReportToAll() {
         log.info("[피드백알림] 전체 사용자 주간 소비 리포트 발송 시작");
@@ -92,6 +97,10 @@ public class FeedbackNotificationService {
                 return;
             }
             
+            // 이번 주 요약 갱신 후 한 번에 조회
+            weeklySpendingSummaryService.refreshCurrentWeek();
+            Map<Long, WeeklySpendingSummaryVO> summaries = weeklySpendingSummaryService.getCurrentWeekSummaries();
+            
             // 사용자별로 중복 제거 (같은 사용자가 여러 토큰을 가진 경우 한 번만 발송)
             Set<Long> processedUserIds = new HashSet<>();
             int duplicateCount = 0;
@@ -117,7 +126,7 @@ public class FeedbackNotificationService {
                     log.debug("[피드백알림] 피드백 알림 처리 중: userId={}", userId);
                     
                     // 개별 사용자에게 주간 소비 리포트 발송
-                    sendWeeklyConsumptionReport(userId);
+                    sendWeeklyConsumptionReport(userId, summaries.get(userId));
                     successCount++;
                     
                 } catch (Exception e) {
@@ -86,11 +86,10 @@ public class NewPolicyNotificationService {
                 return 0;
             }
             
-            String loginId = member.getLoginId();  // searchMatchingPolicy에 사용할 username 파라미터
             String displayName = getDisplayName(member);  // 알림 메시지에 표시할 이름
             
-            // 기존 매칭 로직을 활용하여 사용자에게 맞는 정책들 조회 (username = loginId)
-            List<SearchResultDTO> userMatchingPolicies = userPolicyService.searchMatchingPolicy(loginId);
+            // 기존 매칭 로직(추천 캐시)을 활용하여 사용자에게 맞는 정책들 조회
+            List<SearchResultDTO> userMatchingPolicies = userPolicyService.searchMatchingPolicyByUserId(userId);
             
             if (userMatchingPolicies == null || userMatchingPolicies.isEmpty()) {
                 log.debug("[신규 정책 알림] 사용자에게 맞는 정책 없음 - userId: {}", userId);
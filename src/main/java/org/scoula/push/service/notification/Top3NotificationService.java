@@ -88,7 +88,7 @@ public class Top3NotificationService {
             String displayName = member.getName() != null ? member.getName() : username;
 
             // 2. 사용자 맞춤 정책 조회
-            List<SearchResultDTO> matchingPolicies = userPolicyService.searchMatchingPolicy(username);
+            List<SearchResultDTO> matchingPolicies = userPolicyService.searchMatchingPolicyByUserId(subscriber.getUserId());
             
             if (matchingPolicies == null || matchingPolicies.isEmpty()) {
                 log.info("[TOP3 알림] 사용자에게 맞는 정책이 없음 - 조건 설정 유도 알림 발송 - userId: {}", subscriber.getUserId());
@@ -5,15 +5,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.scoula.push.domain.NotificationType;
 import org.scoula.push.domain.SubscriptionVO;
 import org.scoula.push.domain.UserNotificationVO;
+import org.scoula.push.dto.fcm.FcmMessage;
 import org.scoula.push.dto.response.NotificationResponse;
 import org.scoula.push.mapper.SubscriptionMapper;
 import org.scoula.push.mapper.UserNotificationMapper;
-import org.scoula.push.service.core.AsyncNotificationService;
+import org.scoula.push.service.core.FcmFanoutService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 사용자 맞춤 알림 서비스
@@ -26,7 +32,7 @@ public class UserNotificationService {
 
     private final UserNotificationMapper userNotificationMapper;
     private final SubscriptionMapper subscriptionMapper;
-    private final AsyncNotificationService asyncNotificationService;
+    private final FcmFanoutService fcmFanoutService;
 
     /**
      * 새로운 알림을 생성하고 ID를 반환합니다 (개선된 버전)
@@ -121,6 +127,45 @@ public class UserNotificationService {
         sendBookmarkFCMToUserAsync(notificationId, userId, title, message);
     }
 
+    /**
+     * 북마크 알림 여러 건을 일괄 생성 후 FCM 발송 대기열에 추가
+     * - 알림 INSERT 1번 + 대상 사용자 토큰 조회 1번
+     *
+     * @param notifications userId, title, message, targetUrl 이 채워진 알림 목록
+     * @return 대기열에 추가한 FCM 메시지 수
+     */
+    public int createAndSendBookmarkNotifications(List<UserNotificationVO> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (UserNotificationVO notification : notifications) {
+            notification.setType(NotificationType.BOOKMARK);
+            notification.setIsRead(false);
+            notification.setCreatedAt(now);
+            userIds.add(notification.getUserId());
+        }
+        userNotificationMapper.insertNotifications(notifications);
+
+        Map<Long, List<String>> tokensByUser = new HashMap<>();
+        for (SubscriptionVO subscription : subscriptionMapper.findActiveBookmarkTokensByUserIds(new ArrayList<>(userIds))) {
+            tokensByUser.computeIfAbsent(subscription.getUserId(), id -> new ArrayList<>()).add(subscription.getFcmToken());
+        }
+
+        int enqueued = 0;
+        for (UserNotificationVO notification : notifications) {
+            for (String token : tokensByUser.getOrDefault(notification.getUserId(), List.of())) {
+                enqueueFCM(notification.getId(), token, notification.getTitle(), notification.getMessage());
+                enqueued++;
+            }
+        }
+        log.info("[북마크 알림 일괄 생성] 알림: {}건, 사용자: {}명, FCM 메시지: {}건",
+                notifications.size(), userIds.size(), enqueued);
+        return enqueued;
+    }
+
     /**
      * 피드백 알림을 동기 생성 후 비동기 FCM 발솠 (개선된 버전)
      */
@@ -172,10 +217,10 @@ public class UserNotificationService {
 
         log.info("[북마크 FCM 발송] 사용자 ID: {}에 대해 {}개의 활성 토큰 발견", userId, activeTokens.size());
 
-        // 각 토큰에 대해 비동기 FCM 발송
+        // 각 토큰을 팬아웃 대기열에 추가 (다른 알림과 묶어 최대 500건씩 발송)
         for (String token : activeTokens) {
-            asyncNotificationService.sendFCMWithLogging(notificationId, token, title, message);
-            log.debug("[북마크 비동기 FCM 발송 시작] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
+            enqueueFCM(notificationId, token, title, message);
+            log.debug("[북마크 팬아웃 대기열 추가] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
                      userId, notificationId, token.substring(0, Math.min(20, token.length())));
         }
     }
@@ -194,8 +239,8 @@ public class UserNotificationService {
         log.info("[TOP3 FCM 발송] 사용자 ID: {}에 대해 {}개의 활성 토큰 발견", userId, activeTokens.size());
 
         for (String token : activeTokens) {
-            asyncNotificationService.sendFCMWithLogging(notificationId, token, title, message);
-            log.debug("[TOP3 비동기 FCM 발송 시작] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
+            enqueueFCM(notificationId, token, title, message);
+            log.debug("[TOP3 팬아웃 대기열 추가] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
                      userId, notificationId, token.substring(0, Math.min(20, token.length())));
         }
     }
@@ -214,8 +259,8 @@ public class UserNotificationService {
         log.info("[신규 정책 FCM 발송] 사용자 ID: {}에 대해 {}개의 활성 토큰 발견", userId, activeTokens.size());
 
         for (String token : activeTokens) {
-            asyncNotificationService.sendFCMWithLogging(notificationId, token, title, message);
-            log.debug("[신규 정책 비동기 FCM 발송 시작] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
+            enqueueFCM(notificationId, token, title, message);
+            log.debug("[신규 정책 팬아웃 대기열 추가] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
                      userId, notificationId, token.substring(0, Math.min(20, token.length())));
         }
     }
@@ -234,10 +279,18 @@ public class UserNotificationService {
         log.info("[피드백 FCM 발송] 사용자 ID: {}에 대해 {}개의 활성 토큰 발견", userId, activeTokens.size());
 
         for (String token : activeTokens) {
-            asyncNotificationService.sendFCMWithLogging(notificationId, token, title, message);
-            log.debug("[피드백 비동기 FCM 발송 시작] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
+            enqueueFCM(notificationId, token, title, message);
+            log.debug("[피드백 팬아웃 대기열 추가] 사용자 ID: {}, 알림 ID: {}, 토큰: {}...", 
                      userId, notificationId, token.substring(0, Math.min(20, token.length())));
         }
     }
 
-}
\ No newline at end of file
+    private void enqueueFCM(Long notificationId, String token, String title, String message) {
+        fcmFanoutService.enqueue(FcmMessage.builder()
+                .notificationId(notificationId)
+                .fcmToken(token)
+                .title(title)
+                .body(message)
+                .build());
+    }
+}
@@ -0,0 +1,57 @@
+package org.scoula.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.asset.service.SpendingRollupService;
+import org.scoula.asset.service.TransactionCategorizer;
+import org.scoula.codef.service.WeeklySpendingSummaryService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetScheduler {
+
+    private final TransactionCategorizer transactionCategorizer;
+    private final SpendingRollupService spendingRollupService;
+    private final WeeklySpendingSummaryService weeklySpendingSummaryService;
+
+    /**
+     * 10분마다 거래 분류기 재적재 (DB 글로벌 카테고리 변경 반영, 서버 재시작 불필요)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void reloadTransactionCategorizer() {
+        try {
+            transactionCategorizer.reload();
+        } catch (Exception e) {
+            // 실패 시 기존 매처 유지
+            log.error("[자산 스케줄러] 거래 분류기 재적재 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 30분 월별 지출 집계 전체 재계산
+     * - 집계 테이블 최초 적재(백필) 겸 증분 갱신 누락 보정
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void rebuildSpendingRollups() {
+        try {
+            spendingRollupService.rebuildAll();
+        } catch (Exception e) {
+            log.error("[자산 스케줄러] 월별 지출 집계 재계산 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시 45분 이번 주 지출 요약 재계산 (화면 조회용, 피드백 알림은 발송 직전에 다시 계산)
+     */
+    @Scheduled(cron = "0 45 4 * * *", zone = "Asia/Seoul")
+    public void refreshWeeklySpendingSummaries() {
+        try {
+            weeklySpendingSummaryService.refreshCurrentWeek();
+        } catch (Exception e) {
+            log.error("[자산 스케줄러] 주간 지출 요약 재계산 중 오류 발생", e);
+        }
+    }
+}
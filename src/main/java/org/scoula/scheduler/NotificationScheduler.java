@@ -6,6 +6,7 @@ import org.scoula.push.service.notification.BookmarkPolicyNotificationService;
 import org.scoula.push.service.notification.FeedbackNotificationService;
 import org.scoula.push.service.notification.NewPolicyNotificationService;
 import org.scoula.push.service.notification.Top3NotificationService;
+import org.scoula.push.service.core.FcmFanoutService;
 import org.scoula.push.service.core.TokenCleanupService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,7 @@ public class NotificationScheduler {
     private final Top3NotificationService top3NotificationService;
     private final FeedbackNotificationService feedbackNotificationService;
     private final TokenCleanupService tokenCleanupService;
+    private final FcmFanoutService fcmFanoutService;
 
     /**
      * 북마크 알림 실시간 체크 및 발송 스케줄러 - 매일 오후 12시 실행
@@ -100,4 +102,16 @@ public class NotificationScheduler {
             log.error("📅 [토큰 정리 스케줄러] 오류: {}", e.getMessage());
         }
     }
+
+    /**
+     * FCM 팬아웃 대기열 발송 - 1초마다 실행 (500건이 모이기 전 남은 메시지 발송)
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushPendingPushMessages() {
+        try {
+            fcmFanoutService.flushPending();
+        } catch (Exception e) {
+            log.error("📅 [FCM 팬아웃] 대기열 발송 오류: {}", e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.scoula.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.policy.service.PolicyService;
+import org.scoula.policy.service.PolicyVectorRefreshService;
 import org.scoula.push.service.notification.BookmarkPolicyNotificationService;
 import org.scoula.userPolicy.service.UserVectorBatchService;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,6 +17,20 @@ public class PolicyScheduler {
     private final PolicyService policyService;
     private final UserVectorBatchService userVectorBatchService;
     private final BookmarkPolicyNotificationService bookmarkPolicyNotificationService;
+    private final PolicyVectorRefreshService policyVectorRefreshService;
+
+    /**
+     * 매일 00:05 정책 벡터 재계산 (날짜가 바뀌면 마감일 점수가 달라짐)
+     */
+    @Scheduled(cron = "0 5 0 * * *", zone = "Asia/Seoul")
+    public void refreshPolicyVectors() {
+        log.info("[정책 스케줄러] 정책 벡터 재계산 시작");
+        try {
+            policyVectorRefreshService.refreshAll();
+        } catch (Exception e) {
+            log.error("[정책 스케줄러] 정책 벡터 재계산 중 오류 발생", e);
+        }
+    }
 
     /**
      * 매일 새벽 5시에 정책 데이터 동기화 및 사용자 벡터 갱신 실행
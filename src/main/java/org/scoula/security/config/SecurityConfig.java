@@ -128,6 +128,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
                 // 게스트 정책 검색
                 .antMatchers("/api/guestPolicy/**").permitAll()
+                .antMatchers("/api/admin/guestPolicy/**").authenticated() // 게스트 검색 캐시 운영 지표
 
                 // 정책 상호작용 - 미완료 신청 조회
                 .antMatchers("/api/policy-interaction/application/incomplete").authenticated()
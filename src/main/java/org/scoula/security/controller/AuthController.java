@@ -1,5 +1,6 @@
 package org.scoula.security.controller;
 
+import io.jsonwebtoken.JwtException;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -293,14 +294,15 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh Token not found in cookies");
         }
 
-        // Refresh Token 유효성 검증 (서명 및 만료 확인)
-        if (!jwtProcessor.validateToken(refreshToken)) {
+        // Refresh Token 유효성 검증 (서명 및 만료 확인) + loginId 추출 (한 번만 파싱)
+        String loginId;
+        try {
+            loginId = jwtProcessor.parseOnce(refreshToken).getUsername();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT 검증 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh Token expired or faked");
         }
 
-        // 토큰에서 loginId 추출
-        String loginId = jwtProcessor.getUsername(refreshToken);
-
         // Redis에 저장된 refresh 토큰과 비교
         String stored = redisUtil.getRefreshToken("refresh_" + loginId);
         if (!refreshToken.equals(stored)) {
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import lombok.extern.slf4j.Slf4j;
 import org.scoula.security.util.JwtProcessor;
+import org.scoula.security.util.PrincipalCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -36,6 +37,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // 사용자 인증에 필요한 정보를 DB에서 조회해서 담는 커스텀 UserDetailService
     private final UserDetailsService userDetailsService;
 
+    // 요청마다 DB를 조회하지 않도록 사용자 정보 캐시
+    private final PrincipalCache principalCache;
+
 
 
 
@@ -88,11 +92,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private Authentication getAuthentication(String token) {
 
-        // 토큰에서 사용자명 추출
-        String username = jwtProcessor.getUsername(token);
+        // 토큰 서명 검증 + 사용자명 추출 (한 번만 파싱)
+        String username = jwtProcessor.parseOnce(token).getUsername();
 
-        // 사용자 정보 로드
-        UserDetails principal = userDetailsService.loadUserByUsername(username);
+        // 사용자 정보 로드 (캐시에 없을 때만 DB 조회)
+        UserDetails principal = principalCache.get(username, userDetailsService::loadUserByUsername);
 
         // Authentication 객체 생성 및 반환
         return new UsernamePasswordAuthenticationToken(
@@ -5,6 +5,7 @@ import org.scoula.common.util.RedisUtil;
 import org.scoula.security.account.domain.MemberVO;
 import org.scoula.security.dto.LoginDTO;
 import org.scoula.security.util.JwtProcessor;
+import org.scoula.security.util.PrincipalCache;
 import org.scoula.security.account.mapper.UserDetailsMapper;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -26,6 +27,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtProcessor jwtProcessor;
     private final RedisUtil redisUtil;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     // 로그인
     @Override
@@ -57,6 +59,7 @@ public class AuthServiceImpl implements AuthService {
     public void logout(String username) {
         // Redis에서 Refresh Token 삭제
         redisUtil.deleteRefreshToken("refresh_" + username);
+        principalCache.evict(username);
     }
 
 
@@ -76,6 +79,7 @@ public class AuthServiceImpl implements AuthService {
         }
         String encrypted = passwordEncoder.encode(password);
         userDetailsMapper.resetPassword(loginId, encrypted);
+        principalCache.evict(loginId);
         return true;
     }
 
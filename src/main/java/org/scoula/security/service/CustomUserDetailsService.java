@@ -20,7 +20,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     // loadUserByUsername() : 사용자 이름(username)을 이용해 사용자 정보를 조회하는 서비스
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info(">>> 로그인 시도: username={}", username);
+        // 로그인 외에 JWT 인증(캐시 미적중)에서도 호출되므로 debug 로 기록
+        log.debug(">>> 사용자 조회: username={}", username);
 
         MemberVO vo = mapper.get(username);
 
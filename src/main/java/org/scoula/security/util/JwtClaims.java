@@ -0,0 +1,28 @@
+package org.scoula.security.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT 의 클레임 (JwtProcessor.parseOnce 결과)
+ * - 한 번 파싱한 결과에서 사용자명, 권한, 만료 시간을 모두 꺼내 쓰기 위한 불변 객체
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class JwtClaims {
+
+    private final String username;   // subject
+    private final String role;       // "role" 클레임 (없으면 null)
+    private final Date expiration;   // 만료 시간 (없으면 null)
+
+    /**
+     * 주어진 시각 기준 만료 여부
+     */
+    public boolean isExpiredAt(Date now) {
+        return expiration != null && expiration.before(now);
+    }
+}
@@ -18,9 +18,15 @@ public class JwtProcessor {
 
     private final Key key;
 
-    // 생성자를 통해 키 초기화
+    // 검증용 파서 (불변, 스레드 안전) - 요청마다 parserBuilder 를 새로 만들지 않도록 재사용
+    private final JwtParser parser;
+
+    // 생성자를 통해 키 및 파서 초기화
     public JwtProcessor(@Value("${jwt.secret}") String secretKey) {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /* ***** 토큰 생성 메서드 ***** */
@@ -82,6 +88,18 @@ public class JwtProcessor {
 
     /* ***** 토큰 검증 및 정보 추출 ***** */
 
+    /**
+     * JWT 서명/유효 기간 검증 후 클레임 추출 (파서는 생성자에서 한 번만 만들어 재사용)
+     * @param token JWT 토큰
+     * @return 사용자명, 권한, 만료 시간
+     * @throws JwtException 토큰 해석 불가(서명 불일치, 만료 등) 시 예외 발생
+     * @throws IllegalArgumentException 토큰이 비어 있을 때
+     */
+    public JwtClaims parseOnce(String token) {
+        Claims body = parser.parseClaimsJws(token).getBody();
+        return new JwtClaims(body.getSubject(), body.get("role", String.class), body.getExpiration());
+    }
+
     /**
      * JWT Subject(username) 추출
      * @param token JWT 토큰
@@ -89,12 +107,7 @@ public class JwtProcessor {
      * @throws JwtException 토큰 해석 불가 시 예외 발생
      */
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseOnce(token).getUsername();
     }
 
     /**
@@ -104,12 +117,7 @@ public class JwtProcessor {
      * @throws JwtException 토큰 해석 불가 시 예외 발생
      */
     public String getRole(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);
+        return parseOnce(token).getRole();
     }
 
 
@@ -120,10 +128,7 @@ public class JwtProcessor {
      */
     public boolean validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseOnce(token);
             return true;
         } catch (Exception e) {
             log.error("JWT 검증 실패: {}", e.getMessage());
@@ -138,14 +143,7 @@ public class JwtProcessor {
      */
     public boolean isTokenExpired(String token) {
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration();
-
-            return expiration.before(new Date());
+            return parseOnce(token).isExpiredAt(new Date());
         } catch (JwtException e) {
             log.error("토큰 만료 확인 중 오류: {}", e.getMessage());
             return true; // 토큰이 파싱 안 되면 무효
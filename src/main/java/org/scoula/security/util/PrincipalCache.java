@@ -0,0 +1,119 @@
+package org.scoula.security.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 요청의 사용자 정보(principal) 캐시 (메모리)
+ * - JwtAuthenticationFilter 가 요청마다 사용자 정보를 DB 에서 다시 읽지 않도록 사용자명 단위로 보관
+ * - 로그인(비밀번호 확인)은 이 캐시를 사용하지 않음
+ * - 아래 이벤트에서 무효화, 그 외에는 TTL_MILLIS 후 다시 조회
+ *   · 로그아웃, 비밀번호 재설정 (AuthServiceImpl)
+ *   · 프로필 이미지 변경 (MemberServiceImpl)
+ * - 조회는 맵 밖에서 실행 (사용자별 진행 중 조회를 future 로 공유, 같은 사용자의 동시 요청은 한 번만 조회)
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 사용자 정보 조회, 없거나 만료되었으면 loader 로 조회 후 저장
+     * - loader 는 ConcurrentHashMap 연산 밖에서 실행되므로 DB 조회가 느려도 다른 사용자 키를 막지 않음
+     * - 조회 중 무효화되면 조회한 결과는 이번 호출에만 반환하고 캐시에는 남지 않음
+     * @param username 사용자명 (JWT subject)
+     * @param loader 사용자 정보 조회 함수 (없는 사용자면 예외)
+     * @return 사용자 정보
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        Entry entry = entries.get(username);
+        if (entry != null && entry.isExpired()) {
+            entries.remove(username, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            if (entries.size() >= MAX_ENTRIES) {
+                evictExpired();
+            }
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(username, created);
+            if (entry == null) {
+                entry = created;
+                load(username, created, loader);
+            }
+        }
+        return entry.join();
+    }
+
+    /**
+     * 특정 사용자 정보 무효화
+     */
+    public void evict(String username) {
+        if (username != null && entries.remove(username) != null) {
+            log.debug("[사용자 정보 캐시] 무효화 - username: {}", username);
+        }
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        if (entries.size() >= MAX_ENTRIES) {
+            // 유효한 항목만으로 가득 찬 경우 전체 비우고 다시 채움
+            log.warn("[사용자 정보 캐시] 최대 항목 수 초과 - 전체 비움 (size: {})", entries.size());
+            entries.clear();
+        }
+    }
+
+    private void load(String username, Entry entry, Function<String, UserDetails> loader) {
+        try {
+            entry.future.complete(loader.apply(username));
+        } catch (RuntimeException | Error e) {
+            // 없는 사용자/조회 실패는 캐시하지 않음 (기다리던 요청도 같은 예외)
+            entries.remove(username, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<UserDetails> future = new CompletableFuture<>();
+        private final long loadedAt = System.currentTimeMillis();
+
+        // 다른 요청이 조회 중이면 완료까지 대기
+        private UserDetails join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > TTL_MILLIS;
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class UserVectorVO {
     /** 마지막 갱신 시각 */
     private Timestamp updatedAt;
 
+    /** 마지막으로 반영한 일일 조회 날짜 (yyyyMMdd, 배치 재실행 시 중복 반영 방지) */
+    private String lastViewDate;
+
     /**
      * 벡터를 double 배열로 변환 (null 안전)
      * @return 3차원 double 배열 [혜택금액, 마감일, 조회수]
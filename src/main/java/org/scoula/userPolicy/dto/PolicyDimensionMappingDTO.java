@@ -0,0 +1,18 @@
+package org.scoula.userPolicy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정책-조건 매핑 한 건 (정책 자격 인덱스 적재용)
+ * dimension: REGION, EDUCATION, EMPLOYMENT, MAJOR, SPECIAL, KEYWORD
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyDimensionMappingDTO {
+    private String dimension;
+    private Long policyId;
+    private Long valueId;
+}
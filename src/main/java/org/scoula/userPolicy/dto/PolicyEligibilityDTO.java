@@ -0,0 +1,66 @@
+package org.scoula.userPolicy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정책 자격 인덱스 적재용 DTO
+ * 정책 표시 정보 + 벡터 + 나이/혼인/소득 조건을 한 행으로 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PolicyEligibilityDTO {
+    // 기본 정책 정보 (PolicyWithVectorDTO와 동일)
+    private Long policyId;
+    private String title;
+    private String policyBenefitDescription;
+    private String endDate;
+    private Long policyBenefitAmount;
+    private String largeCategory;
+    private String applyUrl;
+    private Integer views;
+
+    // 벡터 정보
+    private BigDecimal vecBenefitAmount;
+    private BigDecimal vecDeadline;
+    private BigDecimal vecViews;
+
+    // 자격 조건 (youth_policy_condition)
+    private Integer minAge;
+    private Integer maxAge;
+    private Boolean ageLimitYn;
+    private String marriageStatus;
+    private Long incomeMin;
+    private Long incomeMax;
+    private String incomeConditionCode;
+
+    // 신청 마감일 (youth_policy_period.apply_end, 없으면 상시 모집)
+    private LocalDate applyEnd;
+
+    /**
+     * 인덱스에서 꺼낸 정책을 호출자가 수정(similarity 등)해도 원본이 바뀌지 않도록 새 DTO로 변환
+     * @return 새 PolicyWithVectorDTO
+     */
+    public PolicyWithVectorDTO toPolicyWithVectorDTO() {
+        return PolicyWithVectorDTO.builder()
+                .policyId(policyId)
+                .title(title)
+                .policyBenefitDescription(policyBenefitDescription)
+                .endDate(endDate)
+                .policyBenefitAmount(policyBenefitAmount)
+                .vecBenefitAmount(vecBenefitAmount)
+                .vecDeadline(vecDeadline)
+                .vecViews(vecViews)
+                .largeCategory(largeCategory)
+                .applyUrl(applyUrl)
+                .views(views)
+                .build();
+    }
+}
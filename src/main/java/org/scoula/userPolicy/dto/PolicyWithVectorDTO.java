@@ -31,6 +31,9 @@ public class PolicyWithVectorDTO {
     // 계산된 유사도
     private Double similarity;            // 코사인 유사도 점수
 
+    // 검색어 관련도 (FULLTEXT MATCH 점수, 검색어가 없으면 null)
+    private Double relevance;
+
     // 추가: 대분류 카테고리, 신청 URL
     private String largeCategory;
     private String applyUrl;
@@ -1,10 +1,12 @@
 package org.scoula.userPolicy.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -23,4 +25,44 @@ public class SearchRequestDTO {
     private List<String> keywords;
 
     private List<String> searchTexts; // ← 자유 검색어 (제목, 내용 등에서 검색)
-}
\ No newline at end of file
+
+    // MySQL ngram_token_size 기본값 (이보다 짧은 검색어는 FULLTEXT 로 찾을 수 없음)
+    private static final int MIN_FULLTEXT_TERM_LENGTH = 2;
+
+    /**
+     * 자유 검색어를 FULLTEXT BOOLEAN MODE 검색식으로 변환
+     * - 검색어마다 "구문" 으로 묶어 연산자 없이 나열 (검색어 중 하나라도 포함하면 매칭)
+     * @return 검색식, FULLTEXT 로 찾을 검색어가 없으면 null
+     */
+    @JsonIgnore
+    public String getSearchQuery() {
+        if (searchTexts == null) return null;
+        StringBuilder query = new StringBuilder();
+        for (String searchText : searchTexts) {
+            if (searchText == null) continue;
+            String term = searchText.replace('"', ' ').trim();
+            if (term.length() < MIN_FULLTEXT_TERM_LENGTH) continue;
+            if (query.length() > 0) query.append(' ');
+            query.append('"').append(term).append('"');
+        }
+        return query.length() > 0 ? query.toString() : null;
+    }
+
+    /**
+     * FULLTEXT 로 찾을 수 없는 짧은 검색어 (LIKE 로 검색, 검색식과 OR 로 결합)
+     * @return 짧은 검색어 목록, 없으면 null
+     */
+    @JsonIgnore
+    public List<String> getShortSearchTexts() {
+        if (searchTexts == null) return null;
+        List<String> shortTerms = new ArrayList<>();
+        for (String searchText : searchTexts) {
+            if (searchText == null) continue;
+            String term = searchText.replace('"', ' ').trim();
+            if (!term.isEmpty() && term.length() < MIN_FULLTEXT_TERM_LENGTH) {
+                shortTerms.add(term);
+            }
+        }
+        return shortTerms.isEmpty() ? null : shortTerms;
+    }
+}
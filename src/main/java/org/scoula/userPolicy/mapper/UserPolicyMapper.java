@@ -2,6 +2,8 @@ package org.scoula.userPolicy.mapper;
 
 import org.apache.ibatis.annotations.Param;
 import org.scoula.userPolicy.domain.*;
+import org.scoula.userPolicy.dto.PolicyDimensionMappingDTO;
+import org.scoula.userPolicy.dto.PolicyEligibilityDTO;
 import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
 import org.scoula.userPolicy.dto.SearchRequestDTO;
 import org.scoula.userPolicy.dto.SearchResultDTO;
@@ -35,6 +37,15 @@ public interface UserPolicyMapper {
     // 조건 없이 is_financial_support=1 정책 조회 (조회수 포함)
     List<PolicyWithVectorDTO> findFinancialPoliciesWithVectors();
 
+    // 정책 자격 인덱스 적재용: 금융 지원 정책 + 자격 조건 전체 조회
+    List<PolicyEligibilityDTO> findAllPolicyEligibilities();
+
+    // 정책 자격 인덱스 적재용: 정책-조건 매핑 전체 조회
+    List<PolicyDimensionMappingDTO> findAllPolicyDimensionMappings();
+
+    // 사용자가 신청 완료한 정책 ID 목록
+    List<Long> findAppliedPolicyIdsByUserId(Long userId);
+
     // 필터링된 정책 목록을 저장
     void saveUserFilteredPolicies(List<UserFilteredPoliciesVO> filteredPolicies);
 
@@ -64,4 +75,10 @@ public interface UserPolicyMapper {
 
     // 사용자 벡터 삭제
     void deleteUserVectorByUserId(Long userId);
+
+    // 여러 사용자의 벡터를 한 번에 조회 (벡터 배치용)
+    List<UserVectorVO> findUserVectorsByUserIds(@Param("userIds") List<Long> userIds);
+
+    // 여러 사용자의 벡터를 한 번에 저장/수정 (INSERT ... ON DUPLICATE KEY UPDATE)
+    int upsertUserVectors(@Param("userVectors") List<UserVectorVO> userVectors);
 }
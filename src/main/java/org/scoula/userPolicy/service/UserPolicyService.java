@@ -42,6 +42,14 @@ public interface UserPolicyService {
      */
     List<SearchResultDTO> searchMatchingPolicy(String username);
 
+    /**
+     * 사용자 ID로 맞춤 정책 목록을 조회합니다. (사용자 정보 조회 생략, 스케줄러용)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 맞춤 정책 목록 (정책 조건이 없으면 null)
+     */
+    List<SearchResultDTO> searchMatchingPolicyByUserId(Long userId);
+
     /**
      * 사용자 선택한 조건과 작성한 검색어에 따라 필터링된 정책 목록을 조회합니다.
      *
@@ -15,6 +15,10 @@ import org.scoula.userPolicy.mapper.UserPolicyMapper;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.scoula.userPolicy.util.PolicyEligibilityIndex;
+import org.scoula.userPolicy.util.PolicySearchRanker;
+import org.scoula.userPolicy.util.PolicyVectorScorer;
+import org.scoula.userPolicy.util.UserRecommendationCache;
 import org.scoula.userPolicy.util.VectorUtil;
 import org.scoula.userPolicy.domain.UserVectorVO;
 import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
@@ -22,9 +26,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +42,9 @@ public class UserPolicyServiceImpl implements UserPolicyService {
     private final PolicyDataHolder policyDataHolder;
     private final RedisUtil redisUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final PolicyEligibilityIndex policyEligibilityIndex;
+    private final PolicyVectorScorer policyVectorScorer;
+    private final UserRecommendationCache userRecommendationCache;
 
 
     private static final String POPULAR_KEYWORDS_KEY = "popular_keywords";
@@ -320,6 +324,9 @@ public class UserPolicyServiceImpl implements UserPolicyService {
             userPolicyMapper.updateUserVector(userVector);
         }
 
+        // 조건/벡터가 바뀌었으므로 추천 결과 무효화
+        userRecommendationCache.evictAfterCommit(userId);
+
         return testResultRequestDTO;
     }
 
@@ -515,6 +522,9 @@ public class UserPolicyServiceImpl implements UserPolicyService {
             userPolicyMapper.updateUserVector(userVector);
         }
 
+        // 조건/벡터가 바뀌었으므로 추천 결과 무효화
+        userRecommendationCache.evictAfterCommit(userId);
+
         return testResultRequestDTO;
     }
 
@@ -552,6 +562,7 @@ public class UserPolicyServiceImpl implements UserPolicyService {
 
         // 3. 정책 조건 테이블 삭제
         userPolicyMapper.deleteUserPolicyConditionById(userPolicyConditionId);
+        userRecommendationCache.evictAfterCommit(userId);
 
         log.info("사용자 정책 조건 및 관련 데이터 삭제 완료: userId={}", userId);
     }
@@ -619,41 +630,10 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         }
         searchRequestDTO.setRegions(new ArrayList<>(expandedRegionNames));
 
-        List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
-        // 마감일 필터링 로직 추가 (로그 포함)
-        LocalDate today = LocalDate.now();
-        DateTimeFormatter formatterDot = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        DateTimeFormatter formatterPlain = DateTimeFormatter.ofPattern("yyyyMMdd");
+        // 마감된 정책은 SQL(apply_end)/정책 자격 인덱스에서 제외됨
+        List<PolicyWithVectorDTO> policiesWithVectors = findFilteredPolicies(searchRequestDTO);
 
         List<Long> matchingPolicyIds = policiesWithVectors.stream()
-            .filter(policy -> {
-                String endDateStr = policy.getEndDate();
-                if (endDateStr == null || !endDateStr.contains("~")) {
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → 마감일 ��보 없음, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-                String[] parts = endDateStr.split("~");
-                if (parts.length < 2) {
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → ~ 이후 정보 없음, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-                String rawEndDate = parts[1].trim();
-                String datePart = rawEndDate.split(" ")[0].trim();
-                LocalDate endDate = null;
-                try {
-                    if (datePart.contains(".")) {
-                        endDate = LocalDate.parse(datePart, formatterDot);
-                    } else {
-                        endDate = LocalDate.parse(datePart, formatterPlain);
-                    }
-                    boolean include = !endDate.isBefore(today);
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → 마감일={}, 오늘={}, 포함여부={}", policy.getPolicyId(), endDateStr, endDate, today, include);
-                    return include;
-                } catch (DateTimeParseException e) {
-                    log.warn("[마감일필터] 정책ID={} endDate='{}' → 날짜 파싱 실패, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-            })
             .map(PolicyWithVectorDTO::getPolicyId)
             .collect(Collectors.toList());
 
@@ -688,7 +668,26 @@ public class UserPolicyServiceImpl implements UserPolicyService {
             log.error("사용자를 찾을 수 없습니다: username={}", username);
             return null; // Or throw an exception
         }
-        Long userId = member.getUserId();
+        return searchMatchingPolicyByUserId(member.getUserId());
+    }
+
+    /**
+     * 사용자 ID로 맞춤 정책을 조회합니다. (추천 캐시 사용)
+     *
+     * @param userId 사용자 ID
+     * @return 정책 목록 (정책 조건이 없으면 null)
+     */
+    @Override
+    public List<SearchResultDTO> searchMatchingPolicyByUserId(Long userId) {
+        return userRecommendationCache.get(userId, this::computeMatchingPolicies);
+    }
+
+    /**
+     * 사용자 정책 조건 + 벡터로 맞춤 정책 목록을 계산합니다.
+     * @param userId 사용자 ID
+     * @return 정책 목록 (정책 조건이 없으면 null)
+     */
+    private List<SearchResultDTO> computeMatchingPolicies(Long userId) {
         UserPolicyConditionVO userPolicyCondition = userPolicyMapper.findUserPolicyConditionByUserId(userId);
         if (userPolicyCondition == null) {
             log.info("사용자 정책 조건이 존재하지 않습니다: userId={}", userId);
@@ -745,42 +744,8 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         searchRequestDTO.setRegions(new ArrayList<>(expandedRegionNames));
 
 
-        // 1. 맞춤형 정책 목록 조회 (신청 완료한 정책 제외)
-        List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findMatchingPoliciesExcludingApplied(searchRequestDTO, userId);
-        // 마감일 필터링 로직 추가 (로그 포함)
-        LocalDate today = LocalDate.now();
-        DateTimeFormatter formatterDot = DateTimeFormatter.ofPattern("yyyy.MM.dd");
-        DateTimeFormatter formatterPlain = DateTimeFormatter.ofPattern("yyyyMMdd");
-        List<PolicyWithVectorDTO> filteredPoliciesWithVectors = policiesWithVectors.stream()
-            .filter(policy -> {
-                String endDateStr = policy.getEndDate();
-                if (endDateStr == null || !endDateStr.contains("~")) {
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → 마감일 정보 없음, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-                String[] parts = endDateStr.split("~");
-                if (parts.length < 2) {
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → ~ 이후 정보 없음, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-                String rawEndDate = parts[1].trim();
-                String datePart = rawEndDate.split(" ")[0].trim();
-                LocalDate endDate = null;
-                try {
-                    if (datePart.contains(".")) {
-                        endDate = LocalDate.parse(datePart, formatterDot);
-                    } else {
-                        endDate = LocalDate.parse(datePart, formatterPlain);
-                    }
-                    boolean include = !endDate.isBefore(today);
-                    log.debug("[마감일필터] 정책ID={} endDate='{}' → 마감일={}, 오늘={}, 포함여부={}", policy.getPolicyId(), endDateStr, endDate, today, include);
-                    return include;
-                } catch (DateTimeParseException e) {
-                    log.warn("[마감일필터] 정책ID={} endDate='{}' → 날짜 파싱 실패, 포함", policy.getPolicyId(), endDateStr);
-                    return true;
-                }
-            })
-            .collect(Collectors.toList());
+        // 1. 맞춤형 정책 목록 조회 (신청 완료한 정책 제외, 마감된 정책은 SQL/정책 자격 인덱스에서 제외)
+        List<PolicyWithVectorDTO> filteredPoliciesWithVectors = findMatchingPoliciesExcludingApplied(searchRequestDTO, userId);
 
         // 2. 사용자 벡터 조회
         UserVectorVO userVector = userPolicyMapper.findUserVectorByUserId(userId);
@@ -797,15 +762,7 @@ public class UserPolicyServiceImpl implements UserPolicyService {
             // 3. 코사인 유사도 계산 및 정렬
             log.info("벡터 기반 추천 시작 - userId: {}, 정책 수: {}", userId, filteredPoliciesWithVectors.size());
 
-            searchResultDTO = filteredPoliciesWithVectors.stream()
-                    .filter(policy -> policy.getVecBenefitAmount() != null)
-                    .map(policy -> {
-                        // 코사인 유사도 계산
-                        double similarity = VectorUtil.calculateCosineSimilarity(userVector, policy);
-                        policy.setSimilarity(similarity);
-                        return policy;
-                    })
-                    .sorted((p1, p2) -> Double.compare(p2.getSimilarity(), p1.getSimilarity()))
+            searchResultDTO = policyVectorScorer.rank(userVector, filteredPoliciesWithVectors).stream()
                     .map(VectorUtil::toSearchResultDTO)
                     .collect(Collectors.toList());
 
@@ -863,7 +820,7 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         searchRequestDTO.setRegions(new ArrayList<>(expandedRegionNames));
 
         // 1. 벡터 정보를 포함한 정책 목록 조회 (N+1 문제 해결)
-        List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
+        List<PolicyWithVectorDTO> policiesWithVectors = findFilteredPolicies(searchRequestDTO);
 
         // 2. 사용자 벡터 조회
         UserVectorVO userVector = userPolicyMapper.findUserVectorByUserId(userId);
@@ -873,22 +830,16 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         if (userVector == null) {
             // 사용자 벡터가 없으면 기본 정렬 (벡터 없이 반환)
             log.info("사용자 벡터 없음 - 기본 정렬 적용, userId: {}", userId);
-            searchResultDTO = policiesWithVectors.stream()
+            // 검색어가 있으면 관련도 순
+            searchResultDTO = PolicySearchRanker.rank(policiesWithVectors).stream()
                     .map(VectorUtil::toSearchResultDTO)
                     .collect(Collectors.toList());
         } else {
             // 3. 코사인 유사도 계산 및 정렬
             log.info("벡터 기반 추천 시작 - userId: {}, 정책 수: {}", userId, policiesWithVectors.size());
 
-            searchResultDTO = policiesWithVectors.stream()
-                    .filter(policy -> policy.getVecBenefitAmount() != null) // 벡터가 있는 정책만
-                    .map(policy -> {
-                        // 코사인 유사도 계산
-                        double similarity = VectorUtil.calculateCosineSimilarity(userVector, policy);
-                        policy.setSimilarity(similarity);
-                        return policy;
-                    })
-                    .sorted((p1, p2) -> Double.compare(p2.getSimilarity(), p1.getSimilarity())) // 유사도 내림차순
+            // 벡터가 있는 정책만 유사도 내림차순으로 정렬 (검색어가 있으면 관련도와 합산한 점수 순)
+            searchResultDTO = PolicySearchRanker.rank(policyVectorScorer.rank(userVector, policiesWithVectors)).stream()
                     .map(VectorUtil::toSearchResultDTO) // SearchResultDTO로 변환
                     .collect(Collectors.toList());
 
@@ -898,6 +849,38 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         return searchResultDTO;
     }
 
+    /**
+     * 조건에 맞는 정책 조회 - 정책 자격 인덱스 사용 가능 시 메모리에서, 아니면 SQL로 조회
+     * @param searchRequestDTO 지역 코드 확장이 끝난 검색 조건
+     * @return 벡터 정보를 포함한 정책 목록
+     */
+    private List<PolicyWithVectorDTO> findFilteredPolicies(SearchRequestDTO searchRequestDTO) {
+        if (canUseEligibilityIndex(searchRequestDTO)) {
+            return policyEligibilityIndex.findMatching(searchRequestDTO);
+        }
+        return userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
+    }
+
+    /**
+     * 신청 완료한 정책을 제외하고 조건에 맞는 정책 조회
+     * @param searchRequestDTO 지역 코드 확장이 끝난 검색 조건
+     * @param userId 사용자 ID
+     * @return 벡터 정보를 포함한 정책 목록
+     */
+    private List<PolicyWithVectorDTO> findMatchingPoliciesExcludingApplied(SearchRequestDTO searchRequestDTO, Long userId) {
+        if (canUseEligibilityIndex(searchRequestDTO)) {
+            Set<Long> appliedPolicyIds = new HashSet<>(userPolicyMapper.findAppliedPolicyIdsByUserId(userId));
+            return policyEligibilityIndex.findMatching(searchRequestDTO, appliedPolicyIds);
+        }
+        return userPolicyMapper.findMatchingPoliciesExcludingApplied(searchRequestDTO, userId);
+    }
+
+    // 자유 검색어(FULLTEXT 검색)는 인덱스에서 처리하지 않음
+    private boolean canUseEligibilityIndex(SearchRequestDTO searchRequestDTO) {
+        return policyEligibilityIndex.isReady()
+                && (searchRequestDTO.getSearchTexts() == null || searchRequestDTO.getSearchTexts().isEmpty());
+    }
+
     /**
      * 주어진 리스트에서 빈 문자열을 제거하는 유틸리티 메소드.
      * @param list 문자열 리스트
@@ -1093,7 +1076,7 @@ public class UserPolicyServiceImpl implements UserPolicyService {
         }
         searchRequestDTO.setRegions(new ArrayList<>(expandedRegionNames));
 
-        List<PolicyWithVectorDTO> policiesWithVectors = userPolicyMapper.findFilteredPoliciesWithVectors(searchRequestDTO);
+        List<PolicyWithVectorDTO> policiesWithVectors = findFilteredPolicies(searchRequestDTO);
 
         // 조회수 기준 내림차순 정렬 후 상위 3개만 반환
         return policiesWithVectors.stream()
@@ -7,21 +7,30 @@ import org.scoula.policy.domain.PolicyVectorVO;
 import org.scoula.policy.mapper.PolicyMapper;
 import org.scoula.userPolicy.domain.UserVectorVO;
 import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
+import org.scoula.userPolicy.util.UserRecommendationCache;
 import org.scoula.userPolicy.util.UserVectorUtil;
 import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 사용자 벡터 배치 갱신 서비스
+ * - 정책 벡터 전체를 한 번만 읽어 double[] 로 보관
+ * - Redis 조회 기록을 사용자 청크 단위로 읽고, 청크마다 작업 스레드에서
+ *   사용자 벡터 일괄 조회 → EMA 계산(double) → 일괄 저장(upsert) → Redis 청크 삭제
+ * - 청크 저장이 끝난 뒤에만 Redis 데이터를 지우므로 중단 후 재실행하면 남은 청크부터 이어서 처리
+ * - 저장 시 반영한 날짜(last_view_date)를 함께 기록하므로, 저장 후 Redis 삭제가 실패해 같은 날짜가
+ *   다시 읽혀도 이미 반영한 사용자는 건너뜀 (EMA 중복 적용 방지)
  */
 @Slf4j
 @Service
@@ -32,158 +41,184 @@ public class UserVectorBatchService {
     private final PolicyInteractionMapper policyInteractionMapper;
     private final PolicyMapper policyMapper;
     private final UserPolicyMapper userPolicyMapper;
-    
+    private final UserRecommendationCache userRecommendationCache;
+
+    @Autowired
+    @Qualifier("vectorBatchExecutor")
+    private Executor vectorBatchExecutor;
+
     // EMA 학습률 (alpha)
     private static final double ALPHA = 0.1;
-    
+
     // 날짜 포맷터
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 
+    // Redis 조회 기록을 한 번에 읽어 처리할 사용자 수 (= 일괄 저장 단위)
+    private static final int USER_CHUNK_SIZE = 500;
+
     /**
      * 사용자 벡터의 3차원 전체를 EMA 방식으로 갱신
      * 조회 행동이 모든 차원의 선호도에 영향을 준다고 가정
      */
     public void updateUserVectorsByEMA() {
         String yesterday = LocalDate.now().minusDays(1).format(DATE_FORMATTER);
-        
+        long start = System.currentTimeMillis();
+
         try {
-            Set<String> dailyViewKeys = redisUtil.getAllDailyViewKeys(yesterday);
-            if (dailyViewKeys.isEmpty()) {
+            // 0. 배포 전 형식으로 남은 조회 기록을 현재 형식으로 이전 (이전 완료 후에는 바로 반환)
+            redisUtil.migrateLegacyDailyViews();
+
+            // 1. 정책 벡터 전체 1회 적재
+            Map<Long, double[]> policyVectors = loadPolicyVectors();
+
+            AtomicInteger processedUsers = new AtomicInteger();
+            AtomicInteger totalUpdatedVectors = new AtomicInteger();
+            AtomicInteger failedChunks = new AtomicInteger();
+            List<CompletableFuture<Void>> chunkTasks = new ArrayList<>();
+
+            // 2. 사용자 청크 단위로 조회 데이터를 읽어 작업 스레드에 분배 (KEYS 미사용)
+            redisUtil.scanDailyViews(yesterday, USER_CHUNK_SIZE, viewsByUser ->
+                    chunkTasks.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            totalUpdatedVectors.addAndGet(processChunk(viewsByUser, policyVectors, yesterday));
+                            processedUsers.addAndGet(viewsByUser.size());
+                        } catch (Exception e) {
+                            // 실패한 청크는 Redis 데이터가 남아 있으므로 재실행 시 다시 처리됨
+                            failedChunks.incrementAndGet();
+                            log.error("사용자 벡터 청크 처리 실패 - 사용자 수: {}, 오류: {}",
+                                    viewsByUser.size(), e.getMessage());
+                        }
+                    }, vectorBatchExecutor)));
+
+            // 3. 모든 청크 완료 대기
+            CompletableFuture.allOf(chunkTasks.toArray(new CompletableFuture[0])).join();
+
+            if (chunkTasks.isEmpty()) {
                 log.info("갱신할 조회 데이터 없음 - 날짜: {}", yesterday);
                 return;
             }
-            
-            // 사용자별로 그룹화하여 처리
-            Map<Long, List<String>> userViewData = groupByUser(dailyViewKeys);
-            int processedUsers = 0;
-            int totalUpdatedVectors = 0;
-            
-            for (Map.Entry<Long, List<String>> entry : userViewData.entrySet()) {
-                Long userId = entry.getKey();
-                List<String> userKeys = entry.getValue();
-                
-                int updatedVectors = processUserViewsDimensionUpdate(userId, userKeys, yesterday);
-                totalUpdatedVectors += updatedVectors;
-                processedUsers++;
-                
-                // Redis 데이터 정리
-                redisUtil.deleteDailyViewData(userId, yesterday);
-            }
-            
-            log.info("3차원 벡터 갱신 완료 - 처리 사용자: {}, 갱신 벡터: {}", 
-                    processedUsers, totalUpdatedVectors);
-                    
+
+            long elapsedMillis = Math.max(System.currentTimeMillis() - start, 1);
+            log.info("3차원 벡터 갱신 완료 - 처리 사용자: {}, 갱신 벡터: {}, 실패 청크: {}, 소요: {}ms, 처리량: {} users/sec",
+                    processedUsers.get(), totalUpdatedVectors.get(), failedChunks.get(), elapsedMillis,
+                    String.format("%.1f", processedUsers.get() * 1000.0 / elapsedMillis));
+
         } catch (Exception e) {
             log.error("3차원 벡터 갱신 중 오류 발생", e);
             throw e;
         }
     }
-    
+
     /**
-     * Redis 키를 사용자별로 그룹화
+     * policy_vector 전체를 정책 ID → [혜택금액, 마감일, 조회수] 로 적재
      */
-    private Map<Long, List<String>> groupByUser(Set<String> keys) {
-        return keys.stream()
-                .collect(Collectors.groupingBy(key -> {
-                    Long[] ids = redisUtil.extractIdsFromKey(key);
-                    return ids != null ? ids[0] : -1L;
-                }))
-                .entrySet().stream()
-                .filter(entry -> entry.getKey() != -1L)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private Map<Long, double[]> loadPolicyVectors() {
+        List<PolicyVectorVO> vectors = policyMapper.findAllPolicyVectors();
+        Map<Long, double[]> policyVectors = new HashMap<>(vectors.size() * 2);
+        for (PolicyVectorVO vector : vectors) {
+            if (vector.getPolicyId() != null && vector.getVecBenefitAmount() != null
+                    && vector.getVecDeadline() != null && vector.getVecViews() != null) {
+                policyVectors.put(vector.getPolicyId(), new double[]{
+                        vector.getVecBenefitAmount().doubleValue(),
+                        vector.getVecDeadline().doubleValue(),
+                        vector.getVecViews().doubleValue()
+                });
+            }
+        }
+        log.info("정책 벡터 적재 완료 - {}건", policyVectors.size());
+        return policyVectors;
     }
-    
+
     /**
-     * 개별 사용자의 3차원 벡터 전체 갱신 처리
+     * 사용자 청크 하나 처리: 벡터 일괄 조회 → EMA 계산 → 일괄 저장 → Redis 정리
+     * @param viewsByUser 사용자 ID → (정책 ID → 전날 조회수)
+     * @return 갱신에 반영된 (사용자, 정책) 수
      */
-    private int processUserViewsDimensionUpdate(Long userId, List<String> userKeys, String date) {
+    int processChunk(Map<Long, Map<Long, Long>> viewsByUser, Map<Long, double[]> policyVectors, String date) {
+        List<Long> userIds = new ArrayList<>(viewsByUser.keySet());
+        Map<Long, UserVectorVO> currentVectors = new HashMap<>(userIds.size() * 2);
+        for (UserVectorVO vector : userPolicyMapper.findUserVectorsByUserIds(userIds)) {
+            currentVectors.put(vector.getUserId(), vector);
+        }
+
+        List<UserVectorVO> changedVectors = new ArrayList<>(userIds.size());
         int updatedCount = 0;
-        
-        try {
-            // 현재 사용자 벡터 조회 또는 초기화
-            UserVectorVO userVector = userPolicyMapper.findUserVectorByUserId(userId);
-            if (userVector == null) {
+        int skippedCount = 0;
+
+        for (Long userId : userIds) {
+            UserVectorVO userVector = currentVectors.get(userId);
+            if (isAlreadyApplied(userVector, date)) {
+                // 이전 실행에서 저장까지 끝났으나 Redis 정리 전에 중단된 사용자
+                skippedCount++;
+                continue;
+            }
+            boolean isNew = userVector == null;
+            if (isNew) {
+                // 벡터가 없는 사용자는 초기 벡터에서 시작 (조회 기록이 반영되지 않아도 저장)
                 userVector = UserVectorUtil.createInitialUserVector(userId);
-                userPolicyMapper.saveUserVector(userVector);
-                log.debug("초기 사용자 벡터 생성 - userId: {}", userId);
             }
-            
-            // 각 정책별로 3차원 벡터 전체 갱신
-            for (String key : userKeys) {
-                Long[] ids = redisUtil.extractIdsFromKey(key);
-                if (ids != null && ids.length >= 2) {
-                    Long policyId = ids[1];
-                    Long viewCount = redisUtil.getDailyViewCount(userId, policyId, date);
-                    
-                    if (updateAllDimensionsForPolicy(userVector, policyId, viewCount.intValue())) {
-                        updatedCount++;
-                    }
+
+            double[] vector = userVector.toArray();
+            int applied = 0;
+            for (Map.Entry<Long, Long> view : viewsByUser.get(userId).entrySet()) {
+                double[] policyVector = policyVectors.get(view.getKey());
+                if (policyVector == null) {
+                    log.warn("정책 벡터를 찾을 수 없음 - policyId: {}", view.getKey());
+                    continue;
                 }
+                applyEma(vector, policyVector, view.getValue());
+                applied++;
             }
-            
-            // DB 업데이트
-            if (updatedCount > 0) {
-                userPolicyMapper.updateUserVector(userVector);
-                log.debug("사용자 벡터 3차원 전체 DB 업데이트 완료 - userId: {}, 갱신 정책 수: {}", userId, updatedCount);
+
+            if (applied > 0 || isNew) {
+                userVector.setVecBenefitAmount(toScaled(vector[0]));
+                userVector.setVecDeadline(toScaled(vector[1]));
+                userVector.setVecViews(toScaled(vector[2]));
+                userVector.setLastViewDate(date);
+                changedVectors.add(userVector);
             }
-            
-        } catch (Exception e) {
-            log.error("사용자 3차원 벡터 갱신 실패 - userId: {}, 오류: {}", userId, e.getMessage());
+            updatedCount += applied;
+        }
+
+        // 청크 단위 일괄 저장 후 Redis 정리 (저장 실패 시 Redis 데이터 유지)
+        if (!changedVectors.isEmpty()) {
+            userPolicyMapper.upsertUserVectors(changedVectors);
+        }
+        redisUtil.deleteDailyViewData(userIds, date);
+
+        for (UserVectorVO changed : changedVectors) {
+            userRecommendationCache.evict(changed.getUserId());
         }
-        
+
+        log.debug("사용자 벡터 청크 처리 완료 - 사용자 수: {}, 저장 벡터 수: {}, 갱신 정책 수: {}, 기반영 건너뜀: {}",
+                userIds.size(), changedVectors.size(), updatedCount, skippedCount);
         return updatedCount;
     }
-    
+
+    // 해당 날짜(yyyyMMdd) 또는 그 이후 조회를 이미 반영한 벡터인지
+    private static boolean isAlreadyApplied(UserVectorVO userVector, String date) {
+        return userVector != null && userVector.getLastViewDate() != null
+                && userVector.getLastViewDate().compareTo(date) >= 0;
+    }
+
     /**
-     * 특정 정책에 대한 3차원 전체 EMA 갱신 (vecBenefitAmount, vecDeadline, vecViews 모두 업데이트)
+     * 특정 정책에 대한 3차원 전체 EMA 갱신 (혜택금액, 마감일, 조회수 모두 업데이트)
      * 조회 행동도 사용자의 정책 선호도를 나타내므로 모든 차원에 영향을 줌
+     * EMA 수식: cumulativeWeight = 1 - (1-α)^n, result = (1 - w) * user + w * policy
+     *
+     * @param userVector 갱신할 사용자 벡터 (제자리 갱신)
+     * @param policyVector 정책 벡터
+     * @param viewCount 조회수
      */
-    private boolean updateAllDimensionsForPolicy(UserVectorVO userVector, Long policyId, int viewCount) {
-        try {
-            // 정책 벡터 조회
-            PolicyVectorVO policyVector = policyMapper.findByPolicyId(policyId);
-            if (policyVector == null) {
-                log.warn("정책 벡터를 찾을 수 없음 - policyId: {}", policyId);
-                return false;
-            }
-            
-            // EMA 수식: cumulativeWeight = 1 - (1-α)^n
-            double cumulativeWeight = 1 - Math.pow(1 - ALPHA, viewCount);
-            BigDecimal oneMinusWeight = BigDecimal.valueOf(1 - cumulativeWeight);
-            BigDecimal weight = BigDecimal.valueOf(cumulativeWeight);
-            
-            // 3차원 전체 EMA 갱신
-            // 혜택 금액 차원 갱신
-            BigDecimal newBenefit = userVector.getVecBenefitAmount()
-                .multiply(oneMinusWeight)
-                .add(policyVector.getVecBenefitAmount().multiply(weight))
-                .setScale(4, RoundingMode.HALF_UP);
-            
-            // 마감일 차원 갱신
-            BigDecimal newDeadline = userVector.getVecDeadline()
-                .multiply(oneMinusWeight)
-                .add(policyVector.getVecDeadline().multiply(weight))
-                .setScale(4, RoundingMode.HALF_UP);
-            
-            // 조회수 차원 갱신
-            BigDecimal newViews = userVector.getVecViews()
-                .multiply(oneMinusWeight)
-                .add(policyVector.getVecViews().multiply(weight))
-                .setScale(4, RoundingMode.HALF_UP);
-            
-            // 사용자 벡터 업데이트
-            userVector.setVecBenefitAmount(newBenefit);
-            userVector.setVecDeadline(newDeadline);
-            userVector.setVecViews(newViews);
-            
-            log.trace("EMA 3차원 전체 갱신 - userId: {}, policyId: {}, viewCount: {}, weight: {:.4f}, 결과: [{}, {}, {}]", 
-                    userVector.getUserId(), policyId, viewCount, cumulativeWeight, newBenefit, newDeadline, newViews);
-            
-            return true;
-            
-        } catch (Exception e) {
-            log.error("3차원 전체 갱신 실패 - policyId: {}, 오류: {}", policyId, e.getMessage());
-            return false;
+    static void applyEma(double[] userVector, double[] policyVector, long viewCount) {
+        double weight = 1 - Math.pow(1 - ALPHA, viewCount);
+        for (int i = 0; i < userVector.length; i++) {
+            userVector[i] = userVector[i] * (1 - weight) + policyVector[i] * weight;
         }
     }
-}
\ No newline at end of file
+
+    // DB 저장 정밀도 (소수점 4자리)
+    private static BigDecimal toScaled(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+}
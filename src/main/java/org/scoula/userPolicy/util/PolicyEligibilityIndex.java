@@ -0,0 +1,277 @@
+package org.scoula.userPolicy.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
+import org.scoula.policy.util.PolicyDataHolder;
+import org.scoula.userPolicy.dto.PolicyDimensionMappingDTO;
+import org.scoula.userPolicy.dto.PolicyEligibilityDTO;
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+import org.scoula.userPolicy.dto.SearchRequestDTO;
+import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 정책 자격 인덱스 (메모리)
+ * - 금융 지원 정책 전체를 메모리에 적재하고, 조건 차원별(지역/학력/취업상태/전공/특수조건/키워드) BitSet을 유지
+ * - 매칭은 BitSet 교집합 + 나이/혼인/소득 범위 검사로 처리하므로 DB를 조회하지 않음
+ * - 정책 수집 완료(PolicySyncCompletedEvent) 시 전체 재적재
+ *
+ * UserPolicyMapper.findFilteredPoliciesWithVectors 의 WHERE 조건과 동일한 결과를 반환해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyEligibilityIndex {
+
+    // "제한 없음"을 의미하는 공통 코드 (SQL의 OR pr.region_code = '0000000' 등과 동일)
+    private static final String ALL_REGION_CODE = "0000000";
+    private static final String ALL_EDUCATION_LEVEL_CODE = "0049010";
+    private static final String ALL_EMPLOYMENT_STATUS_CODE = "0013010";
+    private static final String ALL_MAJOR_CODE = "0011009";
+    private static final String ALL_SPECIAL_CONDITION_CODE = "0014010";
+
+    private static final String MARRIAGE_ANY = "0055003";
+    private static final String INCOME_ANY = "0043001";
+    private static final String INCOME_RANGE = "0043002";
+    private static final String INCOME_OTHER = "0043003";
+
+    private final UserPolicyMapper userPolicyMapper;
+    private final PolicyDataHolder policyDataHolder;
+
+    // 재적재 시 통째로 교체되는 불변 스냅샷
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 적재 실패 시 인덱스 미사용 → 호출자가 SQL 경로로 대체
+            log.error("[정책 자격 인덱스] 초기 적재 실패 - SQL 필터링으로 대체", e);
+        }
+    }
+
+    /**
+     * 정책 수집 완료 후 인덱스 재적재
+     */
+    @EventListener
+    public void onPolicySyncCompleted(PolicySyncCompletedEvent event) {
+        log.info("[정책 자격 인덱스] 정책 수집 완료 이벤트 수신 - {}", event.getCompletedAt());
+        refresh();
+    }
+
+    /**
+     * DB에서 정책/매핑 정보를 읽어 새 스냅샷을 만들고 교체
+     */
+    public void refresh() {
+        long start = System.currentTimeMillis();
+
+        List<PolicyEligibilityDTO> rows = userPolicyMapper.findAllPolicyEligibilities();
+        List<PolicyDimensionMappingDTO> mappings = userPolicyMapper.findAllPolicyDimensionMappings();
+
+        Snapshot newSnapshot = Snapshot.build(rows, mappings);
+        this.snapshot = newSnapshot;
+
+        log.info("[정책 자격 인덱스] 적재 완료 - 정책 수: {}, 매핑 수: {}, 소요: {}ms",
+                newSnapshot.size(), mappings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     * 자유 검색어(searchTexts)는 인덱스에서 처리하지 않으므로 호출자가 SQL 경로를 사용해야 한다.
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 조건에 맞는 정책 조회 (findFilteredPoliciesWithVectors 대체)
+     * @param searchRequestDTO 빈 문자열 제거 및 지역 코드 확장이 끝난 검색 조건
+     * @return 새로 생성된 PolicyWithVectorDTO 목록 (정책 ID 오름차순)
+     */
+    public List<PolicyWithVectorDTO> findMatching(SearchRequestDTO searchRequestDTO) {
+        return findMatching(searchRequestDTO, Collections.emptySet());
+    }
+
+    /**
+     * 조건에 맞는 정책 조회 (findMatchingPoliciesExcludingApplied 대체)
+     * @param searchRequestDTO 빈 문자열 제거 및 지역 코드 확장이 끝난 검색 조건
+     * @param excludedPolicyIds 결과에서 제외할 정책 ID (신청 완료 정책 등)
+     * @return 새로 생성된 PolicyWithVectorDTO 목록 (정책 ID 오름차순)
+     */
+    public List<PolicyWithVectorDTO> findMatching(SearchRequestDTO searchRequestDTO, Collection<Long> excludedPolicyIds) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            throw new IllegalStateException("정책 자격 인덱스가 적재되지 않았습니다.");
+        }
+
+        BitSet candidates = (BitSet) current.all.clone();
+        current.intersect(candidates, current.regions, searchRequestDTO.getRegions(),
+                policyDataHolder::getRegionId, ALL_REGION_CODE);
+        current.intersect(candidates, current.educationLevels, searchRequestDTO.getEducationLevels(),
+                policyDataHolder::getEducationLevelId, ALL_EDUCATION_LEVEL_CODE);
+        current.intersect(candidates, current.employmentStatuses, searchRequestDTO.getEmploymentStatuses(),
+                policyDataHolder::getEmploymentStatusId, ALL_EMPLOYMENT_STATUS_CODE);
+        current.intersect(candidates, current.majors, searchRequestDTO.getMajors(),
+                policyDataHolder::getMajorId, ALL_MAJOR_CODE);
+        current.intersect(candidates, current.specialConditions, searchRequestDTO.getSpecialConditions(),
+                policyDataHolder::getSpecialConditionId, ALL_SPECIAL_CONDITION_CODE);
+        current.intersect(candidates, current.keywords, searchRequestDTO.getKeywords(),
+                policyDataHolder::getKeywordId, null);
+
+        LocalDate today = LocalDate.now();
+        List<PolicyWithVectorDTO> result = new ArrayList<>(candidates.cardinality());
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            PolicyEligibilityDTO policy = current.policies[pos];
+            if (excludedPolicyIds.contains(policy.getPolicyId())) {
+                continue;
+            }
+            if (isOpen(policy, today)
+                    && matchesAge(policy, searchRequestDTO.getAge())
+                    && matchesMarriage(policy, searchRequestDTO.getMarriage())
+                    && matchesIncome(policy, searchRequestDTO.getIncome())) {
+                result.add(policy.toPolicyWithVectorDTO());
+            }
+        }
+        return result;
+    }
+
+    // ────────────────────────────────────────
+    // 범위 조건 (UserPolicyMapper.xml 의 마감/나이/혼인/소득 조건과 동일)
+    // ────────────────────────────────────────
+
+    /**
+     * 신청 마감 여부 (적재 이후 마감된 정책도 재적재 없이 제외)
+     */
+    static boolean isOpen(PolicyEligibilityDTO policy, LocalDate today) {
+        return policy.getApplyEnd() == null || !policy.getApplyEnd().isBefore(today);
+    }
+
+    static boolean matchesAge(PolicyEligibilityDTO policy, int age) {
+        if (Boolean.TRUE.equals(policy.getAgeLimitYn()) || age == 0) {
+            return true;
+        }
+        if (policy.getMinAge() == null || age < policy.getMinAge()) {
+            return false;
+        }
+        return policy.getMaxAge() == null || policy.getMaxAge() >= age;
+    }
+
+    static boolean matchesMarriage(PolicyEligibilityDTO policy, String marriage) {
+        String status = policy.getMarriageStatus();
+        return "".equals(marriage)
+                || status == null
+                || status.trim().isEmpty()
+                || MARRIAGE_ANY.equals(status)
+                || status.equals(marriage);
+    }
+
+    static boolean matchesIncome(PolicyEligibilityDTO policy, long income) {
+        String code = policy.getIncomeConditionCode();
+        if (income == 0 || code == null || code.trim().isEmpty()
+                || INCOME_ANY.equals(code) || INCOME_OTHER.equals(code)) {
+            return true;
+        }
+        if (!INCOME_RANGE.equals(code)) {
+            return false;
+        }
+        return (policy.getIncomeMin() == null || income >= policy.getIncomeMin())
+                && (policy.getIncomeMax() == null || policy.getIncomeMax() >= income);
+    }
+
+    /**
+     * 불변 인덱스 스냅샷
+     * policies[pos] 의 pos 가 모든 BitSet 의 비트 위치
+     */
+    private static final class Snapshot {
+        private final PolicyEligibilityDTO[] policies;
+        private final BitSet all;
+        private final Map<Long, BitSet> regions = new HashMap<>();
+        private final Map<Long, BitSet> educationLevels = new HashMap<>();
+        private final Map<Long, BitSet> employmentStatuses = new HashMap<>();
+        private final Map<Long, BitSet> majors = new HashMap<>();
+        private final Map<Long, BitSet> specialConditions = new HashMap<>();
+        private final Map<Long, BitSet> keywords = new HashMap<>();
+
+        private Snapshot(PolicyEligibilityDTO[] policies) {
+            this.policies = policies;
+            this.all = new BitSet(policies.length);
+            this.all.set(0, policies.length);
+        }
+
+        static Snapshot build(List<PolicyEligibilityDTO> rows, List<PolicyDimensionMappingDTO> mappings) {
+            // 조건 테이블이 중복 행을 가진 경우 첫 행만 사용
+            Map<Long, PolicyEligibilityDTO> unique = new LinkedHashMap<>();
+            for (PolicyEligibilityDTO row : rows) {
+                unique.putIfAbsent(row.getPolicyId(), row);
+            }
+
+            Snapshot snapshot = new Snapshot(unique.values().toArray(new PolicyEligibilityDTO[0]));
+            Map<Long, Integer> positionByPolicyId = new HashMap<>(unique.size() * 2);
+            for (int pos = 0; pos < snapshot.policies.length; pos++) {
+                positionByPolicyId.put(snapshot.policies[pos].getPolicyId(), pos);
+            }
+
+            for (PolicyDimensionMappingDTO mapping : mappings) {
+                Integer pos = positionByPolicyId.get(mapping.getPolicyId());
+                Map<Long, BitSet> dimension = snapshot.dimensionOf(mapping.getDimension());
+                if (pos == null || dimension == null || mapping.getValueId() == null) {
+                    continue; // 금융 지원 정책이 아니거나 알 수 없는 차원
+                }
+                dimension.computeIfAbsent(mapping.getValueId(), id -> new BitSet(snapshot.policies.length)).set(pos);
+            }
+            return snapshot;
+        }
+
+        private Map<Long, BitSet> dimensionOf(String dimension) {
+            if (dimension == null) return null;
+            return switch (dimension) {
+                case "REGION" -> regions;
+                case "EDUCATION" -> educationLevels;
+                case "EMPLOYMENT" -> employmentStatuses;
+                case "MAJOR" -> majors;
+                case "SPECIAL" -> specialConditions;
+                case "KEYWORD" -> keywords;
+                default -> null;
+            };
+        }
+
+        /**
+         * 요청 값이 있는 차원만 교집합 적용 (SQL의 EXISTS 서브쿼리와 동일)
+         * 요청 값 중 하나 또는 "제한 없음" 코드에 매핑된 정책만 남긴다.
+         */
+        void intersect(BitSet candidates, Map<Long, BitSet> dimension, List<String> requested,
+                       Function<String, Long> idResolver, String allCode) {
+            if (requested == null || requested.isEmpty()) {
+                return;
+            }
+            BitSet matched = new BitSet(policies.length);
+            for (String name : requested) {
+                orInto(matched, dimension, idResolver.apply(name));
+            }
+            if (allCode != null) {
+                orInto(matched, dimension, idResolver.apply(allCode));
+            }
+            candidates.and(matched);
+        }
+
+        private static void orInto(BitSet target, Map<Long, BitSet> dimension, Long valueId) {
+            if (valueId == null) return;
+            BitSet bits = dimension.get(valueId);
+            if (bits != null) {
+                target.or(bits);
+            }
+        }
+
+        int size() {
+            return policies.length;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.scoula.userPolicy.util;
+
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자유 검색 결과 정렬
+ * - 검색어 관련도(FULLTEXT MATCH 점수)를 결과 중 최댓값으로 나눠 0.0 ~ 1.0 으로 정규화
+ * - 최종 점수 = 유사도 * SIMILARITY_WEIGHT + 관련도 * RELEVANCE_WEIGHT (유사도가 없으면 0.0)
+ */
+public final class PolicySearchRanker {
+
+    static final double SIMILARITY_WEIGHT = 0.7;
+    static final double RELEVANCE_WEIGHT = 0.3;
+
+    private PolicySearchRanker() {
+    }
+
+    /**
+     * 관련도와 유사도를 합친 점수 내림차순으로 정렬 (점수가 같으면 입력 순서 유지)
+     * @param policies 유사도 정렬이 끝난(또는 유사도가 없는) 정책 목록
+     * @return 정렬된 새 목록, 관련도가 없으면(검색어 없음) 입력 목록 그대로
+     */
+    public static List<PolicyWithVectorDTO> rank(List<PolicyWithVectorDTO> policies) {
+        double maxRelevance = 0.0;
+        for (PolicyWithVectorDTO policy : policies) {
+            if (policy.getRelevance() != null) {
+                maxRelevance = Math.max(maxRelevance, policy.getRelevance());
+            }
+        }
+        if (maxRelevance <= 0.0) {
+            return policies;
+        }
+
+        int n = policies.size();
+        double[] scores = new double[n];
+        List<Integer> order = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            PolicyWithVectorDTO policy = policies.get(i);
+            double similarity = policy.getSimilarity() != null ? policy.getSimilarity() : 0.0;
+            double relevance = policy.getRelevance() != null ? policy.getRelevance() / maxRelevance : 0.0;
+            scores[i] = similarity * SIMILARITY_WEIGHT + relevance * RELEVANCE_WEIGHT;
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+
+        List<PolicyWithVectorDTO> result = new ArrayList<>(n);
+        for (int index : order) {
+            result.add(policies.get(index));
+        }
+        return result;
+    }
+}
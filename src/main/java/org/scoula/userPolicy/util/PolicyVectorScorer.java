@@ -0,0 +1,287 @@
+package org.scoula.userPolicy.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
+import org.scoula.policy.event.PolicyVectorsRefreshedEvent;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.userPolicy.domain.UserVectorVO;
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 정책 벡터 코사인 유사도 스코어러
+ * - 모든 정책 벡터를 차원별 double[] (struct-of-arrays) 로 보관하고 정책별 norm 을 미리 계산
+ * - 후보 정책마다 BigDecimal → double[] 변환 없이 유사도를 계산
+ * - 상위 K개는 크기 K의 힙으로 선택 (전체 정렬 없음)
+ *
+ * 스코어러에 없는 정책은 DTO에 담긴 벡터로 계산하므로 결과는 VectorUtil.calculateCosineSimilarity 와 동일하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyVectorScorer {
+
+    private final PolicyMapper policyMapper;
+
+    // 재적재 시 통째로 교체되는 불변 벡터 테이블
+    private volatile VectorTable table;
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 적재 실패 시 DTO의 벡터로 계산
+            log.error("[벡터 스코어러] 초기 적재 실패 - DTO 벡터로 계산", e);
+        }
+    }
+
+    /**
+     * 정책 수집 완료 후 벡터 재적재 (수집 중 벡터가 다시 계산됨)
+     */
+    @EventListener
+    public void onPolicySyncCompleted(PolicySyncCompletedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 정책 벡터 일괄 재계산 후 재계산된 벡터로 교체 (DB 재조회 없음)
+     */
+    @EventListener
+    public void onPolicyVectorsRefreshed(PolicyVectorsRefreshedEvent event) {
+        load(event.getVectors());
+    }
+
+    /**
+     * policy_vector 테이블 전체를 읽어 벡터 테이블 교체
+     */
+    public void refresh() {
+        load(policyMapper.findAllPolicyVectors());
+    }
+
+    /**
+     * 주어진 정책 벡터 목록으로 벡터 테이블 교체
+     * @param vectors 정책 벡터 목록
+     */
+    public void load(List<PolicyVectorVO> vectors) {
+        VectorTable newTable = VectorTable.of(vectors);
+        this.table = newTable;
+        log.info("[벡터 스코어러] 적재 완료 - 정책 벡터 수: {}", newTable.size());
+    }
+
+    /**
+     * 후보 정책 전체를 유사도 내림차순으로 정렬
+     */
+    public List<PolicyWithVectorDTO> rank(UserVectorVO userVector, List<PolicyWithVectorDTO> candidates) {
+        return rank(userVector, candidates, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 후보 정책 중 유사도 상위 limit 개를 내림차순으로 반환
+     * - 벡터가 없는 정책(vecBenefitAmount == null)은 제외
+     * - 각 DTO의 similarity 필드를 채워서 반환
+     * - 유사도가 같으면 후보 목록의 순서를 유지
+     *
+     * @param userVector 사용자 벡터
+     * @param candidates 후보 정책 목록
+     * @param limit 반환할 최대 개수
+     * @return 유사도 내림차순 정책 목록
+     */
+    public List<PolicyWithVectorDTO> rank(UserVectorVO userVector, List<PolicyWithVectorDTO> candidates, int limit) {
+        VectorTable current = this.table;
+
+        double ub = valueOf(userVector.getVecBenefitAmount());
+        double ud = valueOf(userVector.getVecDeadline());
+        double uv = valueOf(userVector.getVecViews());
+        double userNorm = Math.sqrt(ub * ub + ud * ud + uv * uv);
+
+        int n = candidates.size();
+        double[] scores = new double[n];
+        TopKHeap heap = new TopKHeap(Math.min(limit, n), scores);
+
+        for (int i = 0; i < n; i++) {
+            PolicyWithVectorDTO policy = candidates.get(i);
+            if (policy.getVecBenefitAmount() == null) {
+                continue;
+            }
+            scores[i] = score(current, policy, ub, ud, uv, userNorm);
+            heap.offer(i);
+        }
+
+        int[] order = heap.drainDescending();
+        List<PolicyWithVectorDTO> result = new ArrayList<>(order.length);
+        for (int index : order) {
+            PolicyWithVectorDTO policy = candidates.get(index);
+            policy.setSimilarity(scores[index]);
+            result.add(policy);
+        }
+        return result;
+    }
+
+    private static double score(VectorTable table, PolicyWithVectorDTO policy,
+                                double ub, double ud, double uv, double userNorm) {
+        int pos = table != null ? table.positionOf(policy.getPolicyId()) : -1;
+        double pb, pd, pv, policyNorm;
+        if (pos >= 0) {
+            pb = table.benefit[pos];
+            pd = table.deadline[pos];
+            pv = table.views[pos];
+            policyNorm = table.norm[pos];
+        } else {
+            pb = valueOf(policy.getVecBenefitAmount());
+            pd = valueOf(policy.getVecDeadline());
+            pv = valueOf(policy.getVecViews());
+            policyNorm = Math.sqrt(pb * pb + pd * pd + pv * pv);
+        }
+        return cosine(ub, ud, uv, userNorm, pb, pd, pv, policyNorm);
+    }
+
+    /**
+     * 코사인 유사도 (0.0 ~ 1.0 으로 제한, VectorUtil.calculateCosineSimilarity 와 동일)
+     */
+    static double cosine(double ub, double ud, double uv, double userNorm,
+                         double pb, double pd, double pv, double policyNorm) {
+        if (userNorm == 0.0 || policyNorm == 0.0) {
+            return 0.0;
+        }
+        double similarity = (ub * pb + ud * pd + uv * pv) / (userNorm * policyNorm);
+        return Math.max(0.0, Math.min(1.0, similarity));
+    }
+
+    private static double valueOf(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
+
+    /**
+     * 정책 벡터 테이블 (차원별 배열 + 미리 계산한 norm)
+     */
+    private static final class VectorTable {
+        private final Map<Long, Integer> positionByPolicyId;
+        private final double[] benefit;
+        private final double[] deadline;
+        private final double[] views;
+        private final double[] norm;
+
+        private VectorTable(int size) {
+            this.positionByPolicyId = new HashMap<>(size * 2);
+            this.benefit = new double[size];
+            this.deadline = new double[size];
+            this.views = new double[size];
+            this.norm = new double[size];
+        }
+
+        static VectorTable of(List<PolicyVectorVO> vectors) {
+            VectorTable table = new VectorTable(vectors.size());
+            int pos = 0;
+            for (PolicyVectorVO vector : vectors) {
+                if (vector.getPolicyId() == null || table.positionByPolicyId.containsKey(vector.getPolicyId())) {
+                    continue;
+                }
+                double b = valueOf(vector.getVecBenefitAmount());
+                double d = valueOf(vector.getVecDeadline());
+                double v = valueOf(vector.getVecViews());
+                table.benefit[pos] = b;
+                table.deadline[pos] = d;
+                table.views[pos] = v;
+                table.norm[pos] = Math.sqrt(b * b + d * d + v * v);
+                table.positionByPolicyId.put(vector.getPolicyId(), pos);
+                pos++;
+            }
+            return table;
+        }
+
+        int positionOf(Long policyId) {
+            Integer pos = positionByPolicyId.get(policyId);
+            return pos != null ? pos : -1;
+        }
+
+        int size() {
+            return positionByPolicyId.size();
+        }
+    }
+
+    /**
+     * 후보 인덱스를 담는 크기 제한 최소 힙 (루트 = 현재 K개 중 가장 낮은 점수)
+     * 점수가 같으면 인덱스가 큰 쪽을 더 낮은 순위로 본다.
+     */
+    private static final class TopKHeap {
+        private final int[] heap;
+        private final double[] scores;
+        private int size;
+
+        TopKHeap(int capacity, double[] scores) {
+            this.heap = new int[Math.max(capacity, 0)];
+            this.scores = scores;
+        }
+
+        void offer(int index) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(size++);
+            } else if (lowerRank(heap[0], index)) {
+                heap[0] = index;
+                siftDown(0);
+            }
+        }
+
+        int[] drainDescending() {
+            int[] result = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private boolean lowerRank(int a, int b) {
+            return scores[a] < scores[b] || (scores[a] == scores[b] && a > b);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!lowerRank(heap[i], heap[parent])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int lowest = left;
+                int right = left + 1;
+                if (right < size && lowerRank(heap[right], heap[left])) {
+                    lowest = right;
+                }
+                if (!lowerRank(heap[lowest], heap[i])) {
+                    return;
+                }
+                swap(i, lowest);
+                i = lowest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.scoula.userPolicy.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
+import org.scoula.policy.event.PolicyVectorsRefreshedEvent;
+import org.scoula.userPolicy.dto.SearchResultDTO;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 사용자별 맞춤 정책 추천 결과 캐시 (메모리)
+ * - searchMatchingPolicy 의 결과(조건 필터링 + 마감일 필터링 + 유사도 정렬)를 사용자 ID 단위로 보관
+ * - 아래 이벤트에서만 무효화
+ *   · 사용자 정책 조건 저장/수정/삭제 (UserPolicyServiceImpl)
+ *   · 사용자 벡터 변경 (UserVectorBatchService, PolicyInteractionService)
+ *   · 정책 수집 완료 (PolicySyncCompletedEvent) → 전체 무효화
+ *   · 정책 벡터 일괄 재계산 (PolicyVectorsRefreshedEvent) → 전체 무효화
+ * - 마감일 필터가 날짜에 의존하므로 계산한 날짜가 지나면 다시 계산
+ * - 계산은 맵 밖에서 실행 (사용자별 진행 중 계산을 future 로 공유, 같은 사용자의 동시 요청은 한 번만 계산)
+ */
+@Slf4j
+@Component
+public class UserRecommendationCache {
+
+    // 무효화 누락에 대비한 최대 보관 시간
+    private static final long MAX_AGE_MILLIS = 6 * 60 * 60 * 1000L;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 추천 결과 조회, 없거나 만료되었으면 loader 로 계산 후 저장
+     * - loader 는 ConcurrentHashMap 연산 밖에서 실행되므로 계산이 길어도 다른 사용자 키를 막지 않음
+     * - 계산 중 무효화되면 계산한 결과는 이번 호출에만 반환하고 캐시에는 남지 않음
+     *
+     * @param userId 사용자 ID
+     * @param loader 추천 결과 계산 함수 (조건이 없으면 null 반환)
+     * @return 추천 정책 목록 복사본 (조건이 없으면 null)
+     */
+    public List<SearchResultDTO> get(Long userId, Function<Long, List<SearchResultDTO>> loader) {
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.isExpired()) {
+            entries.remove(userId, entry);
+            entry = null;
+        }
+        if (entry == null) {
+            if (entries.size() >= MAX_ENTRIES) {
+                evictExpired();
+            }
+            Entry created = new Entry();
+            entry = entries.putIfAbsent(userId, created);
+            if (entry == null) {
+                entry = created;
+                load(userId, created, loader);
+            }
+        }
+        List<SearchResultDTO> results = entry.join();
+        return results != null ? new ArrayList<>(results) : null;
+    }
+
+    /**
+     * 특정 사용자의 추천 결과 무효화
+     */
+    public void evict(Long userId) {
+        if (userId != null && entries.remove(userId) != null) {
+            log.debug("[추천 캐시] 무효화 - userId: {}", userId);
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 뒤 무효화 (트랜잭션이 없으면 바로 무효화)
+     * - 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 데이터로 다시 계산해 캐시에 남길 수 있음
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 전체 추천 결과 무효화
+     */
+    public void evictAll() {
+        entries.clear();
+        log.info("[추천 캐시] 전체 무효화");
+    }
+
+    /**
+     * 정책 수집 완료 시 전체 무효화 (정책/벡터가 다시 계산됨)
+     */
+    @EventListener
+    public void onPolicySyncCompleted(PolicySyncCompletedEvent event) {
+        evictAll();
+    }
+
+    /**
+     * 정책 벡터 일괄 재계산 시 전체 무효화 (마감일/조회수 점수가 바뀌어 유사도 정렬이 달라짐)
+     */
+    @EventListener
+    public void onPolicyVectorsRefreshed(PolicyVectorsRefreshedEvent event) {
+        evictAll();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        if (entries.size() >= MAX_ENTRIES) {
+            // 유효한 항목만으로 가득 찬 경우 전체 비우고 다시 채움
+            log.warn("[추천 캐시] 최대 항목 수 초과 - 전체 비움 (size: {})", entries.size());
+            entries.clear();
+        }
+    }
+
+    private void load(Long userId, Entry entry, Function<Long, List<SearchResultDTO>> loader) {
+        try {
+            List<SearchResultDTO> results = loader.apply(userId);
+            entry.future.complete(results != null ? List.copyOf(results) : null);
+        } catch (RuntimeException | Error e) {
+            // 실패한 계산은 캐시하지 않음 (기다리던 요청도 같은 예외)
+            entries.remove(userId, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<List<SearchResultDTO>> future = new CompletableFuture<>();
+        private final LocalDate computedOn = LocalDate.now();
+        private final long computedAt = System.currentTimeMillis();
+
+        // 다른 요청이 계산 중이면 완료까지 대기
+        private List<SearchResultDTO> join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        private boolean isExpired() {
+            return !LocalDate.now().equals(computedOn)
+                    || System.currentTimeMillis() - computedAt > MAX_AGE_MILLIS;
+        }
+    }
+}
@@ -5,17 +5,23 @@ import org.junit.jupiter.api.Test;
 import org.scoula.asset.mapper.AssetCategoryMapper;
 import org.scoula.asset.service.TransactionCategorizer;
 import org.scoula.codef.domain.CardTransactionVO;
+import org.scoula.codef.domain.TransactionCategoryVO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class TransactionCategorizerTest {
 
     TransactionCategorizer categorizer;
+    FakeCategoryMapper fakeMapper;
 
     @BeforeEach
     void setUp() {
         // FakeCategoryMapper를 구현해서 주입
-        AssetCategoryMapper fakeMapper = new FakeCategoryMapper();
+        fakeMapper = new FakeCategoryMapper();
         categorizer = new TransactionCategorizer(fakeMapper);
         categorizer.initMaps();
     }
@@ -53,21 +59,57 @@ class TransactionCategorizerTest {
         assertNull(cat, "매핑 키워드가 없으면 null 반환");
     }
 
+    @Test
+    void longestKeywordWins_regardlessOfDeclarationOrder() {
+        CardTransactionVO tx = new CardTransactionVO();
+        tx.setStoreName("이마트24 역삼점"); // '마트', '이마트'(마트)보다 긴 '이마트24'(편의점) 우선
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200L, categorizer.categorizeGlobal(tx));
+        }
+    }
+
+    @Test
+    void reloadPicksUpNewDbCategories() {
+        CardTransactionVO tx = new CardTransactionVO();
+        tx.setStoreName("반려동물 용품점");
+        assertNull(categorizer.categorizeGlobal(tx));
+
+        // DB 에 글로벌 카테고리 추가 → 재적재 후 카테고리 이름으로 매칭
+        fakeMapper.categories.add(new TransactionCategoryVO(500L, null, "반려동물"));
+        categorizer.reload();
+
+        assertEquals(500L, categorizer.categorizeGlobal(tx));
+    }
+
+    @Test
+    void categorizeAllKeepsInputOrder() {
+        CardTransactionVO chicken = new CardTransactionVO();
+        chicken.setStoreName("교촌치킨");
+        CardTransactionVO unknown = new CardTransactionVO();
+        unknown.setStoreName("FooBar");
+        CardTransactionVO taxi = new CardTransactionVO();
+        taxi.setStoreType("택시");
+
+        assertEquals(Arrays.asList(100L, null, 300L), categorizer.categorizeAll(List.of(chicken, unknown, taxi)));
+    }
+
     /**
      * CategoryMapper를 직접 구현한 Fake 클래스.
-     * GLOBAL_KEYWORDS에 정의된 키워드 → 카테고리 ID 매핑용
+     * GLOBAL_KEYWORDS에 정의된 카테고리 이름 → 카테고리 ID 매핑용
      */
     static class FakeCategoryMapper implements AssetCategoryMapper {
+        // 테스트에 필요하면 다른 카테고리도 추가 가능
+        final List<TransactionCategoryVO> categories = new ArrayList<>(List.of(
+                new TransactionCategoryVO(100L, null, "식비"),
+                new TransactionCategoryVO(200L, null, "편의점"),
+                new TransactionCategoryVO(300L, null, "교통/자동차"),
+                new TransactionCategoryVO(999L, null, "카테고리 미지정")
+        ));
+
         @Override
-        public Long findIdByNameAndGlobal(String name) {
-            return switch (name) {
-                case "식비"           -> 100L;
-                case "편의점"         -> 200L;
-                case "교통/자동차"    -> 300L;
-                case "카테고리 미지정" -> 999L;
-                // 테스트에 필요하면 다른 카테고리도 추가 가능
-                default              -> null;
-            };
+        public List<TransactionCategoryVO> findGlobalCategories() {
+            return categories;
         }
     }
 }
@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.asset.domain.AccountSummaryVO;
 import org.scoula.asset.domain.AccountTransactionVO;
+import org.scoula.asset.domain.CardMonthlySpendingVO;
 import org.scoula.asset.domain.CardSummaryVO;
 import org.scoula.asset.domain.CardTransactionVO;
 import org.scoula.asset.dto.*;
@@ -16,6 +17,7 @@ import org.scoula.asset.mapper.AssetAccountTransactionMapper;
 import org.scoula.asset.mapper.AssetCardTransactionMapper;
 import org.scoula.asset.mapper.AssetUserAccountMapper;
 import org.scoula.asset.mapper.AssetUserCardMapper;
+import org.scoula.asset.util.TransactionCursor;
 import org.scoula.common.dto.PageResponse;
 import org.scoula.common.exception.UnauthorizedException;
 
@@ -46,6 +48,15 @@ class AssetServiceTest {
     @Mock
     private AssetAccountTransactionMapper assetAccountTransactionMapper;
 
+    @Mock
+    private MerchantCategoryMemory merchantCategoryMemory;
+
+    @Mock
+    private SpendingRollupService spendingRollupService;
+
+    @Mock
+    private TransactionCountCache transactionCountCache;
+
     @InjectMocks
     private AssetService assetService;
 
@@ -111,8 +122,8 @@ class AssetServiceTest {
         
         when(assetUserAccountMapper.findAccountSummariesByUserId(userId)).thenReturn(accounts);
         when(assetUserCardMapper.findCardSummariesByUserId(userId)).thenReturn(cards);
-        when(assetCardTransactionMapper.sumThisMonthUsedByCardId(cardId)).thenReturn(150000L);
-        when(assetCardTransactionMapper.sumThisMonthUsedByUserId(userId)).thenReturn(150000L);
+        when(assetCardTransactionMapper.findThisMonthUsedByUserId(userId))
+                .thenReturn(List.of(new CardMonthlySpendingVO(cardId, 150000L)));
 
         // When
         AssetSummaryResponse result = assetService.getSummary(userId);
@@ -158,7 +169,8 @@ class AssetServiceTest {
         // Given
         List<CardSummaryVO> cards = Arrays.asList(cardSummary);
         when(assetUserCardMapper.findCardSummariesByUserId(userId)).thenReturn(cards);
-        when(assetCardTransactionMapper.sumThisMonthUsedByCardId(cardId)).thenReturn(150000L);
+        when(assetCardTransactionMapper.findThisMonthUsedByUserId(userId))
+                .thenReturn(List.of(new CardMonthlySpendingVO(cardId, 150000L)));
 
         // When
         List<CardSummaryVO> result = assetService.getCards(userId);
@@ -169,7 +181,21 @@ class AssetServiceTest {
         assertEquals("KB국민카드", result.get(0).getCardName());
         assertEquals(150000L, result.get(0).getThisMonthUsed());
         verify(assetUserCardMapper).findCardSummariesByUserId(userId);
-        verify(assetCardTransactionMapper).sumThisMonthUsedByCardId(cardId);
+        verify(assetCardTransactionMapper).findThisMonthUsedByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("카드 목록 조회 - 이번달 집계가 없는 카드는 0")
+    void getCards_NoRollupRow() {
+        // Given
+        when(assetUserCardMapper.findCardSummariesByUserId(userId)).thenReturn(Arrays.asList(cardSummary));
+        when(assetCardTransactionMapper.findThisMonthUsedByUserId(userId)).thenReturn(List.of());
+
+        // When
+        List<CardSummaryVO> result = assetService.getCards(userId);
+
+        // Then
+        assertEquals(0L, result.get(0).getThisMonthUsed());
     }
 
     // ====================================
@@ -215,6 +241,69 @@ class AssetServiceTest {
         verify(assetAccountTransactionMapper, never()).findByAccountIdFiltered(anyLong(), anyInt(), anyInt(), any(), any(), any(), any(), any());
     }
 
+    @Test
+    @DisplayName("계좌 거래내역 커서 조회 - 한 건 더 있으면 마지막 거래로 다음 커서 생성")
+    void getAccountTransactionsByCursor_HasNext() {
+        // Given
+        AccountTransactionVO first = AccountTransactionVO.builder().id(30L).transactionDateTime(new Date(3000L)).build();
+        AccountTransactionVO second = AccountTransactionVO.builder().id(20L).transactionDateTime(new Date(2000L)).build();
+        AccountTransactionVO extra = AccountTransactionVO.builder().id(10L).transactionDateTime(new Date(1000L)).build();
+        String cursor = TransactionCursor.encode(new Date(4000L), 40L);
+        when(assetUserAccountMapper.isAccountOwner(userId, accountId)).thenReturn(true);
+        when(assetAccountTransactionMapper.findByAccountIdAfterCursor(
+                eq(accountId), eq(3), isNull(), isNull(), isNull(), isNull(), eq("latest"), eq(new Date(4000L)), eq(40L)))
+                .thenReturn(Arrays.asList(first, second, extra));
+
+        // When
+        PageResponse<AccountTransactionVO> result = assetService.getAccountTransactionsByCursor(
+                userId, accountId, cursor, 2, null, null, null, null, null, false);
+
+        // Then
+        assertEquals(List.of(first, second), result.getContent());
+        assertTrue(result.getHasNext());
+        assertEquals(-1L, result.getTotalElements());
+        TransactionCursor next = TransactionCursor.decode(result.getNextCursor());
+        assertEquals(20L, next.getId());
+        assertEquals(new Date(2000L), next.getTransactionDate());
+        verify(assetAccountTransactionMapper, never()).countByAccountIdFiltered(any(), any(), any(), any(), any());
+        verifyNoInteractions(transactionCountCache);
+    }
+
+    @Test
+    @DisplayName("카드 거래내역 커서 조회 - 마지막 페이지, 전체 건수는 캐시에서")
+    void getCardTransactionsByCursor_LastPageWithTotal() {
+        // Given
+        when(assetUserCardMapper.isCardOwner(userId, cardId)).thenReturn(true);
+        when(assetCardTransactionMapper.findByCardIdAfterCursor(
+                eq(cardId), eq(21), any(), any(), eq("스타벅스"), isNull(), eq("ASC"), isNull(), isNull()))
+                .thenReturn(Arrays.asList(cardTransaction));
+        when(transactionCountCache.get(anyString(), any())).thenReturn(57L);
+
+        // When
+        PageResponse<CardTransactionVO> result = assetService.getCardTransactionsByCursor(
+                userId, cardId, null, 20, LocalDate.now(), LocalDate.now(), "스타벅스", null, "asc", true);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.getHasNext());
+        assertNull(result.getNextCursor());
+        assertEquals(57L, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("카드 거래내역 커서 조회 - 권한 없음")
+    void getCardTransactionsByCursor_Unauthorized() {
+        // Given
+        when(assetUserCardMapper.isCardOwner(userId, cardId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () ->
+                assetService.getCardTransactionsByCursor(userId, cardId, null, 20, null, null, null, null, null, false));
+        verify(assetCardTransactionMapper, never()).findByCardIdAfterCursor(
+                any(), anyInt(), any(), any(), any(), any(), any(), any(), any());
+    }
+
     // ====================================
     // 카드 거래내역 조회 테스트
     // ====================================
@@ -348,10 +437,12 @@ class AssetServiceTest {
                 .thenReturn(1);
 
         // When
-        assertDoesNotThrow(() -> assetService.updateTransactionCategory(transactionId, newCategoryId));
+        assertDoesNotThrow(() -> assetService.updateTransactionCategory(userId, transactionId, newCategoryId));
 
         // Then
         verify(assetCardTransactionMapper).updateTransactionCategory(eq(transactionId), eq(newCategoryId));
+        verify(spendingRollupService).refreshForTransaction(userId, transactionId);
+        verify(merchantCategoryMemory).rememberAsync(userId, transactionId, newCategoryId);
     }
 
     @Test
@@ -365,9 +456,11 @@ class AssetServiceTest {
 
         // When & Then
         assertThrows(RuntimeException.class, () ->
-                assetService.updateTransactionCategory(transactionId, newCategoryId));
+                assetService.updateTransactionCategory(userId, transactionId, newCategoryId));
         
         verify(assetCardTransactionMapper).updateTransactionCategory(eq(transactionId), eq(newCategoryId));
+        verify(merchantCategoryMemory, never()).rememberAsync(any(), any(), any());
+        verify(spendingRollupService, never()).refreshForTransaction(any(), any());
     }
 
     // ====================================
@@ -0,0 +1,124 @@
+package org.scoula.asset.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.asset.domain.MerchantCategoryVO;
+import org.scoula.asset.mapper.MerchantCategoryMapper;
+import org.scoula.codef.domain.CardTransactionVO;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MerchantCategoryMemory 단위 테스트")
+class MerchantCategoryMemoryTest {
+
+    @Mock
+    private MerchantCategoryMapper merchantCategoryMapper;
+
+    @InjectMocks
+    private MerchantCategoryMemory merchantCategoryMemory;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(merchantCategoryMemory, "categoryMemoryExecutor", (Executor) Runnable::run);
+    }
+
+    @Test
+    @DisplayName("사용자 기억 → 글로벌 집계 순으로 조회, 둘 다 없으면 null")
+    void lookupAll_UserThenGlobal() {
+        // Given
+        when(merchantCategoryMapper.findUserMerchantCategories(eq(userId), anyCollection()))
+                .thenReturn(List.of(new MerchantCategoryVO("단골식당", 42L)));
+        when(merchantCategoryMapper.findGlobalMerchantCategories(anyCollection(), anyInt()))
+                .thenReturn(List.of(new MerchantCategoryVO("스타벅스 강남점", 10L)));
+
+        // When
+        List<Long> result = merchantCategoryMemory.lookupAll(userId, List.of(
+                tx("단골식당"), tx(" 스타벅스   강남점 "), tx("처음 가는 곳"), tx(null)));
+
+        // Then
+        assertEquals(Arrays.asList(42L, 10L, null, null), result);
+        // 글로벌 집계는 사용자 기억이 없는 가맹점만 조회
+        verify(merchantCategoryMapper).findGlobalMerchantCategories(
+                eq(Set.of("스타벅스 강남점", "처음 가는 곳")), eq(3));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 가맹점은 (기억이 없어도) LRU 에서 응답")
+    void lookupAll_CachesHitsAndMisses() {
+        // Given
+        when(merchantCategoryMapper.findUserMerchantCategories(eq(userId), anyCollection()))
+                .thenReturn(Collections.emptyList());
+        when(merchantCategoryMapper.findGlobalMerchantCategories(anyCollection(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        merchantCategoryMemory.lookupAll(userId, List.of(tx("가게A")));
+        List<Long> result = merchantCategoryMemory.lookupAll(userId, List.of(tx("가게A"), tx("가게A")));
+
+        // Then
+        assertEquals(Arrays.asList(null, null), result);
+        verify(merchantCategoryMapper, times(1)).findUserMerchantCategories(any(), anyCollection());
+        verify(merchantCategoryMapper, times(1)).findGlobalMerchantCategories(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("카테고리 변경을 기억하면 다음 조회부터 DB 없이 바로 사용")
+    void rememberAsync_UpdatesMemoryAndCache() {
+        // Given
+        when(merchantCategoryMapper.findUserCardTransactionMerchant(userId, 5L)).thenReturn(tx("동네빵집"));
+
+        // When
+        merchantCategoryMemory.rememberAsync(userId, 5L, 7L);
+        List<Long> result = merchantCategoryMemory.lookupAll(userId, List.of(tx("동네빵집")));
+
+        // Then
+        verify(merchantCategoryMapper).upsertUserMerchantCategory(userId, "동네빵집", 7L);
+        assertEquals(List.of(7L), result);
+        verify(merchantCategoryMapper, never()).findUserMerchantCategories(any(), anyCollection());
+        verify(merchantCategoryMapper, never()).findGlobalMerchantCategories(anyCollection(), anyInt());
+    }
+
+    @Test
+    @DisplayName("본인 거래가 아니거나 가맹점명이 없으면 기억하지 않음")
+    void rememberAsync_IgnoresUnknownTransaction() {
+        // Given
+        when(merchantCategoryMapper.findUserCardTransactionMerchant(userId, 5L)).thenReturn(null);
+
+        // When
+        assertDoesNotThrow(() -> merchantCategoryMemory.rememberAsync(userId, 5L, 7L));
+
+        // Then
+        verify(merchantCategoryMapper, never()).upsertUserMerchantCategory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가맹점 키 정규화 - 공백 정리, 대문자, store_name 없으면 store_name1")
+    void merchantKey_Normalizes() {
+        assertEquals("GS25 역삼점", MerchantCategoryMemory.merchantKey("  gs25   역삼점 ", "무시"));
+        assertEquals("대체 이름", MerchantCategoryMemory.merchantKey(" ", "대체 이름"));
+        assertNull(MerchantCategoryMemory.merchantKey(null, ""));
+    }
+
+    private static CardTransactionVO tx(String storeName) {
+        CardTransactionVO tx = new CardTransactionVO();
+        tx.setStoreName(storeName);
+        return tx;
+    }
+}
@@ -0,0 +1,167 @@
+package org.scoula.asset.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.asset.mapper.SpendingRollupMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SpendingRollupService 단위 테스트")
+class SpendingRollupServiceTest {
+
+    @Mock
+    private SpendingRollupMapper spendingRollupMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SpendingRollupService spendingRollupService;
+
+    private final Long userId = 1L;
+    private final Long cardId = 3L;
+
+    @BeforeEach
+    void setUp() {
+        spendingRollupService = new SpendingRollupService(spendingRollupMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("거래일시가 속한 달만 중복 없이 해당 카드 집계와 사용자 카테고리 집계 재계산")
+    void refreshMonths_DistinctMonths() {
+        // When
+        spendingRollupService.refreshMonths(userId, cardId, Arrays.asList(
+                date(2024, 8, 1, 0, 0), date(2024, 8, 31, 23, 59), date(2024, 7, 15, 12, 0), null));
+
+        // Then
+        LocalDate july = LocalDate.of(2024, 7, 1);
+        LocalDate august = LocalDate.of(2024, 8, 1);
+        InOrder inOrder = inOrder(spendingRollupMapper);
+        for (LocalDate month : List.of(july, august)) {
+            inOrder.verify(spendingRollupMapper).deleteCardMonthly(userId, cardId, month);
+            inOrder.verify(spendingRollupMapper).insertCardMonthly(userId, cardId, month);
+            inOrder.verify(spendingRollupMapper).deleteUserCategoryMonthly(userId, month);
+            inOrder.verify(spendingRollupMapper).insertUserCategoryMonthly(userId, month);
+        }
+        // 다른 카드 집계는 건드리지 않음
+        verify(spendingRollupMapper, never()).deleteCardMonthly(eq(userId), isNull(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 트랜잭션이 있으면 커밋 후에 별도 트랜잭션으로 갱신")
+    void refreshMonths_RunsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When - 동기화 트랜잭션 안에서 호출
+            spendingRollupService.refreshMonths(userId, cardId, List.of(date(2024, 8, 1, 9, 0)));
+
+            // Then - 커밋 전에는 집계를 건드리지 않음
+            verifyNoInteractions(spendingRollupMapper, transactionManager);
+
+            // When - 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(spendingRollupMapper).deleteCardMonthly(userId, cardId, LocalDate.of(2024, 8, 1));
+        verify(spendingRollupMapper).insertUserCategoryMonthly(userId, LocalDate.of(2024, 8, 1));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 집계 갱신 안 함")
+    void refreshMonths_SkippedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            spendingRollupService.refreshMonths(userId, cardId, List.of(date(2024, 8, 1, 9, 0)));
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync ->
+                    sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verifyNoInteractions(spendingRollupMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("거래일시가 없으면 아무것도 하지 않음")
+    void refreshMonths_Empty() {
+        // When
+        spendingRollupService.refreshMonths(userId, cardId, Arrays.asList((Date) null));
+
+        // Then
+        verifyNoInteractions(spendingRollupMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("본인 거래가 아니면 집계 갱신 생략")
+    void refreshForTransaction_NotOwner() {
+        // Given
+        when(spendingRollupMapper.findUserCardTransactionDate(userId, 5L)).thenReturn(null);
+
+        // When
+        spendingRollupService.refreshForTransaction(userId, 5L);
+
+        // Then
+        verify(spendingRollupMapper, never()).deleteUserCategoryMonthly(any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리 변경은 그 달 카테고리 집계만 재계산 (카드 사용금액은 그대로)")
+    void refreshForTransaction_CategoryOnly() {
+        // Given
+        when(spendingRollupMapper.findUserCardTransactionDate(userId, 5L)).thenReturn(date(2024, 8, 20, 13, 0));
+
+        // When
+        spendingRollupService.refreshForTransaction(userId, 5L);
+
+        // Then
+        verify(spendingRollupMapper).deleteUserCategoryMonthly(userId, LocalDate.of(2024, 8, 1));
+        verify(spendingRollupMapper).insertUserCategoryMonthly(userId, LocalDate.of(2024, 8, 1));
+        verify(spendingRollupMapper, never()).deleteCardMonthly(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전체 재집계 - 한 사용자가 실패해도 나머지 계속")
+    void rebuildAll_ContinuesOnFailure() {
+        // Given
+        when(spendingRollupMapper.findUserIdsWithCards()).thenReturn(List.of(1L, 2L, 3L));
+        doThrow(new RuntimeException("DB 오류")).when(spendingRollupMapper).deleteCardMonthly(2L, null, null);
+
+        // When
+        int rebuilt = spendingRollupService.rebuildAll();
+
+        // Then
+        assertEquals(2, rebuilt);
+        verify(spendingRollupMapper).insertUserCategoryMonthly(1L, null);
+        verify(spendingRollupMapper, never()).insertUserCategoryMonthly(2L, null);
+        verify(spendingRollupMapper).insertUserCategoryMonthly(3L, null);
+        verify(transactionManager).rollback(any());
+    }
+
+    private static Date date(int year, int month, int day, int hour, int minute) {
+        return Date.from(LocalDateTime.of(year, month, day, hour, minute).atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,110 @@
+package org.scoula.asset.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeywordMatcher 단위 테스트")
+class KeywordMatcherTest {
+
+    private static final List<Map.Entry<String, Long>> ENTRIES = List.of(
+            Map.entry("마트", 1L),
+            Map.entry("이마트", 1L),
+            Map.entry("이마트24", 2L),
+            Map.entry("CU", 2L),
+            Map.entry("커피", 3L),
+            Map.entry("스타벅스", 3L),
+            Map.entry("버스", 4L),
+            Map.entry("마트", 9L) // 중복 키워드 → 먼저 등록된 값 유지
+    );
+
+    private final KeywordMatcher<Long> matcher = new KeywordMatcher<>(ENTRIES);
+
+    @Test
+    @DisplayName("가장 긴 키워드 우선")
+    void find_LongestKeywordWins() {
+        KeywordMatcher.Match<Long> match = matcher.find("이마트24 역삼점");
+
+        assertEquals("이마트24", match.getKeyword());
+        assertEquals(2L, match.getValue());
+        assertEquals(0, match.getStart());
+    }
+
+    @Test
+    @DisplayName("길이가 같으면 문자열에서 먼저 나온 키워드 우선")
+    void find_EarliestOnSameLength() {
+        KeywordMatcher.Match<Long> match = matcher.find("버스정류장 커피");
+
+        assertEquals("버스", match.getKeyword());
+        assertEquals(0, match.getStart());
+    }
+
+    @Test
+    @DisplayName("중복 키워드는 먼저 등록된 값, 매칭 없으면 null")
+    void find_DuplicateAndNoMatch() {
+        assertEquals(1L, matcher.find("동네마트").getValue());
+        assertNull(matcher.find("알 수 없는 가맹점"));
+        assertNull(matcher.find((String) null));
+        assertEquals(7, matcher.size());
+    }
+
+    @Test
+    @DisplayName("여러 문자열 중 가장 긴 키워드, 길이가 같으면 앞 문자열 우선")
+    void findIn_AcrossTexts() {
+        assertEquals("스타벅스", matcher.findIn("커피", "스타벅스 강남점").getKeyword());
+        assertEquals("커피", matcher.findIn("커피", "버스").getKeyword());
+        assertEquals("CU", matcher.findIn(null, "CU 역삼점").getKeyword());
+    }
+
+    @Test
+    @DisplayName("무작위 문자열에서 단순 contains 탐색과 같은 결과")
+    void find_MatchesNaiveScan() {
+        Random random = new Random(42);
+        String alphabet = "이마트24CU커피스타벅스버 ";
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(15);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = sb.toString();
+
+            KeywordMatcher.Match<Long> expected = naiveFind(text);
+            KeywordMatcher.Match<Long> actual = matcher.find(text);
+            if (expected == null) {
+                assertNull(actual, text);
+            } else {
+                assertNotNull(actual, text);
+                assertEquals(expected.getKeyword(), actual.getKeyword(), text);
+                assertEquals(expected.getStart(), actual.getStart(), text);
+                assertEquals(expected.getValue(), actual.getValue(), text);
+            }
+        }
+    }
+
+    // 키워드마다 indexOf 로 찾고 같은 우선순위 규칙(길이 → 위치 → 등록 순서)으로 고름
+    private static KeywordMatcher.Match<Long> naiveFind(String text) {
+        List<KeywordMatcher.Match<Long>> matches = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : ENTRIES) {
+            int start = text.indexOf(entry.getKey());
+            if (start >= 0) {
+                matches.add(new KeywordMatcher.Match<>(entry.getKey(), entry.getValue(), start));
+            }
+        }
+        KeywordMatcher.Match<Long> best = null;
+        for (KeywordMatcher.Match<Long> match : matches) {
+            if (best == null
+                    || match.getKeyword().length() > best.getKeyword().length()
+                    || (match.getKeyword().length() == best.getKeyword().length() && match.getStart() < best.getStart())) {
+                best = match;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,37 @@
+package org.scoula.asset.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TransactionCursor 단위 테스트")
+class TransactionCursorTest {
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 거래일시/ID")
+    void encodeDecode_RoundTrip() {
+        Date date = new Date(1723600000000L);
+
+        TransactionCursor cursor = TransactionCursor.decode(TransactionCursor.encode(date, 12345L));
+
+        assertEquals(date, cursor.getTransactionDate());
+        assertEquals(12345L, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("커서가 비어 있으면 첫 페이지(null)")
+    void decode_Blank() {
+        assertNull(TransactionCursor.decode(null));
+        assertNull(TransactionCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void decode_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("not-a-cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> TransactionCursor.decode("YWJj")); // "abc"
+    }
+}
@@ -0,0 +1,139 @@
+package org.scoula.codef.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.codef.dto.CodefHttpStatsDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CodefHttpClient 단위 테스트 (로컬 목 서버)")
+class CodefHttpClientTest {
+
+    private HttpServer server;
+    private CodefHttpClient client;
+
+    private final List<Integer> remotePorts = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/account/list", exchange -> {
+            record(exchange);
+            // CODEF 처럼 JSON 전체를 URL 인코딩하여 응답
+            String json = "{\"result\":{\"code\":\"CF-00000\",\"message\":\"성공 + 완료\"},"
+                    + "\"data\":{\"connectedId\":\"abc+1%\"}}";
+            respond(exchange, 200, URLEncoder.encode(json, StandardCharsets.UTF_8));
+        });
+        server.createContext("/v1/slow", exchange -> {
+            record(exchange);
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/oauth/token", exchange -> {
+            record(exchange);
+            respond(exchange, 200, "{\"access_token\":\"token-123\",\"expires_in\":604799}");
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        client = new CodefHttpClient(baseUrl, baseUrl + "/oauth/token",
+                Duration.ofSeconds(1), Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("URL 인코딩된 응답을 디코딩하며 파싱, Bearer 토큰과 본문 전송")
+    void post_DecodesUrlEncodedResponse() throws IOException {
+        // When
+        JsonNode root = client.post("/v1/account/list", "{\"connectedId\":\"c-1\"}", "token-abc");
+
+        // Then
+        assertEquals("CF-00000", root.path("result").path("code").asText());
+        assertEquals("성공 + 완료", root.path("result").path("message").asText());
+        assertEquals("abc+1%", root.path("data").path("connectedId").asText());
+        assertEquals("Bearer token-abc", authorizations.get(0));
+        assertEquals("{\"connectedId\":\"c-1\"}", requestBodies.get(0));
+    }
+
+    @Test
+    @DisplayName("연속 요청은 같은 연결을 재사용")
+    void post_ReusesConnection() throws IOException {
+        // When
+        for (int i = 0; i < 5; i++) {
+            client.post("/v1/account/list", "{}", "token");
+        }
+
+        // Then
+        Set<Integer> ports = new HashSet<>(remotePorts);
+        assertEquals(5, remotePorts.size());
+        assertEquals(1, ports.size());
+    }
+
+    @Test
+    @DisplayName("응답 시간 제한 초과 시 IOException, 실패 통계 기록")
+    void post_ReadTimeout() {
+        // When & Then
+        assertThrows(IOException.class, () -> client.post("/v1/slow", "{}", "token"));
+
+        CodefHttpStatsDto stats = client.getStats().get("/v1/slow");
+        assertEquals(1, stats.getRequests());
+        assertEquals(1, stats.getErrors());
+    }
+
+    @Test
+    @DisplayName("토큰 발급 - Basic 인증, 인코딩 없는 JSON 응답 파싱")
+    void requestToken_ParsesPlainJson() throws IOException {
+        // When
+        JsonNode root = client.requestToken("id", "secret");
+
+        // Then
+        assertEquals("token-123", root.path("access_token").asText());
+        assertTrue(authorizations.get(0).startsWith("Basic "));
+        assertEquals("grant_type=client_credentials&scope=read", requestBodies.get(0));
+
+        CodefHttpStatsDto stats = client.getStats().get("/oauth/token");
+        assertEquals(1, stats.getRequests());
+        assertEquals(0, stats.getErrors());
+        assertEquals(1L, stats.getLatencyMillis().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private void record(HttpExchange exchange) throws IOException {
+        remotePorts.add(exchange.getRemoteAddress().getPort());
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
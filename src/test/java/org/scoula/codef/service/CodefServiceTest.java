@@ -6,20 +6,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.asset.service.MerchantCategoryMemory;
+import org.scoula.asset.service.SpendingRollupService;
 import org.scoula.asset.service.TransactionCategorizer;
+import org.scoula.codef.client.CodefHttpClient;
 import org.scoula.codef.common.exception.CodefApiException;
 import org.scoula.codef.domain.*;
 import org.scoula.codef.dto.AccountConnectRequest;
 import org.scoula.codef.dto.CardConnectRequest;
+import org.scoula.codef.dto.TransactionIngestResult;
 import org.scoula.codef.mapper.*;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,9 +39,18 @@ class CodefServiceTest {
     @Mock
     private CodefTokenService tokenService;
 
+    @Mock
+    private CodefHttpClient codefHttpClient;
+
     @Mock
     private TransactionCategorizer transactionCategorizer;
 
+    @Mock
+    private MerchantCategoryMemory merchantCategoryMemory;
+
+    @Mock
+    private SpendingRollupService spendingRollupService;
+
     @Mock
     private ConnectedAccountMapper connectedAccountMapper;
 
@@ -232,7 +248,8 @@ class CodefServiceTest {
             codefService.syncAccountTransaction(userId, accountId, bankCode, connectedId, accountNo, startDate, endDate));
 
         // Then
-        verify(accountTransactionMapper).findAllTxKeyByAccountIdFromDate(accountId, startDate);
+        // 조회 실패(빈 목록)면 저장 왕복 없음
+        verify(accountTransactionMapper, never()).insertIgnoreAccountTransactions(anyList());
     }
 
     @Test
@@ -253,10 +270,223 @@ class CodefServiceTest {
             codefService.syncCardTransaction(userId, cardId, cardCode, connectedId, cardNo, startDate, endDate, cardName));
 
         // Then
-        verify(cardTransactionMapper).findAllTxKeyByCardIdFromDate(cardId, startDate);
+        verify(cardTransactionMapper, never()).insertIgnoreCardTransactions(anyList());
         verify(categoryMapper).findUnclassifiedId();
     }
 
+    @Test
+    @DisplayName("계좌 거래내역 저장 - 같은 내역을 다시 받으면 전부 중복으로 집계")
+    void ingestAccountTransactions_ReingestIsAllSkipped() {
+        // Given
+        givenAccountTransactionUniqueKey();
+        Date at = new Date(1_700_000_000_000L);
+        List<AccountTransactionVO> first = List.of(accountTx(10000L, "income", at), accountTx(5000L, "expense", at));
+        List<AccountTransactionVO> again = List.of(accountTx(10000L, "income", at), accountTx(5000L, "expense", at));
+
+        // When
+        TransactionIngestResult firstResult = codefService.ingestAccountTransactions(7L, first);
+        TransactionIngestResult againResult = codefService.ingestAccountTransactions(7L, again);
+
+        // Then
+        assertEquals(2, firstResult.getInserted());
+        assertEquals(0, firstResult.getSkipped());
+        assertEquals(0, againResult.getInserted());
+        assertEquals(2, againResult.getSkipped());
+        assertTrue(again.stream().allMatch(tx -> tx.getAccountId().equals(7L)));
+    }
+
+    @Test
+    @DisplayName("계좌 거래내역 저장 - (계좌, 거래일시, 금액, 유형) 중 하나라도 다르면 다른 거래")
+    void ingestAccountTransactions_NaturalKeyComponents() {
+        // Given - 기준 거래 + 유형만 다름 + 금액만 다름 + 일시만 다름 + 기준과 같은 거래(같은 묶음 안 중복)
+        givenAccountTransactionUniqueKey();
+        Date at = new Date(1_700_000_000_000L);
+        List<AccountTransactionVO> txList = List.of(
+                accountTx(10000L, "income", at),
+                accountTx(10000L, "expense", at),
+                accountTx(10001L, "income", at),
+                accountTx(10000L, "income", new Date(at.getTime() + 1000)),
+                accountTx(10000L, "income", at));
+
+        // When
+        TransactionIngestResult result = codefService.ingestAccountTransactions(7L, txList);
+        // 다른 계좌의 같은 거래는 별개
+        TransactionIngestResult otherAccount = codefService.ingestAccountTransactions(8L,
+                List.of(accountTx(10000L, "income", at)));
+
+        // Then
+        assertEquals(4, result.getInserted());
+        assertEquals(1, result.getSkipped());
+        assertEquals(1, otherAccount.getInserted());
+        assertEquals(0, otherAccount.getSkipped());
+    }
+
+    @Test
+    @DisplayName("계좌 거래내역 저장 - 이전 동기화와 겹치는 구간은 새 거래만 저장")
+    void ingestAccountTransactions_OverlappingSync() {
+        // Given - 어제 동기화한 2건 중 1건이 오늘 조회 범위에 다시 포함
+        givenAccountTransactionUniqueKey();
+        Date yesterday = new Date(1_700_000_000_000L);
+        Date today = new Date(yesterday.getTime() + 86_400_000L);
+        codefService.ingestAccountTransactions(7L, List.of(
+                accountTx(3000L, "expense", new Date(yesterday.getTime() - 3_600_000L)),
+                accountTx(2000L, "expense", yesterday)));
+
+        // When
+        TransactionIngestResult result = codefService.ingestAccountTransactions(7L, List.of(
+                accountTx(2000L, "expense", yesterday),
+                accountTx(7000L, "expense", today)));
+
+        // Then
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getSkipped());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 카테고리 분류 후 배치 저장, 신규/중복 건수 집계")
+    void ingestCardTransactions_CategorizesAndCounts() {
+        // Given
+        CardTransactionVO known = CardTransactionVO.builder().approvalNo("A-1").storeName("스타벅스").build();
+        CardTransactionVO unknown = CardTransactionVO.builder().approvalNo("A-2").storeName("동네가게").build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(null, null));
+        when(transactionCategorizer.categorizeAll(anyList())).thenReturn(Arrays.asList(10L, null));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(1);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(known, unknown));
+
+        // Then
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getSkipped());
+        assertEquals(10L, known.getCategoryId());
+        assertEquals(99L, unknown.getCategoryId());
+        assertEquals(3L, unknown.getCardId());
+        verify(cardTransactionMapper, times(1)).insertIgnoreCardTransactions(anyList());
+        verify(spendingRollupService).refreshMonths(eq(userId), eq(3L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 승인번호가 빈 거래는 NULL 로 저장 (거래일시/금액/가맹점명 키로 중복 판단)")
+    void ingestCardTransactions_BlankApprovalNoStoredAsNull() {
+        // Given
+        CardTransactionVO first = CardTransactionVO.builder().approvalNo("").storeName("가게A").build();
+        CardTransactionVO second = CardTransactionVO.builder().approvalNo("  ").storeName("가게B").build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(5L, 6L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(2);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(first, second));
+
+        // Then
+        ArgumentCaptor<List<CardTransactionVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cardTransactionMapper).insertIgnoreCardTransactions(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().stream().allMatch(tx -> tx.getApprovalNo() == null));
+        assertEquals(2, result.getInserted());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 같은 응답의 승인/취소는 한 행으로 저장 후 마지막(취소) 상태 반영")
+    @SuppressWarnings("unchecked")
+    void ingestCardTransactions_PurchaseAndCancelPair() {
+        // Given - 같은 승인번호, INSERT IGNORE 는 첫 행만 저장
+        CardTransactionVO purchase = CardTransactionVO.builder().approvalNo("A-1").cancelStatus("").amount(10000L).build();
+        CardTransactionVO cancel = CardTransactionVO.builder().approvalNo("A-1").cancelStatus("normal").amount(10000L).build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(5L, 5L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(1);
+        when(cardTransactionMapper.updateCancellations(eq(3L), anyList())).thenReturn(1);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(purchase, cancel));
+
+        // Then
+        ArgumentCaptor<List<CardTransactionVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cardTransactionMapper).updateCancellations(eq(3L), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("normal", captor.getValue().get(0).getCancelStatus());
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getSkipped());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 이미 저장된 승인이 취소로 다시 오면 새 행 없이 취소 반영 후 집계 갱신")
+    void ingestCardTransactions_ReportedCancellationUpdatesInPlace() {
+        // Given
+        CardTransactionVO cancelled = CardTransactionVO.builder().approvalNo("A-1").cancelStatus("normal")
+                .amount(10000L).transactionDate(new Date()).build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(5L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(0);
+        when(cardTransactionMapper.updateCancellations(3L, List.of(cancelled))).thenReturn(1);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(cancelled));
+
+        // Then
+        assertEquals(0, result.getInserted());
+        assertEquals(1, result.getSkipped());
+        verify(spendingRollupService).refreshMonths(eq(userId), eq(3L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 승인번호 없는 거래가 겹치는 구간에서 다시 오면 중복으로 무시 (취소 반영 대상 아님)")
+    void ingestCardTransactions_BlankApprovalReFetchSkipped() {
+        // Given - 마지막 저장일을 다시 조회해 같은 승인번호 없는 거래가 다시 옴 (blank_approval_key 중복)
+        CardTransactionVO refetched = CardTransactionVO.builder().approvalNo("").storeName("가게A")
+                .amount(5000L).transactionDate(new Date()).build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(5L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(0);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(refetched));
+
+        // Then
+        assertEquals(1, result.getSkipped());
+        verify(cardTransactionMapper, never()).updateCancellations(any(), anyList());
+        verify(spendingRollupService, never()).refreshMonths(any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 전부 중복이고 취소 변경도 없으면 월별 집계 갱신 생략")
+    void ingestCardTransactions_AllDuplicatesSkipsRollup() {
+        // Given
+        CardTransactionVO dup = CardTransactionVO.builder().approvalNo("A-1").storeName("동네가게").build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(5L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(0);
+
+        // When
+        TransactionIngestResult result = codefService.ingestCardTransactions(userId, 3L, List.of(dup));
+
+        // Then
+        assertEquals(1, result.getSkipped());
+        verify(spendingRollupService, never()).refreshMonths(any(), any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("카드 승인내역 저장 - 학습된 가맹점 카테고리가 있으면 키워드 규칙 생략")
+    void ingestCardTransactions_LearnedCategorySkipsRules() {
+        // Given
+        CardTransactionVO learned = CardTransactionVO.builder().approvalNo("A-1").storeName("단골식당").build();
+        CardTransactionVO other = CardTransactionVO.builder().approvalNo("A-2").storeName("스타벅스").build();
+        when(categoryMapper.findUnclassifiedId()).thenReturn(99L);
+        when(merchantCategoryMemory.lookupAll(eq(userId), anyList())).thenReturn(Arrays.asList(42L, null));
+        when(transactionCategorizer.categorizeAll(List.of(other))).thenReturn(Arrays.asList(10L));
+        when(cardTransactionMapper.insertIgnoreCardTransactions(anyList())).thenReturn(2);
+
+        // When
+        codefService.ingestCardTransactions(userId, 3L, List.of(learned, other));
+
+        // Then
+        assertEquals(42L, learned.getCategoryId());
+        assertEquals(10L, other.getCategoryId());
+        verify(transactionCategorizer).categorizeAll(List.of(other));
+    }
+
     // ====================================
     // 테스트용 메서드 테스트
     // ====================================
@@ -394,4 +624,27 @@ class CodefServiceTest {
         assertNull(result);
         verify(transactionCategorizer).categorizeGlobal(transaction);
     }
-}
\ No newline at end of file
+
+    // account_transaction 의 UNIQUE KEY (account_id, transaction_date_time, amount, tx_type) + INSERT IGNORE 흉내
+    private void givenAccountTransactionUniqueKey() {
+        Set<List<Object>> stored = new HashSet<>();
+        when(accountTransactionMapper.insertIgnoreAccountTransactions(anyList())).thenAnswer(invocation -> {
+            List<AccountTransactionVO> batch = invocation.getArgument(0);
+            int inserted = 0;
+            for (AccountTransactionVO tx : batch) {
+                if (stored.add(Arrays.asList(tx.getAccountId(), tx.getTransactionDateTime(), tx.getAmount(), tx.getTxType()))) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        });
+    }
+
+    private static AccountTransactionVO accountTx(Long amount, String txType, Date transactionDateTime) {
+        return AccountTransactionVO.builder()
+                .amount(amount)
+                .txType(txType)
+                .transactionDateTime(transactionDateTime)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package org.scoula.codef.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.codef.client.CodefHttpClient;
 import org.scoula.common.util.RedisUtil;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -22,6 +24,9 @@ class CodefTokenServiceTest {
     @Mock
     private RedisUtil redisUtil;
 
+    @Mock
+    private CodefHttpClient codefHttpClient;
+
     @InjectMocks
     private CodefTokenService codefTokenService;
 
@@ -85,6 +90,22 @@ class CodefTokenServiceTest {
         verify(redisUtil).get("codef:accessToken");
     }
 
+    @Test
+    @DisplayName("토큰 조회 - 캐시 없으면 발급 후 Redis 저장")
+    void getAccessToken_IssuesAndCachesNewToken() throws Exception {
+        // Given
+        when(redisUtil.get("codef:accessToken")).thenReturn(null);
+        when(codefHttpClient.requestToken(clientId, clientSecret)).thenReturn(
+                new ObjectMapper().readTree("{\"access_token\":\"" + mockToken + "\",\"expires_in\":604799}"));
+
+        // When
+        String result = codefTokenService.getAccessToken();
+
+        // Then
+        assertEquals(mockToken, result);
+        verify(redisUtil).set("codef:accessToken", mockToken, 604200, TimeUnit.SECONDS);
+    }
+
     // ====================================
     // 경계 조건 테스트
     // ====================================
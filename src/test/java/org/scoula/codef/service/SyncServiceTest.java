@@ -10,12 +10,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.codef.domain.ConnectedAccountVO;
 import org.scoula.codef.domain.UserAccountVO;
 import org.scoula.codef.domain.UserCardVO;
+import org.scoula.codef.dto.SyncJobStatusDto;
 import org.scoula.codef.mapper.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -43,6 +53,9 @@ class SyncServiceTest {
     @Mock
     private CodefService codefService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private SyncService syncService;
 
@@ -53,6 +66,9 @@ class SyncServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(syncService, "codefSyncExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(syncService, "initialBackoffMillis", 0L);
+
         userId = 1L;
 
         connectedAccountVO = new ConnectedAccountVO();
@@ -249,7 +265,7 @@ class SyncServiceTest {
 
     @Test
     @DisplayName("계좌 동기화 - CodefService 예외 발생")
-    void syncAccountsAsync_CodefServiceException() {
+    void syncAccountsAsync_CodefServiceException() throws Exception {
         // Given
         List<UserAccountVO> accountList = Arrays.asList(userAccountVO);
         when(userAccountMapper.findByUserId(userId)).thenReturn(accountList);
@@ -257,21 +273,25 @@ class SyncServiceTest {
         when(accountTransactionMapper.findLastTransactionDateByAccountId(1L)).thenReturn("20240101");
         
         // CodefService에서 예외가 발생하더라도 SyncService는 예외를 잡아서 로그만 남기고 계속 진행
-        doThrow(new RuntimeException("CODEF API 오류")).when(codefService)
-                .syncAccountTransaction(any(), any(), any(), any(), any(), any(), any());
+        when(codefService.requestAccountTransactions(any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("CODEF API 오류"));
 
         // When
-        assertDoesNotThrow(() -> syncService.syncAccountsAsync(userId));
+        SyncJobStatusDto job = assertDoesNotThrow(() -> syncService.syncAccountsAsync(userId));
 
         // Then
         verify(userAccountMapper).findByUserId(userId);
         verify(connectedAccountMapper).findConnectedIdByUserId(userId);
-        // 예외가 발생해도 서비스는 정상 완료되어야 함
+        // 3회 시도 후 실패 처리, 저장은 하지 않음
+        verify(codefService, times(3)).requestAccountTransactions(any(), any(), any(), any(), any());
+        verify(codefService, never()).ingestAccountTransactions(any(), anyList());
+        assertEquals(SyncJobStatusDto.Status.FAILED, job.getStatus());
+        assertEquals(1, job.getFailed());
     }
 
     @Test
     @DisplayName("카드 동기화 - CodefService 예외 발생")
-    void syncCardsAsync_CodefServiceException() {
+    void syncCardsAsync_CodefServiceException() throws Exception {
         // Given
         List<UserCardVO> cardList = Arrays.asList(userCardVO);
         when(userCardMapper.findByUserId(userId)).thenReturn(cardList);
@@ -279,8 +299,8 @@ class SyncServiceTest {
         when(cardTransactionMapper.findLastTransactionDateByCardId(1L)).thenReturn("20240101");
         
         // CodefService에서 예외가 발생하더라도 SyncService는 예외를 잡아서 로그만 남기고 계속 진행
-        doThrow(new RuntimeException("CODEF API 오류")).when(codefService)
-                .syncCardTransaction(any(), any(), any(), any(), any(), any(), any(), any());
+        when(codefService.requestCardTransactions(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("CODEF API 오류"));
 
         // When
         assertDoesNotThrow(() -> syncService.syncCardsAsync(userId));
@@ -291,6 +311,133 @@ class SyncServiceTest {
         // 예외가 발생해도 서비스는 정상 완료되어야 함
     }
 
+    @Test
+    @DisplayName("계좌 동기화 - 한 번 실패 후 재시도 성공, 계좌별 트랜잭션 커밋")
+    void syncAccountsAsync_RetryThenSuccess() throws Exception {
+        // Given
+        when(userAccountMapper.findByUserId(userId)).thenReturn(List.of(userAccountVO));
+        when(connectedAccountMapper.findConnectedIdByUserId(userId)).thenReturn(connectedAccountVO);
+        when(accountTransactionMapper.findLastTransactionDateByAccountId(1L)).thenReturn("20240101");
+        when(codefService.requestAccountTransactions(any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("일시 오류"))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        SyncJobStatusDto job = syncService.syncAccountsAsync(userId);
+
+        // Then
+        assertEquals(SyncJobStatusDto.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getSucceeded());
+        assertEquals(100, job.getProgress());
+        verify(codefService, times(2)).requestAccountTransactions(any(), any(), any(), any(), any());
+        verify(codefService).ingestAccountTransactions(eq(1L), anyList());
+        verify(transactionManager).commit(any());
+        assertEquals(job.getStatus(), syncService.getJob(userId, job.getJobId()).getStatus());
+        assertNull(syncService.getJob(2L, job.getJobId()));
+    }
+
+    @Test
+    @DisplayName("같은 기관 계좌는 동시에 2건까지만 실행, 끝나면 다음 계좌 실행")
+    void syncAccountsAsync_LimitsConcurrencyPerOrganization() {
+        // Given - 같은 은행 계좌 3개, 실행은 직접 꺼내서 진행
+        List<Runnable> dispatched = new ArrayList<>();
+        ReflectionTestUtils.setField(syncService, "codefSyncExecutor", (Executor) dispatched::add);
+
+        List<UserAccountVO> accounts = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            accounts.add(UserAccountVO.builder().id(id).userId(userId).accountNumber("acc-" + id).bankCode("0004").build());
+        }
+        when(userAccountMapper.findByUserId(userId)).thenReturn(accounts);
+        when(connectedAccountMapper.findConnectedIdByUserId(userId)).thenReturn(connectedAccountVO);
+
+        // When
+        SyncJobStatusDto job = syncService.syncAccountsAsync(userId);
+
+        // Then
+        assertEquals(SyncJobStatusDto.Status.RUNNING, job.getStatus());
+        assertEquals(2, dispatched.size());
+
+        dispatched.get(0).run();
+        assertEquals(3, dispatched.size());
+
+        dispatched.get(1).run();
+        dispatched.get(2).run();
+        SyncJobStatusDto finished = syncService.getJob(userId, job.getJobId());
+        assertEquals(SyncJobStatusDto.Status.COMPLETED, finished.getStatus());
+        assertEquals(3, finished.getSucceeded());
+
+        // 진행 중 작업이 없으므로 다시 요청하면 새 작업
+        assertNotEquals(job.getJobId(), syncService.syncAccountsAsync(userId).getJobId());
+    }
+
+    @Test
+    @DisplayName("같은 사용자 계좌 동기화가 준비 중이면 동시에 들어온 요청은 같은 작업을 받음")
+    void syncAccountsAsync_ConcurrentRequestsShareJob() throws Exception {
+        // Given - 첫 요청이 계좌 목록 조회 중에 멈춰 있음
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userAccountMapper.findByUserId(userId)).thenAnswer(invocation -> {
+            entered.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Collections.emptyList();
+        });
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            Future<SyncJobStatusDto> first = caller.submit(() -> syncService.syncAccountsAsync(userId));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // When
+            SyncJobStatusDto second = syncService.syncAccountsAsync(userId);
+            release.countDown();
+
+            // Then - 계좌 조회는 한 번, 두 요청의 jobId 동일
+            assertEquals(SyncJobStatusDto.Status.RUNNING, second.getStatus());
+            assertEquals(first.get(5, TimeUnit.SECONDS).getJobId(), second.getJobId());
+            assertNotNull(syncService.getJob(userId, second.getJobId()));
+            verify(userAccountMapper, times(1)).findByUserId(userId);
+        } finally {
+            release.countDown();
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조회가 실패하면 작업을 실패 처리, 다음 요청은 새 작업")
+    void syncAccountsAsync_LookupFailureReleasesJob() {
+        // Given
+        when(userAccountMapper.findByUserId(userId))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        assertThrows(RuntimeException.class, () -> syncService.syncAccountsAsync(userId));
+        SyncJobStatusDto retried = syncService.syncAccountsAsync(userId);
+
+        // Then
+        assertEquals(SyncJobStatusDto.Status.COMPLETED, retried.getStatus());
+        verify(userAccountMapper, times(2)).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("connectedId 조회가 실패해도 작업을 실패 처리, 다음 카드 동기화 요청은 새 작업")
+    void syncCardsAsync_ConnectedIdFailureReleasesJob() {
+        // Given
+        when(userCardMapper.findByUserId(userId)).thenReturn(List.of(userCardVO));
+        when(connectedAccountMapper.findConnectedIdByUserId(userId))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(null);
+
+        // When
+        assertThrows(RuntimeException.class, () -> syncService.syncCardsAsync(userId));
+        SyncJobStatusDto retried = syncService.syncCardsAsync(userId);
+
+        // Then - 두 번째 요청은 진행 중 작업에 막히지 않고 새로 시작 (connectedId 없음으로 종료)
+        assertEquals(SyncJobStatusDto.Status.FAILED, retried.getStatus());
+        assertEquals("connectedId 없음", retried.getErrorMessage());
+        verify(userCardMapper, times(2)).findByUserId(userId);
+    }
+
     // ====================================
     // 매퍼 연동 테스트
     // ====================================
@@ -0,0 +1,195 @@
+package org.scoula.codef.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.codef.domain.WeeklyDaySpendingVO;
+import org.scoula.codef.domain.WeeklySpendingSummaryVO;
+import org.scoula.codef.mapper.WeeklySpendingSummaryMapper;
+import org.scoula.push.dto.feedback.DayOfWeekPeak;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeeklySpendingSummaryService 단위 테스트")
+class WeeklySpendingSummaryServiceTest {
+
+    @Mock
+    private WeeklySpendingSummaryMapper weeklySpendingSummaryMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WeeklySpendingSummaryService weeklySpendingSummaryService;
+
+    // 2024-08-14 (수) → 주 시작 2024-08-11 (일)
+    private final LocalDateTime now = LocalDateTime.of(2024, 8, 14, 20, 0);
+    private final LocalDate weekStart = LocalDate.of(2024, 8, 11);
+
+    @BeforeEach
+    void setUp() {
+        weeklySpendingSummaryService = new WeeklySpendingSummaryService(weeklySpendingSummaryMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("주 시작일은 일요일")
+    void weekStart_Sunday() {
+        assertEquals(weekStart, WeeklySpendingSummaryService.weekStart(LocalDate.of(2024, 8, 11)));
+        assertEquals(weekStart, WeeklySpendingSummaryService.weekStart(LocalDate.of(2024, 8, 17)));
+        assertEquals(LocalDate.of(2024, 8, 18), WeeklySpendingSummaryService.weekStart(LocalDate.of(2024, 8, 18)));
+    }
+
+    @Test
+    @DisplayName("요일별 행을 사용자별 요약으로 합치고 피크 요일 선택")
+    void summarize_FoldsByUser() {
+        // Given
+        List<WeeklyDaySpendingVO> rows = List.of(
+                row(1L, 2, 30000L, 2, 10000L),
+                row(1L, 6, 50000L, 1, 0L),
+                row(1L, 7, 0L, 0, 40000L),
+                row(2L, 3, 0L, 0, 20000L),
+                row(3L, 5, 10000L, 1, 0L),
+                row(3L, 4, 10000L, 3, 0L));
+
+        // When
+        List<WeeklySpendingSummaryVO> result = WeeklySpendingSummaryService.summarize(weekStart, rows);
+
+        // Then
+        assertEquals(3, result.size());
+
+        WeeklySpendingSummaryVO user1 = result.get(0);
+        assertEquals(80000L, user1.getThisWeekAmount());
+        assertEquals(50000L, user1.getLastWeekAmount());
+        assertEquals(6, user1.getPeakDayOfWeek());
+        assertEquals(50000L, user1.getPeakAmount());
+        assertEquals(weekStart, user1.getWeekStart());
+
+        // 이번 주 거래가 없으면 피크 없음
+        WeeklySpendingSummaryVO user2 = result.get(1);
+        assertEquals(0L, user2.getThisWeekAmount());
+        assertNull(user2.getPeakDayOfWeek());
+        assertEquals(0, user2.toDayOfWeekPeak().getDayOfWeek());
+
+        // 금액이 같으면 앞 요일
+        WeeklySpendingSummaryVO user3 = result.get(2);
+        assertEquals(4, user3.getPeakDayOfWeek());
+        assertEquals(3, user3.getPeakTransactionCount());
+    }
+
+    @Test
+    @DisplayName("요약을 알림용 DTO 로 변환")
+    void summary_ToDtos() {
+        WeeklySpendingSummaryVO summary = WeeklySpendingSummaryVO.builder()
+                .thisWeekAmount(300000L).lastWeekAmount(200000L)
+                .peakDayOfWeek(7).peakAmount(120000L).peakTransactionCount(4)
+                .build();
+
+        assertEquals(50.0, summary.toComparison().getChangePercentage(), 0.01);
+        assertTrue(summary.toComparison().getIsIncrease());
+
+        DayOfWeekPeak peak = summary.toDayOfWeekPeak();
+        assertEquals("토요일", peak.getDayName());
+        assertTrue(peak.isWeekend());
+        assertEquals(120000L, peak.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("피크 동률 - 행 순서와 관계없이 앞 요일, 거래 건수도 그 요일 값")
+    void summarize_PeakTieIndependentOfRowOrder() {
+        // Given - 화(3), 금(6), 일(1) 모두 20,000원, 건수만 다름
+        List<WeeklyDaySpendingVO> forward = List.of(
+                row(1L, 1, 20000L, 5, 0L), row(1L, 3, 20000L, 2, 0L), row(1L, 6, 20000L, 1, 0L));
+        List<WeeklyDaySpendingVO> reversed = List.of(
+                row(1L, 6, 20000L, 1, 0L), row(1L, 3, 20000L, 2, 0L), row(1L, 1, 20000L, 5, 0L));
+
+        // When
+        WeeklySpendingSummaryVO a = WeeklySpendingSummaryService.summarize(weekStart, forward).get(0);
+        WeeklySpendingSummaryVO b = WeeklySpendingSummaryService.summarize(weekStart, reversed).get(0);
+
+        // Then
+        for (WeeklySpendingSummaryVO summary : List.of(a, b)) {
+            assertEquals(1, summary.getPeakDayOfWeek());
+            assertEquals(20000L, summary.getPeakAmount());
+            assertEquals(5, summary.getPeakTransactionCount());
+            assertEquals(60000L, summary.getThisWeekAmount());
+        }
+    }
+
+    @Test
+    @DisplayName("피크 동률 - 더 큰 금액이 나오면 앞 요일 동률보다 우선, 이번 주 거래 없는 요일은 후보 아님")
+    void summarize_PeakTieBrokenByLargerAmount() {
+        // Given - 월(2)/수(4) 동률 뒤에 토(7) 더 큼, 일(1)은 지난 주 지출만 (이번 주 건수 0)
+        List<WeeklyDaySpendingVO> rows = List.of(
+                row(1L, 1, 0L, 0, 90000L),
+                row(1L, 4, 10000L, 1, 0L),
+                row(1L, 2, 10000L, 1, 0L),
+                row(1L, 7, 10001L, 1, 0L));
+
+        // When
+        WeeklySpendingSummaryVO summary = WeeklySpendingSummaryService.summarize(weekStart, rows).get(0);
+
+        // Then
+        assertEquals(7, summary.getPeakDayOfWeek());
+        assertEquals(10001L, summary.getPeakAmount());
+        assertEquals(90000L, summary.getLastWeekAmount());
+    }
+
+    @Test
+    @DisplayName("이번 주 요약 갱신 - 이번 주 행 삭제 → 저장 → 지난 요약 정리를 한 트랜잭션으로")
+    @SuppressWarnings("unchecked")
+    void refresh_ReplacesCurrentWeekInOneTransaction() {
+        // Given
+        when(weeklySpendingSummaryMapper.findWeeklyDaySpending(weekStart, weekStart.minusWeeks(1), now.minusWeeks(4)))
+                .thenReturn(List.of(row(1L, 2, 1000L, 1, 0L), row(2L, 5, 3000L, 2, 500L)));
+
+        // When
+        int saved = weeklySpendingSummaryService.refresh(now);
+
+        // Then
+        assertEquals(2, saved);
+        ArgumentCaptor<List<WeeklySpendingSummaryVO>> captor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(weeklySpendingSummaryMapper);
+        inOrder.verify(weeklySpendingSummaryMapper).deleteByWeekStart(weekStart);
+        inOrder.verify(weeklySpendingSummaryMapper).insertSummaries(captor.capture());
+        inOrder.verify(weeklySpendingSummaryMapper).deleteBefore(weekStart.minusWeeks(8));
+        assertEquals(List.of(1L, 2L), List.of(captor.getValue().get(0).getUserId(), captor.getValue().get(1).getUserId()));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("이번 주 요약 갱신 - 대상이 없으면 삭제만")
+    void refresh_NoRows() {
+        // Given
+        when(weeklySpendingSummaryMapper.findWeeklyDaySpending(any(), any(), any())).thenReturn(List.of());
+
+        // When
+        int saved = weeklySpendingSummaryService.refresh(now);
+
+        // Then
+        assertEquals(0, saved);
+        verify(weeklySpendingSummaryMapper).deleteByWeekStart(weekStart);
+        verify(weeklySpendingSummaryMapper, never()).insertSummaries(anyList());
+    }
+
+    private static WeeklyDaySpendingVO row(Long userId, int dayOfWeek, Long thisWeek, int count, Long lastWeek) {
+        return WeeklyDaySpendingVO.builder()
+                .userId(userId)
+                .dayOfWeek(dayOfWeek)
+                .thisWeekAmount(thisWeek)
+                .thisWeekCount(count)
+                .lastWeekAmount(lastWeek)
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package org.scoula.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisUtil 일일 조회 기록 단위 테스트")
+class RedisUtilTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    // 파이프라인 안에서 SessionCallback 이 받는 operations
+    @Mock
+    private RedisOperations<String, String> operations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private RedisUtil redisUtil;
+
+    private final String date = "20240813";
+
+    @BeforeEach
+    void setUp() {
+        redisUtil = new RedisUtil(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("조회 기록 - HINCRBY + SADD + EXPIRE 를 파이프라인 1회로 전송하고 오늘 조회수 반환")
+    void recordDailyPolicyView_Pipelined() {
+        // Given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        doReturn(hashOperations).when(operations).opsForHash();
+        doReturn(setOperations).when(operations).opsForSet();
+        givenPipelineResults(List.of(3L, 1L, true, true));
+
+        // When
+        Long count = redisUtil.recordDailyPolicyView(7L, 42L);
+
+        // Then
+        assertEquals(3L, count);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(hashOperations).increment("user:daily:" + today + ":7", "42", 1);
+        verify(setOperations).add("user:daily:" + today + ":users", "7");
+        verify(operations).expire("user:daily:" + today + ":7", Duration.ofDays(2));
+        verify(operations).expire("user:daily:" + today + ":users", Duration.ofDays(2));
+    }
+
+    @Test
+    @DisplayName("날짜별 순회 - 사용자 Set 을 SSCAN 으로 청크 단위로 읽고, 청크마다 HGETALL 파이프라인 1회")
+    @SuppressWarnings("unchecked")
+    void scanDailyViews_ChunksUsers() {
+        // Given - 사용자 1, 2, 3 (2는 이미 처리되어 Hash 없음, "x" 는 잘못된 값), 청크 크기 2
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, true, true, false);
+        when(cursor.next()).thenReturn("1", "2", "x", "3");
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.scan(eq("user:daily:" + date + ":users"), any(ScanOptions.class))).thenReturn(cursor);
+        doReturn(hashOperations).when(operations).opsForHash();
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenAnswer(invocation -> runPipeline(invocation.getArgument(0),
+                        List.of(Map.of("10", "3", "11", "1"), Map.of())))
+                .thenAnswer(invocation -> runPipeline(invocation.getArgument(0),
+                        List.of(Map.of("12", "2", "bad", "1"))));
+
+        List<Map<Long, Map<Long, Long>>> chunks = new ArrayList<>();
+
+        // When
+        int scanned = redisUtil.scanDailyViews(date, 2, chunks::add);
+
+        // Then
+        assertEquals(2, scanned);
+        assertEquals(2, chunks.size());
+        assertEquals(Map.of(1L, Map.of(10L, 3L, 11L, 1L)), chunks.get(0));
+        assertEquals(Map.of(3L, Map.of(12L, 2L)), chunks.get(1));
+        verify(hashOperations).entries("user:daily:" + date + ":1");
+        verify(hashOperations).entries("user:daily:" + date + ":2");
+        verify(hashOperations).entries("user:daily:" + date + ":3");
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("날짜별 순회 - 조회 기록이 없으면 처리 함수를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void scanDailyViews_Empty() {
+        // Given
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(false);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(cursor);
+
+        // When
+        int scanned = redisUtil.scanDailyViews(date, 500, chunk -> fail("호출되면 안 됨"));
+
+        // Then
+        assertEquals(0, scanned);
+        verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("조회 데이터 삭제 - 사용자별 Hash DEL 과 사용자 Set SREM 을 파이프라인 1회로 전송")
+    void deleteDailyViewData_Pipelined() {
+        // Given
+        doReturn(setOperations).when(operations).opsForSet();
+        givenPipelineResults(List.of(2L, 2L));
+
+        // When
+        redisUtil.deleteDailyViewData(List.of(1L, 2L), date);
+
+        // Then
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(operations).delete(List.of("user:daily:" + date + ":1", "user:daily:" + date + ":2"));
+        verify(setOperations).remove("user:daily:" + date + ":users", "1", "2");
+    }
+
+    @Test
+    @DisplayName("조회 데이터 삭제 - 대상이 없으면 Redis 호출 없음, 실패해도 예외를 던지지 않음")
+    void deleteDailyViewData_EmptyOrFailure() {
+        // 대상 없음
+        redisUtil.deleteDailyViewData(List.of(), date);
+        verifyNoInteractions(redisTemplate);
+
+        // Redis 오류
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenThrow(new RuntimeException("연결 실패"));
+        assertDoesNotThrow(() -> redisUtil.deleteDailyViewData(1L, date));
+    }
+
+    @Test
+    @DisplayName("이전 형식 키 이전 - 조회수를 사용자별 Hash 로 옮기고 이전 키 삭제, 완료 표시")
+    @SuppressWarnings("unchecked")
+    void migrateLegacyDailyViews_MovesOldKeys() {
+        // Given - 이전 형식 2개 + 현재 형식 키(이전 대상 아님)
+        RedisConnection connection = mock(RedisConnection.class);
+        Cursor<byte[]> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, true, true, true, false);
+        when(cursor.next()).thenReturn(
+                bytes("user:daily:7:" + date + ":42"),
+                bytes("user:daily:" + date + ":7"),
+                bytes("user:daily:" + date + ":users"),
+                bytes("user:daily:8:" + date + ":43"));
+        when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.hasKey("user:daily:legacy-migrated")).thenReturn(false);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        List<String> legacyKeys = List.of("user:daily:7:" + date + ":42", "user:daily:8:" + date + ":43");
+        when(valueOperations.multiGet(legacyKeys)).thenReturn(Arrays.asList("3", "1"));
+
+        doReturn(hashOperations).when(operations).opsForHash();
+        doReturn(setOperations).when(operations).opsForSet();
+        givenPipelineResults(List.of());
+
+        // When
+        long migrated = redisUtil.migrateLegacyDailyViews();
+
+        // Then
+        assertEquals(2, migrated);
+        verify(hashOperations).increment("user:daily:" + date + ":7", "42", 3L);
+        verify(hashOperations).increment("user:daily:" + date + ":8", "43", 1L);
+        verify(setOperations).add("user:daily:" + date + ":users", "7");
+        verify(setOperations).add("user:daily:" + date + ":users", "8");
+        verify(operations).delete(legacyKeys);
+        verify(valueOperations).set("user:daily:legacy-migrated", "true");
+    }
+
+    @Test
+    @DisplayName("이전 형식 키 이전 - 완료 표시가 있으면 SCAN 하지 않음")
+    void migrateLegacyDailyViews_AlreadyMigrated() {
+        // Given
+        when(redisTemplate.hasKey("user:daily:legacy-migrated")).thenReturn(true);
+
+        // When
+        long migrated = redisUtil.migrateLegacyDailyViews();
+
+        // Then
+        assertEquals(0, migrated);
+        verify(redisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    // executePipelined 호출 시 SessionCallback 을 operations 목으로 실행하고 results 반환
+    @SuppressWarnings("unchecked")
+    private void givenPipelineResults(List<Object> results) {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenAnswer(invocation -> runPipeline(invocation.getArgument(0), results));
+    }
+
+    private List<Object> runPipeline(SessionCallback<?> callback, List<Object> results) {
+        callback.execute(operations);
+        return results;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+package org.scoula.external.gpt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.external.gpt.dto.GptRequestDto;
+import org.scoula.external.gpt.dto.GptResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GptApiClient 단위 테스트 (로컬 목 서버)")
+class GptApiClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpServer server;
+    private GptApiClient client;
+
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+
+    // 목 서버가 돌려줄 응답 (테스트마다 지정)
+    private volatile int responseStatus = 200;
+    private volatile String responseBody = "{}";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, responseStatus, responseBody);
+        });
+        server.start();
+
+        client = new GptApiClient(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions", "test-key");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - index 순서가 뒤섞인 응답도 요청 순서 위치에 배치, 토큰은 정책 수로 나눔")
+    void analyzePolicies_OutOfOrderIndexes() throws IOException {
+        // Given
+        givenCompletion("분석 결과입니다.\n```json\n["
+                + "{\"index\": 3, \"isFinancialSupport\": false, \"estimatedAmount\": 0, \"policyBenefitDescription\": \"상담\"},"
+                + "{\"index\": 1, \"isFinancialSupport\": true, \"estimatedAmount\": 500000, \"policyBenefitDescription\": \"월 50만원\"},"
+                + "{\"index\": 2, \"isFinancialSupport\": true, \"estimatedAmount\": 1200000, \"policyBenefitDescription\": \"120만원\"}"
+                + "]\n```", 300);
+
+        // When
+        List<GptResponseDto> results = client.analyzePolicies(GptRequestDto.of("정책 3건 분석"), 3);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals(500000L, results.get(0).getEstimatedAmount());
+        assertTrue(results.get(0).isFinancialSupport());
+        assertEquals(1200000L, results.get(1).getEstimatedAmount());
+        assertFalse(results.get(2).isFinancialSupport());
+        assertEquals("상담", results.get(2).getPolicyBenefitDescription());
+        assertEquals(100, results.get(0).getTotalTokens());
+
+        // 요청: Bearer 키, 프롬프트 본문
+        assertEquals("Bearer test-key", authorizations.get(0));
+        JsonNode request = objectMapper.readTree(requestBodies.get(0));
+        assertEquals("정책 3건 분석", request.path("messages").path(0).path("content").asText());
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - 빠진 항목, 범위 밖 index, 필수 키 없는 항목은 null 로 남김")
+    void analyzePolicies_MissingItems() {
+        // Given - 3건 요청에 1, 3번만 정상 응답 (5번은 범위 밖, 2번은 isFinancialSupport 없음)
+        givenCompletion("["
+                + "{\"index\": 1, \"isFinancialSupport\": true, \"estimatedAmount\": 100, \"policyBenefitDescription\": \"a\"},"
+                + "{\"index\": 2, \"estimatedAmount\": 200},"
+                + "{\"index\": 5, \"isFinancialSupport\": true, \"estimatedAmount\": 500, \"policyBenefitDescription\": \"e\"},"
+                + "{\"index\": 3, \"isFinancialSupport\": true, \"estimatedAmount\": 300, \"policyBenefitDescription\": \"c\"}"
+                + "]", 0);
+
+        // When
+        List<GptResponseDto> results = client.analyzePolicies(GptRequestDto.of("정책 3건 분석"), 3);
+
+        // Then
+        assertEquals(3, results.size());
+        assertEquals(100L, results.get(0).getEstimatedAmount());
+        assertNull(results.get(1));
+        assertEquals(300L, results.get(2).getEstimatedAmount());
+        assertEquals(0, results.get(2).getTotalTokens());
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - index 가 없으면 배열 순서대로, 응답이 짧으면 뒤쪽은 null")
+    void analyzePolicies_NoIndexUsesArrayOrder() {
+        // Given
+        givenCompletion("[{\"isFinancialSupport\": true, \"estimatedAmount\": 10, \"policyBenefitDescription\": \"x\"}]", 0);
+
+        // When
+        List<GptResponseDto> results = client.analyzePolicies(GptRequestDto.of("정책 2건 분석"), 2);
+
+        // Then
+        assertEquals(10L, results.get(0).getEstimatedAmount());
+        assertNull(results.get(1));
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - 깨진 JSON 배열이면 GptBatchAnalysisException (호출 측 단건 대체)")
+    void analyzePolicies_MalformedJson() {
+        // Given
+        givenCompletion("[{\"index\": 1, \"isFinancialSupport\": tru, }]", 0);
+
+        // When & Then
+        GptBatchAnalysisException e = assertThrows(GptBatchAnalysisException.class,
+                () -> client.analyzePolicies(GptRequestDto.of("정책 1건 분석"), 1));
+        assertEquals("GPT 묶음 분석 응답 파싱 실패", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - 응답에 JSON 배열이 없으면 GptBatchAnalysisException")
+    void analyzePolicies_NoArray() {
+        // Given
+        givenCompletion("죄송합니다. 분석할 수 없습니다.", 0);
+
+        // When & Then
+        assertThrows(GptBatchAnalysisException.class,
+                () -> client.analyzePolicies(GptRequestDto.of("정책 1건 분석"), 1));
+    }
+
+    @Test
+    @DisplayName("묶음 분석 - API 오류 응답이면 GptBatchAnalysisException")
+    void analyzePolicies_HttpError() {
+        // Given
+        responseStatus = 500;
+        responseBody = "{\"error\":{\"message\":\"server error\"}}";
+
+        // When & Then
+        GptBatchAnalysisException e = assertThrows(GptBatchAnalysisException.class,
+                () -> client.analyzePolicies(GptRequestDto.of("정책 1건 분석"), 1));
+        assertEquals("GPT 묶음 분석 호출 실패", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("단건 분석 - 깨진 JSON 이면 예외 없이 '금전적 지원 없음' 대체값")
+    void analyzePolicy_MalformedJsonFallsBack() {
+        // Given
+        givenCompletion("{\"isFinancialSupport\": true, \"estimatedAmount\": , \"policyBenefitDescription\": \"x\"}", 50);
+
+        // When
+        GptResponseDto result = client.analyzePolicy(GptRequestDto.of("정책 분석"));
+
+        // Then
+        assertFalse(result.isFinancialSupport());
+        assertEquals(0L, result.getEstimatedAmount());
+        assertEquals("금전적 지원 없음", result.getPolicyBenefitDescription());
+    }
+
+    // Chat Completions 형식 응답 (content 는 모델이 생성한 문자열)
+    private void givenCompletion(String content, int totalTokens) {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("role", "assistant");
+        message.put("content", content);
+
+        ObjectNode root = objectMapper.createObjectNode();
+        root.set("choices", objectMapper.createArrayNode().add(objectMapper.createObjectNode().set("message", message)));
+        if (totalTokens > 0) {
+            ObjectNode usage = root.putObject("usage");
+            usage.put("prompt_tokens", totalTokens / 2);
+            usage.put("completion_tokens", totalTokens - totalTokens / 2);
+            usage.put("total_tokens", totalTokens);
+        }
+        responseStatus = 200;
+        responseBody = root.toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.scoula.external.gpt.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.external.gpt.GptBatchAnalysisException;
+import org.scoula.external.gpt.GptClient;
+import org.scoula.external.gpt.GptRateLimiter;
+import org.scoula.external.gpt.domain.GptAnalysisCacheVO;
+import org.scoula.external.gpt.dto.GptAnalysisCacheStatsDto;
+import org.scoula.external.gpt.dto.GptRequestDto;
+import org.scoula.external.gpt.dto.GptResponseDto;
+import org.scoula.external.gpt.mapper.GptAnalysisCacheMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GptAnalysisCacheService 단위 테스트")
+class GptAnalysisCacheServiceTest {
+
+    @Mock
+    private GptAnalysisCacheMapper gptAnalysisCacheMapper;
+
+    @Mock
+    private PromptBuilderService promptBuilderService;
+
+    @Mock
+    private GptClient gptClient;
+
+    @Mock
+    private GptRateLimiter gptRateLimiter;
+
+    @InjectMocks
+    private GptAnalysisCacheService gptAnalysisCacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(promptBuilderService.getTemplateVersion()).thenReturn("v1");
+    }
+
+    @Test
+    @DisplayName("캐시 미적중 - GPT 호출 후 결과 저장")
+    void analyze_MissCallsGptAndStores() throws InterruptedException {
+        // Given
+        when(gptAnalysisCacheMapper.findAnalysis(anyString(), anyString())).thenReturn(null);
+        when(promptBuilderService.buildPromptOptimized("월 30만원 지원")).thenReturn("prompt");
+        when(gptClient.analyzePolicy(any(GptRequestDto.class)))
+                .thenReturn(new GptResponseDto(true, 300000L, "월 30만원 정기 지원", 850));
+
+        // When
+        GptResponseDto result = gptAnalysisCacheService.analyze("월 30만원 지원");
+
+        // Then
+        assertEquals(300000L, result.getEstimatedAmount());
+        verify(gptRateLimiter).acquire();
+
+        ArgumentCaptor<GptAnalysisCacheVO> captor = ArgumentCaptor.forClass(GptAnalysisCacheVO.class);
+        verify(gptAnalysisCacheMapper).upsertAnalysis(captor.capture());
+        assertEquals(GptAnalysisCacheService.hashContent("월 30만원 지원"), captor.getValue().getContentHash());
+        assertEquals("v1", captor.getValue().getPromptVersion());
+        assertEquals(850, captor.getValue().getTotalTokens());
+
+        GptAnalysisCacheStatsDto stats = gptAnalysisCacheService.getStats();
+        assertEquals(0, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - GPT 미호출, 절약 토큰 집계")
+    void analyze_HitSkipsGpt() throws InterruptedException {
+        // Given - 공백만 다른 지원내용은 같은 키
+        when(gptAnalysisCacheMapper.findAnalysis(eq(GptAnalysisCacheService.hashContent("월 30만원  지원\n")), anyString()))
+                .thenReturn(GptAnalysisCacheVO.builder()
+                        .isFinancialSupport(true)
+                        .estimatedAmount(300000L)
+                        .policyBenefitDescription("월 30만원 정기 지원")
+                        .totalTokens(850)
+                        .build());
+
+        // When
+        GptResponseDto result = gptAnalysisCacheService.analyze("  월 30만원 지원 ");
+
+        // Then
+        assertTrue(result.isFinancialSupport());
+        assertEquals(300000L, result.getEstimatedAmount());
+        verify(gptClient, never()).analyzePolicy(any());
+        verify(gptRateLimiter, never()).acquire();
+
+        GptAnalysisCacheStatsDto stats = gptAnalysisCacheService.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(850, stats.getTokensSaved());
+    }
+
+    @Test
+    @DisplayName("GPT 실패 대체값(usage 없음)은 저장하지 않음")
+    void analyze_DoesNotStoreFallback() throws InterruptedException {
+        when(gptAnalysisCacheMapper.findAnalysis(anyString(), anyString())).thenReturn(null);
+        when(promptBuilderService.buildPromptOptimized("내용")).thenReturn("prompt");
+        when(gptClient.analyzePolicy(any(GptRequestDto.class)))
+                .thenReturn(new GptResponseDto(false, 0, "금전적 지원 없음"));
+
+        gptAnalysisCacheService.analyze("내용");
+
+        verify(gptAnalysisCacheMapper, never()).upsertAnalysis(any());
+    }
+
+    @Test
+    @DisplayName("일괄 분석 - 적중분은 DB 결과, 미적중분은 묶음 요청 1회, 중복 지원내용은 한 번만")
+    void analyzeAll_BatchesMisses() throws InterruptedException {
+        // Given
+        String cachedHash = GptAnalysisCacheService.hashContent("교육 제공");
+        when(gptAnalysisCacheMapper.findAnalysis(anyString(), eq("v1"))).thenAnswer(invocation ->
+                cachedHash.equals(invocation.getArgument(0))
+                        ? GptAnalysisCacheVO.builder().isFinancialSupport(false).estimatedAmount(0L)
+                                .policyBenefitDescription("금전적 지원 없음").totalTokens(700).build()
+                        : null);
+        when(promptBuilderService.buildBatchPrompt(List.of("월 30만원 지원", "교통비 환급"))).thenReturn("batch");
+        when(gptClient.analyzePolicies(any(GptRequestDto.class), eq(2))).thenReturn(Arrays.asList(
+                new GptResponseDto(true, 300000L, "월 30만원 정기 지원", 400),
+                new GptResponseDto(true, 50000L, "교통비 환급", 400)));
+
+        // When
+        List<GptResponseDto> results = gptAnalysisCacheService.analyzeAll(
+                List.of("월 30만원 지원", "교육 제공", "교통비 환급", "월 30만원  지원"));
+
+        // Then
+        assertEquals(4, results.size());
+        assertEquals(300000L, results.get(0).getEstimatedAmount());
+        assertFalse(results.get(1).isFinancialSupport());
+        assertEquals(50000L, results.get(2).getEstimatedAmount());
+        assertSame(results.get(0), results.get(3));
+        verify(gptRateLimiter, times(1)).acquire();
+        verify(gptClient, never()).analyzePolicy(any());
+        verify(gptAnalysisCacheMapper, times(2)).upsertAnalysis(any(GptAnalysisCacheVO.class));
+
+        GptAnalysisCacheStatsDto stats = gptAnalysisCacheService.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+    }
+
+    @Test
+    @DisplayName("일괄 분석 - 묶음 응답 파싱 실패 시 정책별 개별 분석으로 대체")
+    void analyzeAll_FallsBackToSingleCalls() throws InterruptedException {
+        // Given
+        when(gptAnalysisCacheMapper.findAnalysis(anyString(), anyString())).thenReturn(null);
+        when(promptBuilderService.buildBatchPrompt(anyList())).thenReturn("batch");
+        when(promptBuilderService.buildPromptOptimized(anyString())).thenReturn("prompt");
+        when(gptClient.analyzePolicies(any(GptRequestDto.class), eq(2)))
+                .thenThrow(new GptBatchAnalysisException("GPT 묶음 분석 응답에 JSON 배열 없음"));
+        when(gptClient.analyzePolicy(any(GptRequestDto.class)))
+                .thenReturn(new GptResponseDto(true, 100000L, "10만원 지원", 600));
+
+        // When
+        List<GptResponseDto> results = gptAnalysisCacheService.analyzeAll(List.of("내용1", "내용2"));
+
+        // Then
+        assertEquals(2, results.size());
+        assertEquals(100000L, results.get(1).getEstimatedAmount());
+        verify(gptClient, times(2)).analyzePolicy(any(GptRequestDto.class));
+        verify(gptRateLimiter, times(3)).acquire();
+        verify(gptAnalysisCacheMapper, times(2)).upsertAnalysis(any(GptAnalysisCacheVO.class));
+    }
+
+    @Test
+    @DisplayName("일괄 분석 - 응답에서 빠진 정책만 개별 분석")
+    void analyzeAll_RetriesMissingItemsOnly() throws InterruptedException {
+        // Given
+        when(gptAnalysisCacheMapper.findAnalysis(anyString(), anyString())).thenReturn(null);
+        when(promptBuilderService.buildBatchPrompt(anyList())).thenReturn("batch");
+        when(promptBuilderService.buildPromptOptimized("내용2")).thenReturn("prompt");
+        when(gptClient.analyzePolicies(any(GptRequestDto.class), eq(2))).thenReturn(Arrays.asList(
+                new GptResponseDto(false, 0L, "금전적 지원 없음", 300), null));
+        when(gptClient.analyzePolicy(any(GptRequestDto.class)))
+                .thenReturn(new GptResponseDto(true, 200000L, "20만원 지원", 600));
+
+        // When
+        List<GptResponseDto> results = gptAnalysisCacheService.analyzeAll(List.of("내용1", "내용2"));
+
+        // Then
+        assertFalse(results.get(0).isFinancialSupport());
+        assertEquals(200000L, results.get(1).getEstimatedAmount());
+        verify(gptClient, times(1)).analyzePolicy(any(GptRequestDto.class));
+    }
+
+    @Test
+    @DisplayName("프롬프트 변경 시 새 템플릿 버전이 아닌 분석 결과 삭제")
+    void invalidate_DeletesOtherVersions() {
+        when(promptBuilderService.getTemplateVersion()).thenReturn("v2");
+
+        gptAnalysisCacheService.invalidate();
+
+        verify(gptAnalysisCacheMapper).deleteAnalysesNotInVersion("v2");
+    }
+}
@@ -286,6 +286,83 @@ class PromptBuilderServiceTest {
         verify(promptConditionMapper, never()).findConditionsByType(PromptConditionType.NEGATIVE);
     }
 
+    // ====================================
+    // 템플릿 캐시 테스트
+    // ====================================
+
+    @Test
+    @DisplayName("템플릿 캐시 - 여러 번 생성해도 조건은 한 번만 조회")
+    void buildPromptOptimized_QueriesOnce() {
+        // Given
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.POSITIVE))
+                .thenReturn(mockPositiveConditions);
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.NEGATIVE))
+                .thenReturn(mockNegativeConditions);
+        when(promptConditionMapper.findAllCalculationRules())
+                .thenReturn(mockCalculationRules);
+        when(promptConditionMapper.findExamplesByType(PromptConditionType.POSITIVE))
+                .thenReturn(mockPositiveExamples);
+        when(promptConditionMapper.findExamplesByType(PromptConditionType.NEGATIVE))
+                .thenReturn(mockNegativeExamples);
+
+        // When
+        String first = promptBuilderService.buildPromptOptimized("지원금 지급");
+        String second = promptBuilderService.buildPromptOptimized(sampleSupportContent);
+
+        // Then
+        assertTrue(first.contains("지원내용: 지원금 지급\n\n이 정책이"));
+        assertEquals(first.replace("지원금 지급", sampleSupportContent), second);
+        verify(promptConditionMapper, times(1)).findConditionsByType(PromptConditionType.POSITIVE);
+        verify(promptConditionMapper, times(1)).findAllCalculationRules();
+    }
+
+    @Test
+    @DisplayName("템플릿 재생성 - 조건이 바뀌면 프롬프트와 버전이 바뀜")
+    void rebuildTemplate_ChangesVersion() {
+        // Given
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.POSITIVE))
+                .thenReturn(mockPositiveConditions, Collections.emptyList());
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.NEGATIVE))
+                .thenReturn(mockNegativeConditions);
+        when(promptConditionMapper.findAllCalculationRules())
+                .thenReturn(mockCalculationRules);
+        when(promptConditionMapper.findExamplesByType(any()))
+                .thenReturn(Collections.emptyList());
+        String before = promptBuilderService.getTemplateVersion();
+
+        // When
+        String after = promptBuilderService.rebuildTemplate();
+
+        // Then
+        assertNotEquals(before, after);
+        assertEquals(after, promptBuilderService.getTemplateVersion());
+        assertFalse(promptBuilderService.buildPromptOptimized(sampleSupportContent).contains("금전적 지원이 명시된 경우"));
+    }
+
+    @Test
+    @DisplayName("묶음 프롬프트 - 지원내용별 번호, 조건은 한 번만, 배열 응답 형식")
+    void buildBatchPrompt_NumbersContentsAndSharesRules() {
+        // Given
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.POSITIVE))
+                .thenReturn(mockPositiveConditions);
+        when(promptConditionMapper.findConditionsByType(PromptConditionType.NEGATIVE))
+                .thenReturn(mockNegativeConditions);
+        when(promptConditionMapper.findAllCalculationRules())
+                .thenReturn(mockCalculationRules);
+        when(promptConditionMapper.findExamplesByType(any()))
+                .thenReturn(Collections.emptyList());
+
+        // When
+        String result = promptBuilderService.buildBatchPrompt(List.of("월 30만원 지원", "창업 교육"));
+
+        // Then
+        assertTrue(result.startsWith("다음은 청년 정책 2건의 '지원내용'이다."));
+        assertTrue(result.indexOf("[1] 지원내용: 월 30만원 지원") < result.indexOf("[2] 지원내용: 창업 교육"));
+        assertEquals(result.indexOf("금전적 지원이 명시된 경우"), result.lastIndexOf("금전적 지원이 명시된 경우"));
+        assertTrue(result.contains("\"index\": 1"));
+        assertTrue(result.indexOf("지원 형태를 policyBenefitDescription에") < result.indexOf("JSON 배열 형식"));
+    }
+
     // ====================================
     // 프롬프트 구조 검증 테스트
     // ====================================
@@ -15,6 +15,7 @@ import org.scoula.userPolicy.mapper.UserPolicyMapper;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,6 +31,9 @@ class GuestPolicyServiceTest {
     @Mock
     private PolicyDataHolder policyDataHolder;
 
+    @Mock
+    private GuestSearchCache guestSearchCache;
+
     @InjectMocks
     private GuestPolicyServiceImpl guestPolicyService;
 
@@ -37,7 +41,12 @@ class GuestPolicyServiceTest {
     private PolicyWithVectorDTO policyWithVectorDTO;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
+        // 캐시는 항상 미적중 → loader 로 조회
+        lenient().when(guestSearchCache.get(any(SearchRequestDTO.class), any()))
+                .thenAnswer(invocation -> ((Supplier<List<SearchResultDTO>>) invocation.getArgument(1)).get());
+
         searchRequestDTO = new SearchRequestDTO();
         searchRequestDTO.setRegions(Arrays.asList("11000", "26000"));
         searchRequestDTO.setEducationLevels(Arrays.asList("대학졸업"));
@@ -0,0 +1,116 @@
+package org.scoula.guest.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.common.util.RedisUtil;
+import org.scoula.guest.dto.GuestSearchCacheStatsDto;
+import org.scoula.userPolicy.dto.SearchRequestDTO;
+import org.scoula.userPolicy.dto.SearchResultDTO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuestSearchCache 단위 테스트")
+class GuestSearchCacheTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @InjectMocks
+    private GuestSearchCache guestSearchCache;
+
+    @Test
+    @DisplayName("목록 순서/공백이 달라도 같은 조건이면 같은 키, 날짜가 바뀌면 다른 키")
+    void keyOf_CanonicalizesLists() {
+        LocalDate today = LocalDate.of(2025, 8, 1);
+        SearchRequestDTO a = SearchRequestDTO.builder().age(25).income(3000)
+                .regions(Arrays.asList("11000", "26000")).keywords(Arrays.asList("취업", " 창업")).build();
+        SearchRequestDTO b = SearchRequestDTO.builder().age(25).income(3000)
+                .regions(Arrays.asList("26000", "11000")).keywords(Arrays.asList("창업", "취업")).build();
+        SearchRequestDTO c = SearchRequestDTO.builder().age(26).income(3000)
+                .regions(Arrays.asList("11000", "26000")).keywords(Arrays.asList("취업", "창업")).build();
+
+        assertEquals(GuestSearchCache.keyOf(a, today), GuestSearchCache.keyOf(b, today));
+        assertNotEquals(GuestSearchCache.keyOf(a, today), GuestSearchCache.keyOf(c, today));
+        assertNotEquals(GuestSearchCache.keyOf(a, today), GuestSearchCache.keyOf(a, today.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 같은 결과")
+    void encode_RoundTrip() throws Exception {
+        List<SearchResultDTO> results = Arrays.asList(
+                result(1L, "청년 월세 지원", 2400000L),
+                SearchResultDTO.builder().policyId(2L).title("청년 \"교통비\"").build());
+
+        assertEquals(results, GuestSearchCache.decode(GuestSearchCache.encode(results)));
+    }
+
+    @Test
+    @DisplayName("미적중이면 조회 후 TTL 과 함께 저장, 적중이면 조회하지 않음")
+    void get_LoadsOnMissAndServesHit() {
+        // Given
+        SearchRequestDTO request = SearchRequestDTO.builder().age(25).build();
+        List<SearchResultDTO> results = List.of(result(1L, "청년 월세 지원", 2400000L));
+        String encoded = GuestSearchCache.encode(results);
+        when(redisUtil.get(anyString())).thenReturn(null, encoded);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        List<SearchResultDTO> first = guestSearchCache.get(request, () -> {
+            loads.incrementAndGet();
+            return results;
+        });
+        List<SearchResultDTO> second = guestSearchCache.get(request, () -> {
+            loads.incrementAndGet();
+            return results;
+        });
+
+        // Then
+        assertEquals(results, first);
+        assertEquals(results, second);
+        assertEquals(1, loads.get());
+        verify(redisUtil).set(startsWith("guest:search:"), eq(encoded), eq(30L), eq(TimeUnit.MINUTES));
+
+        GuestSearchCacheStatsDto stats = guestSearchCache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 캐시 없이 조회")
+    void get_FallsBackWhenRedisFails() {
+        when(redisUtil.get(anyString())).thenThrow(new RuntimeException("connection refused"));
+        doThrow(new RuntimeException("connection refused")).when(redisUtil).set(anyString(), anyString(), anyLong(), any());
+
+        List<SearchResultDTO> results = guestSearchCache.get(SearchRequestDTO.builder().build(),
+                () -> List.of(result(1L, "정책", null)));
+
+        assertEquals(1, results.size());
+        assertEquals(2, guestSearchCache.getStats().getErrors());
+    }
+
+    private SearchResultDTO result(Long policyId, String title, Long amount) {
+        return SearchResultDTO.builder()
+                .policyId(policyId)
+                .title(title)
+                .policyBenefitDescription("월 최대 20만원")
+                .endDate("20250101 ~ 20251231")
+                .policyBenefitAmount(amount)
+                .largeCategory("주거")
+                .applyUrl("https://example.com")
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.scoula.member.dto.MemberDTO;
 import org.scoula.member.dto.MemberJoinDTO;
 import org.scoula.member.mapper.MemberMapper;
 import org.scoula.security.account.domain.MemberVO;
+import org.scoula.security.util.PrincipalCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Date;
@@ -30,6 +31,9 @@ class MemberServiceTest {
     @Mock
     private MemberMapper memberMapper;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -336,6 +340,7 @@ class MemberServiceTest {
         assertEquals(username, result.getLoginId());
         verify(memberMapper).updateProfileImage(username, profileImageId);
         verify(memberMapper).findByUsername(username);
+        verify(principalCache).evict(username);
     }
 
     // ====================================
@@ -0,0 +1,172 @@
+package org.scoula.policy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.external.gpt.dto.GptResponseDto;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.domain.YouthPolicyVO;
+import org.scoula.policy.domain.keyword.PolicyKeywordVO;
+import org.scoula.policy.domain.keyword.YouthPolicyKeywordVO;
+import org.scoula.policy.domain.region.YouthPolicyRegionVO;
+import org.scoula.policy.dto.PolicyDTO;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.service.PolicyIngestionWriter.ExistingPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.NewPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.PageWriteResult;
+import org.scoula.policy.service.PolicyIngestionWriter.SyncContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyIngestionWriter 단위 테스트")
+class PolicyIngestionWriterTest {
+
+    @Mock
+    private PolicyMapper policyMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PolicyIngestionWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new PolicyIngestionWriter(policyMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("신규 정책 - 없는 마스터만 저장하고 테이블별 일괄 저장 후 페이지 커밋")
+    @SuppressWarnings("unchecked")
+    void writePage_InsertsNewPoliciesInBatches() {
+        // Given - 키워드 '청년' 은 이미 있고 '취업' 은 없음
+        PolicyKeywordVO youth = new PolicyKeywordVO();
+        youth.setId(1L);
+        youth.setKeyword("청년");
+        when(policyMapper.findAllKeywords()).thenReturn(List.of(youth));
+        doAnswer(invocation -> {
+            invocation.<PolicyKeywordVO>getArgument(0).setId(2L);
+            return null;
+        }).when(policyMapper).insertPolicyKeyword(any(PolicyKeywordVO.class));
+        doAnswer(invocation -> {
+            List<YouthPolicyVO> policies = invocation.getArgument(0);
+            for (int i = 0; i < policies.size(); i++) {
+                policies.get(i).setId(100L + i);
+            }
+            return policies.size();
+        }).when(policyMapper).insertPolicies(anyList());
+
+        SyncContext context = writer.startSync();
+        PolicyDTO first = policy("R1", "청년,취업,청년", "11000");
+        PolicyDTO second = policy("R2", "청년", null);
+        GptResponseDto analysis = new GptResponseDto(true, 500000L, "월 50만원");
+
+        // When
+        PageWriteResult result = writer.writePage(context, Collections.emptyList(),
+                List.of(new NewPolicy(first, analysis), new NewPolicy(second, analysis)));
+
+        // Then
+        assertEquals(2, result.getInserted());
+        assertEquals(0, result.getUpdated());
+        verify(policyMapper, times(1)).insertPolicyKeyword(any(PolicyKeywordVO.class));
+
+        ArgumentCaptor<List<YouthPolicyKeywordVO>> keywordCaptor = ArgumentCaptor.forClass(List.class);
+        verify(policyMapper).insertYouthPolicyKeywords(keywordCaptor.capture());
+        List<YouthPolicyKeywordVO> keywordMappings = keywordCaptor.getValue();
+        assertEquals(3, keywordMappings.size()); // R1: 청년, 취업 (중복 제거) / R2: 청년
+        assertEquals(100L, keywordMappings.get(0).getPolicyId());
+        assertEquals(2L, keywordMappings.get(1).getKeywordId());
+        assertEquals(101L, keywordMappings.get(2).getPolicyId());
+
+        ArgumentCaptor<List<YouthPolicyRegionVO>> regionCaptor = ArgumentCaptor.forClass(List.class);
+        verify(policyMapper).insertYouthPolicyRegions(regionCaptor.capture());
+        assertEquals(1, regionCaptor.getValue().size());
+
+        verify(policyMapper).insertConditions(argThat(list -> list.size() == 2));
+        verify(policyMapper).insertPeriods(argThat(list -> list.size() == 2));
+        verify(policyMapper, never()).insertYouthPolicyMajors(anyList());
+
+        ArgumentCaptor<List<PolicyVectorVO>> vectorCaptor = ArgumentCaptor.forClass(List.class);
+        verify(policyMapper).upsertPolicyVectors(vectorCaptor.capture());
+        assertEquals(2, vectorCaptor.getValue().size());
+        assertEquals(new BigDecimal("0.5"), vectorCaptor.getValue().get(0).getVecBenefitAmount());
+
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("이미 저장한 정책번호가 다음 페이지에 신규로 오면 갱신으로 처리")
+    void writePage_TreatsAlreadyWrittenPolicyAsUpdate() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<List<YouthPolicyVO>>getArgument(0).get(0).setId(100L);
+            return 1;
+        }).when(policyMapper).insertPolicies(anyList());
+
+        SyncContext context = writer.startSync();
+        GptResponseDto analysis = new GptResponseDto(false, 0L, "금전적 지원 없음");
+        writer.writePage(context, Collections.emptyList(),
+                List.of(new NewPolicy(policy("R1", null, null), analysis)));
+
+        // When - 다음 페이지에 같은 정책번호
+        PageWriteResult result = writer.writePage(context, Collections.emptyList(),
+                List.of(new NewPolicy(policy("R1", null, null), analysis)));
+
+        // Then
+        assertEquals(0, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        verify(policyMapper, times(1)).insertPolicies(anyList());
+        verify(policyMapper).updatePoliciesOnSync(argThat(list -> list.get(0).getId().equals(100L)));
+    }
+
+    @Test
+    @DisplayName("기존 정책 - 조회수/신청URL/신청기간 일괄 갱신 후 벡터 재계산")
+    void writePage_UpdatesExistingPolicies() {
+        // Given
+        YouthPolicyVO stored = new YouthPolicyVO();
+        stored.setId(7L);
+        stored.setPolicyBenefitAmount(2000000L);
+        PolicyDTO dto = policy("R7", null, null);
+        dto.setViews(500L);
+        dto.setApplyPeriod("20250101 ~ 20991231");
+
+        SyncContext context = writer.startSync();
+
+        // When
+        PageWriteResult result = writer.writePage(context,
+                List.of(new ExistingPolicy(dto, stored)), Collections.emptyList());
+
+        // Then
+        assertEquals(1, result.getUpdated());
+        verify(policyMapper, never()).insertPolicies(anyList());
+        verify(policyMapper).updatePoliciesOnSync(argThat(list -> list.get(0).getViews().equals(500L)));
+        verify(policyMapper).updatePeriodsOnSync(argThat(list -> list.get(0).getPolicyId().equals(7L)
+                && LocalDate.of(2025, 1, 1).equals(list.get(0).getApplyStart())
+                && LocalDate.of(2099, 12, 31).equals(list.get(0).getApplyEnd())));
+        verify(policyMapper).upsertPolicyVectors(argThat(list ->
+                list.get(0).getVecBenefitAmount().doubleValue() == 1.0
+                        && list.get(0).getVecDeadline().doubleValue() == 0.0
+                        && list.get(0).getVecViews().doubleValue() == 0.5));
+    }
+
+    private PolicyDTO policy(String policyNo, String keywords, String regionCode) {
+        PolicyDTO dto = new PolicyDTO();
+        dto.setPolicyNo(policyNo);
+        dto.setKeywordRaw(keywords);
+        dto.setRegionCode(regionCode);
+        dto.setViews(100L);
+        return dto;
+    }
+}
@@ -5,14 +5,13 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.common.util.RedisUtil;
-import org.scoula.external.gpt.GptApiClient;
-import org.scoula.external.gpt.dto.GptRequestDto;
 import org.scoula.external.gpt.dto.GptResponseDto;
-import org.scoula.external.gpt.service.PromptBuilderService;
+import org.scoula.external.gpt.service.GptAnalysisCacheService;
 import org.scoula.external.youthapi.YouthPolicyApiClient;
 import org.scoula.policy.domain.*;
 import org.scoula.policy.domain.education.PolicyEducationLevelVO;
@@ -26,12 +25,21 @@ import org.scoula.policy.dto.PolicyDetailDTO;
 import org.scoula.policy.dto.PolicyPagging;
 import org.scoula.policy.dto.YouthPolicyApiResponse;
 import org.scoula.policy.dto.YouthPolicyResult;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
 import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.service.PolicyIngestionWriter.ExistingPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.NewPolicy;
+import org.scoula.policy.service.PolicyIngestionWriter.PageWriteResult;
+import org.scoula.policy.service.PolicyIngestionWriter.SyncContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,13 +56,16 @@ class PolicyServiceTest {
     private PolicyMapper policyMapper;
 
     @Mock
-    private GptApiClient gptApiClient;
+    private RedisUtil redisUtil;
 
     @Mock
-    private PromptBuilderService promptBuilderService;
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private RedisUtil redisUtil;
+    private PolicyIngestionWriter policyIngestionWriter;
+
+    @Mock
+    private GptAnalysisCacheService gptAnalysisCacheService;
 
     @InjectMocks
     private PolicyServiceImpl policyService;
@@ -130,6 +141,80 @@ class PolicyServiceTest {
 
     // 무시된 테스트 제거됨 - fetchAndSaveAllPolicies_ExistingPolicy()
 
+    @Test
+    @DisplayName("정책 수집 - 페이지별 분류/GPT 분석 후 페이지 단위 저장")
+    @SuppressWarnings("unchecked")
+    void fetchAndSaveAllPolicies_WritesPerPage() throws InterruptedException {
+        // Given - 2페이지 (1페이지: 신규 정책, 2페이지: 기존 정책)
+        ReflectionTestUtils.setField(policyService, "policyFetchExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(policyService, "gptAnalysisExecutor", (Executor) Runnable::run);
+
+        PolicyDTO existingDTO = new PolicyDTO();
+        existingDTO.setPolicyNo("R2023000001");
+        existingDTO.setViews(10L);
+        YouthPolicyResult secondResult = new YouthPolicyResult();
+        secondResult.setPagging(pagging);
+        secondResult.setYouthPolicyList(Arrays.asList(existingDTO));
+        YouthPolicyApiResponse secondResponse = new YouthPolicyApiResponse();
+        secondResponse.setResult(secondResult);
+
+        YouthPolicyVO stored = new YouthPolicyVO();
+        stored.setId(7L);
+        stored.setPolicyNo("R2023000001");
+
+        SyncContext context = new SyncContext();
+        when(policyApiClient.fetchPolicies(1, 100)).thenReturn(apiResponse);
+        when(policyApiClient.fetchPolicies(2, 100)).thenReturn(secondResponse);
+        when(policyMapper.findPoliciesByPolicyNos(List.of("R2023123456"))).thenReturn(Collections.emptyList());
+        when(policyMapper.findPoliciesByPolicyNos(List.of("R2023000001"))).thenReturn(List.of(stored));
+        when(gptAnalysisCacheService.analyzeAll(List.of("취업 준비 비용 지원"))).thenReturn(List.of(gptResponse));
+        when(policyIngestionWriter.startSync()).thenReturn(context);
+        when(policyIngestionWriter.writePage(eq(context), anyList(), anyList()))
+                .thenReturn(new PageWriteResult(1, 0), new PageWriteResult(0, 1));
+
+        // When
+        policyService.fetchAndSaveAllPolicies();
+
+        // Then - 페이지 순서대로 2번 저장
+        ArgumentCaptor<List<ExistingPolicy>> existingCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<NewPolicy>> newCaptor = ArgumentCaptor.forClass(List.class);
+        verify(policyIngestionWriter, times(2)).writePage(eq(context), existingCaptor.capture(), newCaptor.capture());
+
+        assertTrue(existingCaptor.getAllValues().get(0).isEmpty());
+        assertEquals(1, newCaptor.getAllValues().get(0).size());
+        assertSame(gptResponse, newCaptor.getAllValues().get(0).get(0).getAnalysis());
+
+        assertEquals(7L, existingCaptor.getAllValues().get(1).get(0).getStored().getId());
+        assertTrue(newCaptor.getAllValues().get(1).isEmpty());
+
+        verify(gptAnalysisCacheService, times(1)).analyzeAll(anyList());
+        verify(eventPublisher).publishEvent(any(PolicySyncCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("정책 수집 - 페이지 저장 실패 시 나머지 페이지는 계속 저장")
+    void fetchAndSaveAllPolicies_ContinuesAfterPageFailure() throws InterruptedException {
+        // Given - 150건 = 2페이지, 1페이지 저장 실패
+        ReflectionTestUtils.setField(policyService, "policyFetchExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(policyService, "gptAnalysisExecutor", (Executor) Runnable::run);
+
+        SyncContext context = new SyncContext();
+        when(policyApiClient.fetchPolicies(anyInt(), eq(100))).thenReturn(apiResponse);
+        when(policyMapper.findPoliciesByPolicyNos(anyList())).thenReturn(List.of(youthPolicyVO));
+        when(policyIngestionWriter.startSync()).thenReturn(context);
+        when(policyIngestionWriter.writePage(eq(context), anyList(), anyList()))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(new PageWriteResult(0, 1));
+
+        // When
+        assertDoesNotThrow(() -> policyService.fetchAndSaveAllPolicies());
+
+        // Then
+        verify(policyIngestionWriter, times(2)).writePage(eq(context), anyList(), anyList());
+        verify(gptAnalysisCacheService, never()).analyzeAll(any());
+        verify(eventPublisher).publishEvent(any(PolicySyncCompletedEvent.class));
+    }
+
     // ====================================
     // 정책 상세 조회 테스트
     // ====================================
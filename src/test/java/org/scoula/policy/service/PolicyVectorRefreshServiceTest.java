@@ -0,0 +1,190 @@
+package org.scoula.policy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.dto.PolicyVectorSourceDTO;
+import org.scoula.policy.event.PolicyVectorsRefreshedEvent;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policy.util.PolicyVectorCalculator;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyVectorRefreshService 단위 테스트")
+class PolicyVectorRefreshServiceTest {
+
+    @Mock
+    private PolicyMapper policyMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PolicyVectorRefreshService policyVectorRefreshService;
+
+    @Test
+    @DisplayName("값이 바뀐 벡터만 저장하고 전체 벡터는 이벤트로 전달")
+    @SuppressWarnings("unchecked")
+    void refreshAll_SavesOnlyChangedVectors() {
+        // Given - 1: 변경 없음(상시 모집), 2: 마감일 점수 변경, 3: 벡터 없음
+        LocalDate today = LocalDate.now();
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, null, "0.5", "1.0", "0.1"),
+                source(2L, 500000L, 100L, today.plusDays(10), "0.5", "0.91", "0.1"),
+                source(3L, 2000000L, 0L, today.minusDays(1), null, null, null)));
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(2, saved);
+        ArgumentCaptor<List<PolicyVectorVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyMapper, times(1)).upsertPolicyVectors(captor.capture());
+        List<PolicyVectorVO> written = captor.getValue();
+        assertEquals(List.of(2L, 3L), List.of(written.get(0).getPolicyId(), written.get(1).getPolicyId()));
+        assertEquals(0.9, written.get(0).getVecDeadline().doubleValue(), 1e-9);
+        assertEquals(1.0, written.get(1).getVecBenefitAmount().doubleValue(), 1e-9);
+        assertEquals(-1.0, written.get(1).getVecDeadline().doubleValue(), 1e-9);
+
+        ArgumentCaptor<PolicyVectorsRefreshedEvent> event = ArgumentCaptor.forClass(PolicyVectorsRefreshedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(3, event.getValue().getVectors().size());
+    }
+
+    @Test
+    @DisplayName("변경 판정 - 저장값과 1e-6 이하 차이는 변경 없음, 그보다 크면 변경")
+    void refreshAll_ChangeDetectionTolerance() {
+        // Given - 1: 저장값이 계산값과 5e-7 차이, 2: 조회수 점수만 1e-4 차이
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, null, "0.5000005", "0.9999995", "0.1"),
+                source(2L, 500000L, 100L, null, "0.5", "1.0", "0.1001")));
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(1, saved);
+        verify(policyMapper).upsertPolicyVectors(argThat(list ->
+                list.size() == 1 && list.get(0).getPolicyId() == 2L
+                        && list.get(0).getVecViews().doubleValue() == 0.1));
+    }
+
+    @Test
+    @DisplayName("변경 판정 - 한 차원만 저장값이 없어도 변경")
+    void refreshAll_PartiallyStoredVectorIsChanged() {
+        // Given
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, null, "0.5", null, "0.1")));
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(1, saved);
+        verify(policyMapper).upsertPolicyVectors(argThat(list ->
+                list.size() == 1 && list.get(0).getVecDeadline().doubleValue() == 1.0));
+    }
+
+    @Test
+    @DisplayName("변경 판정 - 날짜가 바뀌어 마감일 점수만 달라져도 변경")
+    void refreshAll_DeadlineShiftIsChanged() {
+        // Given - 어제 기준(11일 남음)으로 저장된 마감일 점수 → 오늘(10일 남음) 다시 계산하면 달라짐
+        LocalDate applyEnd = LocalDate.now().plusDays(10);
+        double yesterdayScore = PolicyVectorCalculator.normalizeDeadlineScore(applyEnd, LocalDate.now().minusDays(1));
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, applyEnd, "0.5", String.valueOf(yesterdayScore), "0.1")));
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(1, saved);
+        verify(policyMapper).upsertPolicyVectors(argThat(list -> list.get(0).getVecDeadline().doubleValue()
+                == PolicyVectorCalculator.normalizeDeadlineScore(applyEnd, LocalDate.now())));
+    }
+
+    @Test
+    @DisplayName("저장 실패한 배치의 정책은 기존 저장값으로 전달, 기존 값이 없으면 제외")
+    void refreshAll_PublishesStoredVectorsForFailedBatch() {
+        // Given - 1: 변경 없음, 2: 변경(기존 값 있음), 3: 신규(기존 값 없음), 저장 실패
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, null, "0.5", "1.0", "0.1"),
+                source(2L, 1000000L, 100L, null, "0.5", "1.0", "0.1"),
+                source(3L, 0L, 0L, null, null, null, null)));
+        doThrow(new RuntimeException("DB 오류")).when(policyMapper).upsertPolicyVectors(anyList());
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(0, saved);
+        ArgumentCaptor<PolicyVectorsRefreshedEvent> event = ArgumentCaptor.forClass(PolicyVectorsRefreshedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        List<PolicyVectorVO> published = event.getValue().getVectors();
+        assertEquals(2, published.size());
+        PolicyVectorVO policy2 = published.stream().filter(v -> v.getPolicyId() == 2L).findFirst().orElseThrow();
+        assertEquals(0.5, policy2.getVecBenefitAmount().doubleValue(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("이미 마감되어 -1 로 저장된 정책은 재계산/저장/전달 제외, 오늘 마감된 정책은 -1 로 저장")
+    void refreshAll_SkipsExpiredPolicies() {
+        // Given - 1: 어제 마감, 이미 -1 저장 / 2: 오늘 마감, 아직 0.99 저장
+        LocalDate today = LocalDate.now();
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 500000L, 100L, today.minusDays(1), "0.1", "-1.0", "0.9"),
+                source(2L, 500000L, 100L, today, "0.5", "0.99", "0.1")));
+
+        // When
+        int saved = policyVectorRefreshService.refreshAll();
+
+        // Then
+        assertEquals(1, saved);
+        verify(policyMapper).upsertPolicyVectors(argThat(list ->
+                list.size() == 1 && list.get(0).getPolicyId() == 2L
+                        && list.get(0).getVecDeadline().doubleValue() == -1.0));
+
+        ArgumentCaptor<PolicyVectorsRefreshedEvent> event = ArgumentCaptor.forClass(PolicyVectorsRefreshedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1, event.getValue().getVectors().size());
+        assertEquals(2L, event.getValue().getVectors().get(0).getPolicyId());
+    }
+
+    @Test
+    @DisplayName("변경된 벡터가 없으면 저장하지 않음")
+    void refreshAll_NoChanges() {
+        when(policyMapper.findPolicyVectorSources()).thenReturn(List.of(
+                source(1L, 1000L, 1000L, null, "0.001", "1.0", "1.0")));
+
+        assertEquals(0, policyVectorRefreshService.refreshAll());
+
+        verify(policyMapper, never()).upsertPolicyVectors(anyList());
+        verify(eventPublisher).publishEvent(any(PolicyVectorsRefreshedEvent.class));
+    }
+
+    private PolicyVectorSourceDTO source(Long policyId, Long amount, Long views, LocalDate applyEnd,
+                                         String vecBenefit, String vecDeadline, String vecViews) {
+        return PolicyVectorSourceDTO.builder()
+                .policyId(policyId)
+                .policyBenefitAmount(amount)
+                .views(views)
+                .applyEnd(applyEnd)
+                .vecBenefitAmount(vecBenefit != null ? new BigDecimal(vecBenefit) : null)
+                .vecDeadline(vecDeadline != null ? new BigDecimal(vecDeadline) : null)
+                .vecViews(vecViews != null ? new BigDecimal(vecViews) : null)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package org.scoula.policy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyVectorCalculator 단위 테스트")
+class PolicyVectorCalculatorTest {
+
+    @Test
+    @DisplayName("혜택 금액 점수 - 반올림 경계값은 올림 (150원 → 0.0002, 12350원 → 0.0124)")
+    void normalizeBenefitAmount_HalfUpBoundary() {
+        assertEquals(0.0002, PolicyVectorCalculator.normalizeBenefitAmount(150L));
+        assertEquals(0.0001, PolicyVectorCalculator.normalizeBenefitAmount(149L));
+        assertEquals(0.0124, PolicyVectorCalculator.normalizeBenefitAmount(12_350L));
+        assertEquals(0.0, PolicyVectorCalculator.normalizeBenefitAmount(0L));
+        assertEquals(1.0, PolicyVectorCalculator.normalizeBenefitAmount(1_000_000L));
+        assertEquals(0.0, PolicyVectorCalculator.normalizeBenefitAmount((Long) null));
+    }
+
+    @Test
+    @DisplayName("혜택 금액/조회수 점수 - 범위 내 모든 값이 BigDecimal.divide(threshold, 4, HALF_UP) 와 같음")
+    void normalize_MatchesBigDecimalHalfUp() {
+        for (long amount = 1; amount < 1_000_000L; amount++) {
+            assertEquals(halfUp(amount, 1_000_000L), PolicyVectorCalculator.normalizeBenefitAmount(amount), "amount=" + amount);
+        }
+        for (long views = 1; views < 1_000L; views++) {
+            assertEquals(halfUp(views, 1_000L), PolicyVectorCalculator.normalizeViewCount(views), "views=" + views);
+        }
+    }
+
+    private static double halfUp(long value, long threshold) {
+        return BigDecimal.valueOf(value)
+                .divide(BigDecimal.valueOf(threshold), 4, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
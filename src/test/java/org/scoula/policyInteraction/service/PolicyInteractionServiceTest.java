@@ -20,6 +20,7 @@ import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
 import org.scoula.policyInteraction.util.ProfanityFilter;
 import org.scoula.userPolicy.domain.UserVectorVO;
 import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.scoula.userPolicy.util.UserRecommendationCache;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -46,6 +47,9 @@ class PolicyInteractionServiceTest {
     @Mock
     private RedisUtil redisUtil;
     
+    @Mock
+    private UserRecommendationCache userRecommendationCache;
+
     @Mock
     private ProfanityFilter profanityFilter;
 
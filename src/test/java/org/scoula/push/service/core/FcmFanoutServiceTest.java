@@ -0,0 +1,228 @@
+package org.scoula.push.service.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.push.domain.NotificationSendLogVO;
+import org.scoula.push.dto.fcm.FcmMessage;
+import org.scoula.push.dto.fcm.FcmSendResult;
+import org.scoula.push.mapper.NotificationSendLogMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FcmFanoutService 단위 테스트")
+class FcmFanoutServiceTest {
+
+    @Mock
+    private NotificationSendLogMapper sendLogMapper;
+
+    private FakeFcmClient fcmClient;
+    private FcmFanoutService fcmFanoutService;
+
+    @BeforeEach
+    void setUp() {
+        fcmClient = new FakeFcmClient();
+        fcmFanoutService = new FcmFanoutService(fcmClient, sendLogMapper);
+        ReflectionTestUtils.setField(fcmFanoutService, "fcmTaskExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(fcmFanoutService, "initialBackoffMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("500건이 모이면 sendEach 1회, 로그 INSERT 1회 + UPDATE 1회")
+    @SuppressWarnings("unchecked")
+    void enqueue_SendsFullBatchAtOnce() {
+        // Given
+        fcmClient.responder = token -> FcmSendResult.success("msg-" + token);
+
+        // When
+        for (int i = 0; i < FcmClient.MAX_BATCH_SIZE; i++) {
+            fcmFanoutService.enqueue(message((long) (i % 50), "token-" + i));
+        }
+
+        // Then
+        assertEquals(1, fcmClient.requests.size());
+        assertEquals(FcmClient.MAX_BATCH_SIZE, fcmClient.requests.get(0).size());
+        verify(sendLogMapper, times(1)).insertSendLogs(anyList());
+
+        ArgumentCaptor<List<NotificationSendLogVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sendLogMapper, times(1)).updateSendLogResults(captor.capture());
+        assertEquals(FcmClient.MAX_BATCH_SIZE, captor.getValue().size());
+        assertTrue(captor.getValue().stream()
+                .allMatch(sendLog -> sendLog.getSendStatus() == NotificationSendLogVO.SendStatus.SUCCESS
+                        && sendLog.getAttemptCount() == 1));
+    }
+
+    @Test
+    @DisplayName("500건이 쌓여 있는 동안에는 메시지마다 발송 작업을 등록하지 않음 (500건마다 1건)")
+    void enqueue_SchedulesOneFlushPerBatch() {
+        // Given - 등록만 하고 실행하지 않는 실행기
+        List<Runnable> tasks = new ArrayList<>();
+        ReflectionTestUtils.setField(fcmFanoutService, "fcmTaskExecutor", (Executor) tasks::add);
+
+        // When
+        for (int i = 0; i < 1200; i++) {
+            fcmFanoutService.enqueue(message(1L, "token-" + i));
+        }
+
+        // Then
+        assertEquals(2, tasks.size());
+        assertTrue(fcmClient.requests.isEmpty());
+    }
+
+    @Test
+    @DisplayName("발송 로그 INSERT 가 실패해도 묶음은 발송, 결과 UPDATE 는 생략")
+    void sendBatch_SendsEvenIfLogInsertFails() {
+        // Given
+        doThrow(new RuntimeException("DB 오류")).when(sendLogMapper).insertSendLogs(anyList());
+
+        // When
+        fcmFanoutService.sendBatch(List.of(message(1L, "token-a"), message(2L, "token-b")));
+
+        // Then
+        assertEquals(1, fcmClient.requests.size());
+        assertEquals(List.of("token-a", "token-b"), fcmClient.requests.get(0));
+        verify(sendLogMapper, never()).updateSendLogResults(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도는 대기 후 지연 실행 (호출 스레드는 대기하지 않고 바로 반환)")
+    void sendBatch_RetriesAfterDelayWithoutBlocking() {
+        // Given - 첫 시도만 UNAVAILABLE
+        ReflectionTestUtils.setField(fcmFanoutService, "initialBackoffMillis", 200L);
+        List<String> attempts = new CopyOnWriteArrayList<>();
+        fcmClient.responder = token -> attempts.add(token) && attempts.size() == 1
+                ? FcmSendResult.failure("Service unavailable", true)
+                : FcmSendResult.success("msg");
+
+        // When
+        fcmFanoutService.sendBatch(List.of(message(1L, "token-a")));
+
+        // Then - 반환 시점에는 첫 시도만, 결과 반영 전
+        assertEquals(1, attempts.size());
+        verify(sendLogMapper, never()).updateSendLogResults(anyList());
+
+        // 대기 후 재시도 성공 → 결과 반영
+        verify(sendLogMapper, timeout(5000)).updateSendLogResults(anyList());
+        assertEquals(2, attempts.size());
+    }
+
+    @Test
+    @DisplayName("500건 미만은 flushPending 때 발송")
+    void flushPending_SendsRemainingMessages() {
+        // Given
+        fcmClient.responder = token -> FcmSendResult.success("msg");
+        fcmFanoutService.enqueue(message(1L, "token-a"));
+        fcmFanoutService.enqueue(message(2L, "token-b"));
+        assertTrue(fcmClient.requests.isEmpty());
+
+        // When
+        fcmFanoutService.flushPending();
+        fcmFanoutService.flushPending();
+
+        // Then
+        assertEquals(1, fcmClient.requests.size());
+        assertEquals(2, fcmClient.requests.get(0).size());
+    }
+
+    @Test
+    @DisplayName("일시적 오류만 재시도, 만료 토큰은 바로 실패 처리")
+    @SuppressWarnings("unchecked")
+    void sendBatch_RetriesOnlyRetryableFailures() {
+        // Given - token-busy 는 첫 시도만 UNAVAILABLE, token-gone 은 만료
+        List<String> busyAttempts = new ArrayList<>();
+        fcmClient.responder = token -> {
+            if (token.equals("token-gone")) {
+                return FcmSendResult.failure("Requested entity was not found.", false);
+            }
+            if (token.equals("token-busy") && busyAttempts.add(token) && busyAttempts.size() == 1) {
+                return FcmSendResult.failure("Service unavailable", true);
+            }
+            return FcmSendResult.success("msg");
+        };
+
+        // When
+        fcmFanoutService.sendBatch(List.of(
+                message(1L, "token-ok"), message(1L, "token-busy"), message(2L, "token-gone")));
+
+        // Then
+        assertEquals(2, fcmClient.requests.size());
+        assertEquals(List.of("token-busy"), fcmClient.requests.get(1));
+
+        ArgumentCaptor<List<NotificationSendLogVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sendLogMapper).updateSendLogResults(captor.capture());
+        List<NotificationSendLogVO> sendLogs = captor.getValue();
+        assertEquals(NotificationSendLogVO.SendStatus.SUCCESS, sendLogs.get(0).getSendStatus());
+        assertEquals(NotificationSendLogVO.SendStatus.SUCCESS, sendLogs.get(1).getSendStatus());
+        assertEquals(2, sendLogs.get(1).getAttemptCount());
+        assertEquals(NotificationSendLogVO.SendStatus.FAILED, sendLogs.get(2).getSendStatus());
+        assertEquals("Requested entity was not found.", sendLogs.get(2).getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("sendEach 요청이 계속 실패하면 최대 3회 시도 후 전체 실패 처리")
+    @SuppressWarnings("unchecked")
+    void sendBatch_MarksFailedAfterMaxAttempts() {
+        // Given
+        fcmClient.failRequests = true;
+
+        // When
+        fcmFanoutService.sendBatch(List.of(message(1L, "token-a")));
+
+        // Then
+        assertEquals(3, fcmClient.requests.size());
+        ArgumentCaptor<List<NotificationSendLogVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sendLogMapper).updateSendLogResults(captor.capture());
+        assertEquals(NotificationSendLogVO.SendStatus.FAILED, captor.getValue().get(0).getSendStatus());
+        assertEquals(3, captor.getValue().get(0).getAttemptCount());
+    }
+
+    private FcmMessage message(Long notificationId, String token) {
+        return FcmMessage.builder()
+                .notificationId(notificationId)
+                .fcmToken(token)
+                .title("제목")
+                .body("내용")
+                .build();
+    }
+
+    /**
+     * 토큰별 응답을 돌려주는 가짜 FCM 클라이언트 (요청마다 토큰 목록 기록)
+     */
+    private static class FakeFcmClient implements FcmClient {
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private Function<String, FcmSendResult> responder = token -> FcmSendResult.success("msg");
+        private boolean failRequests;
+
+        @Override
+        public List<FcmSendResult> sendEach(List<FcmMessage> messages) throws Exception {
+            List<String> tokens = new ArrayList<>();
+            for (FcmMessage message : messages) {
+                tokens.add(message.getFcmToken());
+            }
+            requests.add(tokens);
+            if (failRequests) {
+                throw new IllegalStateException("FCM 서버 연결 실패");
+            }
+
+            List<FcmSendResult> results = new ArrayList<>();
+            for (String token : tokens) {
+                results.add(responder.apply(token));
+            }
+            return results;
+        }
+    }
+}
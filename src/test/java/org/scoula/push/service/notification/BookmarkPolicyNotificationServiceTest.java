@@ -0,0 +1,141 @@
+package org.scoula.push.service.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.policyInteraction.dto.response.BookmarkAlertDTO;
+import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
+import org.scoula.push.domain.UserNotificationVO;
+import org.scoula.push.service.subscription.UserNotificationService;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookmarkPolicyNotificationService 단위 테스트")
+class BookmarkPolicyNotificationServiceTest {
+
+    @Mock
+    private PolicyInteractionMapper policyInteractionMapper;
+
+    @Mock
+    private UserNotificationService userNotificationService;
+
+    @InjectMocks
+    private BookmarkPolicyNotificationService bookmarkPolicyNotificationService;
+
+    @Test
+    @DisplayName("오늘 발송 대상만 조회하여 시작/마감 알림 일괄 생성")
+    @SuppressWarnings("unchecked")
+    void checkAndSend_BuildsStartAndDeadlineNotifications() {
+        // Given
+        when(policyInteractionMapper.findBookmarkAlertsDue(LocalDate.now(), 3)).thenReturn(List.of(
+                alert(1L, "홍길동", 10L, "청년 월세 지원", true, 20),
+                alert(2L, "user2", 11L, "청년 교통비 지원", false, 1)));
+
+        // When
+        bookmarkPolicyNotificationService.checkAndSendBookmarkNotifications();
+
+        // Then
+        ArgumentCaptor<List<UserNotificationVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userNotificationService, times(1)).createAndSendBookmarkNotifications(captor.capture());
+        List<UserNotificationVO> notifications = captor.getValue();
+
+        assertEquals(2, notifications.size());
+        assertEquals("[북마크] 정책 신청이 시작됐어요!", notifications.get(0).getTitle());
+        assertTrue(notifications.get(0).getMessage().startsWith("홍길동님, '청년 월세 지원'"));
+        assertEquals("/policy/10", notifications.get(0).getTargetUrl());
+        assertEquals("[북마크] 마감 하루 전!", notifications.get(1).getTitle());
+        assertEquals(2L, notifications.get(1).getUserId());
+    }
+
+    @Test
+    @DisplayName("마감 경계 - 오늘 기준 3일 창으로 조회하고, 남은 일수 3/2/1/0 마다 해당 문구")
+    @SuppressWarnings("unchecked")
+    void checkAndSend_DeadlineBoundaries() {
+        // Given
+        when(policyInteractionMapper.findBookmarkAlertsDue(LocalDate.now(), 3)).thenReturn(List.of(
+                alert(1L, "u1", 10L, "정책A", false, 3),
+                alert(1L, "u1", 11L, "정책B", false, 2),
+                alert(1L, "u1", 12L, "정책C", false, 1),
+                alert(1L, "u1", 13L, "정책D", false, 0)));
+
+        // When
+        bookmarkPolicyNotificationService.checkAndSendBookmarkNotifications();
+
+        // Then
+        ArgumentCaptor<List<UserNotificationVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userNotificationService).createAndSendBookmarkNotifications(captor.capture());
+        List<UserNotificationVO> notifications = captor.getValue();
+
+        assertEquals("[북마크] 마감 3일 전!", notifications.get(0).getTitle());
+        assertEquals("u1님, '정책A' 정책 마감이 3일 남았습니다! 미리 준비하세요!", notifications.get(0).getMessage());
+        assertEquals("[북마크] 마감 이틀 전!", notifications.get(1).getTitle());
+        assertEquals("[북마크] 마감 하루 전!", notifications.get(2).getTitle());
+        assertEquals("[북마크] 마감 당일!", notifications.get(3).getTitle());
+        assertEquals("u1님, '정책D' 정책이 오늘 마감됩니다! 지금 바로 신청하세요!", notifications.get(3).getMessage());
+    }
+
+    @Test
+    @DisplayName("마감 경계 - 신청 시작일이 오늘이면 마감이 같은 날이어도 시작 알림 1건만")
+    @SuppressWarnings("unchecked")
+    void checkAndSend_StartTodayTakesPrecedence() {
+        // Given - 당일 시작·당일 마감 정책
+        when(policyInteractionMapper.findBookmarkAlertsDue(any(LocalDate.class), eq(3))).thenReturn(List.of(
+                alert(1L, "u1", 10L, "하루 모집", true, 0)));
+
+        // When
+        bookmarkPolicyNotificationService.checkAndSendBookmarkNotifications();
+
+        // Then
+        ArgumentCaptor<List<UserNotificationVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userNotificationService).createAndSendBookmarkNotifications(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("[북마크] 정책 신청이 시작됐어요!", captor.getValue().get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("발송 실패해도 예외를 던지지 않음 (스케줄러 계속)")
+    void checkAndSend_FailureDoesNotPropagate() {
+        // Given
+        when(policyInteractionMapper.findBookmarkAlertsDue(any(LocalDate.class), eq(3))).thenReturn(List.of(
+                alert(1L, "u1", 10L, "정책", false, 1)));
+        when(userNotificationService.createAndSendBookmarkNotifications(anyList()))
+                .thenThrow(new RuntimeException("DB 오류"));
+
+        // When & Then
+        assertDoesNotThrow(() -> bookmarkPolicyNotificationService.checkAndSendBookmarkNotifications());
+    }
+
+    @Test
+    @DisplayName("발송 대상이 없으면 알림 생성 안 함")
+    void checkAndSend_NoAlerts() {
+        when(policyInteractionMapper.findBookmarkAlertsDue(any(LocalDate.class), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        bookmarkPolicyNotificationService.checkAndSendBookmarkNotifications();
+
+        verify(userNotificationService, never()).createAndSendBookmarkNotifications(anyList());
+    }
+
+    private BookmarkAlertDTO alert(Long userId, String displayName, Long policyId, String policyTitle,
+                                   boolean applyStartToday, int daysUntilDeadline) {
+        return BookmarkAlertDTO.builder()
+                .userId(userId)
+                .displayName(displayName)
+                .policyId(policyId)
+                .policyTitle(policyTitle)
+                .applyStartToday(applyStartToday)
+                .daysUntilDeadline(daysUntilDeadline)
+                .build();
+    }
+}
@@ -13,6 +13,7 @@ import org.scoula.security.account.domain.MemberVO;
 import org.scoula.security.account.mapper.UserDetailsMapper;
 import org.scoula.security.dto.LoginDTO;
 import org.scoula.security.util.JwtProcessor;
+import org.scoula.security.util.PrincipalCache;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -49,6 +50,9 @@ class AuthServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -144,6 +148,7 @@ class AuthServiceTest {
         assertDoesNotThrow(() -> authService.logout(username));
         
         verify(redisUtil).deleteRefreshToken("refresh_" + username);
+        verify(principalCache).evict(username);
     }
 
     // ====================================
@@ -1,44 +1,66 @@
 package org.scoula.security.util;
 
 import io.jsonwebtoken.ExpiredJwtException;
-import lombok.extern.slf4j.Slf4j;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.test.context.ContextConfiguration;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
-import org.scoula.config.RootConfig;
-import org.scoula.security.config.SecurityConfig;
+
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = {RootConfig.class, SecurityConfig.class})
-@Slf4j
+@DisplayName("JwtProcessor 단위 테스트")
 class JwtProcessorTest {
 
-    @Autowired
-    JwtProcessor jwtProcessor;
-
-
-    // 실패하는 테스트 제거됨 - generateToken()
-
-    // 실패하는 테스트 제거됨 - getUsername()
-
-
-
-    // 실패하는 테스트 제거됨 - generateTokenWithRole()
-
-    // 실패하는 테스트 제거됨 - getUsernameFromFreshToken()
-
-
-    // 실패하는 테스트 제거됨 - validateToken_Valid()
-
-    // 실패하는 테스트 제거됨 - validateToken_Expired()
-
-    // 실패하는 테스트 제거됨 - validateToken_Invalid()
-
-
-    // 실패하는 테스트 제거됨 - tokenExpiration_Simulation()
-
-}
\ No newline at end of file
+    private static final String SECRET = "test-secret-key-for-jwt-processor-unit-test-0123456789";
+
+    private JwtProcessor jwtProcessor;
+
+    @BeforeEach
+    void setUp() {
+        jwtProcessor = new JwtProcessor(SECRET);
+    }
+
+    @Test
+    @DisplayName("parseOnce - 사용자명, 권한, 만료 시간을 한 번에 추출")
+    void parseOnce_ReturnsAllClaims() {
+        // Given
+        String token = jwtProcessor.generateTokenWithRole("user1", "ROLE_USER");
+
+        // When
+        JwtClaims claims = jwtProcessor.parseOnce(token);
+
+        // Then
+        assertEquals("user1", claims.getUsername());
+        assertEquals("ROLE_USER", claims.getRole());
+        assertNotNull(claims.getExpiration());
+        assertFalse(claims.isExpiredAt(new Date()));
+        assertEquals("user1", jwtProcessor.getUsername(token));
+        assertEquals("ROLE_USER", jwtProcessor.getRole(token));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - parseOnce 예외, validateToken false, isTokenExpired true")
+    void expiredToken() {
+        // Given
+        String token = jwtProcessor.generateTokenWithExpiry("user1", -1000L);
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtProcessor.parseOnce(token));
+        assertFalse(jwtProcessor.validateToken(token));
+        assertTrue(jwtProcessor.isTokenExpired(token));
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부")
+    void parseOnce_RejectsForeignSignature() {
+        // Given
+        String token = new JwtProcessor(SECRET + "-other").generateToken("user1");
+
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtProcessor.parseOnce(token));
+        assertFalse(jwtProcessor.validateToken(token));
+        assertFalse(jwtProcessor.validateToken("not-a-jwt"));
+    }
+}
@@ -0,0 +1,81 @@
+package org.scoula.security.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.security.account.domain.CustomUser;
+import org.scoula.security.account.domain.MemberVO;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrincipalCache 단위 테스트")
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache();
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return new CustomUser(MemberVO.builder().userId(1L).loginId(username).password("encoded").build());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 한 번만 조회")
+    void get_LoadsOnce() {
+        UserDetails first = principalCache.get("testuser", loader);
+        UserDetails second = principalCache.get("testuser", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void evict_ReloadsPrincipal() {
+        principalCache.get("testuser", loader);
+
+        principalCache.evict("testuser");
+        principalCache.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화되면 조회 결과는 반환하되 캐시하지 않음")
+    void get_EvictedDuringLoadIsNotCached() {
+        Function<String, UserDetails> evictingLoader = username -> {
+            UserDetails principal = loader.apply(username);
+            // 조회 중 로그아웃 등으로 무효화
+            principalCache.evict(username);
+            return principal;
+        };
+
+        assertNotNull(principalCache.get("testuser", evictingLoader));
+        assertEquals(0, principalCache.size());
+
+        principalCache.get("testuser", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않음")
+    void get_DoesNotCacheMissingUser() {
+        Function<String, UserDetails> missing = username -> {
+            throw new UsernameNotFoundException(username + "은 없는 id입니다.");
+        };
+
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("ghost", missing));
+        assertEquals(0, principalCache.size());
+    }
+}
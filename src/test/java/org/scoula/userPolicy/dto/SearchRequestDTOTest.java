@@ -0,0 +1,42 @@
+package org.scoula.userPolicy.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchRequestDTO 검색식 변환 테스트")
+class SearchRequestDTOTest {
+
+    @Test
+    @DisplayName("2글자 이상은 FULLTEXT 검색식, 1글자는 LIKE 용 짧은 검색어로 나눔")
+    void splitsFullTextAndShortTerms() {
+        SearchRequestDTO dto = SearchRequestDTO.builder()
+                .searchTexts(Arrays.asList("청년 월세", "집", " \"취업\" ", "", null))
+                .build();
+
+        assertEquals("\"청년 월세\" \"취업\"", dto.getSearchQuery());
+        assertEquals(List.of("집"), dto.getShortSearchTexts());
+    }
+
+    @Test
+    @DisplayName("짧은 검색어만 있으면 검색식은 null")
+    void shortTermsOnly() {
+        SearchRequestDTO dto = SearchRequestDTO.builder().searchTexts(List.of("집", "차")).build();
+
+        assertNull(dto.getSearchQuery());
+        assertEquals(List.of("집", "차"), dto.getShortSearchTexts());
+    }
+
+    @Test
+    @DisplayName("검색어가 없거나 공백뿐이면 둘 다 null")
+    void noTerms() {
+        assertNull(SearchRequestDTO.builder().build().getShortSearchTexts());
+        SearchRequestDTO blank = SearchRequestDTO.builder().searchTexts(List.of(" ", "\"")).build();
+        assertNull(blank.getSearchQuery());
+        assertNull(blank.getShortSearchTexts());
+    }
+}
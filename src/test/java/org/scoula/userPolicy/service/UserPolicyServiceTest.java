@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.scoula.common.util.RedisUtil;
 import org.scoula.member.mapper.MemberMapper;
@@ -19,6 +20,9 @@ import org.scoula.userPolicy.dto.SearchRequestDTO;
 import org.scoula.userPolicy.dto.SearchResultDTO;
 import org.scoula.userPolicy.dto.TestResultRequestDTO;
 import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.scoula.userPolicy.util.PolicyEligibilityIndex;
+import org.scoula.userPolicy.util.PolicyVectorScorer;
+import org.scoula.userPolicy.util.UserRecommendationCache;
 import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
@@ -61,6 +65,16 @@ class UserPolicyServiceTest {
     @Mock
     private ListOperations<String, String> listOperations;
 
+    @Mock
+    private PolicyEligibilityIndex policyEligibilityIndex;
+
+    // 벡터 테이블 미적재 상태 → DTO의 벡터로 유사도 계산
+    @Spy
+    private PolicyVectorScorer policyVectorScorer = new PolicyVectorScorer(null);
+
+    @Spy
+    private UserRecommendationCache userRecommendationCache = new UserRecommendationCache();
+
     @InjectMocks
     private UserPolicyServiceImpl userPolicyService;
 
@@ -215,6 +229,71 @@ class UserPolicyServiceTest {
         verify(userPolicyMapper).findMatchingPoliciesExcludingApplied(any(), eq(userId));
     }
 
+    @Test
+    @DisplayName("맞춤형 정책 검색 - 정책 자격 인덱스 사용 시 SQL 필터링 생략")
+    void searchMatchingPolicy_UsesEligibilityIndex() {
+        // Given
+        PolicyWithVectorDTO policy = PolicyWithVectorDTO.builder()
+                .policyId(1L)
+                .title("청년 취업 지원")
+                .endDate("상시모집")
+                .vecBenefitAmount(new BigDecimal("0.7"))
+                .vecDeadline(new BigDecimal("0.6"))
+                .vecViews(new BigDecimal("0.5"))
+                .build();
+
+        when(memberMapper.get(username)).thenReturn(memberVO);
+        when(userPolicyMapper.findUserPolicyConditionByUserId(userId)).thenReturn(userPolicyConditionVO);
+        when(policyEligibilityIndex.isReady()).thenReturn(true);
+        when(userPolicyMapper.findAppliedPolicyIdsByUserId(userId)).thenReturn(Arrays.asList(2L));
+        when(policyEligibilityIndex.findMatching(any(), anyCollection())).thenReturn(Arrays.asList(policy));
+        when(userPolicyMapper.findUserVectorByUserId(userId)).thenReturn(userVectorVO);
+
+        // When
+        List<SearchResultDTO> result = userPolicyService.searchMatchingPolicy(username);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(policyEligibilityIndex).findMatching(any(), argThat(ids -> ids.contains(2L)));
+        verify(userPolicyMapper, never()).findMatchingPoliciesExcludingApplied(any(), any());
+    }
+
+    @Test
+    @DisplayName("맞춤형 정책 검색 - 추천 캐시 적중 후 조건 수정 시 무효화")
+    void searchMatchingPolicy_CachedUntilConditionUpdated() {
+        // Given
+        PolicyWithVectorDTO policy = PolicyWithVectorDTO.builder()
+                .policyId(1L)
+                .title("청년 취업 지원")
+                .endDate("상시모집")
+                .vecBenefitAmount(new BigDecimal("0.7"))
+                .vecDeadline(new BigDecimal("0.6"))
+                .vecViews(new BigDecimal("0.5"))
+                .build();
+
+        when(memberMapper.get(username)).thenReturn(memberVO);
+        when(userPolicyMapper.findUserPolicyConditionByUserId(userId)).thenReturn(userPolicyConditionVO);
+        when(userPolicyMapper.findMatchingPoliciesExcludingApplied(any(), eq(userId)))
+                .thenReturn(Arrays.asList(policy));
+        when(userPolicyMapper.findUserVectorByUserId(userId)).thenReturn(userVectorVO);
+
+        // When - 두 번 조회
+        List<SearchResultDTO> first = userPolicyService.searchMatchingPolicy(username);
+        List<SearchResultDTO> second = userPolicyService.searchMatchingPolicyByUserId(userId);
+
+        // Then - 정책 조회는 한 번만 수행
+        assertEquals(first, second);
+        verify(userPolicyMapper, times(1)).findMatchingPoliciesExcludingApplied(any(), eq(userId));
+
+        // When - 조건 수정 후 다시 조회
+        userPolicyService.updateUserPolicyCondition(username, testResultRequestDTO);
+        userPolicyService.searchMatchingPolicy(username);
+
+        // Then - 무효화되어 다시 계산
+        verify(userRecommendationCache).evictAfterCommit(userId);
+        verify(userPolicyMapper, times(2)).findMatchingPoliciesExcludingApplied(any(), eq(userId));
+    }
+
     // ====================================
     // 필터링된 정책 검색 테스트
     // ====================================
@@ -0,0 +1,196 @@
+package org.scoula.userPolicy.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.common.util.RedisUtil;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.policy.mapper.PolicyMapper;
+import org.scoula.policyInteraction.mapper.PolicyInteractionMapper;
+import org.scoula.userPolicy.domain.UserVectorVO;
+import org.scoula.userPolicy.mapper.UserPolicyMapper;
+import org.scoula.userPolicy.util.UserRecommendationCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserVectorBatchService 단위 테스트")
+class UserVectorBatchServiceTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @Mock
+    private PolicyInteractionMapper policyInteractionMapper;
+
+    @Mock
+    private PolicyMapper policyMapper;
+
+    @Mock
+    private UserPolicyMapper userPolicyMapper;
+
+    @Mock
+    private UserRecommendationCache userRecommendationCache;
+
+    @InjectMocks
+    private UserVectorBatchService userVectorBatchService;
+
+    @BeforeEach
+    void setUp() {
+        // 청크 작업을 호출 스레드에서 바로 실행
+        ReflectionTestUtils.setField(userVectorBatchService, "vectorBatchExecutor", (Executor) Runnable::run);
+    }
+
+    @Test
+    @DisplayName("EMA 갱신 - 정책 벡터 1회 적재, 청크 단위 일괄 저장 후 Redis 정리")
+    @SuppressWarnings("unchecked")
+    void updateUserVectorsByEMA_UpsertsChunk() {
+        // Given - 사용자 1(기존 벡터)은 정책 10을 1회 조회, 사용자 2(벡터 없음)는 정책 99(벡터 없음)를 조회
+        when(policyMapper.findAllPolicyVectors()).thenReturn(List.of(
+                PolicyVectorVO.builder().policyId(10L)
+                        .vecBenefitAmount(new BigDecimal("1.0"))
+                        .vecDeadline(new BigDecimal("0.0"))
+                        .vecViews(new BigDecimal("1.0"))
+                        .build()));
+        Map<Long, Map<Long, Long>> chunk = new LinkedHashMap<>();
+        chunk.put(1L, Map.of(10L, 1L));
+        chunk.put(2L, Map.of(99L, 3L));
+        doAnswer(invocation -> {
+            ((Consumer<Map<Long, Map<Long, Long>>>) invocation.getArgument(2)).accept(chunk);
+            return chunk.size();
+        }).when(redisUtil).scanDailyViews(anyString(), anyInt(), any());
+        when(userPolicyMapper.findUserVectorsByUserIds(anyList())).thenReturn(List.of(
+                UserVectorVO.builder().id(1L).userId(1L)
+                        .vecBenefitAmount(new BigDecimal("0.5"))
+                        .vecDeadline(new BigDecimal("0.5"))
+                        .vecViews(new BigDecimal("0.5"))
+                        .build()));
+
+        // When
+        userVectorBatchService.updateUserVectorsByEMA();
+
+        // Then
+        ArgumentCaptor<List<UserVectorVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userPolicyMapper).upsertUserVectors(captor.capture());
+        List<UserVectorVO> saved = captor.getValue();
+        assertEquals(2, saved.size());
+
+        // 0.5 * 0.9 + 1.0 * 0.1 = 0.55, 0.5 * 0.9 + 0.0 * 0.1 = 0.45
+        UserVectorVO updated = saved.get(0);
+        assertEquals(new BigDecimal("0.5500"), updated.getVecBenefitAmount());
+        assertEquals(new BigDecimal("0.4500"), updated.getVecDeadline());
+        assertEquals(new BigDecimal("0.5500"), updated.getVecViews());
+
+        // 벡터 없는 사용자는 초기 벡터로 저장
+        assertEquals(2L, saved.get(1).getUserId());
+        assertEquals(new BigDecimal("0.5000"), saved.get(1).getVecBenefitAmount());
+
+        verify(policyMapper, times(1)).findAllPolicyVectors();
+        verify(policyMapper, never()).findByPolicyId(any());
+        verify(userPolicyMapper, never()).updateUserVector(any());
+        verify(redisUtil).deleteDailyViewData(eq(List.of(1L, 2L)), anyString());
+        verify(userRecommendationCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("EMA 갱신 - 저장 실패 시 Redis 데이터 유지 (재실행 시 재처리)")
+    void updateUserVectorsByEMA_KeepsRedisDataOnFailure() {
+        // Given
+        when(policyMapper.findAllPolicyVectors()).thenReturn(Collections.emptyList());
+        Map<Long, Map<Long, Long>> chunk = Map.of(1L, Map.of(10L, 1L));
+        doAnswer(invocation -> {
+            ((Consumer<Map<Long, Map<Long, Long>>>) invocation.getArgument(2)).accept(chunk);
+            return 1;
+        }).when(redisUtil).scanDailyViews(anyString(), anyInt(), any());
+        when(userPolicyMapper.findUserVectorsByUserIds(anyList())).thenReturn(Collections.emptyList());
+        when(userPolicyMapper.upsertUserVectors(anyList())).thenThrow(new RuntimeException("DB 오류"));
+
+        // When
+        assertDoesNotThrow(() -> userVectorBatchService.updateUserVectorsByEMA());
+
+        // Then
+        verify(redisUtil, never()).deleteDailyViewData(anyCollection(), anyString());
+    }
+
+    @Test
+    @DisplayName("EMA 갱신 - 같은 날짜를 이미 반영한 사용자는 건너뛰고 Redis 만 정리 (재실행 멱등)")
+    @SuppressWarnings("unchecked")
+    void processChunk_SkipsAlreadyAppliedUsers() {
+        // Given - 사용자 1은 이전 실행에서 20240813 조회까지 저장됨, 사용자 2는 그 전 날짜까지만 반영
+        Map<Long, double[]> policyVectors = Map.of(10L, new double[]{1.0, 0.0, 1.0});
+        Map<Long, Map<Long, Long>> chunk = new LinkedHashMap<>();
+        chunk.put(1L, Map.of(10L, 1L));
+        chunk.put(2L, Map.of(10L, 1L));
+        when(userPolicyMapper.findUserVectorsByUserIds(anyList())).thenReturn(List.of(
+                vector(1L, "20240813"),
+                vector(2L, "20240812")));
+
+        // When
+        int updated = userVectorBatchService.processChunk(chunk, policyVectors, "20240813");
+
+        // Then
+        assertEquals(1, updated);
+        ArgumentCaptor<List<UserVectorVO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userPolicyMapper).upsertUserVectors(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(2L, captor.getValue().get(0).getUserId());
+        assertEquals("20240813", captor.getValue().get(0).getLastViewDate());
+        assertEquals(new BigDecimal("0.5500"), captor.getValue().get(0).getVecBenefitAmount());
+
+        verify(redisUtil).deleteDailyViewData(List.of(1L, 2L), "20240813");
+        verify(userRecommendationCache, never()).evict(1L);
+        verify(userRecommendationCache).evict(2L);
+    }
+
+    @Test
+    @DisplayName("EMA 갱신 - 청크 전원이 이미 반영됐으면 저장 없이 Redis 만 정리")
+    void processChunk_AllAlreadyApplied() {
+        // Given
+        when(userPolicyMapper.findUserVectorsByUserIds(anyList())).thenReturn(List.of(vector(1L, "20240813")));
+
+        // When
+        int updated = userVectorBatchService.processChunk(
+                Map.of(1L, Map.of(10L, 2L)), Map.of(10L, new double[]{1.0, 1.0, 1.0}), "20240813");
+
+        // Then
+        assertEquals(0, updated);
+        verify(userPolicyMapper, never()).upsertUserVectors(anyList());
+        verify(redisUtil).deleteDailyViewData(List.of(1L), "20240813");
+    }
+
+    @Test
+    @DisplayName("EMA 수식 - 조회수가 많을수록 정책 벡터에 가까워짐")
+    void applyEma_CumulativeWeight() {
+        double[] once = {0.5, 0.5, 0.5};
+        double[] many = {0.5, 0.5, 0.5};
+        double[] policy = {1.0, 1.0, 1.0};
+
+        UserVectorBatchService.applyEma(once, policy, 1);
+        UserVectorBatchService.applyEma(many, policy, 10);
+
+        assertEquals(0.55, once[0], 1e-9);
+        assertEquals(0.5 + 0.5 * (1 - Math.pow(0.9, 10)), many[0], 1e-9);
+    }
+
+    private static UserVectorVO vector(Long userId, String lastViewDate) {
+        return UserVectorVO.builder().id(userId).userId(userId)
+                .vecBenefitAmount(new BigDecimal("0.5"))
+                .vecDeadline(new BigDecimal("0.5"))
+                .vecViews(new BigDecimal("0.5"))
+                .lastViewDate(lastViewDate)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package org.scoula.userPolicy.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.scoula.policy.util.PolicyDataHolder;
+import org.scoula.userPolicy.dto.PolicyDimensionMappingDTO;
+import org.scoula.userPolicy.dto.PolicyEligibilityDTO;
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+import org.scoula.userPolicy.dto.SearchRequestDTO;
+import org.scoula.userPolicy.mapper.UserPolicyMapper;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyEligibilityIndex 단위 테스트")
+class PolicyEligibilityIndexTest {
+
+    @Mock
+    private UserPolicyMapper userPolicyMapper;
+
+    @Mock
+    private PolicyDataHolder policyDataHolder;
+
+    @InjectMocks
+    private PolicyEligibilityIndex policyEligibilityIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 정책 1: 서울(11000) 전용, 20~30세
+        // 정책 2: 전국(0000000), 나이 제한 없음, 소득 구간 0~3000
+        // 정책 3: 부산(26000) 전용, 키워드 "취업"
+        List<PolicyEligibilityDTO> rows = Arrays.asList(
+                PolicyEligibilityDTO.builder().policyId(1L).title("서울 청년").minAge(20).maxAge(30).ageLimitYn(false).build(),
+                PolicyEligibilityDTO.builder().policyId(2L).title("전국 청년").ageLimitYn(true)
+                        .incomeConditionCode("0043002").incomeMin(0L).incomeMax(3000L).build(),
+                PolicyEligibilityDTO.builder().policyId(3L).title("부산 취업").minAge(19).ageLimitYn(false).build()
+        );
+        List<PolicyDimensionMappingDTO> mappings = Arrays.asList(
+                new PolicyDimensionMappingDTO("REGION", 1L, 10L),
+                new PolicyDimensionMappingDTO("REGION", 2L, 99L),
+                new PolicyDimensionMappingDTO("REGION", 3L, 20L),
+                new PolicyDimensionMappingDTO("KEYWORD", 3L, 500L)
+        );
+        when(userPolicyMapper.findAllPolicyEligibilities()).thenReturn(rows);
+        when(userPolicyMapper.findAllPolicyDimensionMappings()).thenReturn(mappings);
+        lenient().when(policyDataHolder.getRegionId("11000")).thenReturn(10L);
+        lenient().when(policyDataHolder.getRegionId("26000")).thenReturn(20L);
+        lenient().when(policyDataHolder.getRegionId("0000000")).thenReturn(99L);
+        lenient().when(policyDataHolder.getKeywordId("취업")).thenReturn(500L);
+
+        policyEligibilityIndex.refresh();
+    }
+
+    @Test
+    @DisplayName("지역 조건 - 요청 지역 + 전국 정책 매칭")
+    void findMatching_RegionIncludesNationwide() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .age(25).marriage("").income(0)
+                .regions(Collections.singletonList("11000"))
+                .build();
+
+        assertEquals(Set.of(1L, 2L), policyIds(policyEligibilityIndex.findMatching(request)));
+    }
+
+    @Test
+    @DisplayName("나이/소득 범위 조건 적용")
+    void findMatching_AgeAndIncomeRange() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .age(35).marriage("").income(5000)
+                .build();
+
+        // 정책 1은 나이 초과, 정책 2는 소득 초과
+        assertEquals(Set.of(3L), policyIds(policyEligibilityIndex.findMatching(request)));
+    }
+
+    @Test
+    @DisplayName("키워드 조건 및 제외 정책 적용")
+    void findMatching_KeywordAndExcluded() {
+        SearchRequestDTO request = SearchRequestDTO.builder()
+                .age(0).marriage("").income(0)
+                .keywords(Collections.singletonList("취업"))
+                .build();
+
+        assertEquals(Set.of(3L), policyIds(policyEligibilityIndex.findMatching(request)));
+        assertTrue(policyEligibilityIndex.findMatching(request, Set.of(3L)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("반환 DTO는 매 호출마다 새 객체")
+    void findMatching_ReturnsCopies() {
+        SearchRequestDTO request = SearchRequestDTO.builder().age(0).marriage("").income(0).build();
+
+        PolicyWithVectorDTO first = policyEligibilityIndex.findMatching(request).get(0);
+        first.setSimilarity(0.9);
+        PolicyWithVectorDTO second = policyEligibilityIndex.findMatching(request).get(0);
+
+        assertNotSame(first, second);
+        assertNull(second.getSimilarity());
+    }
+
+    @Test
+    @DisplayName("마감일이 지난 정책은 제외, 마감일 없으면 상시 모집으로 포함")
+    void isOpen_ExcludesExpiredPolicies() {
+        LocalDate today = LocalDate.of(2025, 8, 1);
+
+        assertTrue(PolicyEligibilityIndex.isOpen(PolicyEligibilityDTO.builder().build(), today));
+        assertTrue(PolicyEligibilityIndex.isOpen(PolicyEligibilityDTO.builder().applyEnd(today).build(), today));
+        assertFalse(PolicyEligibilityIndex.isOpen(
+                PolicyEligibilityDTO.builder().applyEnd(today.minusDays(1)).build(), today));
+    }
+
+    private Set<Long> policyIds(List<PolicyWithVectorDTO> policies) {
+        return policies.stream().map(PolicyWithVectorDTO::getPolicyId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,58 @@
+package org.scoula.userPolicy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicySearchRanker 단위 테스트")
+class PolicySearchRankerTest {
+
+    @Test
+    @DisplayName("관련도와 유사도를 합친 점수로 정렬")
+    void rank_CombinesRelevanceAndSimilarity() {
+        // 1: 0.7*0.9 + 0.3*0.1 = 0.66, 2: 0.7*0.6 + 0.3*1.0 = 0.72, 3: 0.7*0.5 + 0.3*0.5 = 0.50
+        List<PolicyWithVectorDTO> policies = Arrays.asList(
+                policy(1L, 0.9, 1.0),
+                policy(2L, 0.6, 10.0),
+                policy(3L, 0.5, 5.0));
+
+        assertEquals(Arrays.asList(2L, 1L, 3L), ids(PolicySearchRanker.rank(policies)));
+    }
+
+    @Test
+    @DisplayName("유사도가 없으면 관련도 순, 동점이면 입력 순서 유지")
+    void rank_RelevanceOnlyKeepsOrderOnTies() {
+        List<PolicyWithVectorDTO> policies = Arrays.asList(
+                policy(1L, null, 2.0),
+                policy(2L, null, 8.0),
+                policy(3L, null, 2.0));
+
+        assertEquals(Arrays.asList(2L, 1L, 3L), ids(PolicySearchRanker.rank(policies)));
+    }
+
+    @Test
+    @DisplayName("검색어가 없으면(관련도 없음) 입력 목록 그대로 반환")
+    void rank_NoRelevanceReturnsInput() {
+        List<PolicyWithVectorDTO> policies = Arrays.asList(policy(1L, 0.1, null), policy(2L, 0.9, null));
+
+        assertSame(policies, PolicySearchRanker.rank(policies));
+    }
+
+    private PolicyWithVectorDTO policy(Long policyId, Double similarity, Double relevance) {
+        return PolicyWithVectorDTO.builder()
+                .policyId(policyId)
+                .similarity(similarity)
+                .relevance(relevance)
+                .build();
+    }
+
+    private List<Long> ids(List<PolicyWithVectorDTO> policies) {
+        return policies.stream().map(PolicyWithVectorDTO::getPolicyId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,96 @@
+package org.scoula.userPolicy.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.policy.domain.PolicyVectorVO;
+import org.scoula.userPolicy.domain.UserVectorVO;
+import org.scoula.userPolicy.dto.PolicyWithVectorDTO;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PolicyVectorScorer 단위 테스트")
+class PolicyVectorScorerTest {
+
+    private PolicyVectorScorer scorer;
+    private UserVectorVO userVector;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new PolicyVectorScorer(null);
+        userVector = UserVectorVO.builder()
+                .userId(1L)
+                .vecBenefitAmount(new BigDecimal("0.8"))
+                .vecDeadline(new BigDecimal("0.1"))
+                .vecViews(new BigDecimal("0.1"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("유사도 내림차순 정렬 및 벡터 없는 정책 제외")
+    void rank_SortsDescendingAndSkipsMissingVectors() {
+        List<PolicyWithVectorDTO> candidates = Arrays.asList(
+                policy(1L, "0.1", "0.9", "0.1"),
+                policy(2L, null, null, null),
+                policy(3L, "0.9", "0.1", "0.1"),
+                policy(4L, "0.5", "0.5", "0.1")
+        );
+
+        List<PolicyWithVectorDTO> ranked = scorer.rank(userVector, candidates);
+
+        assertEquals(Arrays.asList(3L, 4L, 1L), ids(ranked));
+        for (PolicyWithVectorDTO policy : ranked) {
+            assertEquals(VectorUtil.calculateCosineSimilarity(userVector, policy), policy.getSimilarity(), 1e-12);
+        }
+    }
+
+    @Test
+    @DisplayName("상위 K개만 반환, 동점이면 후보 순서 유지")
+    void rank_TopKKeepsCandidateOrderOnTies() {
+        List<PolicyWithVectorDTO> candidates = Arrays.asList(
+                policy(1L, "0.5", "0.5", "0.5"),
+                policy(2L, "0.9", "0.1", "0.1"),
+                policy(3L, "0.5", "0.5", "0.5"),
+                policy(4L, "0.5", "0.5", "0.5")
+        );
+
+        assertEquals(Arrays.asList(2L, 1L), ids(scorer.rank(userVector, candidates, 2)));
+        assertEquals(Arrays.asList(2L, 1L, 3L, 4L), ids(scorer.rank(userVector, candidates)));
+    }
+
+    @Test
+    @DisplayName("적재된 벡터 테이블 우선 사용")
+    void rank_UsesLoadedVectors() {
+        scorer.load(Collections.singletonList(PolicyVectorVO.builder()
+                .policyId(1L)
+                .vecBenefitAmount(new BigDecimal("0.8"))
+                .vecDeadline(new BigDecimal("0.1"))
+                .vecViews(new BigDecimal("0.1"))
+                .build()));
+
+        // DTO 벡터는 오래된 값이지만 테이블 값(사용자 벡터와 동일)으로 계산
+        List<PolicyWithVectorDTO> ranked = scorer.rank(userVector,
+                Collections.singletonList(policy(1L, "0.1", "0.9", "0.1")));
+
+        assertEquals(1.0, ranked.get(0).getSimilarity(), 1e-9);
+    }
+
+    private PolicyWithVectorDTO policy(Long id, String benefit, String deadline, String views) {
+        return PolicyWithVectorDTO.builder()
+                .policyId(id)
+                .vecBenefitAmount(benefit != null ? new BigDecimal(benefit) : null)
+                .vecDeadline(deadline != null ? new BigDecimal(deadline) : null)
+                .vecViews(views != null ? new BigDecimal(views) : null)
+                .build();
+    }
+
+    private List<Long> ids(List<PolicyWithVectorDTO> policies) {
+        return policies.stream().map(PolicyWithVectorDTO::getPolicyId).collect(Collectors.toList());
+    }
+}
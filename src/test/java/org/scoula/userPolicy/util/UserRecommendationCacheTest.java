@@ -0,0 +1,172 @@
+package org.scoula.userPolicy.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.scoula.policy.event.PolicySyncCompletedEvent;
+import org.scoula.policy.event.PolicyVectorsRefreshedEvent;
+import org.scoula.userPolicy.dto.SearchResultDTO;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserRecommendationCache 단위 테스트")
+class UserRecommendationCacheTest {
+
+    private final UserRecommendationCache cache = new UserRecommendationCache();
+
+    @Test
+    @DisplayName("같은 사용자는 무효화 전까지 한 번만 계산")
+    void get_LoadsOnceUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        List<SearchResultDTO> policies = Collections.singletonList(
+                SearchResultDTO.builder().policyId(1L).title("청년 월세 지원").build());
+
+        cache.get(1L, id -> { loads.incrementAndGet(); return policies; });
+        List<SearchResultDTO> cached = cache.get(1L, id -> { loads.incrementAndGet(); return policies; });
+
+        assertEquals(1, loads.get());
+        assertEquals(policies, cached);
+
+        cache.evict(1L);
+        cache.get(1L, id -> { loads.incrementAndGet(); return policies; });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("조건 없음(null) 결과도 캐시하고, 정책 수집 완료 시 전체 무효화")
+    void get_CachesNullAndClearsOnPolicySync() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get(1L, id -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get(1L, id -> { loads.incrementAndGet(); return null; }));
+        assertEquals(1, loads.get());
+
+        cache.onPolicySyncCompleted(new PolicySyncCompletedEvent(LocalDateTime.now()));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("정책 벡터 일괄 재계산 시 전체 무효화")
+    void onPolicyVectorsRefreshed_ClearsAll() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, id -> { loads.incrementAndGet(); return Collections.emptyList(); });
+        cache.get(2L, id -> { loads.incrementAndGet(); return Collections.emptyList(); });
+        assertEquals(2, cache.size());
+
+        cache.onPolicyVectorsRefreshed(new PolicyVectorsRefreshedEvent(Collections.emptyList()));
+
+        assertEquals(0, cache.size());
+        cache.get(1L, id -> { loads.incrementAndGet(); return Collections.emptyList(); });
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("반환 목록을 수정해도 캐시에 영향 없음")
+    void get_ReturnsCopy() {
+        List<SearchResultDTO> policies = Collections.singletonList(
+                SearchResultDTO.builder().policyId(1L).build());
+
+        cache.get(1L, id -> policies).clear();
+
+        assertEquals(1, cache.get(1L, id -> policies).size());
+    }
+
+    @Test
+    @DisplayName("계산 중 다른 사용자 캐시를 조회해도 막히지 않음 (계산은 맵 밖에서 실행)")
+    void get_LoaderRunsOutsideMap() {
+        List<SearchResultDTO> policies = Collections.singletonList(SearchResultDTO.builder().policyId(1L).build());
+
+        List<SearchResultDTO> result = cache.get(1L, id -> cache.get(2L, other -> policies));
+
+        assertEquals(policies, result);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 요청은 진행 중인 계산 결과를 함께 사용")
+    void get_ConcurrentRequestsShareLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<SearchResultDTO> policies = Collections.singletonList(SearchResultDTO.builder().policyId(1L).build());
+
+        CompletableFuture<List<SearchResultDTO>> first = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return policies;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<List<SearchResultDTO>> second = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return policies;
+        }));
+        release.countDown();
+
+        assertEquals(policies, first.get(5, TimeUnit.SECONDS));
+        assertEquals(policies, second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("계산 중 무효화되면 그 결과는 캐시에 남지 않음")
+    void get_EvictedDuringLoadIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            cache.evict(1L);
+            return Collections.emptyList();
+        });
+        cache.get(1L, id -> { loads.incrementAndGet(); return Collections.emptyList(); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("계산 실패는 캐시하지 않고 다음 요청에서 다시 계산")
+    void get_FailureIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+            throw new IllegalStateException("DB 오류");
+        }));
+        assertEquals(0, cache.size());
+
+        assertNotNull(cache.get(1L, id -> Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 무효화 요청은 커밋 후에 반영")
+    void evictAfterCommit_WaitsForCommit() {
+        cache.get(1L, id -> Collections.emptyList());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit(1L);
+            assertEquals(1, cache.size());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, cache.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}